@@ -37,6 +37,11 @@ CREATE TABLE `posts` (
                          FOREIGN KEY (`board_id`) REFERENCES `boards`(`id`)
 );
 
+-- 메인 피드 / 인기글 조회수 정렬
+CREATE INDEX `idx_posts_view_count` ON `posts` (`view_count` DESC, `id` DESC);
+-- 마이페이지 최근 게시글
+CREATE INDEX `idx_posts_user_id` ON `posts` (`user_id`, `id` DESC);
+
 -- 4. 댓글 테이블
 CREATE TABLE `comments` (
                             `id`         BIGINT       NOT NULL AUTO_INCREMENT,
@@ -50,6 +55,9 @@ CREATE TABLE `comments` (
                             FOREIGN KEY (`post_id`) REFERENCES `posts`(`id`)
 );
 
+-- 마이페이지 최근 댓글
+CREATE INDEX `idx_comments_user_id` ON `comments` (`user_id`, `id` DESC);
+
 -- 5. 파일 테이블
 CREATE TABLE `files` (
                          `id`          BIGINT       NOT NULL AUTO_INCREMENT,
@@ -94,4 +102,15 @@ CREATE TABLE `messages` (
                             PRIMARY KEY (`id`),
                             FOREIGN KEY (`sender_id`) REFERENCES `users`(`id`),
                             FOREIGN KEY (`receiver_id`) REFERENCES `users`(`id`)
-);
\ No newline at end of file
+);
+
+-- 9. 사용자 활동 집계 (마이페이지, 글/댓글/좋아요/쪽지 트랜잭션에서 증감)
+CREATE TABLE `user_stats` (
+                              `user_id`           BIGINT NOT NULL,
+                              `posts_count`       BIGINT NOT NULL DEFAULT 0,
+                              `comments_count`    BIGINT NOT NULL DEFAULT 0,
+                              `likes_received`    BIGINT NOT NULL DEFAULT 0,
+                              `messages_received` BIGINT NOT NULL DEFAULT 0,
+                              PRIMARY KEY (`user_id`),
+                              FOREIGN KEY (`user_id`) REFERENCES `users`(`id`)
+);
@@ -0,0 +1,97 @@
+package com.example.community.benchmark;
+
+import com.example.community.domain.file.FileDto;
+import com.example.community.service.AttachmentService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 첨부 파일 다운로드 처리량: 동시 100 연결이 같은 파일을 받는다 (실제 Tomcat 으로 HTTP 요청)
+ * - full: 전체, range: 뒤쪽 절반 (Range 206)
+ * - MB/s 는 보조 결과 bytes (단위 ops/s = 초당 받은 바이트), 요청 수는 download (ops/s)
+ * - sendfile-min-size (기본 48KB) 이상은 Tomcat sendfile 로 나간다, 64KB 는 그 경계 근처
+ * ./gradlew jmh -Pjmh.includes=AttachmentDownloadBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(100)
+@State(Scope.Benchmark)
+public class AttachmentDownloadBenchmark {
+
+    @Param({"65536", "1048576", "16777216"})
+    int size;
+
+    @Param({"full", "range"})
+    String mode;
+
+    HttpClient client;
+    HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp(CommunityContextState state) {
+        // 게시글 작성자로 올린다
+        JdbcTemplate jdbcTemplate = state.bean(JdbcTemplate.class);
+        long postId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM posts WHERE board_id = ?",
+                Long.class, state.busiestBoardId());
+        long userId = jdbcTemplate.queryForObject("SELECT user_id FROM posts WHERE id = ?", Long.class, postId);
+
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        FileDto file = state.bean(AttachmentService.class)
+                .upload(postId, userId, "bench-" + size + ".zip", "application/zip", new ByteArrayInputStream(content))
+                .orElseThrow();
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(
+                URI.create(state.baseUrl() + "/api/posts/" + postId + "/files/" + file.getId()));
+        if ("range".equals(mode)) {
+            builder.header("Range", "bytes=" + size / 2 + "-");
+        }
+        request = builder.GET().build();
+        System.out.printf("%n[AttachmentDownloadBenchmark] size=%d mode=%s hash=%s%n",
+                size, mode, file.getStoredName());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public long download(Received received) throws IOException, InterruptedException {
+        HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200 && response.statusCode() != 206) {
+                throw new IllegalStateException("Unexpected status: " + response.statusCode());
+            }
+            long bytes = body.transferTo(OutputStream.nullOutputStream());
+            received.bytes += bytes;
+            return bytes;
+        }
+    }
+
+    /**
+     * 스레드별 받은 바이트 (JMH 가 초당 값으로 합산해 보조 결과로 보여준다)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Received {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+}
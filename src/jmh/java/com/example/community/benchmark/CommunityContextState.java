@@ -0,0 +1,72 @@
+package com.example.community.benchmark;
+
+import com.example.community.CommunityApplication;
+import com.example.community.dataset.DatasetGenerator;
+import com.example.community.dataset.DatasetSpec;
+import com.example.community.dataset.DatasetSummary;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트
+ * - 인메모리 H2 + prod 프로필(비동기 로그)로 기동
+ * - DatasetGenerator 로 게시글 jmh.posts 건(기본 1만)과 댓글/쪽지를 미리 넣어둔다
+ *   ./gradlew jmh -Pjmh.posts=1000000
+ */
+@State(Scope.Benchmark)
+public class CommunityContextState {
+
+    static final String KEYWORD = DatasetGenerator.KEYWORDS.get(0);
+
+    ConfigurableApplicationContext context;
+    DatasetSummary dataset;
+
+    @Setup(Level.Trial)
+    public void start() throws Exception {
+        int posts = Integer.getInteger("jmh.posts", 10_000);
+        // 대용량은 인메모리 대신 임시 파일 DB
+        String url = posts > 100_000
+                ? "jdbc:h2:file:./build/jmh-db/community;MODE=MySQL"
+                : "jdbc:h2:mem:jmh;DB_CLOSE_DELAY=-1;MODE=MySQL";
+
+        context = new SpringApplicationBuilder(CommunityApplication.class)
+                .profiles("prod")
+                .properties(
+                        "spring.datasource.url=" + url,
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.sql.init.mode=never",
+                        "spring.main.banner-mode=off",
+                        "community.attachments.root=build/jmh-files",
+                        "server.port=0")
+                .run();
+
+        DatasetSpec spec = DatasetSpec.medium().withPosts(posts).withCsvRead(posts > 100_000);
+        dataset = new DatasetGenerator(spec).generate(bean(DataSource.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * 기동한 서버 주소 (server.port=0 이라 실행마다 바뀐다)
+     */
+    String baseUrl() {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    /**
+     * 공지가 아닌 게시판 중 게시글이 가장 많은 게시판
+     */
+    long busiestBoardId() {
+        return dataset.boardId(1);
+    }
+}
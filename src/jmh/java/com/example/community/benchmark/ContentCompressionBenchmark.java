@@ -0,0 +1,126 @@
+package com.example.community.benchmark;
+
+import com.example.community.content.PostContentCodec;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 본문 압축 저장의 CPU / I/O 맞교환
+ * - compress / decompress / snippetPrefix : 본문 하나를 압축, 전체 해제, 검색 요약문 만큼만 해제하는 CPU 시간
+ * - readPlain / readCompressed : 같은 본문을 원문 / 압축본으로 저장해 두고 DB 에서 읽는 시간 (압축본은 해제 포함)
+ *   인메모리 H2 라 디스크 I/O 는 빠져 있다, 파일 DB 로 재려면 -Pjmh.posts=200000 (CommunityContextState)
+ * 저장 크기와 압축률은 setup 에서 출력한다
+ * ./gradlew jmh -Pjmh.includes=ContentCompressionBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ContentCompressionBenchmark {
+
+    private static final String[] WORDS = {
+            "스프링", "자바", "게시판", "질문", "정리", "후기", "설정", "오류", "해결", "방법", "배포", "서버",
+            "spring", "java", "jpa", "docker", "query", "index", "cache", "thread"
+    };
+
+    // 검색 요약문에 필요한 앞부분 (PostServiceImpl 의 SnippetScanner 와 같은 크기)
+    private static final int SNIPPET_CHARS = 64 * 1024 + 120 + 2;
+
+    @Param({"4096", "65536", "1048576"})
+    int size;
+
+    // log: 붙여넣은 로그 (반복이 많다), article: 한글/영문 단어로 만든 긴 글
+    @Param({"log", "article"})
+    String kind;
+
+    PostContentCodec codec;
+    String text;
+    String stored;
+
+    JdbcTemplate jdbcTemplate;
+    long plainId;
+    long compressedId;
+
+    @Setup(Level.Trial)
+    public void setUp(CommunityContextState state) {
+        codec = new PostContentCodec(true, 0, -1, 1.0);
+        text = "log".equals(kind) ? log(size) : article(size);
+        stored = codec.encode(text);
+        System.out.printf("%n[ContentCompressionBenchmark] kind=%s chars=%d raw=%dB stored=%dB ratio=%.3f%n",
+                kind, text.length(), text.getBytes(StandardCharsets.UTF_8).length, stored.length(),
+                stored.length() / (double) text.getBytes(StandardCharsets.UTF_8).length);
+
+        // 같은 본문을 원문 / 압축본으로 한 건씩 (user_id, board_id 는 기존 게시글 것을 쓴다)
+        jdbcTemplate = state.bean(JdbcTemplate.class);
+        long postId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM posts WHERE board_id = ?",
+                Long.class, state.busiestBoardId());
+        long nextId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM posts", Long.class) + 1;
+        plainId = insertCopy(postId, nextId, text);
+        compressedId = insertCopy(postId, nextId + 1, stored);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM posts WHERE id IN (?, ?)", plainId, compressedId);
+    }
+
+    @Benchmark
+    public String compress() {
+        return codec.encode(text);
+    }
+
+    @Benchmark
+    public String decompress() {
+        return codec.decode(stored);
+    }
+
+    @Benchmark
+    public String snippetPrefix() {
+        return codec.decode(stored, SNIPPET_CHARS);
+    }
+
+    @Benchmark
+    public String readPlain() {
+        return jdbcTemplate.queryForObject("SELECT content FROM posts WHERE id = ?", String.class, plainId);
+    }
+
+    @Benchmark
+    public String readCompressed() {
+        return codec.decode(jdbcTemplate.queryForObject(
+                "SELECT content FROM posts WHERE id = ?", String.class, compressedId));
+    }
+
+    private long insertCopy(long sourceId, long id, String content) {
+        jdbcTemplate.update("INSERT INTO posts (id, user_id, board_id, post_title, content, created_at, updated_at, "
+                        + "view_count, comments_count, likes_count, post_type, fixed) "
+                        + "SELECT ?, user_id, board_id, post_title, ?, created_at, updated_at, 0, 0, 0, NULL, 0 "
+                        + "FROM posts WHERE id = ?", id, content, sourceId);
+        return id;
+    }
+
+    private static String log(int chars) {
+        Random random = new Random(1);
+        StringBuilder text = new StringBuilder(chars + 100);
+        for (int i = 0; text.length() < chars; i++) {
+            text.append("2026-10-19 12:").append(10 + i / 600 % 50).append(':').append(10 + i % 50)
+                    .append('.').append(100 + random.nextInt(900))
+                    .append(" INFO [exec-").append(random.nextInt(16))
+                    .append("] c.e.c.service.PostServiceImpl : READ: id = ").append(random.nextInt(1_000_000))
+                    .append('\n');
+        }
+        return text.substring(0, chars);
+    }
+
+    private static String article(int chars) {
+        Random random = new Random(1);
+        StringBuilder text = new StringBuilder(chars + 20);
+        while (text.length() < chars) {
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+            text.append(random.nextInt(12) == 0 ? ".\n" : " ");
+        }
+        return text.substring(0, chars);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.community.benchmark;
+
+import com.example.community.CommunityApplication;
+import com.example.community.dataset.DatasetGenerator;
+import com.example.community.dataset.DatasetSpec;
+import com.example.community.dataset.DatasetSummary;
+import com.example.community.domain.comment.CommentEntity;
+import com.example.community.domain.message.MessageEntity;
+import com.example.community.domain.post.PostEntity;
+import com.example.community.domain.user.UserEntity;
+import com.example.community.persistence.CommentRepository;
+import com.example.community.persistence.MessageRepository;
+import com.example.community.persistence.PostRepository;
+import com.example.community.persistence.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 / 쪽지 대량 저장 속도 (초당 저장 행 수)
+ * - batchSize=1  : insert 마다 왕복 (IDENTITY 시절과 같은 실행 방식)
+ * - batchSize=50 : 시퀀스 id + JDBC batch
+ * ./gradlew jmh -Pjmh.includes=InsertBenchmark
+ *
+ * hibernate.jdbc.batch_size 는 기동 시 정해지므로 CommunityContextState 대신 직접 컨텍스트를 띄운다
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class InsertBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    @Param({"1", "50"})
+    int batchSize;
+
+    ConfigurableApplicationContext context;
+    DatasetSummary dataset;
+
+    CommentRepository commentRepository;
+    MessageRepository messageRepository;
+    PostRepository postRepository;
+    UserRepository userRepository;
+    TransactionTemplate transactionTemplate;
+    JdbcTemplate jdbcTemplate;
+
+    long maxCommentId;
+    long maxMessageId;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(CommunityApplication.class)
+                .profiles("prod")
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:jmh-insert;DB_CLOSE_DELAY=-1;MODE=MySQL",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "spring.sql.init.mode=never",
+                        "spring.main.banner-mode=off",
+                        "server.port=0")
+                .run();
+
+        DataSource dataSource = context.getBean(DataSource.class);
+        dataset = new DatasetGenerator(DatasetSpec.small()).generate(dataSource);
+
+        commentRepository = context.getBean(CommentRepository.class);
+        messageRepository = context.getBean(MessageRepository.class);
+        postRepository = context.getBean(PostRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        maxCommentId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM comments", Long.class);
+        maxMessageId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM messages", Long.class);
+    }
+
+    /**
+     * 반복마다 저장한 행을 지워 테이블 크기가 결과에 섞이지 않게
+     */
+    @TearDown(Level.Iteration)
+    public void cleanUp() {
+        jdbcTemplate.update("DELETE FROM comments WHERE id > ?", maxCommentId);
+        jdbcTemplate.update("DELETE FROM messages WHERE id > ?", maxMessageId);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<CommentEntity> insertComments() {
+        return transactionTemplate.execute(status -> {
+            PostEntity post = postRepository.getReferenceById(dataset.postId(0));
+            List<CommentEntity> comments = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                comments.add(CommentEntity.builder()
+                        .userId(dataset.userId(i % dataset.users()))
+                        .postEntity(post)
+                        .content("벤치마크 댓글 " + i)
+                        .build());
+            }
+            return commentRepository.saveAll(comments);
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<MessageEntity> insertMessages() {
+        return transactionTemplate.execute(status -> {
+            UserEntity sender = userRepository.getReferenceById(dataset.userId(0));
+            UserEntity receiver = userRepository.getReferenceById(dataset.userId(1));
+            List<MessageEntity> messages = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                messages.add(MessageEntity.builder()
+                        .sender(sender)
+                        .receiver(receiver)
+                        .title("벤치마크 쪽지 " + i)
+                        .content("벤치마크 쪽지 내용 " + i)
+                        .build());
+            }
+            return messageRepository.saveAll(messages);
+        });
+    }
+}
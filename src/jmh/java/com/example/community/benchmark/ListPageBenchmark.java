@@ -0,0 +1,71 @@
+package com.example.community.benchmark;
+
+import com.example.community.domain.post.PostDto;
+import com.example.community.domain.post.PostEntity;
+import com.example.community.domain.post.PostSummaryDto;
+import com.example.community.domain.user.UserEntity;
+import com.example.community.persistence.PostRepository;
+import com.example.community.persistence.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 한 페이지를 만드는 비용: 엔티티 + PostDto.from (이전) vs 본문 없는 PostSummaryDto 프로젝션 (현재)
+ * 페이지당 할당 바이트는 gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 비교한다
+ * ./gradlew jmh -Pjmh.includes=ListPageBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ListPageBenchmark {
+
+    PostRepository postRepository;
+    UserRepository userRepository;
+    Pageable boardPageable;
+    Pageable popularPageable;
+    long boardId;
+
+    @Setup(Level.Trial)
+    public void setUp(CommunityContextState state) {
+        postRepository = state.bean(PostRepository.class);
+        userRepository = state.bean(UserRepository.class);
+        boardId = state.busiestBoardId();
+        // PostController.list 와 같은 정렬
+        boardPageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "fixed")
+                .and(Sort.by(Sort.Direction.DESC, "id")));
+        popularPageable = PageRequest.of(0, 10);
+    }
+
+    @Benchmark
+    public Page<PostDto> boardListEntity() {
+        return postRepository.findByBoardId(boardId, boardPageable).map(this::toDto);
+    }
+
+    @Benchmark
+    public Page<PostSummaryDto> boardListSummary() {
+        return postRepository.findSummariesByBoardId(boardId, boardPageable);
+    }
+
+    @Benchmark
+    public Page<PostDto> popularEntity() {
+        return postRepository.findTopByViewCount(popularPageable).map(this::toDto);
+    }
+
+    @Benchmark
+    public Page<PostSummaryDto> popularSummary() {
+        return postRepository.findPopularSummaries(popularPageable);
+    }
+
+    // 바뀌기 전 PostServiceImpl.convertToDto 와 같은 변환 (작성자 닉네임을 글마다 조회)
+    private PostDto toDto(PostEntity postEntity) {
+        String nickname = userRepository.findById(postEntity.getUserId())
+                .map(UserEntity::getNickname)
+                .orElse("unknown");
+        return PostDto.from(postEntity, nickname);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.community.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.example.community.logging.LoggerRateLimitTurboFilter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그 설정별 요청 스레드 처리량
+ * - sync        : 기존 logback-spring.xml (동기 ConsoleAppender)
+ * - async       : prod 프로필 (AsyncAppender, neverBlock)
+ * - asyncLimited: prod 프로필 + LoggerRateLimitTurboFilter
+ * - off         : 로그 비활성
+ * 출력은 버리는 스트림으로 보내 콘솔 I/O 대신 포맷/전달 비용만 측정
+ * ./gradlew jmh -Pjmh.includes=LoggingBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    private static final String PATTERN = "%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %-5level %logger{20} - %msg%n";
+
+    @Param({"sync", "async", "asyncLimited", "off"})
+    String mode;
+
+    // 0 : 요약 필드만, 10000 : 본문 전체를 로그에 포함 (기존 PostServiceImpl.create)
+    @Param({"0", "10000"})
+    int payloadLength;
+
+    LoggerContext loggerContext;
+    Logger logger;
+    String payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        loggerContext = new LoggerContext();
+        loggerContext.start();
+
+        OutputStreamAppender<ILoggingEvent> output = new OutputStreamAppender<>();
+        output.setContext(loggerContext);
+        output.setEncoder(encoder());
+        output.setOutputStream(OutputStream.nullOutputStream());
+        output.start();
+
+        Appender<ILoggingEvent> appender = output;
+        if (mode.startsWith("async")) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(loggerContext);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(1638);
+            async.setNeverBlock(true);
+            async.addAppender(output);
+            async.start();
+            appender = async;
+        }
+
+        if (mode.equals("asyncLimited")) {
+            LoggerRateLimitTurboFilter filter = new LoggerRateLimitTurboFilter();
+            filter.setContext(loggerContext);
+            filter.start();
+            loggerContext.addTurboFilter(filter);
+        }
+
+        logger = loggerContext.getLogger("com.example.community.service.PostServiceImpl");
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        logger.setLevel(mode.equals("off") ? Level.OFF : Level.INFO);
+
+        payload = "a".repeat(payloadLength);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        loggerContext.stop();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void logRequest() {
+        if (payloadLength == 0) {
+            logger.info("CREATE: boardId={}, userId={}, title={}, contentLength={}", 1L, 2L, "제목", 1234);
+        } else {
+            logger.info("CREATE: boardId={}, postDto={}, userId={}", 1L, payload, 2L);
+        }
+    }
+
+    private PatternLayoutEncoder encoder() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern(PATTERN);
+        encoder.start();
+        return encoder;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.community.benchmark;
+
+import com.example.community.domain.post.PostEntity;
+import com.example.community.persistence.PostRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메인 피드 (공지 제외, 조회수순) 쿼리 비용
+ * - feed: 쿼리에서 공지 게시판 제외, idx_posts_view_count 순서로 읽고 페이지 크기만큼만 가져온다
+ * - allThenFilter: 이전 방식 (전체 조회수순 페이지를 가져와 메모리에서 공지 제외)
+ * 시작할 때 실행 계획이 정렬 없이 인덱스 순서로 읽는지 확인한다
+ * ./gradlew jmh -Pjmh.includes=MainFeedBenchmark -Pjmh.posts=1000000
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MainFeedBenchmark {
+
+    @Param({"0", "100"})
+    int page;
+
+    PostRepository postRepository;
+    Pageable pageable;
+    long noticeBoardId;
+
+    @Setup(Level.Trial)
+    public void setUp(CommunityContextState state) {
+        postRepository = state.bean(PostRepository.class);
+        noticeBoardId = state.dataset.boardId(0);
+        // MainController.index 와 같은 정렬
+        pageable = PageRequest.of(page, 15, Sort.by(Sort.Direction.DESC, "viewCount")
+                .and(Sort.by(Sort.Direction.DESC, "id")));
+
+        List<String> plan = new JdbcTemplate(state.bean(DataSource.class)).queryForList(
+                "EXPLAIN SELECT p.id FROM posts p WHERE p.board_id NOT IN "
+                        + "(SELECT b.id FROM boards b WHERE b.category = 'NOTICE') "
+                        + "ORDER BY p.view_count DESC, p.id DESC LIMIT 15", String.class);
+        String text = String.join("\n", plan);
+        System.out.println("main feed plan:\n" + text);
+        if (!text.contains("index sorted")) {
+            throw new IllegalStateException("main feed is not ordered by idx_posts_view_count:\n" + text);
+        }
+    }
+
+    @Benchmark
+    public Page<PostEntity> feed() {
+        return postRepository.findFeedExcludingCategory("NOTICE", pageable);
+    }
+
+    @Benchmark
+    public List<PostEntity> allThenFilter() {
+        return postRepository.findAll(pageable).getContent().stream()
+                .filter(post -> post.getBoardId() != noticeBoardId)
+                .toList();
+    }
+}
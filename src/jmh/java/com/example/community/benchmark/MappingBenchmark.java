@@ -0,0 +1,89 @@
+package com.example.community.benchmark;
+
+import com.example.community.domain.comment.CommentDto;
+import com.example.community.domain.comment.CommentEntity;
+import com.example.community.domain.message.MessageDto;
+import com.example.community.domain.message.MessageEntity;
+import com.example.community.domain.post.Pagination;
+import com.example.community.domain.post.PostDto;
+import com.example.community.domain.post.PostEntity;
+import com.example.community.domain.user.UserEntity;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity -> DTO 변환 / Pagination 생성 비용
+ * ./gradlew jmh -Pjmh.includes=MappingBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class MappingBenchmark {
+
+    @Param({"200", "20000"})
+    int contentLength;
+
+    PostEntity postEntity;
+    CommentEntity commentEntity;
+    MessageEntity messageEntity;
+    Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        String content = "가".repeat(contentLength);
+
+        postEntity = PostEntity.builder()
+                .userId(1L)
+                .boardId(1L)
+                .title("벤치마크 게시글")
+                .content(content)
+                .build();
+
+        commentEntity = CommentEntity.builder()
+                .userId(2L)
+                .postEntity(postEntity)
+                .content("벤치마크 댓글")
+                .build();
+
+        UserEntity sender = UserEntity.builder()
+                .username("sender01")
+                .nickname("보낸사람")
+                .build();
+        UserEntity receiver = UserEntity.builder()
+                .username("receiver01")
+                .nickname("받는사람")
+                .build();
+
+        messageEntity = MessageEntity.builder()
+                .sender(sender)
+                .receiver(receiver)
+                .title("벤치마크 쪽지")
+                .content(content.substring(0, Math.min(content.length(), 1000)))
+                .build();
+
+        pageable = PageRequest.of(3, 10);
+    }
+
+    @Benchmark
+    public PostDto postDtoFrom() {
+        return PostDto.from(postEntity, "작성자");
+    }
+
+    @Benchmark
+    public CommentDto commentDtoFrom() {
+        return CommentDto.from(commentEntity, "댓글작성자");
+    }
+
+    @Benchmark
+    public MessageDto messageDtoFrom() {
+        return MessageDto.from(messageEntity, "receiver01");
+    }
+
+    @Benchmark
+    public Pagination paginationOf() {
+        return Pagination.of(pageable, 123_456L);
+    }
+}
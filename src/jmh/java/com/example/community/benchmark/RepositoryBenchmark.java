@@ -0,0 +1,51 @@
+package com.example.community.benchmark;
+
+import com.example.community.domain.post.PostEntity;
+import com.example.community.domain.post.PostSearchType;
+import com.example.community.persistence.PostRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 데이터 규모에 따른 PostRepository 쿼리 비용
+ * 게시판 내 검색은 검색 타입마다 (목록 + 개수) 를 잰다. 규모별로 나눠 실행
+ * ./gradlew jmh -Pjmh.includes=RepositoryBenchmark -Pjmh.posts=100000
+ * ./gradlew jmh -Pjmh.includes=RepositoryBenchmark -Pjmh.posts=1000000
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class RepositoryBenchmark {
+
+    @Param({"title", "content", "writer", "titleContent", "commentContent", "commentWriter"})
+    String searchType;
+
+    PostSearchType type;
+
+    PostRepository postRepository;
+    Pageable pageable;
+    long boardId;
+
+    @Setup(Level.Trial)
+    public void setUp(CommunityContextState state) {
+        postRepository = state.bean(PostRepository.class);
+        boardId = state.busiestBoardId();
+        pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
+        type = PostSearchType.from(searchType);
+    }
+
+    @Benchmark
+    public Page<PostEntity> searchInBoard() {
+        return postRepository.searchInBoard(boardId, type, CommunityContextState.KEYWORD, pageable);
+    }
+
+    @Benchmark
+    public Page<PostEntity> findTopByViewCount() {
+        return postRepository.findTopByViewCount(PageRequest.of(0, 10));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.community.benchmark;
+
+import com.example.community.domain.board.BoardDto;
+import com.example.community.domain.post.PostSearchHitDto;
+import com.example.community.domain.post.PostSummaryDto;
+import com.example.community.service.BoardService;
+import com.example.community.service.PostService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 계층 목록/검색 (인메모리 H2, 시드 데이터)
+ * ./gradlew jmh -Pjmh.includes=ServiceBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ServiceBenchmark {
+
+    PostService postService;
+    BoardService boardService;
+    Pageable listPageable;
+    Pageable searchPageable;
+    long boardId;
+
+    @Setup(Level.Trial)
+    public void setUp(CommunityContextState state) {
+        postService = state.bean(PostService.class);
+        boardService = state.bean(BoardService.class);
+        boardId = state.busiestBoardId();
+
+        // PostController.list 와 같은 정렬
+        listPageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "fixed")
+                .and(Sort.by(Sort.Direction.DESC, "id")));
+        // MainController.index 와 같은 정렬
+        searchPageable = PageRequest.of(0, 15, Sort.by(Sort.Direction.DESC, "viewCount")
+                .and(Sort.by(Sort.Direction.DESC, "id")));
+    }
+
+    @Benchmark
+    public Page<PostSummaryDto> postGetList() {
+        return postService.getList(boardId, listPageable);
+    }
+
+    @Benchmark
+    public Page<PostSearchHitDto> postSearchTitle() {
+        return postService.searchPosts("title", CommunityContextState.KEYWORD, searchPageable);
+    }
+
+    @Benchmark
+    public Page<PostSearchHitDto> postSearchTitleContent() {
+        return postService.searchPosts("titleContent", CommunityContextState.KEYWORD, searchPageable);
+    }
+
+    @Benchmark
+    public List<BoardDto> boardGetList() {
+        return boardService.getList();
+    }
+}
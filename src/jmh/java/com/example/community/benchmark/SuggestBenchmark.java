@@ -0,0 +1,54 @@
+package com.example.community.benchmark;
+
+import com.example.community.search.PrefixSuggestIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 제목 자동완성 조회 지연 (SampleTime 이라 p99 가 함께 나온다) / 색인 메모리 어림값
+ * ./gradlew jmh -Pjmh.includes=SuggestBenchmark
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SuggestBenchmark {
+
+    private static final String[] WORDS = {
+            "스프링", "자바", "질문", "후기", "정리", "공지", "게시판", "spring", "java", "jpa", "리액트", "도커"
+    };
+
+    @Param({"100000", "1000000"})
+    int titles;
+
+    @Param({"스", "스프링 자", "java jpa 질", "자바 질문 후기 정"})
+    String prefix;
+
+    PrefixSuggestIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1);
+        List<PrefixSuggestIndex.Entry> entries = new ArrayList<>(titles);
+        for (int i = 0; i < titles; i++) {
+            StringBuilder title = new StringBuilder();
+            for (int w = 0; w < 4; w++) {
+                title.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+            }
+            title.append(i);
+            entries.add(PrefixSuggestIndex.entry(i, i % 10, title.toString(), random.nextInt(10_000)));
+        }
+        index = new PrefixSuggestIndex();
+        index.loadIfNeeded(() -> entries);
+        System.out.printf("%n[SuggestBenchmark] titles=%d estimatedBytes=%.1fMB%n",
+                index.size(), index.estimatedBytes() / 1_000_000.0);
+    }
+
+    @Benchmark
+    public List<PrefixSuggestIndex.Entry> suggest() {
+        return index.suggest(prefix, 8);
+    }
+}
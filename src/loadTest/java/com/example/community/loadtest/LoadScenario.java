@@ -0,0 +1,105 @@
+package com.example.community.loadtest;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 가중치가 있는 사용자 시나리오
+ * 가중치 합은 100 (백분율)
+ */
+public enum LoadScenario {
+
+    // 비로그인 메인 화면 탐색 (MainController.index)
+    INDEX_BROWSING(30) {
+        @Override
+        void run(VirtualUser user, LoadTestData data, SplittableRandom random) throws Exception {
+            user.get("/");
+            user.get("/?page=" + (2 + random.nextInt(5)));
+        }
+    },
+
+    // 게시판 목록 페이징 (PostController.list)
+    BOARD_LIST(25) {
+        @Override
+        void run(VirtualUser user, LoadTestData data, SplittableRandom random) throws Exception {
+            long boardId = pick(data.boardIds(), random);
+            user.get("/board/" + boardId + "/post/list?page=" + (1 + random.nextInt(20)));
+        }
+    },
+
+    // 게시글 + 댓글 조회 (PostController.read, CommentController.list)
+    POST_READ(25) {
+        @Override
+        void run(VirtualUser user, LoadTestData data, SplittableRandom random) throws Exception {
+            long[] post = pick(data.posts(), random);
+            user.get("/board/" + post[0] + "/post/read?id=" + post[1]);
+            user.get("/api/posts/" + post[1] + "/comments");
+        }
+    },
+
+    // 메인 화면 검색
+    SEARCH(10) {
+        @Override
+        void run(VirtualUser user, LoadTestData data, SplittableRandom random) throws Exception {
+            String keyword = pick(LoadTestSeeder.KEYWORDS, random);
+            String searchType = random.nextBoolean() ? "title" : "titleContent";
+            user.get("/?searchType=" + searchType + "&keyword=" + URLEncoder.encode(keyword, StandardCharsets.UTF_8));
+        }
+    },
+
+    // 로그인 후 좋아요 토글 (추가 -> 취소)
+    LOGIN_LIKE(5) {
+        @Override
+        void run(VirtualUser user, LoadTestData data, SplittableRandom random) throws Exception {
+            login(user, data, random);
+            long[] post = pick(data.posts(), random);
+            String csrf = VirtualUser.csrfMeta(user.get("/board/" + post[0] + "/post/read?id=" + post[1]));
+            user.postAjax("/board/" + post[0] + "/post/like/" + post[1], csrf);
+            user.postAjax("/board/" + post[0] + "/post/like/" + post[1], csrf);
+        }
+    },
+
+    // 로그인 후 받은 쪽지함
+    MESSAGE_INBOX(5) {
+        @Override
+        void run(VirtualUser user, LoadTestData data, SplittableRandom random) throws Exception {
+            login(user, data, random);
+            user.get("/messages/received");
+            user.get("/messages/api/unread-count");
+        }
+    };
+
+    private final int weight;
+
+    LoadScenario(int weight) {
+        this.weight = weight;
+    }
+
+    abstract void run(VirtualUser user, LoadTestData data, SplittableRandom random) throws Exception;
+
+    /**
+     * 가중치에 따라 시나리오 선택
+     */
+    static LoadScenario pick(SplittableRandom random) {
+        int point = random.nextInt(100);
+        for (LoadScenario scenario : values()) {
+            point -= scenario.weight;
+            if (point < 0) {
+                return scenario;
+            }
+        }
+        throw new IllegalStateException("scenario weights must add up to 100");
+    }
+
+    private static void login(VirtualUser user, LoadTestData data, SplittableRandom random) throws Exception {
+        if (!user.login(pick(data.usernames(), random), data.password())) {
+            throw new IllegalStateException("login failed");
+        }
+    }
+
+    private static <T> T pick(List<T> values, SplittableRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
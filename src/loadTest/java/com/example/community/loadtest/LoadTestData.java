@@ -0,0 +1,13 @@
+package com.example.community.loadtest;
+
+import java.util.List;
+
+/**
+ * 시드된 데이터 중 시나리오가 참조하는 식별자
+ * posts 는 {boardId, postId} 쌍
+ */
+public record LoadTestData(List<Long> boardIds,
+                           List<long[]> posts,
+                           List<String> usernames,
+                           String password) {
+}
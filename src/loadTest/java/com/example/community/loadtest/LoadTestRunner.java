@@ -0,0 +1,184 @@
+package com.example.community.loadtest;
+
+import com.example.community.CommunityApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * HTTP 부하 테스트
+ * - 인메모리 H2 + 랜덤 포트로 애플리케이션을 띄우고 LoadTestSeeder 로 데이터 적재
+ * - closed : loadtest.users 개의 가상 사용자가 쉬지 않고 시나리오 반복
+ * - open   : 초당 loadtest.rate 개의 시나리오를 응답과 무관하게 시작 (응답 지연이 대기열로 드러남)
+ * - 부하 생성 쪽 요청은 모두 virtual thread 에서 실행
+ * - 서버 쪽 실행 모드는 loadtest.threads (platform / virtual)
+ * ./gradlew loadTest -Ploadtest.model=open -Ploadtest.rate=200
+ * ./gradlew loadTestCompare   (platform / virtual 을 같은 설정으로 각각 실행)
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        try (ConfigurableApplicationContext context = start(settings)) {
+            LoadTestData data = new LoadTestSeeder(context, settings.seed()).seed(settings.posts());
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+            Map<String, Object> report = new LoadTestRunner(settings, data, URI.create("http://localhost:" + port)).run();
+
+            Path output = Path.of(settings.output());
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(output.toFile(), report);
+            System.out.println("result: " + output.toAbsolutePath());
+        }
+    }
+
+    private static ConfigurableApplicationContext start(LoadTestSettings settings) {
+        return new SpringApplicationBuilder(CommunityApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + settings.isVirtualThreads(),
+                        "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;MODE=MySQL",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.sql.init.mode=never",
+                        "spring.main.banner-mode=off",
+                        "spring.devtools.restart.enabled=false",
+                        "logging.level.root=WARN",
+                        "logging.level.jdbc=OFF",
+                        // 요청당 SQL 수를 응답 헤더로 받기 위해 켜둔다
+                        "community.sql-stats.enabled=true",
+                        "community.sql-stats.expose-headers=true")
+                .run();
+    }
+
+    private final LoadTestSettings settings;
+    private final LoadTestData data;
+    private final URI baseUri;
+    private final HttpClient client;
+    private final AtomicBoolean recording = new AtomicBoolean(false);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<LoadScenario, ScenarioStats> stats = new EnumMap<>(LoadScenario.class);
+
+    LoadTestRunner(LoadTestSettings settings, LoadTestData data, URI baseUri) {
+        this.settings = settings;
+        this.data = data;
+        this.baseUri = baseUri;
+        this.client = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        for (LoadScenario scenario : LoadScenario.values()) {
+            stats.put(scenario, new ScenarioStats(scenario.name(), recording));
+        }
+    }
+
+    Map<String, Object> run() throws InterruptedException {
+        long warmupEnd = System.nanoTime() + settings.warmup().toNanos();
+        long end = warmupEnd + settings.duration().toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Thread recorder = Thread.ofVirtual().start(() -> {
+                LockSupport.parkNanos(warmupEnd - System.nanoTime());
+                recording.set(true);
+            });
+
+            if (settings.isOpen()) {
+                runOpen(executor, end);
+            } else {
+                runClosed(executor, end);
+            }
+
+            recorder.join();
+        }
+
+        return report();
+    }
+
+    /**
+     * 고정 사용자 수: 사용자마다 virtual thread 하나
+     */
+    private void runClosed(ExecutorService executor, long end) {
+        for (int i = 0; i < settings.users(); i++) {
+            executor.submit(() -> {
+                VirtualUser user = new VirtualUser(client, baseUri);
+                while (System.nanoTime() < end) {
+                    iterate(user);
+                }
+            });
+        }
+    }
+
+    /**
+     * 고정 도착률: 시작 시각을 미리 정해두고 밀려도 따라잡는다 (coordinated omission 방지)
+     */
+    private void runOpen(ExecutorService executor, long end) {
+        long interval = TimeUnit.SECONDS.toNanos(1) / settings.rate();
+        for (long next = System.nanoTime(); next < end; next += interval) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            executor.submit(() -> iterate(new VirtualUser(client, baseUri)));
+        }
+    }
+
+    private void iterate(VirtualUser user) {
+        SplittableRandom random = new SplittableRandom(settings.seed() ^ sequence.incrementAndGet());
+        LoadScenario scenario = LoadScenario.pick(random);
+        ScenarioStats scenarioStats = stats.get(scenario);
+        user.reset();
+        user.bind(scenarioStats);
+
+        long start = System.nanoTime();
+        boolean success = true;
+        try {
+            scenario.run(user, data, random);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            success = false;
+        }
+        scenarioStats.recordIteration(System.nanoTime() - start, success);
+    }
+
+    private Map<String, Object> report() {
+        double seconds = settings.duration().toMillis() / 1000.0;
+        List<ScenarioStats.Summary> summaries = new ArrayList<>();
+        stats.values().forEach(s -> summaries.add(s.summarize(seconds)));
+
+        System.out.printf("%n[%s model, %s threads]", settings.model(), settings.threads());
+        System.out.printf("%n%-15s %10s %7s %10s %9s %9s %9s %9s%n",
+                "scenario", "iterations", "errors", "ops/s", "p50(ms)", "p99(ms)", "max(ms)", "sql/req");
+        for (ScenarioStats.Summary s : summaries) {
+            System.out.printf("%-15s %10d %7d %10.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    s.scenario(), s.iterations(), s.errors(), s.throughputPerSec(),
+                    s.p50Ms(), s.p99Ms(), s.maxMs(), s.sqlPerRequest());
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings);
+        report.put("scenarios", summaries);
+        return report;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.community.loadtest;
+
+import com.example.community.dataset.DatasetGenerator;
+import com.example.community.dataset.DatasetSpec;
+import com.example.community.dataset.DatasetSummary;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 부하 테스트용 시드 데이터 (DatasetGenerator)
+ * 모든 사용자의 비밀번호는 PASSWORD
+ */
+public class LoadTestSeeder {
+
+    static final String PASSWORD = "loadtest1234";
+    static final List<String> KEYWORDS = DatasetGenerator.KEYWORDS;
+
+    private final ApplicationContext context;
+    private final long seed;
+
+    public LoadTestSeeder(ApplicationContext context, long seed) {
+        this.context = context;
+        this.seed = seed;
+    }
+
+    public LoadTestData seed(int postCount) throws SQLException {
+        // BCrypt 는 느리므로 한 번만 인코딩
+        String encoded = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        DatasetSpec spec = DatasetSpec.medium()
+                .withSeed(seed)
+                .withPosts(postCount)
+                .withPasswordHash(encoded);
+
+        DataSource dataSource = context.getBean(DataSource.class);
+        DatasetSummary summary = new DatasetGenerator(spec).generate(dataSource);
+
+        List<long[]> posts = new JdbcTemplate(dataSource).query("SELECT board_id, id FROM posts ORDER BY id",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+
+        return new LoadTestData(
+                IntStream.range(0, summary.boards()).mapToObj(summary::boardId).toList(),
+                posts,
+                IntStream.range(0, summary.users()).mapToObj(i -> DatasetGenerator.username(summary.userId(i))).toList(),
+                PASSWORD);
+    }
+}
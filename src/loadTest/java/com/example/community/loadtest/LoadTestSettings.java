@@ -0,0 +1,68 @@
+package com.example.community.loadtest;
+
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티)
+ * - loadtest.model    : closed(고정 사용자 수) / open(고정 도착률)
+ * - loadtest.threads  : 서버 요청 실행 스레드, platform / virtual (spring.threads.virtual.enabled)
+ * - loadtest.users    : closed 모델 동시 사용자 수
+ * - loadtest.rate     : open 모델 초당 시나리오 시작 수
+ * - loadtest.warmup   : 측정 전 워밍업 시간 (ISO-8601, 예: PT10S)
+ * - loadtest.duration : 측정 시간
+ * - loadtest.posts    : 시드 게시글 수
+ * - loadtest.seed     : 시드 데이터/시나리오 선택 난수 시드
+ * - loadtest.output   : 결과 JSON 경로
+ */
+public record LoadTestSettings(String model,
+                               String threads,
+                               int users,
+                               int rate,
+                               Duration warmup,
+                               Duration duration,
+                               int posts,
+                               long seed,
+                               String output) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        String model = System.getProperty("loadtest.model", "closed");
+        if (!model.equals("closed") && !model.equals("open")) {
+            throw new IllegalArgumentException("loadtest.model must be closed or open: " + model);
+        }
+
+        String threads = System.getProperty("loadtest.threads", "platform");
+        if (!threads.equals("platform") && !threads.equals("virtual")) {
+            throw new IllegalArgumentException("loadtest.threads must be platform or virtual: " + threads);
+        }
+
+        int users = Integer.getInteger("loadtest.users", 32);
+        if (users <= 0) {
+            throw new IllegalArgumentException("loadtest.users must be positive: " + users);
+        }
+
+        // open 모델은 1초 / rate 로 시작 간격을 정한다
+        int rate = Integer.getInteger("loadtest.rate", 100);
+        if (rate <= 0) {
+            throw new IllegalArgumentException("loadtest.rate must be positive: " + rate);
+        }
+
+        return new LoadTestSettings(
+                model,
+                threads,
+                users,
+                rate,
+                Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT30S")),
+                Integer.getInteger("loadtest.posts", 10_000),
+                Long.getLong("loadtest.seed", 42L),
+                System.getProperty("loadtest.output", "build/reports/loadtest/result.json"));
+    }
+
+    public boolean isOpen() {
+        return model.equals("open");
+    }
+
+    public boolean isVirtualThreads() {
+        return threads.equals("virtual");
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.community.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시나리오별 측정값
+ * - 시나리오 1회 실행 시간(p50/p99/max), 성공/실패 횟수
+ * - HTTP 요청 수, 요청당 SQL 실행 수 (X-Sql-Count 헤더가 있는 응답 기준)
+ * 워밍업 동안에는 recording=false 로 버린다
+ */
+public class ScenarioStats {
+
+    private final String name;
+    private final AtomicBoolean recording;
+
+    private final LongAdder iterations = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder sqlResponses = new LongAdder();
+    private final LongAdder sqlStatements = new LongAdder();
+
+    private long[] latencies = new long[1024];
+    private int latencyCount;
+
+    public ScenarioStats(String name, AtomicBoolean recording) {
+        this.name = name;
+        this.recording = recording;
+    }
+
+    void recordRequest(long nanos, int status, int sqlCount) {
+        if (!recording.get()) {
+            return;
+        }
+        requests.increment();
+        if (sqlCount >= 0) {
+            sqlResponses.increment();
+            sqlStatements.add(sqlCount);
+        }
+    }
+
+    void recordIteration(long nanos, boolean success) {
+        if (!recording.get()) {
+            return;
+        }
+        iterations.increment();
+        if (!success) {
+            errors.increment();
+        }
+        synchronized (this) {
+            if (latencyCount == latencies.length) {
+                latencies = Arrays.copyOf(latencies, latencyCount * 2);
+            }
+            latencies[latencyCount++] = nanos;
+        }
+    }
+
+    public Summary summarize(double seconds) {
+        long[] sorted;
+        synchronized (this) {
+            sorted = Arrays.copyOf(latencies, latencyCount);
+        }
+        Arrays.sort(sorted);
+
+        long sqlCount = sqlResponses.sum();
+        return new Summary(
+                name,
+                iterations.sum(),
+                errors.sum(),
+                iterations.sum() / seconds,
+                millis(percentile(sorted, 0.50)),
+                millis(percentile(sorted, 0.99)),
+                millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]),
+                requests.sum(),
+                sqlCount == 0 ? 0 : (double) sqlStatements.sum() / sqlCount);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    public record Summary(String scenario,
+                          long iterations,
+                          long errors,
+                          double throughputPerSec,
+                          double p50Ms,
+                          double p99Ms,
+                          double maxMs,
+                          long requests,
+                          double sqlPerRequest) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.community.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 브라우저 한 개에 해당하는 가상 사용자
+ * - HttpClient 는 공유하고 세션 쿠키(JSESSIONID)만 사용자별로 보관
+ * - 시나리오마다 reset 으로 세션을 비운다 (비로그인 시나리오가 이전 로그인 세션으로 실행되지 않도록)
+ * - 응답마다 지연 시간과 X-Sql-Count 를 ScenarioStats 에 기록
+ */
+public class VirtualUser {
+
+    private static final Pattern SESSION_COOKIE = Pattern.compile("JSESSIONID=([^;]+)");
+    private static final Pattern CSRF_INPUT = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+    private static final Pattern CSRF_META = Pattern.compile("<meta name=\"_csrf\" content=\"([^\"]+)\"");
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private ScenarioStats stats;
+    private String sessionId;
+
+    public VirtualUser(HttpClient client, URI baseUri) {
+        this.client = client;
+        this.baseUri = baseUri;
+    }
+
+    void bind(ScenarioStats stats) {
+        this.stats = stats;
+    }
+
+    /**
+     * 세션 쿠키 삭제 (비로그인 상태로 돌아간다)
+     */
+    void reset() {
+        sessionId = null;
+    }
+
+    public String get(String path) throws IOException, InterruptedException {
+        return send(request(path).GET().build()).body();
+    }
+
+    /**
+     * 폼 로그인, 성공 시 true
+     */
+    public boolean login(String username, String password) throws IOException, InterruptedException {
+        reset();
+        String csrf = find(CSRF_INPUT, get("/login"));
+
+        HttpResponse<String> response = send(request("/login")
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(form(Map.of("username", username, "password", password, "_csrf", csrf)))
+                .build());
+
+        String location = response.headers().firstValue("Location").orElse("");
+        return response.statusCode() == 302 && !location.contains("error");
+    }
+
+    /**
+     * 화면의 csrf meta 태그 값을 헤더로 보내는 ajax POST
+     */
+    public String postAjax(String path, String csrf) throws IOException, InterruptedException {
+        return send(request(path)
+                .header("X-CSRF-TOKEN", csrf)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build()).body();
+    }
+
+    public static String csrfMeta(String html) {
+        return find(CSRF_META, html);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path));
+        if (sessionId != null) {
+            builder.header("Cookie", "JSESSIONID=" + sessionId);
+        }
+        return builder;
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        long elapsed = System.nanoTime() - start;
+
+        response.headers().allValues("Set-Cookie").forEach(cookie -> {
+            Matcher matcher = SESSION_COOKIE.matcher(cookie);
+            if (matcher.find()) {
+                sessionId = matcher.group(1);
+            }
+        });
+
+        int sqlCount = response.headers().firstValue("X-Sql-Count").map(Integer::parseInt).orElse(-1);
+        stats.recordRequest(elapsed, response.statusCode(), sqlCount);
+
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(response.statusCode() + " " + request.method() + " " + request.uri());
+        }
+        return response;
+    }
+
+    private static HttpRequest.BodyPublisher form(Map<String, String> params) {
+        return HttpRequest.BodyPublishers.ofString(params.entrySet().stream()
+                .map(e -> e.getKey() + "=" + URLEncoder.encode(e.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&")));
+    }
+
+    private static String find(Pattern pattern, String html) {
+        Matcher matcher = pattern.matcher(html);
+        if (!matcher.find()) {
+            throw new IllegalStateException("csrf token not found");
+        }
+        return matcher.group(1);
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.community.attachment;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 첨부 파일 다운로드 응답
+ * - ETag 는 내용 해시 (내용이 바뀌지 않으므로 If-None-Match 가 맞으면 304, 캐시는 immutable)
+ * - Range 한 구간 (206 / 416), If-Range 가 현재 ETag 와 다르면 전체를 보낸다
+ * - 본문 전송
+ *   Tomcat 이 sendfile 을 지원하고 sendfileMinSize 이상이면 요청 속성으로 넘겨 커넥터가 소켓으로 바로 보낸다 (0-copy)
+ *   그 밖에는 FileChannel.transferTo 로 응답 스트림에 쓴다 (힙에 파일 전체를 올리지 않는다)
+ */
+public class AttachmentSender {
+
+    // org.apache.catalina.Globals 의 sendfile 요청 속성
+    static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String CACHE_CONTROL = "private, max-age=31536000, immutable";
+
+    private final long sendfileMinSize;
+
+    private final LongAdder downloads = new LongAdder();
+    private final LongAdder partial = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder sendfile = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+
+    public AttachmentSender(long sendfileMinSize) {
+        this.sendfileMinSize = sendfileMinSize;
+    }
+
+    /**
+     * @param hash 내용 해시 (ETag)
+     * @param path 저장된 파일
+     * @param size 파일 크기
+     */
+    public void send(HttpServletRequest request, HttpServletResponse response, String hash, Path path,
+                     long size, String fileName, String contentType) throws IOException {
+        String etag = "\"" + hash + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            notModified.increment();
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        ByteRange range = ifRange == null || ifRange.trim().equals(etag)
+                ? ByteRange.parse(request.getHeader(HttpHeaders.RANGE), size)
+                : null;
+        if (range != null && range.start() < 0) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, range.contentRange(size));
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+
+        long start = 0;
+        long length = size;
+        if (range != null) {
+            start = range.start();
+            length = range.length();
+            partial.increment();
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, range.contentRange(size));
+        }
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName, StandardCharsets.UTF_8).build().toString());
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setContentLengthLong(length);
+        downloads.increment();
+
+        if ("HEAD".equals(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (length >= sendfileMinSize && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // 응답 본문은 커넥터가 보낸다 (end 는 포함하지 않는 위치)
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            sendfile.increment();
+            bytesSent.add(length);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    // 파일이 예상보다 짧다 (저장소가 바뀐 경우), Content-Length 와 맞지 않으므로 끊는다
+                    throw new IOException("Attachment truncated: " + path);
+                }
+                position += sent;
+                remaining -= sent;
+                bytesSent.add(sent);
+            }
+        }
+    }
+
+    // If-None-Match: "a", W/"b" 또는 *
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long downloads() {
+        return downloads.sum();
+    }
+
+    public long partial() {
+        return partial.sum();
+    }
+
+    public long notModified() {
+        return notModified.sum();
+    }
+
+    public long sendfile() {
+        return sendfile.sum();
+    }
+
+    public long bytesSent() {
+        return bytesSent.sum();
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.community.attachment;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 첨부 파일 내용 저장소 (내용 주소 방식)
+ * - 파일은 내용의 SHA-256 으로 저장한다: root/ab/cd/abcd...(64자)
+ *   같은 내용은 한 번만 저장되고, 저장된 파일은 바뀌지 않으므로 해시를 그대로 ETag 로 쓴다
+ * - 받는 동안 root/tmp 의 임시 파일에 바로 쓰면서 해시를 계산한다 (요청 본문 전체를 메모리에 두지 않는다)
+ *   해시가 정해진 뒤 commit 에서 최종 위치로 옮긴다 (같은 파일 시스템이라 rename)
+ * - 같은 해시의 저장 / 삭제 판단은 withLock 안에서 한다 (삭제와 새 참조가 엇갈려 파일을 지우지 않도록)
+ */
+@Slf4j
+public class AttachmentStorage {
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int LOCK_STRIPES = 64;
+
+    private final Path root;
+    private final Path tmp;
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    private final LongAdder blobsWritten = new LongAdder();
+    private final LongAdder bytesWritten = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder bytesDeduplicated = new LongAdder();
+    private final LongAdder blobsDeleted = new LongAdder();
+
+    public AttachmentStorage(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+        this.tmp = this.root.resolve("tmp");
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        try {
+            Files.createDirectories(tmp);
+        } catch (IOException e) {
+            throw new UncheckedIOException("첨부 파일 저장 위치를 만들 수 없습니다: " + this.root, e);
+        }
+    }
+
+    /**
+     * 요청 본문을 임시 파일로 받는다
+     * @param in 요청 본문
+     * @param maxBytes 받을 수 있는 최대 크기
+     * @return 받은 파일 (commit 하지 않으면 close 할 때 지운다)
+     * @throws IllegalStateException maxBytes 를 넘으면 (넘는 순간 읽기를 멈추고 임시 파일을 지운다)
+     */
+    public Upload receive(InputStream in, long maxBytes) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(tmp, "upload-", ".part");
+            MessageDigest digest = sha256();
+            long size = 0;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxBytes) {
+                        throw new IllegalStateException("파일 크기 제한(" + maxBytes + " bytes)을 넘었습니다.");
+                    }
+                    out.write(buffer, 0, read);
+                }
+            }
+            return new Upload(temp, HexFormat.of().formatHex(digest.digest()), size);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * 받은 파일을 해시 위치로 옮긴다 (withLock 안에서 호출)
+     * @return 새로 저장했으면 true, 같은 내용이 이미 있으면 false (임시 파일은 지운다)
+     */
+    public boolean commit(Upload upload) {
+        Path target = path(upload.hash());
+        try {
+            if (Files.exists(target)) {
+                Files.deleteIfExists(upload.temp());
+                duplicates.increment();
+                bytesDeduplicated.add(upload.size());
+                return false;
+            }
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(upload.temp(), target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(upload.temp(), target);
+            }
+            blobsWritten.increment();
+            bytesWritten.add(upload.size());
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            // 잠금 밖에서 직접 넣은 파일 (내용이 같으므로 그대로 쓴다)
+            deleteQuietly(upload.temp());
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean exists(String hash) {
+        return Files.isRegularFile(path(hash));
+    }
+
+    /**
+     * 저장된 파일 삭제 (withLock 안에서 참조가 없는 것을 확인한 뒤 호출)
+     */
+    public void delete(String hash) {
+        try {
+            if (Files.deleteIfExists(path(hash))) {
+                blobsDeleted.increment();
+            }
+        } catch (IOException e) {
+            // 남은 파일은 다음 업로드에서 그대로 재사용되므로 실패해도 진행한다
+            log.warn("Attachment blob delete failed: {}", hash, e);
+        }
+    }
+
+    public Path path(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            throw new IllegalArgumentException("잘못된 파일 해시: " + hash);
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    public <T> T withLock(String hash, Supplier<T> action) {
+        ReentrantLock lock = locks[Math.floorMod(hash.hashCode(), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Path root() {
+        return root;
+    }
+
+    public long blobsWritten() {
+        return blobsWritten.sum();
+    }
+
+    public long bytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    public long duplicates() {
+        return duplicates.sum();
+    }
+
+    public long bytesDeduplicated() {
+        return bytesDeduplicated.sum();
+    }
+
+    public long blobsDeleted() {
+        return blobsDeleted.sum();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Attachment temp file delete failed: {}", path, e);
+        }
+    }
+
+    /**
+     * 받은 임시 파일
+     * @param hash 내용의 SHA-256 (hex)
+     */
+    public record Upload(Path temp, String hash, long size) implements AutoCloseable {
+
+        @Override
+        public void close() {
+            deleteQuietly(temp);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.community.attachment;
+
+/**
+ * HTTP Range 요청의 바이트 구간 (start, end 모두 포함)
+ * 한 구간만 지원한다, 여러 구간 요청은 전체 내용으로 응답한다 (RFC 9110 상 Range 는 무시해도 된다)
+ */
+public record ByteRange(long start, long end) {
+
+    /**
+     * 파일 크기 안에 걸치는 구간이 없는 요청 (416)
+     */
+    public static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    private static final String UNIT = "bytes=";
+
+    /**
+     * @param header Range 헤더 값
+     * @param size 파일 크기
+     * @return 응답할 구간, 전체를 보내야 하면 (헤더 없음 / 형식 오류 / 여러 구간) null
+     */
+    public static ByteRange parse(String header, long size) {
+        if (header == null || !header.regionMatches(true, 0, UNIT, 0, UNIT.length())) {
+            return null;
+        }
+        String spec = header.substring(UNIT.length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0 || spec.indexOf(',') >= 0) {
+            return null;
+        }
+
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // bytes=-500: 마지막 500 바이트
+                if (last.isEmpty()) {
+                    return null;
+                }
+                long suffix = Long.parseLong(last);
+                if (suffix < 0) {
+                    return null;
+                }
+                if (suffix == 0 || size == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new ByteRange(Math.max(0, size - suffix), size - 1);
+            }
+
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+            if (start < 0 || end < start) {
+                return null;
+            }
+            if (start >= size) {
+                return UNSATISFIABLE;
+            }
+            return new ByteRange(start, Math.min(end, size - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public long length() {
+        return end - start + 1;
+    }
+
+    /**
+     * Content-Range 헤더 값
+     */
+    public String contentRange(long size) {
+        return start < 0 ? "bytes */" + size : "bytes " + start + "-" + end + "/" + size;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.community.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.web.servlet.resource.AbstractVersionStrategy;
+import org.springframework.web.servlet.resource.ContentVersionStrategy;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 빌드 시 생성된 asset-manifest(경로 -> MD5)를 사용하는 VersionStrategy
+ * - /css/index.css -> /css/index-{md5}.css 형태로 URL에 hash를 붙인다
+ * - manifest에 없는 리소스는 ContentVersionStrategy로 실행 시 hash를 계산한다
+ */
+@Slf4j
+public class AssetManifestVersionStrategy extends AbstractVersionStrategy {
+
+    public static final String MANIFEST_LOCATION = "asset-manifest.properties";
+
+    private static final String STATIC_ROOT = "/static/";
+
+    private final Map<String, String> manifest;
+    private final ContentVersionStrategy fallback = new ContentVersionStrategy();
+
+    public AssetManifestVersionStrategy(Map<String, String> manifest) {
+        super(new FileNameVersionPathStrategy());
+        this.manifest = manifest;
+    }
+
+    /**
+     * classpath의 manifest를 읽는다 (없으면 빈 manifest)
+     */
+    public static AssetManifestVersionStrategy fromClasspath() {
+        ClassPathResource resource = new ClassPathResource(MANIFEST_LOCATION);
+        if (!resource.exists()) {
+            log.warn("asset manifest not found, falling back to runtime hashing: {}", MANIFEST_LOCATION);
+            return new AssetManifestVersionStrategy(Collections.emptyMap());
+        }
+
+        try {
+            Properties properties = PropertiesLoaderUtils.loadProperties(resource);
+            Map<String, String> manifest = new HashMap<>();
+            properties.stringPropertyNames()
+                    .forEach(name -> manifest.put(name, properties.getProperty(name)));
+
+            log.info("asset manifest loaded: {} entries", manifest.size());
+            return new AssetManifestVersionStrategy(manifest);
+        } catch (IOException e) {
+            log.warn("failed to read asset manifest, reason={}", e.getMessage());
+            return new AssetManifestVersionStrategy(Collections.emptyMap());
+        }
+    }
+
+    @Override
+    public String getResourceVersion(Resource resource) {
+        String version = manifest.get(manifestKey(resource));
+        return (version != null ? version : fallback.getResourceVersion(resource));
+    }
+
+    // file:, jar:, nested: URL 모두 "/static/" 이후 경로를 manifest key로 사용
+    private String manifestKey(Resource resource) {
+        try {
+            String url = resource.getURL().toString();
+            int index = url.lastIndexOf(STATIC_ROOT);
+            return (index < 0 ? url : url.substring(index + STATIC_ROOT.length()));
+        } catch (IOException e) {
+            return "";
+        }
+    }
+}
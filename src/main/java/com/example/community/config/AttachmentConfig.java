@@ -0,0 +1,70 @@
+package com.example.community.config;
+
+import com.example.community.attachment.AttachmentSender;
+import com.example.community.attachment.AttachmentStorage;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * 게시글 첨부 파일 (AttachmentServiceImpl, AttachmentController 가 사용)
+ * - attachments.blobs (result=written|duplicate|deleted), attachments.bytes (stage=written|deduplicated|sent)
+ * - attachments.downloads (type=full|partial|not_modified)
+ * - attachments.downloads.sendfile: 본문을 Tomcat sendfile 로 보낸 다운로드 (full / partial 에 포함)
+ */
+@Configuration
+@EnableConfigurationProperties(AttachmentProperties.class)
+public class AttachmentConfig {
+
+    @Bean
+    public AttachmentStorage attachmentStorage(AttachmentProperties properties) {
+        return new AttachmentStorage(Path.of(properties.getRoot()));
+    }
+
+    @Bean
+    public AttachmentSender attachmentSender(AttachmentProperties properties) {
+        return new AttachmentSender(properties.getSendfileMinSize().toBytes());
+    }
+
+    @Bean
+    public MeterBinder attachmentMetrics(AttachmentStorage storage, AttachmentSender sender) {
+        return registry -> {
+            FunctionCounter.builder("attachments.blobs", storage, AttachmentStorage::blobsWritten)
+                    .tag("result", "written")
+                    .register(registry);
+            FunctionCounter.builder("attachments.blobs", storage, AttachmentStorage::duplicates)
+                    .tag("result", "duplicate")
+                    .register(registry);
+            FunctionCounter.builder("attachments.blobs", storage, AttachmentStorage::blobsDeleted)
+                    .tag("result", "deleted")
+                    .register(registry);
+            FunctionCounter.builder("attachments.bytes", storage, AttachmentStorage::bytesWritten)
+                    .tag("stage", "written")
+                    .baseUnit("bytes")
+                    .register(registry);
+            FunctionCounter.builder("attachments.bytes", storage, AttachmentStorage::bytesDeduplicated)
+                    .tag("stage", "deduplicated")
+                    .baseUnit("bytes")
+                    .register(registry);
+            FunctionCounter.builder("attachments.bytes", sender, AttachmentSender::bytesSent)
+                    .tag("stage", "sent")
+                    .baseUnit("bytes")
+                    .register(registry);
+            FunctionCounter.builder("attachments.downloads", sender, s -> s.downloads() - s.partial())
+                    .tag("type", "full")
+                    .register(registry);
+            FunctionCounter.builder("attachments.downloads", sender, AttachmentSender::partial)
+                    .tag("type", "partial")
+                    .register(registry);
+            FunctionCounter.builder("attachments.downloads", sender, AttachmentSender::notModified)
+                    .tag("type", "not_modified")
+                    .register(registry);
+            FunctionCounter.builder("attachments.downloads.sendfile", sender, AttachmentSender::sendfile)
+                    .register(registry);
+        };
+    }
+}
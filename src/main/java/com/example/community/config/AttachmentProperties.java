@@ -0,0 +1,43 @@
+package com.example.community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+/**
+ * 게시글 첨부 파일 설정 (community.attachments.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "community.attachments")
+public class AttachmentProperties {
+
+    /**
+     * 파일 저장 위치 (AttachmentStorage, 받는 중인 파일은 그 아래 tmp)
+     */
+    private String root = System.getProperty("user.home") + "/community-files";
+
+    /**
+     * 파일 하나의 최대 크기
+     */
+    private DataSize maxFileSize = DataSize.ofMegabytes(20);
+
+    /**
+     * 사용자별 올린 파일 크기 합의 한도
+     */
+    private DataSize userQuota = DataSize.ofMegabytes(200);
+
+    /**
+     * 올릴 수 있는 확장자 (소문자)
+     */
+    private List<String> allowedExtensions = List.of(
+            "jpg", "jpeg", "png", "gif", "webp", "pdf", "txt", "log", "zip", "md", "csv", "json");
+
+    /**
+     * 이 크기 이상을 보낼 때 Tomcat sendfile 을 쓴다 (작은 응답은 복사가 더 싸다, Tomcat DefaultServlet 과 같은 기준)
+     */
+    private DataSize sendfileMinSize = DataSize.ofKilobytes(48);
+}
@@ -0,0 +1,64 @@
+package com.example.community.config;
+
+import com.example.community.content.PostContentCodec;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 본문 압축 저장 (PostContentConverter, PostContentMigration 이 사용)
+ * - content.compression.writes (result=compressed|plain)
+ * - content.compression.bytes (stage=raw|stored): 압축해 저장한 본문의 원문 / 저장 크기 합
+ * - content.compression.ratio: 저장 크기 / 원문 크기 (낮을수록 많이 줄었다)
+ * - content.compression.time (operation=compress|decompress), content.compression.decompressions
+ */
+@Configuration
+@EnableConfigurationProperties(ContentCompressionProperties.class)
+public class ContentCompressionConfig {
+
+    @Bean
+    public PostContentCodec postContentCodec(ContentCompressionProperties properties) {
+        return new PostContentCodec(properties.isEnabled(), properties.getThreshold(),
+                properties.getLevel(), properties.getMaxRatio());
+    }
+
+    @Bean
+    public MeterBinder postContentCodecMetrics(PostContentCodec codec) {
+        return registry -> {
+            FunctionCounter.builder("content.compression.writes", codec, PostContentCodec::compressedWrites)
+                    .tag("result", "compressed")
+                    .register(registry);
+            FunctionCounter.builder("content.compression.writes", codec, PostContentCodec::plainWrites)
+                    .tag("result", "plain")
+                    .register(registry);
+            FunctionCounter.builder("content.compression.bytes", codec, PostContentCodec::rawBytes)
+                    .tag("stage", "raw")
+                    .baseUnit("bytes")
+                    .register(registry);
+            FunctionCounter.builder("content.compression.bytes", codec, PostContentCodec::storedBytes)
+                    .tag("stage", "stored")
+                    .baseUnit("bytes")
+                    .register(registry);
+            Gauge.builder("content.compression.ratio", codec, PostContentCodec::compressionRatio)
+                    .description("Stored size divided by raw size of compressed post content")
+                    .register(registry);
+            FunctionCounter.builder("content.compression.time", codec,
+                            c -> c.compressNanos() / (double) TimeUnit.SECONDS.toNanos(1))
+                    .tag("operation", "compress")
+                    .baseUnit("seconds")
+                    .register(registry);
+            FunctionCounter.builder("content.compression.time", codec,
+                            c -> c.decompressNanos() / (double) TimeUnit.SECONDS.toNanos(1))
+                    .tag("operation", "decompress")
+                    .baseUnit("seconds")
+                    .register(registry);
+            FunctionCounter.builder("content.compression.decompressions", codec, PostContentCodec::decompressions)
+                    .register(registry);
+        };
+    }
+}
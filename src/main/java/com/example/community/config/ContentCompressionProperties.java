@@ -0,0 +1,39 @@
+package com.example.community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 게시글 본문 압축 저장 설정 (community.content-compression.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "community.content-compression")
+public class ContentCompressionProperties {
+
+    /**
+     * 끄면 새로 쓰는 본문은 원문으로 저장 (압축된 본문은 계속 읽는다, 되돌리려면 PostContentMigration 실행)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 압축할 최소 글자 수 (짧은 본문은 압축해도 거의 줄지 않고 Base64 로 오히려 커진다)
+     */
+    private int threshold = 4096;
+
+    /**
+     * Deflate 압축 수준 (0~9, -1 = 기본값 6)
+     */
+    private int level = -1;
+
+    /**
+     * 저장 크기 / 원문 크기가 이 값을 넘으면 원문으로 저장 (이미 압축된 데이터 등)
+     */
+    private double maxRatio = 0.9;
+
+    /**
+     * PostContentMigration 이 한 번에 읽고 커밋하는 행 수
+     */
+    private int migrationBatchSize = 200;
+}
@@ -0,0 +1,72 @@
+package com.example.community.config;
+
+import com.example.community.jdbc.PoolAwareConcurrencyFilter;
+import com.example.community.metrics.VirtualThreadPinningMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * 요청/비동기/스케줄 실행 모드
+ * - spring.threads.virtual.enabled=false (기본) : Tomcat 플랫폼 스레드 풀, ThreadPoolTaskExecutor/Scheduler
+ * - spring.threads.virtual.enabled=true  (virtual 프로필) : Tomcat 요청, @Async, @Scheduled 모두 virtual thread
+ * virtual thread 모드에서는 pinning 감지와 커넥션 풀 기반 동시 요청 제한을 함께 켠다
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class ExecutionConfig {
+
+    @Configuration
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+    @EnableConfigurationProperties(VirtualThreadProperties.class)
+    @Slf4j
+    static class VirtualThreadConfig {
+
+        // 풀 크기를 알 수 없을 때 (Hikari 기본값)
+        private static final int DEFAULT_POOL_SIZE = 10;
+
+        @Bean
+        public VirtualThreadPinningMonitor virtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                                                       VirtualThreadProperties properties) {
+            return new VirtualThreadPinningMonitor(meterRegistry, properties.getPinnedThreshold());
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "community.virtual-threads", name = "concurrency-limit-enabled", matchIfMissing = true)
+        public FilterRegistrationBean<PoolAwareConcurrencyFilter> poolAwareConcurrencyFilter(
+                DataSource dataSource, MeterRegistry meterRegistry, VirtualThreadProperties properties) {
+
+            int permits = poolSize(dataSource) * properties.getRequestsPerConnection();
+            log.info("Concurrency limit: {} concurrent requests (maxWait={})", permits, properties.getMaxWait());
+
+            FilterRegistrationBean<PoolAwareConcurrencyFilter> registration = new FilterRegistrationBean<>(
+                    new PoolAwareConcurrencyFilter(permits, properties.getMaxWait(), meterRegistry));
+            // 보안 필터(세션 사용자 조회)보다 먼저
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+            return registration;
+        }
+
+        private static int poolSize(DataSource dataSource) {
+            try {
+                if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                    return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+                }
+            } catch (SQLException e) {
+                log.warn("Could not determine connection pool size", e);
+            }
+            return DEFAULT_POOL_SIZE;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.community.config;
+
+import com.example.community.metrics.LatencyEndpoint;
+import com.example.community.metrics.LatencyMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Controller;
+import org.springframework.stereotype.Service;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * 컨트롤러(@Controller, @RestController) 핸들러와 서비스(@Service) 메서드의 지연 시간 측정
+ * - community.controller.latency / community.service.latency 타이머 (class, method 태그)
+ * - /actuator/metrics 와 /actuator/latency 로 조회
+ */
+@Configuration
+public class LatencyMetricsConfig {
+
+    private static final String BASE_PACKAGE = "com.example.community.";
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor controllerLatencyAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return advisor(Controller.class, new LazyLatencyInterceptor(meterRegistry, LatencyMetricsInterceptor.CONTROLLER_METRIC));
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceLatencyAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return advisor(Service.class, new LazyLatencyInterceptor(meterRegistry, LatencyMetricsInterceptor.SERVICE_METRIC));
+    }
+
+    @Bean
+    public LatencyEndpoint latencyEndpoint(MeterRegistry meterRegistry) {
+        return new LatencyEndpoint(meterRegistry);
+    }
+
+    private static Advisor advisor(Class<? extends Annotation> stereotype, LazyLatencyInterceptor interceptor) {
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return targetClass.getName().startsWith(BASE_PACKAGE)
+                        && AnnotatedElementUtils.hasAnnotation(targetClass, stereotype)
+                        && Modifier.isPublic(method.getModifiers())
+                        && method.getDeclaringClass() != Object.class;
+            }
+        };
+        return new DefaultPointcutAdvisor(pointcut, interceptor);
+    }
+
+    /**
+     * Advisor 는 다른 빈보다 먼저 만들어지므로 MeterRegistry 는 첫 호출 때 가져온다
+     */
+    private static final class LazyLatencyInterceptor implements MethodInterceptor {
+
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+        private final String metricName;
+        private volatile LatencyMetricsInterceptor delegate;
+
+        private LazyLatencyInterceptor(ObjectProvider<MeterRegistry> meterRegistry, String metricName) {
+            this.meterRegistry = meterRegistry;
+            this.metricName = metricName;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            LatencyMetricsInterceptor interceptor = delegate;
+            if (interceptor == null) {
+                interceptor = new LatencyMetricsInterceptor(meterRegistry.getObject(), metricName);
+                delegate = interceptor;
+            }
+            return interceptor.invoke(invocation);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.community.config;
+
+import com.example.community.jdbc.ReplicaLagMonitor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * primary 에서 읽기 (여러 요청이 함께 쓰는 캐시/색인 적재처럼 replica 지연으로 옛 값을 읽으면 안 되는 곳)
+ * - 읽기/쓰기 분리가 켜져 있고 readOnly 트랜잭션 안이면, 그 트랜잭션을 잠시 멈추고 쓰기 트랜잭션(REQUIRES_NEW)에서 읽는다
+ *   readOnly 트랜잭션의 커넥션은 첫 SQL 에서 얻으므로 (LazyConnectionDataSourceProxy) 적재가 먼저면 커넥션은 하나만 쓴다
+ * - 그 밖에는 이미 primary 이므로 호출한 트랜잭션에서 그대로 읽는다
+ */
+@Component
+public class PrimaryReads {
+
+    // 읽기/쓰기 분리가 꺼져 있으면 null
+    private final TransactionTemplate primaryTransaction;
+
+    public PrimaryReads(PlatformTransactionManager transactionManager, ObjectProvider<ReplicaLagMonitor> lagMonitor) {
+        if (lagMonitor.getIfAvailable() == null) {
+            this.primaryTransaction = null;
+        } else {
+            this.primaryTransaction = new TransactionTemplate(transactionManager);
+            this.primaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            this.primaryTransaction.setReadOnly(false);
+        }
+    }
+
+    public <T> T read(Supplier<T> reader) {
+        if (primaryTransaction == null || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return reader.get();
+        }
+        return primaryTransaction.execute(status -> reader.get());
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.community.config;
+
+import com.example.community.jdbc.LocalReplicaSynchronizer;
+import com.example.community.jdbc.ReadWriteDataSources;
+import com.example.community.jdbc.ReadWriteRoutingDataSource;
+import com.example.community.jdbc.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (community.datasource.routing.enabled=true, replica 프로필 참고)
+ * - 쓰기와 일반 트랜잭션은 primary (spring.datasource.*), @Transactional(readOnly = true) 는 replica
+ * - replica 지연이 maxLag 를 넘거나, 방금 쓴 세션이면 읽기도 primary
+ * - localSyncInterval 을 주면 로컬 H2 replica 를 primary 복사로 동기화 (운영에서는 DB 복제 사용)
+ * DataSource 빈을 직접 만들므로 spring.datasource 자동 구성은 사용되지 않는다
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "community.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadWriteRoutingProperties.class)
+@Slf4j
+public class ReadWriteRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReadWriteDataSources readWriteDataSources(
+            ReadWriteRoutingProperties properties,
+            MeterRegistry meterRegistry,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username:sa}") String username,
+            @Value("${spring.datasource.password:}") String password,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize) {
+
+        ReadWriteRoutingProperties.Replica replica = properties.getReplica();
+        if (replica.getUrl() == null) {
+            throw new IllegalStateException("community.datasource.routing.replica.url is required");
+        }
+
+        log.info("Read/write routing - primary: {}, replica: {}", url, replica.getUrl());
+        return new ReadWriteDataSources(
+                pool("primary", url, username, password, maximumPoolSize, meterRegistry),
+                pool("replica", replica.getUrl(), replica.getUsername(), replica.getPassword(),
+                        replica.getMaximumPoolSize(), meterRegistry));
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReadWriteDataSources dataSources, ReadWriteRoutingProperties properties,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(dataSources.primary(), dataSources.replica(),
+                properties.getMaxLag(), properties.getHeartbeatInterval(), meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "community.datasource.routing", name = "local-sync-interval")
+    public LocalReplicaSynchronizer localReplicaSynchronizer(ReadWriteDataSources dataSources,
+                                                             ReadWriteRoutingProperties properties) {
+        return new LocalReplicaSynchronizer(dataSources.primary(), dataSources.replica(),
+                properties.getLocalSyncInterval());
+    }
+
+    /**
+     * readOnly 여부는 트랜잭션이 커넥션을 얻은 뒤에 등록되므로 실제 커넥션은 첫 SQL 에서 얻는다
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteDataSources dataSources, ReplicaLagMonitor replicaLagMonitor,
+                                 ReadWriteRoutingProperties properties, MeterRegistry meterRegistry) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                dataSources.primary(), dataSources.replica(), replicaLagMonitor,
+                properties.getReadYourWritesWindow(), meterRegistry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private static HikariDataSource pool(String name, String url, String username, String password,
+                                         int maximumPoolSize, MeterRegistry meterRegistry) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(maximumPoolSize);
+        // hikaricp.connections.* (pool 태그) 메트릭
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new HikariDataSource(config);
+    }
+}
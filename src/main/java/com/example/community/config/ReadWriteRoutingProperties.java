@@ -0,0 +1,57 @@
+package com.example.community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 읽기/쓰기 DataSource 분리 설정 (community.datasource.routing.*)
+ * primary 는 spring.datasource.* 를 그대로 사용한다
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "community.datasource.routing")
+public class ReadWriteRoutingProperties {
+
+    /**
+     * readOnly 트랜잭션을 replica 로 보낼지 여부
+     */
+    private boolean enabled = false;
+
+    private Replica replica = new Replica();
+
+    /**
+     * replica 지연이 이보다 크면 읽기도 primary 로
+     */
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    /**
+     * primary 에 heartbeat 를 쓰고 replica 지연을 재는 주기
+     */
+    private Duration heartbeatInterval = Duration.ofSeconds(1);
+
+    /**
+     * 쓰기 후 replica 가 따라올 때까지 같은 세션의 읽기를 primary 로 보내는 최대 시간
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(30);
+
+    /**
+     * 로컬 H2 replica 를 primary 복사로 동기화하는 주기 (비우면 동기화하지 않음, 실제 복제를 쓰는 환경용)
+     */
+    private Duration localSyncInterval;
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String url;
+
+        private String username = "sa";
+
+        private String password = "";
+
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.community.config;
+
+import com.example.community.search.SearchResultCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 검색 결과 id 캐시 (PostSearchCache 가 사용)
+ * - search.cache.requests (result=hit|miss|shared), search.cache.hit.ratio
+ * - search.cache.saved: 적중한 결과를 처음 읽을 때 걸린 시간의 합 (초), 캐시 덕분에 아낀 DB 시간 추정치
+ * - search.cache.invalidations, search.cache.size
+ */
+@Configuration
+@EnableConfigurationProperties(SearchCacheProperties.class)
+public class SearchCacheConfig {
+
+    @Bean
+    public SearchResultCache searchResultCache(SearchCacheProperties properties) {
+        return new SearchResultCache(properties.getMaxEntries(), properties.getExpireAfterWrite());
+    }
+
+    @Bean
+    public MeterBinder searchResultCacheMetrics(SearchResultCache searchResultCache) {
+        return registry -> {
+            FunctionCounter.builder("search.cache.requests", searchResultCache, SearchResultCache::hits)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("search.cache.requests", searchResultCache, SearchResultCache::misses)
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("search.cache.requests", searchResultCache, SearchResultCache::shared)
+                    .tag("result", "shared")
+                    .register(registry);
+            Gauge.builder("search.cache.hit.ratio", searchResultCache, SearchResultCache::hitRatio)
+                    .description("Search requests served without running the search query")
+                    .register(registry);
+            FunctionCounter.builder("search.cache.saved", searchResultCache,
+                            cache -> cache.savedNanos() / (double) TimeUnit.SECONDS.toNanos(1))
+                    .description("Query time avoided by search cache hits")
+                    .baseUnit("seconds")
+                    .register(registry);
+            FunctionCounter.builder("search.cache.invalidations", searchResultCache, SearchResultCache::invalidations)
+                    .register(registry);
+            Gauge.builder("search.cache.size", searchResultCache, SearchResultCache::size)
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 검색 결과 id 캐시 설정 (community.search-cache.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "community.search-cache")
+public class SearchCacheProperties {
+
+    /**
+     * 끄면 매 검색마다 목록 쿼리 + 개수 쿼리를 실행
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시할 (검색 타입, 검색어, 게시판, 정렬) 조합 수
+     */
+    private long maxEntries = 1000;
+
+    /**
+     * 검색어마다 캐시할 앞쪽 결과 수, 이 안에 들어오는 페이지만 캐시에서 읽는다
+     */
+    private int cachedRows = 100;
+
+    /**
+     * 저장 후 만료 시간 (닉네임 변경, 조회수 정렬 순서 변화는 만료 후 반영)
+     */
+    private Duration expireAfterWrite = Duration.ofSeconds(60);
+}
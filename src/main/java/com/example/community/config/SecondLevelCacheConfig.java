@@ -0,0 +1,80 @@
+package com.example.community.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate 2차 캐시 (JCache + Caffeine, 프로세스 로컬)
+ * - region 은 community.second-level-cache.regions 설정대로 미리 만들어 Hibernate 에 CacheManager 를 넘긴다
+ * - region 별 hit/miss/put/eviction 은 cache.gets, cache.puts, cache.evictions (cache 태그) 로 /actuator/metrics 에 노출
+ * 캐시는 JPA 를 거친 변경만 반영하므로 DB 를 직접 수정(h2-console 등)한 경우 재기동 필요
+ */
+@Configuration
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+@Slf4j
+public class SecondLevelCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties) {
+        CachingProvider provider = new CaffeineCachingProvider();
+        // 컨텍스트마다 다른 URI (같은 JVM 의 여러 컨텍스트가 region/JMX 이름을 공유하지 않도록)
+        URI uri = URI.create("community:second-level-cache:" + UUID.randomUUID());
+        CacheManager cacheManager = provider.getCacheManager(uri, getClass().getClassLoader());
+
+        properties.getRegions().forEach((name, region) -> createRegion(cacheManager, name, region));
+        // 쿼리 캐시 무효화 기준 (항목이 빠지면 오래된 쿼리 결과가 살아날 수 있어 제한 없음)
+        if (cacheManager.getCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME) == null) {
+            createRegion(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                    new SecondLevelCacheProperties.Region());
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, SecondLevelCacheProperties.Region region) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        // Hibernate 캐시 항목은 불변 배열이라 복사하지 않는다
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        if (region.getMaxSize() != null) {
+            configuration.setMaximumSize(OptionalLong.of(region.getMaxSize()));
+        }
+        if (region.getExpireAfterWrite() != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(region.getExpireAfterWrite().toNanos()));
+        }
+        cacheManager.createCache(name, configuration);
+        log.info("Second level cache region {} - maxSize: {}, expireAfterWrite: {}",
+                name, region.getMaxSize(), region.getExpireAfterWrite());
+    }
+
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> {
+            for (String name : hibernateCacheManager.getCacheNames()) {
+                Cache<Object, Object> cache = hibernateCacheManager.getCache(name);
+                JCacheMetrics.monitor(registry, cache, Tags.empty());
+            }
+        };
+    }
+}
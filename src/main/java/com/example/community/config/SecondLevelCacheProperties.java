@@ -0,0 +1,39 @@
+package com.example.community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시 region 설정 (community.second-level-cache.*)
+ * region 이름은 엔티티 @Cache(region) / 쿼리 cacheRegion 힌트와 같아야 한다
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "community.second-level-cache")
+public class SecondLevelCacheProperties {
+
+    /**
+     * region 이름 -> 크기/만료 설정
+     */
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Region {
+
+        /**
+         * 최대 항목 수, 비우면 제한 없음
+         */
+        private Long maxSize;
+
+        /**
+         * 저장 후 만료 시간, 비우면 만료 없음
+         */
+        private Duration expireAfterWrite;
+    }
+}
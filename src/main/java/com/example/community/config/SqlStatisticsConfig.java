@@ -0,0 +1,59 @@
+package com.example.community.config;
+
+import com.example.community.jdbc.InstrumentedDataSource;
+import com.example.community.jdbc.SqlStatementRegistry;
+import com.example.community.jdbc.SqlStatisticsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * 요청별 SQL 통계 설정
+ * - DataSource 를 InstrumentedDataSource 로 감싼다 (community.sql-stats.enabled=false 면 감싸지 않음)
+ * - 전체 SQL 통계는 SqlStatementRegistry (관리자 대시보드에서 조회)
+ * - 컨트롤러 요청마다 SqlStatisticsInterceptor 로 집계
+ */
+@Configuration
+@EnableConfigurationProperties(SqlStatisticsProperties.class)
+@ConditionalOnProperty(prefix = "community.sql-stats", name = "enabled", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SqlStatisticsConfig implements WebMvcConfigurer {
+
+    private final SqlStatisticsProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public SqlStatementRegistry sqlStatementRegistry() {
+        return new SqlStatementRegistry(properties.getSampleRate(), properties.getSlowThreshold(),
+                properties.getMaxFingerprints(), properties.getSlowLogSize());
+    }
+
+    // BeanPostProcessor 는 일찍 생성되므로 registry 는 DataSource 를 감쌀 때 꺼낸다
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor(ObjectProvider<SqlStatementRegistry> registry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource(dataSource, registry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlStatisticsInterceptor(properties, meterRegistry))
+                .excludePathPatterns("/css/**", "/js/**", "/images/**", "/h2-console/**");
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 요청별 SQL 통계 설정 (community.sql-stats.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "community.sql-stats")
+public class SqlStatisticsProperties {
+
+    /**
+     * DataSource 프록시 적용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * X-Sql-* 응답 헤더 노출 여부 (개발용)
+     */
+    private boolean exposeHeaders = true;
+
+    /**
+     * 요청 1건당 허용 SQL 수, 넘으면 WARN 로그
+     */
+    private int statementBudget = 20;
+
+    /**
+     * 같은 SQL 이 이 횟수 이상 반복되면 N+1 의심으로 WARN 로그
+     */
+    private int repeatThreshold = 5;
+
+    /**
+     * 히스토그램에 반영할 실행 비율 (0.0 ~ 1.0), 횟수/총 시간은 항상 전부 집계
+     */
+    private double sampleRate = 1.0;
+
+    /**
+     * 이 시간 이상 걸린 SQL 은 느린 SQL 로그에 남긴다
+     */
+    private Duration slowThreshold = Duration.ofMillis(100);
+
+    /**
+     * 느린 SQL 로그에 보관할 최근 건수
+     */
+    private int slowLogSize = 50;
+
+    /**
+     * 통계를 따로 보관할 SQL 종류(fingerprint) 상한
+     */
+    private int maxFingerprints = 500;
+}
@@ -0,0 +1,75 @@
+package com.example.community.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * 정적 리소스(css, js, images) 설정
+ * - 템플릿의 @{/css/...} 링크를 content hash가 붙은 URL로 변환
+ * - css 안의 url(/images/...)은 빌드 시 hash 경로로 치환된다 (build.gradle processResources)
+ * - 빌드 시 미리 압축한 .gz/.br 파일이 있으면 Accept-Encoding에 맞춰 그대로 전송
+ * - hash가 붙은 URL만 Cache-Control: immutable (1년), 나머지는 매번 재검증
+ */
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    private static final String[] ASSET_DIRS = {"css", "js", "images"};
+
+    // index-0123456789abcdef0123456789abcdef.css
+    private static final Pattern VERSIONED_PATH = Pattern.compile("-[0-9a-f]{32}\\.[^/.]+$");
+
+    private static final String IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic()
+            .immutable()
+            .getHeaderValue();
+
+    private static final String REVALIDATE = CacheControl.noCache().getHeaderValue();
+
+    private final AssetManifestVersionStrategy versionStrategy = AssetManifestVersionStrategy.fromClasspath();
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        for (String dir : ASSET_DIRS) {
+            registry.addResourceHandler("/" + dir + "/**")
+                    .addResourceLocations("classpath:/static/" + dir + "/")
+                    .resourceChain(true)
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(new VersionResourceResolver().addVersionStrategy(versionStrategy, "/**"));
+        }
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+                    @Override
+                    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                        boolean versioned = VERSIONED_PATH.matcher(request.getRequestURI()).find();
+                        response.setHeader(HttpHeaders.CACHE_CONTROL, versioned ? IMMUTABLE : REVALIDATE);
+                        return true;
+                    }
+                })
+                .addPathPatterns("/css/**", "/js/**", "/images/**");
+    }
+
+    /**
+     * th:href="@{/css/index.css}" -> /css/index-{hash}.css 변환용 필터
+     */
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.community.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * virtual thread 모드 부가 설정 (community.virtual-threads.*)
+ * 모드 자체는 spring.threads.virtual.enabled 로 켠다
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "community.virtual-threads")
+public class VirtualThreadProperties {
+
+    /**
+     * 이 시간 이상 carrier thread 에 고정된 경우만 기록 (JFR jdk.VirtualThreadPinned threshold)
+     */
+    private Duration pinnedThreshold = Duration.ofMillis(20);
+
+    /**
+     * 커넥션 풀 크기 기반 동시 요청 제한 사용 여부
+     */
+    private boolean concurrencyLimitEnabled = true;
+
+    /**
+     * 커넥션 1개당 동시에 처리할 요청 수 (요청 시간 전부가 DB 대기는 아니므로 1보다 크게)
+     */
+    private int requestsPerConnection = 2;
+
+    /**
+     * 차례를 기다리는 최대 시간, 넘으면 503
+     */
+    private Duration maxWait = Duration.ofSeconds(2);
+}
@@ -0,0 +1,245 @@
+package com.example.community.content;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 게시글 본문 저장 형식 (posts.content)
+ * - threshold 글자 이상인 본문은 UTF-8 -> Deflate -> Base64 로 줄여 저장한다 (TEXT 컬럼이라 문자열로 둔다)
+ * - 저장 값이 HEADER 로 시작하면 다음 한 글자가 형식: 'D' = Deflate, 'P' = 원문 (원문이 HEADER 로 시작할 때만)
+ * - HEADER 가 없으면 원문 (압축 기능 이전에 저장된 행 포함)
+ * - 줄어드는 양이 작으면 (저장 크기 > 원문 UTF-8 크기 * maxRatio) 원문 그대로 저장
+ * 압축/해제 횟수, 바이트, 시간은 ContentCompressionConfig 가 메트릭으로 노출한다
+ */
+public final class PostContentCodec {
+
+    public static final char HEADER = '\u0001';
+    static final char DEFLATE = 'D';
+    static final char PLAIN = 'P';
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final boolean enabled;
+    private final int threshold;
+    private final int level;
+    private final double maxRatio;
+
+    private final LongAdder compressedWrites = new LongAdder();
+    private final LongAdder plainWrites = new LongAdder();
+    private final LongAdder rawBytes = new LongAdder();
+    private final LongAdder storedBytes = new LongAdder();
+    private final LongAdder compressNanos = new LongAdder();
+    private final LongAdder decompressions = new LongAdder();
+    private final LongAdder decompressNanos = new LongAdder();
+
+    /**
+     * @param enabled 끄면 새로 쓰는 본문은 모두 원문 (이미 압축된 본문은 계속 읽을 수 있다)
+     * @param threshold 압축할 최소 글자 수
+     * @param level Deflate 압축 수준 (0~9, -1 = 기본값)
+     * @param maxRatio 저장 크기 / 원문 크기가 이 값을 넘으면 원문으로 저장
+     */
+    public PostContentCodec(boolean enabled, int threshold, int level, double maxRatio) {
+        if (threshold < 0 || level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION
+                || maxRatio <= 0 || maxRatio > 1) {
+            throw new IllegalArgumentException("Invalid content compression settings: threshold=" + threshold
+                    + ", level=" + level + ", maxRatio=" + maxRatio);
+        }
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.level = level;
+        this.maxRatio = maxRatio;
+    }
+
+    /**
+     * 원문 -> 저장 값
+     */
+    public String encode(String text) {
+        if (text == null) {
+            return null;
+        }
+        if (enabled && text.length() >= threshold) {
+            long start = System.nanoTime();
+            byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+            String compressed = deflate(raw);
+            compressNanos.add(System.nanoTime() - start);
+
+            if (compressed.length() <= raw.length * maxRatio) {
+                compressedWrites.increment();
+                rawBytes.add(raw.length);
+                storedBytes.add(compressed.length());
+                return compressed;
+            }
+        }
+        plainWrites.increment();
+        return text.isEmpty() || text.charAt(0) != HEADER ? text : HEADER + "" + PLAIN + text;
+    }
+
+    /**
+     * 저장 값 -> 원문
+     */
+    public String decode(String stored) {
+        return decode(stored, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 저장 값 -> 원문 앞 maxChars 글자 (압축된 본문은 그만큼만 푼다)
+     */
+    public String decode(String stored, int maxChars) {
+        if (!isCompressed(stored)) {
+            return read(stored, maxChars);
+        }
+        long start = System.nanoTime();
+        String text = read(stored, maxChars);
+        decompressions.increment();
+        decompressNanos.add(System.nanoTime() - start);
+        return text;
+    }
+
+    /**
+     * Deflate 로 저장된 값인지
+     */
+    public static boolean isCompressed(String stored) {
+        return stored != null && stored.length() > 1 && stored.charAt(0) == HEADER && stored.charAt(1) == DEFLATE;
+    }
+
+    /**
+     * 저장 값의 원문에 keyword 가 들어 있는지 (대소문자 구분, LIKE '%keyword%' 와 같다)
+     * DB 함수 post_content_contains 로 등록해 본문 검색 쿼리에서 부른다 (PostContentSearchFunction)
+     * 압축된 본문은 버퍼 단위로 풀면서 찾고, 찾으면 나머지는 풀지 않는다
+     */
+    public static boolean contains(String stored, String keyword) {
+        if (stored == null || keyword == null) {
+            return false;
+        }
+        if (stored.length() < 2 || stored.charAt(0) != HEADER) {
+            return stored.contains(keyword);
+        }
+        if (stored.charAt(1) != DEFLATE) {
+            return stored.indexOf(keyword, 2) >= 0;
+        }
+
+        // 버퍼 경계에 걸친 일치를 놓치지 않도록 앞 버퍼의 끝 (keyword 길이 - 1) 글자를 남긴다
+        int keep = keyword.length() - 1;
+        StringBuilder window = new StringBuilder(BUFFER_SIZE + keep);
+        char[] buffer = new char[BUFFER_SIZE];
+        try (Reader reader = inflater(stored)) {
+            int read;
+            while ((read = reader.read(buffer)) > 0) {
+                window.append(buffer, 0, read);
+                if (window.indexOf(keyword) >= 0) {
+                    return true;
+                }
+                if (window.length() > keep) {
+                    window.delete(0, window.length() - keep);
+                }
+            }
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupted compressed content", e);
+        }
+    }
+
+    // 통계 (메트릭)
+    public long compressedWrites() {
+        return compressedWrites.sum();
+    }
+
+    public long plainWrites() {
+        return plainWrites.sum();
+    }
+
+    public long rawBytes() {
+        return rawBytes.sum();
+    }
+
+    public long storedBytes() {
+        return storedBytes.sum();
+    }
+
+    /**
+     * 압축해 저장한 본문의 저장 크기 / 원문 크기 (작을수록 많이 줄었다)
+     */
+    public double compressionRatio() {
+        long raw = rawBytes();
+        return raw == 0 ? 1.0 : storedBytes() / (double) raw;
+    }
+
+    public long compressNanos() {
+        return compressNanos.sum();
+    }
+
+    public long decompressions() {
+        return decompressions.sum();
+    }
+
+    public long decompressNanos() {
+        return decompressNanos.sum();
+    }
+
+    private String deflate(byte[] raw) {
+        Deflater deflater = new Deflater(level);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 3 + 16);
+            out.write(HEADER);
+            out.write(DEFLATE);
+            try (OutputStream base64 = Base64.getEncoder().wrap(out);
+                 DeflaterOutputStream deflate = new DeflaterOutputStream(base64, deflater, BUFFER_SIZE)) {
+                deflate.write(raw);
+            }
+            return out.toString(StandardCharsets.ISO_8859_1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static String read(String stored, int maxChars) {
+        if (stored == null) {
+            return null;
+        }
+        if (stored.length() < 2 || stored.charAt(0) != HEADER) {
+            return stored.length() <= maxChars ? stored : stored.substring(0, maxChars);
+        }
+        return switch (stored.charAt(1)) {
+            case PLAIN -> stored.substring(2, (int) Math.min(stored.length(), 2L + maxChars));
+            case DEFLATE -> inflate(stored, maxChars);
+            default -> throw new IllegalStateException("Unknown content format: " + (int) stored.charAt(1));
+        };
+    }
+
+    private static String inflate(String stored, int maxChars) {
+        // Base64 는 4글자에 3바이트, 본문은 보통 2~5배 줄어든다
+        int estimate = (int) Math.min(maxChars, stored.length() * 3L);
+        StringBuilder text = new StringBuilder(estimate);
+        char[] buffer = new char[BUFFER_SIZE];
+        try (Reader reader = inflater(stored)) {
+            int read;
+            while (text.length() < maxChars
+                    && (read = reader.read(buffer, 0, Math.min(buffer.length, maxChars - text.length()))) > 0) {
+                text.append(buffer, 0, read);
+            }
+            return text.toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupted compressed content", e);
+        }
+    }
+
+    private static Reader inflater(String stored) {
+        byte[] base64 = stored.getBytes(StandardCharsets.ISO_8859_1);
+        return new InputStreamReader(new InflaterInputStream(
+                Base64.getDecoder().wrap(new ByteArrayInputStream(base64, 2, base64.length - 2))),
+                StandardCharsets.UTF_8);
+    }
+}
@@ -1,24 +1,36 @@
 package com.example.community.controller;
 
 import com.example.community.domain.user.UserDto;
+import com.example.community.jdbc.SqlStatementRegistry;
 import com.example.community.security.CustomUserDetails;
 import com.example.community.service.AdminService;
+import com.example.community.service.BoardTransferService;
+import com.example.community.service.PostContentMigration;
+import com.example.community.transfer.TransferFormat;
+import com.example.community.transfer.TransferResult;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 import com.example.community.domain.board.BoardDto;
-import com.example.community.domain.post.PostDto;
-import com.example.community.domain.comment.CommentDto;
+import com.example.community.domain.post.PostSummaryDto;
+import com.example.community.domain.comment.CommentScrollDto;
 import com.example.community.service.BoardService;
 import com.example.community.service.PostService;
 import com.example.community.service.CommentService;
 import org.springframework.data.domain.Sort;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +47,10 @@ public class AdminController {
     private final BoardService boardService;
     private final PostService postService;
     private final CommentService commentService;
+    private final BoardTransferService boardTransferService;
+    private final PostContentMigration postContentMigration;
+    // community.sql-stats.enabled=false 이면 없음
+    private final ObjectProvider<SqlStatementRegistry> sqlStatementRegistry;
 
     //관리자 대시보드 페이지
     @GetMapping("/dashboard")
@@ -289,12 +305,80 @@ public class AdminController {
         }
     }
 
+    /**
+     * 게시판 게시글/댓글 가져오기 (API)
+     * 요청 본문(JSONL 또는 CSV)을 그대로 스트리밍으로 읽는다 (multipart 로 모으지 않음)
+     */
+    @PostMapping("/boards/{boardId}/import")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> importBoard(
+            @PathVariable Long boardId,
+            @RequestParam(defaultValue = "jsonl") String format,
+            HttpServletRequest request) throws IOException {
+        log.info("Import board - boardId: {}, format: {}", boardId, format);
+
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            TransferResult result = boardTransferService.importBoard(
+                    boardId, TransferFormat.from(format), request.getInputStream());
+
+            response.put("success", true);
+            response.put("message", "게시글 " + result.posts() + "건, 댓글 " + result.comments() + "건을 가져왔습니다.");
+            response.put("posts", result.posts());
+            response.put("comments", result.comments());
+            response.put("skipped", result.skipped());
+            response.put("errors", result.errors());
+            response.put("elapsedMs", result.elapsed().toMillis());
+            response.put("rowsPerSecond", Math.round(result.rowsPerSecond()));
+            return ResponseEntity.ok(response);
+
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
+
+    /**
+     * 게시판 게시글/댓글 내보내기 (API)
+     * 조회한 행을 바로 응답에 쓴다 (처리량은 로그로 남김)
+     */
+    @GetMapping("/boards/{boardId}/export")
+    public void exportBoard(
+            @PathVariable Long boardId,
+            @RequestParam(defaultValue = "jsonl") String format,
+            HttpServletResponse response) throws IOException {
+        log.info("Export board - boardId: {}, format: {}", boardId, format);
+
+        TransferFormat transferFormat;
+        try {
+            transferFormat = TransferFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+        if (boardService.read(boardId).isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND, "게시판을 찾을 수 없습니다.");
+            return;
+        }
+
+        response.setContentType(transferFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("board-" + boardId + "." + transferFormat.getExtension())
+                .build()
+                .toString());
+
+        boardTransferService.exportBoard(boardId, transferFormat, response.getOutputStream());
+    }
+
     /**
      * 게시글 조회 API
      */
     @GetMapping("/posts")
     @ResponseBody
-    public ResponseEntity<Page<PostDto>> getPosts(
+    public ResponseEntity<Page<PostSummaryDto>> getPosts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size
             ) {
@@ -302,11 +386,36 @@ public class AdminController {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
 
-        Page<PostDto> posts = postService.getAllPosts(pageable);
+        Page<PostSummaryDto> posts = postService.getAllPosts(pageable);
 
         return ResponseEntity.ok(posts);
     }
 
+    /**
+     * 게시글 본문 저장 형식 일괄 변환 (API)
+     * 현재 community.content-compression 설정으로 기존 본문을 압축한다 (끈 상태로 실행하면 압축을 푼다)
+     */
+    @PostMapping("/posts/content-compression")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> migratePostContent() {
+        log.info("Migrate post content");
+
+        PostContentMigration.Result result = postContentMigration.migrate();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "게시글 " + result.scanned() + "건 중 " + result.compressed() + "건을 압축하고 "
+                + result.decompressed() + "건의 압축을 풀었습니다.");
+        response.put("scanned", result.scanned());
+        response.put("compressed", result.compressed());
+        response.put("decompressed", result.decompressed());
+        response.put("conflicts", result.conflicts());
+        response.put("bytesBefore", result.bytesBefore());
+        response.put("bytesAfter", result.bytesAfter());
+        response.put("elapsedMs", result.elapsed().toMillis());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 게시글 삭제 (API)
      */
@@ -338,17 +447,16 @@ public class AdminController {
         }
     }
 
-    // 댓글 조회 API
+    // 댓글 조회 API (키셋 페이징: 다음 화면은 응답의 nextCursor 를 cursor 로 전달)
     @GetMapping("/comments")
     @ResponseBody
-    public ResponseEntity<Page<CommentDto>> getComments(
-            @RequestParam(defaultValue = "0") int page,
+    public ResponseEntity<CommentScrollDto> getComments(
+            @RequestParam(required = false) Long cursor,
             @RequestParam(defaultValue = "20") int size) {
 
-        log.info("Get comments - page: {}, size: {}", page, size);
+        log.info("Get comments - cursor: {}, size: {}", cursor, size);
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
-        Page<CommentDto> comments = commentService.getAllComments(pageable);
+        CommentScrollDto comments = commentService.getAllComments(cursor, Math.clamp(size, 1, 100));
 
         return ResponseEntity.ok(comments);
     }
@@ -381,7 +489,46 @@ public class AdminController {
         }
     }
 
+    /**
+     * SQL 통계 조회 API (총 실행 시간 상위 SQL + 최근 느린 SQL)
+     */
+    @GetMapping("/sql-stats")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> getSqlStats(@RequestParam(defaultValue = "20") int limit) {
+        Map<String, Object> response = new HashMap<>();
 
+        SqlStatementRegistry registry = sqlStatementRegistry.getIfAvailable();
+        response.put("enabled", registry != null);
+        if (registry != null) {
+            response.put("fingerprintCount", registry.getFingerprintCount());
+            response.put("statements", registry.getTopStatements(limit));
+            response.put("slowStatements", registry.getSlowStatementLog().snapshot());
+            response.put("slowStatementTotal", registry.getSlowStatementLog().getTotalCount());
+        }
 
+        return ResponseEntity.ok(response);
+    }
 
+    /**
+     * SQL 통계 초기화 (API)
+     */
+    @PostMapping("/sql-stats/reset")
+    @ResponseBody
+    public ResponseEntity<Map<String, Object>> resetSqlStats() {
+        log.info("Reset sql stats");
+
+        Map<String, Object> response = new HashMap<>();
+
+        SqlStatementRegistry registry = sqlStatementRegistry.getIfAvailable();
+        if (registry == null) {
+            response.put("success", false);
+            response.put("message", "SQL 통계가 비활성화되어 있습니다.");
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        registry.reset();
+        response.put("success", true);
+        response.put("message", "SQL 통계를 초기화했습니다.");
+        return ResponseEntity.ok(response);
+    }
 }
@@ -0,0 +1,128 @@
+package com.example.community.controller;
+
+import com.example.community.attachment.AttachmentSender;
+import com.example.community.domain.file.FileDto;
+import com.example.community.domain.file.FileUsageDto;
+import com.example.community.security.CustomUserDetails;
+import com.example.community.service.AttachmentService;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 게시글 첨부 파일 API
+ * - 올리기는 multipart 가 아니라 요청 본문이 파일 내용이고 이름은 name 파라미터 (post-read.js)
+ *   multipart 는 컨테이너가 본문을 메모리/임시 파일에 먼저 모으므로, 본문 스트림을 그대로 저장소에 넘긴다
+ * - 목록 / 다운로드는 로그인 없이 (SecurityConfiguration)
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+@Slf4j
+public class AttachmentController {
+
+    private final AttachmentService attachmentService;
+    private final AttachmentSender attachmentSender;
+
+    // 첨부 파일 올리기 (게시글 작성자만)
+    @PostMapping("/posts/{postId}/files")
+    public ResponseEntity<Map<String, Object>> upload(
+            @PathVariable Long postId,
+            @RequestParam String name,
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            HttpServletRequest request
+    ) throws IOException {
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            Optional<FileDto> file = attachmentService.upload(
+                    postId, userDetails.getId(), name, request.getContentType(), request.getInputStream());
+            if (file.isEmpty()) {
+                response.put("success", false);
+                response.put("message", "권한이 없습니다.");
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+            }
+
+            response.put("success", true);
+            response.put("file", file.get());
+            return ResponseEntity.ok(response);
+
+        } catch (EntityNotFoundException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (IllegalStateException e) {
+            // 파일 크기 제한 / 사용자 한도 초과
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONTENT_TOO_LARGE).body(response);
+        }
+    }
+
+    // 게시글 첨부 파일 목록 (로그인 불필요)
+    @GetMapping("/posts/{postId}/files")
+    public ResponseEntity<List<FileDto>> getList(@PathVariable Long postId) {
+        return ResponseEntity.ok(attachmentService.getList(postId));
+    }
+
+    // 첨부 파일 다운로드 (로그인 불필요, HEAD / Range / If-None-Match 지원)
+    @GetMapping("/posts/{postId}/files/{fileId}")
+    public void download(
+            @PathVariable Long postId,
+            @PathVariable Long fileId,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        Optional<FileDto> file = attachmentService.read(postId, fileId);
+        if (file.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        FileDto fileDto = file.get();
+        attachmentSender.send(request, response, fileDto.getStoredName(), attachmentService.path(fileDto),
+                fileDto.getFileSize(), fileDto.getOriginalName(), fileDto.getContentType());
+    }
+
+    // 첨부 파일 삭제 (올린 사용자 또는 관리자)
+    @DeleteMapping("/posts/{postId}/files/{fileId}")
+    public ResponseEntity<Map<String, Object>> delete(
+            @PathVariable Long postId,
+            @PathVariable Long fileId,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        Map<String, Object> response = new HashMap<>();
+
+        if (!attachmentService.delete(postId, fileId, userDetails.getId())) {
+            response.put("success", false);
+            response.put("message", "권한이 없습니다.");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+
+        response.put("success", true);
+        response.put("message", "삭제되었습니다");
+        return ResponseEntity.ok(response);
+    }
+
+    // 내 첨부 파일 사용량
+    @GetMapping("/files/usage")
+    public ResponseEntity<FileUsageDto> usage(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ResponseEntity.ok(attachmentService.usage(userDetails.getId()));
+    }
+}
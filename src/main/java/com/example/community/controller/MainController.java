@@ -1,13 +1,12 @@
 package com.example.community.controller;
 
 import com.example.community.domain.board.BoardDto;
-import com.example.community.domain.post.PostDto;
+import com.example.community.domain.post.PostSummaryDto;
 import com.example.community.service.BoardService;
 import com.example.community.service.PostService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -17,7 +16,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 메인 페이지 컨트롤러
@@ -70,44 +68,31 @@ public class MainController {
         model.addAttribute("boardList", boardList);
 
         // 3) NOTICE 카테고리의 첫 번째 게시판 선택
-        // final 변수로 선언
-        final Long noticeBoardId;
         if (!noticeBoardList.isEmpty()) {
-            noticeBoardId = noticeBoardList.get(0).getId();
+            Long noticeBoardId = noticeBoardList.get(0).getId();
             Pageable noticePageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "id"));
             var noticePage = postService.getList(noticeBoardId, noticePageable);
             model.addAttribute("noticeList", noticePage.getContent());
-            log.info("공지사항 로드 성공: boardId={}, title={}, postCount={}",
+            log.debug("공지사항 로드 성공: boardId={}, title={}, postCount={}",
                     noticeBoardId, noticeBoardList.get(0).getTitle(), noticePage.getContent().size());
         } else {
             log.warn("NOTICE 카테고리의 게시판이 없습니다");
             model.addAttribute("noticeList", List.of());
-            noticeBoardId = null;
         }
 
-        // 4) 게시글 목록 조회 (검색 또는 전체) - 공지사항 제외!
-        Pageable pageable = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "viewCount"));
-        Page<PostDto> postPage;
+        // 4) 게시글 목록 조회 (검색 또는 메인 피드) - 메인 피드는 쿼리에서 공지사항 제외
+        // 같은 조회수는 최신순 (idx_posts_view_count 와 같은 순서)
+        Pageable pageable = PageRequest.of(page - 1, size,
+                Sort.by(Sort.Direction.DESC, "viewCount").and(Sort.by(Sort.Direction.DESC, "id")));
+        // 검색 결과(PostSearchHitDto)와 피드(PostSummaryDto)는 목록 화면에 쓰는 필드가 같다
+        Page<?> postPage;
 
         if (keyword != null && !keyword.trim().isEmpty()) {
-            // 검색
+            // 검색 (본문 대신 요약문)
             postPage = postService.searchPosts(searchType, keyword, pageable);
-            log.info("검색 결과: {} 건", postPage.getTotalElements());
+            log.debug("검색 결과: {} 건", postPage.getTotalElements());
         } else {
-            // 전체 목록 조회
-            postPage = postService.getAllPosts(pageable);
-
-            // final noticeBoardId
-            if (noticeBoardId != null) {
-                List<PostDto> filteredContent = postPage.getContent().stream()
-                        .filter(post -> !post.getBoardId().equals(noticeBoardId))
-                        .collect(Collectors.toList());
-
-                postPage = new PageImpl<>(filteredContent, pageable, postPage.getTotalElements());
-                log.info("공지사항 게시판 제외: 원본 {} 건 → 필터링 후 {} 건",
-                        postPage.getContent().size() + filteredContent.size(),
-                        filteredContent.size());
-            }
+            postPage = postService.getMainFeed(pageable);
         }
 
         model.addAttribute("postPage", postPage);
@@ -116,7 +101,7 @@ public class MainController {
 
         // 5) 인기 게시글 TOP 10 (오른쪽 사이드바용)
         Pageable popularPageable = PageRequest.of(0, 10);
-        Page<PostDto> popularPosts = postService.getPopularPosts(popularPageable);
+        Page<PostSummaryDto> popularPosts = postService.getPopularPosts(popularPageable);
         model.addAttribute("popularPosts", popularPosts.getContent());
 
         return "index";
@@ -1,11 +1,10 @@
 package com.example.community.controller;
 
-import com.example.community.domain.post.PostDto;
+import com.example.community.domain.user.MypageDashboardDto;
 import com.example.community.domain.user.UserDto;
 import com.example.community.security.CustomUserDetails;
-import com.example.community.service.CommentService;
+import com.example.community.service.MypageDashboardService;
 import com.example.community.service.MypageService;
-import com.example.community.service.PostService;
 import com.example.community.service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -27,8 +26,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.List;
-
 @Controller
 @RequiredArgsConstructor
 @RequestMapping("/mypage")
@@ -37,8 +34,7 @@ public class MypageController {
 
     private final UserService userService;
     private final MypageService mypageService;
-    private final PostService postService;
-    private final CommentService commentService;
+    private final MypageDashboardService mypageDashboardService;
 
     /**
      * 마이페이지 조회
@@ -47,7 +43,7 @@ public class MypageController {
      */
     @GetMapping("")
     public String mypage(@AuthenticationPrincipal CustomUserDetails userDetails, Model model) {
-        log.info("마이페이지 접근 시도");
+        log.debug("마이페이지 접근 시도");
 
         if (userDetails == null) {
             // 보안 설정상 비로그인 사용자는 여기까지 못 오는게 정상인데,
@@ -66,30 +62,21 @@ public class MypageController {
 
         Long userId = user.getId();
 
-        // 확인용
-        List<PostDto> recent = mypageService.getRecentPosts(userId, 10);
-
-        log.info("recentPosts sample boardId={}, boardTitle={}",
-                recent.isEmpty() ? null : recent.get(0).getBoardId(),
-                recent.isEmpty() ? null : recent.get(0).getBoardTitle()
-        );
-        model.addAttribute("recentPosts", recent);
+        // 최근 게시글/댓글과 활동 집계를 한 번에 조회
+        MypageDashboardDto dashboard = mypageDashboardService.getDashboard(userId, 10);
 
         // 내가 작성한 게시글 최신 10개
-        model.addAttribute("recentPosts", mypageService.getRecentPosts(userId, 10));
+        model.addAttribute("recentPosts", dashboard.getRecentPosts());
 
         // 내가 작성한 댓글 최신 10개
-        model.addAttribute("recentComments", mypageService.getRecentComments(userId, 10));
+        model.addAttribute("recentComments", dashboard.getRecentComments());
 
-        // 내가 작성한 게시글 개수 표시
-        model.addAttribute("myPostsCount",
-                postService.getMyPosts(userId, PageRequest.of(0, 1)).getTotalElements());
+        // 작성한 게시글/댓글 개수, 받은 좋아요/쪽지 수
+        model.addAttribute("stats", dashboard.getStats());
+        model.addAttribute("myPostsCount", dashboard.getStats().getPostsCount());
+        model.addAttribute("myCommentsCount", dashboard.getStats().getCommentsCount());
 
-        // 내가 작성한 댓글 개수 표시
-        model.addAttribute("myCommentsCount",
-                commentService.getMyComments(userId, PageRequest.of(0, 1)).getTotalElements());
-
-        log.info("마이페이지 조회 성공: username={}", username);
+        log.debug("마이페이지 조회 성공: username={}", username);
 
         return "mypage/mypage";
     }
@@ -305,7 +292,8 @@ public class MypageController {
         Long userId = userDetails.getUser().getId();
         log.info("내 댓글 목록 조회: userId={}, page={}, size={}", userId, page, size);
 
-        Pageable pageable = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        // id 역순 = 작성 순서 역순 (comments(user_id, id DESC) 인덱스로 정렬)
+        Pageable pageable = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "id"));
 
         var commentPage = mypageService.getMyComments(userId, pageable);
 
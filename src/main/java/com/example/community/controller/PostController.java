@@ -4,8 +4,10 @@ import com.example.community.domain.board.BoardDto;
 import com.example.community.domain.post.Criteria;
 import com.example.community.domain.post.Pagination;
 import com.example.community.domain.post.PostDto;
+import com.example.community.domain.post.PostSummaryDto;
 import com.example.community.domain.post.ResultDto;
 import com.example.community.security.CustomUserDetails;
+import com.example.community.service.AttachmentService;
 import com.example.community.service.BoardService;
 import com.example.community.service.PostService;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +33,7 @@ import java.util.Map;
 public class PostController {
     private final PostService postService;
     private final BoardService boardService;
+    private final AttachmentService attachmentService;
 
     // 게시글 목록
     @GetMapping({"", "/list" })
@@ -72,7 +75,7 @@ public class PostController {
             model.addAttribute("boardTitle", currentBoard.getTitle());
             // 게시판 카테고리도 전달 (글쓰기 버튼 조건부 표시용)
             model.addAttribute("boardCategory", currentBoard.getCategory());
-            log.info("게시판 제목 추가: boardId={}, title={}, category={}", boardId, currentBoard.getTitle(), currentBoard.getCategory());
+            log.debug("게시판 제목 추가: boardId={}, title={}, category={}", boardId, currentBoard.getTitle(), currentBoard.getCategory());
         } else {
             log.warn("게시판을 찾을 수 없습니다. boardId={}", boardId);
             model.addAttribute("boardTitle", "게시판");
@@ -83,9 +86,9 @@ public class PostController {
                 criteria.getSize(), Sort.by(Sort.Direction.DESC, "fixed")
                         .and(Sort.by(Sort.Direction.DESC, "id")));
 
-        log.info("pageable = {}", pageable);
+        log.debug("pageable = {}", pageable);
 
-        Page<PostDto> postPage;
+        Page<PostSummaryDto> postPage;
         // 키워드가 있는지 확인
         if (criteria.getKeyword() != null && !criteria.getKeyword().trim().isEmpty()) {
             postPage = postService.searchPostsInBoard(boardId, criteria.getSearchType(), criteria.getKeyword(), pageable);
@@ -95,7 +98,7 @@ public class PostController {
 
         Pagination pagination = Pagination.of( pageable, postPage.getTotalElements(), postPage.getTotalPages());
 
-        log.info("pagination = {}", pagination);
+        log.debug("pagination = {}", pagination);
 
         model.addAttribute("boardId", boardId);
         model.addAttribute("postPage", postPage);
@@ -104,7 +107,7 @@ public class PostController {
 
         // 5) 인기 게시글 TOP 10 (오른쪽 사이드바용)
         Pageable popularPageable = PageRequest.of(0, 10);
-        Page<PostDto> popularPosts = postService.getPopularPosts(popularPageable);
+        Page<PostSummaryDto> popularPosts = postService.getPopularPosts(popularPageable);
         model.addAttribute("popularPosts", popularPosts.getContent());
 
         return "post/list";
@@ -173,7 +176,7 @@ public class PostController {
 
         // 인기 게시물 추가 (오른쪽 사이드바용)
         Pageable popularPageable = PageRequest.of(0, 10);
-        Page<PostDto> popularPosts = postService.getPopularPosts(popularPageable);
+        Page<PostSummaryDto> popularPosts = postService.getPopularPosts(popularPageable);
         model.addAttribute("popularPosts", popularPosts.getContent());
 
         return "post/write";
@@ -190,6 +193,7 @@ public class PostController {
         model.addAttribute("boardId", boardId);
         model.addAttribute("criteria", criteria);
         model.addAttribute("postDto", postService.read(id));
+        model.addAttribute("files", attachmentService.getList(id));
 
         // 현재 사용자 ID와 관리자 여부를 Model에 추가 (댓글 기능용)
         Long currentUserId = null;
@@ -230,12 +234,12 @@ public class PostController {
 
         if (previousPost.isPresent()) {
             model.addAttribute("previousPost", previousPost.get());
-            log.info("이전 게시물 존재: id={}, title={}", previousPost.get().getId(), previousPost.get().getTitle());
+            log.debug("이전 게시물 존재: id={}, title={}", previousPost.get().getId(), previousPost.get().getTitle());
         }
 
         if (nextPost.isPresent()) {
             model.addAttribute("nextPost", nextPost.get());
-            log.info("다음 게시물 존재: id={}, title={}", nextPost.get().getId(), nextPost.get().getTitle());
+            log.debug("다음 게시물 존재: id={}, title={}", nextPost.get().getId(), nextPost.get().getTitle());
         }
 
         return "post/read";
@@ -0,0 +1,35 @@
+package com.example.community.controller;
+
+import com.example.community.domain.post.SuggestionDto;
+import com.example.community.service.SearchSuggestService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@Slf4j
+public class SearchApiController {
+
+    private final SearchSuggestService searchSuggestService;
+
+    /**
+     * 검색어 자동완성 (입력할 때마다 호출되므로 로그는 debug)
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDto>> suggest(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "8") int limit) {
+
+        log.debug("Suggest - q: {}, limit: {}", q, limit);
+
+        return ResponseEntity.ok(searchSuggestService.suggest(q, Math.clamp(limit, 1, 10)));
+    }
+}
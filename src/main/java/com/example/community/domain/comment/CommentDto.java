@@ -10,6 +10,9 @@ import lombok.Data;
 
 import java.time.LocalDateTime;
 
+/**
+ * 필드 순서가 CommentRepository 목록 조회의 생성자 표현식(new CommentDto(...))과 같아야 한다
+ */
 @Data
 @AllArgsConstructor
 @Builder
@@ -20,6 +23,7 @@ public class CommentDto {
     private Long boardId;
 
     private String postTitle;
+    private String boardTitle;
 
     @NotBlank(message = "내용을 입력해주세요.")
     @Size(min = 1, max = 200, message = "내용은 1자 이상 200자 이하로 작성해 주셔야 합니다.")
@@ -0,0 +1,20 @@
+package com.example.community.domain.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 키셋 방식 댓글 목록 한 화면
+ * 다음 화면은 nextCursor 를 cursor 로 넘겨 요청한다 (전체 개수는 세지 않는다)
+ */
+@Data
+@AllArgsConstructor
+@Builder
+public class CommentScrollDto {
+    private List<CommentDto> content;
+    private Long nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,38 @@
+package com.example.community.domain.file;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class FileDto {
+    private Long id;
+    private Long postId;
+    private Long userId;
+    private String originalName;
+    private String storedName;
+    private String extension;
+    private String contentType;
+    private Long fileSize;
+    private LocalDateTime createdAt;
+
+    public static FileDto from(FileEntity fileEntity) {
+        return FileDto.builder()
+                .id(fileEntity.getId())
+                .postId(fileEntity.getPostId())
+                .userId(fileEntity.getUserId())
+                .originalName(fileEntity.getOriginalName())
+                .storedName(fileEntity.getStoredName())
+                .extension(fileEntity.getExtension())
+                .contentType(fileEntity.getContentType())
+                .fileSize(fileEntity.getFileSize())
+                .createdAt(fileEntity.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.community.domain.file;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 첨부 파일 (docs/specs/community.sql 의 files)
+ * - 파일 내용은 AttachmentStorage 에 SHA-256 으로 저장하고 stored_name 에 그 해시를 둔다
+ *   같은 내용의 파일은 행만 늘고 디스크에는 한 번만 저장된다
+ * - 용량 집계 (user_file_usage) 는 공유 여부와 상관없이 행마다 file_size 를 센다
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "files", indexes = {
+        @Index(name = "idx_files_post_id", columnList = "post_id"),
+        // 내용 파일을 아직 참조하는 행이 있는지 (삭제 시 정리)
+        @Index(name = "idx_files_stored_name", columnList = "stored_name")
+})
+public class FileEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "file_seq")
+    @SequenceGenerator(name = "file_seq", sequenceName = "files_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    // 올린 사용자 (용량 집계 대상)
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 다운로드할 때 쓰는 원래 파일 이름
+    @Column(name = "original_name", nullable = false)
+    private String originalName;
+
+    // 내용의 SHA-256 (hex)
+    @Column(name = "stored_name", nullable = false, length = 64)
+    private String storedName;
+
+    @Column(name = "extension", nullable = false, length = 10)
+    private String extension;
+
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public FileEntity(Long postId, Long userId, String originalName, String storedName,
+                      String extension, String contentType, Long fileSize) {
+        this.postId = postId;
+        this.userId = userId;
+        this.originalName = originalName;
+        this.storedName = storedName;
+        this.extension = extension;
+        this.contentType = contentType;
+        this.fileSize = fileSize;
+    }
+}
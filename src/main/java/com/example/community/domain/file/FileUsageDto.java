@@ -0,0 +1,21 @@
+package com.example.community.domain.file;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class FileUsageDto {
+    private Long userId;
+    private long usedBytes;
+    private long filesCount;
+    private long quotaBytes;
+
+    public long getRemainingBytes() {
+        return Math.max(0, quotaBytes - usedBytes);
+    }
+}
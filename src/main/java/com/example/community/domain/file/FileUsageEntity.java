@@ -0,0 +1,27 @@
+package com.example.community.domain.file;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자별 첨부 파일 사용량 (community.attachments.user-quota 검사용)
+ * - 처음 올릴 때 files 에서 계산해 만들고, 이후에는 FileUsageRepository 의 UPDATE 로만 증감
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "user_file_usage")
+public class FileUsageEntity {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 올린 파일 크기 합 (bytes)
+    @Column(name = "used_bytes", nullable = false)
+    private Long usedBytes;
+
+    @Column(name = "files_count", nullable = false)
+    private Long filesCount;
+}
@@ -7,6 +7,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import java.time.LocalDateTime;
 
 @Data
@@ -32,6 +33,7 @@ public class MessageDto {
 
     @NotBlank(message = "내용을 입력해주세요.")
     @Size(min = 1, max = 1000, message = "내용은 1자 이상 1000자 이하로 작성해 주셔야 합니다.")
+    @ToString.Exclude
     private String content;
 
     private Integer isRead;
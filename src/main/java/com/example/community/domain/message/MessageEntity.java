@@ -7,7 +7,7 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Getter
-@ToString(exclude = {"sender", "receiver"})
+@ToString(exclude = {"sender", "receiver", "content"})
 @NoArgsConstructor(access= AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Entity
@@ -16,10 +16,11 @@ public class MessageEntity {
 
     /**
      * 쪽지의 고유 식별 번호 Primary Key
-     * IDENTITY = AUTO-INCREMENT
+     * 시퀀스(50개씩 미리 할당)로 생성, insert batch 가능
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "message_seq")
+    @SequenceGenerator(name = "message_seq", sequenceName = "messages_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -0,0 +1,98 @@
+package com.example.community.domain.post;
+
+import com.example.community.content.PostContentCodec;
+
+/**
+ * 게시글 본문 값 (PostEntity.content, PostContentConverter 가 변환)
+ * - DB 에서 읽은 본문은 저장 값 그대로 들고 있다가 text() 를 처음 부를 때 압축을 푼다
+ *   (조회수 증가 등 본문을 쓰지 않는 변경 감지에서는 풀지 않는다)
+ * - 새로 쓴 본문은 원문만 들고 있다가 저장할 때 한 번 압축한다
+ * 한 번 만든 값은 바꾸지 않는다 (본문 수정 = 새 PostContent)
+ */
+public final class PostContent {
+
+    private final PostContentCodec codec;
+    private volatile String stored;
+    private volatile String text;
+
+    private PostContent(PostContentCodec codec, String stored, String text) {
+        this.codec = codec;
+        this.stored = stored;
+        this.text = text;
+    }
+
+    public static PostContent of(String text) {
+        return text == null ? null : new PostContent(null, null, text);
+    }
+
+    static PostContent stored(String stored, PostContentCodec codec) {
+        return new PostContent(codec, stored, null);
+    }
+
+    /**
+     * 본문 원문
+     */
+    public String text() {
+        String value = text;
+        if (value == null) {
+            value = codec.decode(stored);
+            text = value;
+        }
+        return value;
+    }
+
+    /**
+     * 본문 앞 maxChars 글자 (아직 풀지 않은 본문은 그만큼만 푼다)
+     */
+    public String prefix(int maxChars) {
+        String value = text;
+        if (value != null) {
+            return value.length() <= maxChars ? value : value.substring(0, maxChars);
+        }
+        return codec.decode(stored, maxChars);
+    }
+
+    public boolean isCompressed() {
+        return PostContentCodec.isCompressed(stored);
+    }
+
+    /**
+     * 저장 값 (새로 쓴 본문은 처음 한 번만 압축)
+     */
+    String stored(PostContentCodec codec) {
+        String value = stored;
+        if (value == null) {
+            value = codec.encode(text);
+            stored = value;
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PostContent other)) {
+            return false;
+        }
+        // 둘 다 저장 값이 있고 같으면 풀지 않고 비교
+        String value = stored;
+        if (value != null && value.equals(other.stored)) {
+            return true;
+        }
+        return text().equals(other.text());
+    }
+
+    @Override
+    public int hashCode() {
+        return text().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        // 본문은 길이 제한이 없으므로 길이만
+        String value = text;
+        return "PostContent(" + (value != null ? "length=" + value.length() : "stored=" + stored.length()) + ")";
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.community.domain.post;
+
+import com.example.community.content.PostContentCodec;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * posts.content <-> PostContent
+ * - 읽을 때는 저장 값만 감싸고 압축은 PostContent.text() 에서 푼다
+ * - Hibernate 가 Spring 빈 컨테이너로 만들므로 PostContentCodec 빈을 받는다 (ContentCompressionConfig)
+ * PostContent 는 바꾸지 않는 값이라 변경 감지용 복사본을 만들지 않도록 @Immutable
+ */
+@Converter
+@Immutable
+@RequiredArgsConstructor
+public class PostContentConverter implements AttributeConverter<PostContent, String> {
+
+    private final PostContentCodec codec;
+
+    @Override
+    public String convertToDatabaseColumn(PostContent content) {
+        return content == null ? null : content.stored(codec);
+    }
+
+    @Override
+    public PostContent convertToEntityAttribute(String stored) {
+        return stored == null ? null : PostContent.stored(stored, codec);
+    }
+}
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDateTime;
 
@@ -23,6 +24,8 @@ public class PostDto {
 
     private String boardTitle;
     private String title;
+    // 로그 제외
+    @ToString.Exclude
     private String content;
     // nickname
     private String writer;
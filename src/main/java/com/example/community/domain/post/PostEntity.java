@@ -18,10 +18,16 @@ import java.util.List;
 @ToString
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        // 메인 피드 / 인기글 조회수 정렬 (같은 조회수는 최신순)
+        @Index(name = "idx_posts_view_count", columnList = "view_count DESC, id DESC"),
+        // 마이페이지 최근 게시글
+        @Index(name = "idx_posts_user_id", columnList = "user_id, id DESC")
+})
 public class PostEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq")
+    @SequenceGenerator(name = "post_seq", sequenceName = "posts_seq", allocationSize = 50)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -34,8 +40,13 @@ public class PostEntity {
     @Column(name = "post_title", length = 100, nullable = false)
     private String title;
 
+    // 본문은 길이 제한이 없으므로 로그(toString)에서 제외
+    // 긴 본문은 압축해서 저장하고, getContent() 를 부를 때 푼다 (PostContentConverter)
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    @Convert(converter = PostContentConverter.class)
     @Column(name = "content", columnDefinition = "TEXT", nullable = false)
-    private String content;
+    private PostContent content;
 
     // nickname
     // private String writer;
@@ -51,7 +62,8 @@ public class PostEntity {
     @Column(name = "view_count", nullable = false)
     private Integer viewCount;
 
-    @Column(name = "comments_count", nullable = false)
+    // 댓글 수는 PostRepository 의 UPDATE 로만 증감 (엔티티 변경 감지로 덮어쓰지 않도록 updatable = false)
+    @Column(name = "comments_count", nullable = false, updatable = false)
     private Integer commentsCount;
 
     @Column(name = "likes_count", nullable = false)
@@ -75,7 +87,7 @@ public class PostEntity {
         this.userId = userId;
         this.boardId = boardId;
         this.title = title;
-        this.content = content;
+        this.content = PostContent.of(content);
 
         this.viewCount = (viewCount == null ? 0 : viewCount);
         this.commentsCount = (commentsCount == null ? 0 : commentsCount);
@@ -85,6 +97,24 @@ public class PostEntity {
         this.fixed = (fixed == null ? (short) 0 : fixed);
     }
 
+    /**
+     * 본문 원문 (압축된 본문은 처음 부를 때 푼다)
+     */
+    public String getContent() {
+        return content == null ? null : content.text();
+    }
+
+    /**
+     * 본문 앞 maxChars 글자 (검색 요약문, 압축된 본문은 그만큼만 푼다)
+     */
+    public String getContentPrefix(int maxChars) {
+        return content == null ? null : content.prefix(maxChars);
+    }
+
+    public boolean isContentCompressed() {
+        return content != null && content.isCompressed();
+    }
+
     // update 부분
     public PostEntity updateTitle(String title) {
         this.title = title;
@@ -92,7 +122,7 @@ public class PostEntity {
     }
 
     public PostEntity updateContent(String content) {
-        this.content = content;
+        this.content = PostContent.of(content);
         return this;
     }
 
@@ -111,16 +141,6 @@ public class PostEntity {
         return this;
     }
 
-    public PostEntity increaseCommentsCount() {
-        this.commentsCount = (this.commentsCount == null ? 1 : this.commentsCount + 1);
-        return this;
-    }
-
-    public PostEntity decreaseCommentsCount() {
-        this.commentsCount = (this.commentsCount == null || this.commentsCount <= 0 ? 0 : this.commentsCount - 1);
-        return this;
-    }
-
     // 좋아요 증가
     public PostEntity increaseLikesCount() {
         this.likesCount = (this.likesCount == null ? 1 : this.likesCount + 1);
@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
 public class PostLikeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_like_seq")
+    @SequenceGenerator(name = "post_like_seq", sequenceName = "post_likes_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "post_id", nullable = false)
@@ -0,0 +1,16 @@
+package com.example.community.domain.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이전/다음 게시물 링크용 (본문, 작성자 없이 id 와 제목만)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostNeighborDto {
+    private Long id;
+    private String title;
+}
@@ -0,0 +1,37 @@
+package com.example.community.domain.post;
+
+import com.example.community.search.SearchSnippet;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 검색 결과 한 건
+ * 본문 대신 첫 일치 주변 요약문과 강조 구간만 담는다
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostSearchHitDto {
+    private Long id;
+    private Long boardId;
+
+    private String title;
+    // 제목 안의 일치 구간 (text 는 제목 전체)
+    private SearchSnippet titleHighlight;
+    // 본문 요약문
+    private SearchSnippet snippet;
+
+    // nickname
+    private String writer;
+
+    private LocalDateTime createdAt;
+
+    private Integer viewCount;
+    private Integer commentsCount;
+    private Integer likesCount;
+}
@@ -0,0 +1,37 @@
+package com.example.community.domain.post;
+
+/**
+ * 게시글 검색 타입 (요청 파라미터 searchType 값)
+ * 타입마다 전용 쿼리를 쓰므로 검색하지 않는 테이블은 조인하지 않는다
+ */
+public enum PostSearchType {
+
+    TITLE("title"),
+    CONTENT("content"),
+    WRITER("writer"),
+    TITLE_CONTENT("titleContent"),
+    COMMENT_CONTENT("commentContent"),
+    COMMENT_WRITER("commentWriter");
+
+    private final String value;
+
+    PostSearchType(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * 비어 있거나 알 수 없는 값은 제목 + 내용 검색
+     */
+    public static PostSearchType from(String searchType) {
+        for (PostSearchType type : values()) {
+            if (type.value.equals(searchType)) {
+                return type;
+            }
+        }
+        return TITLE_CONTENT;
+    }
+}
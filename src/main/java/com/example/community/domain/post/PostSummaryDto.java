@@ -0,0 +1,40 @@
+package com.example.community.domain.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 한 줄 (본문 없음)
+ * 목록 쿼리가 생성자 표현식으로 바로 만든다 (PostRepository.POST_SUMMARY, 필드 순서 = 생성자 인자 순서)
+ * 본문은 PostService.read 에서만 읽는다
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostSummaryDto {
+    private Long id;
+    private Long userId;
+    private Long boardId;
+
+    private String boardTitle;
+    private String title;
+    // nickname
+    private String writer;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    private Integer viewCount;
+    private Integer commentsCount;
+    private Integer likesCount;
+
+    // 게시글 타입 (공지/일반 등, nullable)
+    private Short postType;
+    // 고정글 여부 (일반 - 0, 고정 - 1)
+    private Short fixed;
+}
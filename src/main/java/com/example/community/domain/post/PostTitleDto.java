@@ -0,0 +1,18 @@
+package com.example.community.domain.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 제목 자동완성 색인 적재용 (본문 없이 id, 게시판, 제목, 조회수만)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostTitleDto {
+    private Long id;
+    private Long boardId;
+    private String title;
+    private Integer viewCount;
+}
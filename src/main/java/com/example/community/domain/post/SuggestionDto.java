@@ -0,0 +1,24 @@
+package com.example.community.domain.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색어 자동완성 후보
+ * type 이 title 이면 게시글 제목(postId, boardId 로 바로 이동), query 면 자주 검색한 검색어
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SuggestionDto {
+    public static final String TITLE = "title";
+    public static final String QUERY = "query";
+
+    private String text;
+    private String type;
+    private Long postId;
+    private Long boardId;
+}
@@ -0,0 +1,25 @@
+package com.example.community.domain.user;
+
+import com.example.community.domain.comment.CommentDto;
+import com.example.community.domain.post.PostSummaryDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 마이페이지 첫 화면 데이터 (최근 게시글/댓글 + 활동 집계)
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class MypageDashboardDto {
+    // 게시판 제목(boardTitle) 포함
+    private List<PostSummaryDto> recentPosts;
+    // 원글 제목/게시판/댓글 수 포함
+    private List<CommentDto> recentComments;
+    private UserStatsDto stats;
+}
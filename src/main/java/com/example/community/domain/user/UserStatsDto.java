@@ -0,0 +1,28 @@
+package com.example.community.domain.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserStatsDto {
+    private Long userId;
+    private long postsCount;
+    private long commentsCount;
+    private long likesReceived;
+    private long messagesReceived;
+
+    public static UserStatsDto from(UserStatsEntity userStatsEntity) {
+        return UserStatsDto.builder()
+                .userId(userStatsEntity.getUserId())
+                .postsCount(userStatsEntity.getPostsCount())
+                .commentsCount(userStatsEntity.getCommentsCount())
+                .likesReceived(userStatsEntity.getLikesReceived())
+                .messagesReceived(userStatsEntity.getMessagesReceived())
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.community.domain.user;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자별 활동 집계 (마이페이지 표시용)
+ * - 처음 증감할 때 원본 테이블에서 계산해 만들고, 이후에는 글/댓글/좋아요/쪽지 트랜잭션에서 UPDATE 로 증감
+ * - 값은 UserStatsRepository 의 MERGE / UPDATE 로만 바꾼다
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "user_stats")
+public class UserStatsEntity {
+
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // 작성한 게시글 수
+    @Column(name = "posts_count", nullable = false)
+    private Long postsCount;
+
+    // 작성한 댓글 수
+    @Column(name = "comments_count", nullable = false)
+    private Long commentsCount;
+
+    // 내 게시글이 받은 좋아요 수
+    @Column(name = "likes_received", nullable = false)
+    private Long likesReceived;
+
+    // 받은 쪽지 수 (영구 삭제한 쪽지 제외)
+    @Column(name = "messages_received", nullable = false)
+    private Long messagesReceived;
+}
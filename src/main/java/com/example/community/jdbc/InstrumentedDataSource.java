@@ -0,0 +1,138 @@
+package com.example.community.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * SQL 실행 시간을 측정하는 DataSource 프록시 (log4jdbc DriverSpy 대체)
+ * - Connection 은 prepareStatement/createStatement/prepareCall 만 가로챈다
+ * - Statement 는 execute* 만 측정하고, 나머지 호출(ResultSet 포함)은 그대로 위임
+ * - SQL 문자열은 포맷하지 않는다, 정규화는 SqlStatementRegistry 가 SQL 종류별로 한 번만 수행
+ * - SqlStatementRegistry 에 fingerprint 별 히스토그램/느린 SQL 을 기록
+ * - 진행 중인 요청이 있을 때만 SqlStatistics 에 기록
+ * community.sql-stats.enabled=false 이면 DataSource 를 감싸지 않으므로 비용이 없다
+ */
+@Slf4j(topic = "jdbc.sqltiming")
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private static final Class<?>[] CONNECTION_TYPE = {Connection.class};
+    private static final Class<?>[] STATEMENT_TYPE = {Statement.class};
+    private static final Class<?>[] PREPARED_STATEMENT_TYPE = {PreparedStatement.class};
+    private static final Class<?>[] CALLABLE_STATEMENT_TYPE = {CallableStatement.class};
+
+    private final SqlStatementRegistry registry;
+
+    public InstrumentedDataSource(DataSource targetDataSource, SqlStatementRegistry registry) {
+        super(targetDataSource);
+        this.registry = registry;
+    }
+
+    public SqlStatementRegistry getRegistry() {
+        return registry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), CONNECTION_TYPE,
+                new ConnectionHandler(connection, registry));
+    }
+
+    /**
+     * SQL 1건 실행 결과 기록
+     */
+    static void record(SqlStatementRegistry registry, String sql, long elapsedNanos) {
+        String fingerprint = registry.record(sql, elapsedNanos);
+
+        SqlStatistics statistics = SqlStatisticsHolder.current();
+        if (statistics != null) {
+            statistics.record(fingerprint, elapsedNanos);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("{} ({} ms)", sql, elapsedNanos / 1_000_000L);
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static boolean isIdentityMethod(Method method) {
+        return method.getDeclaringClass() == Object.class && !method.getName().equals("toString");
+    }
+
+    // equals/hashCode 는 프록시 자신 기준
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return (method.getName().equals("equals") ? proxy == args[0] : System.identityHashCode(proxy));
+    }
+
+    private record ConnectionHandler(Connection target, SqlStatementRegistry registry) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+
+            return switch (method.getName()) {
+                case "prepareStatement" -> Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(),
+                        PREPARED_STATEMENT_TYPE, new StatementHandler((Statement) result, (String) args[0], registry));
+                case "prepareCall" -> Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(),
+                        CALLABLE_STATEMENT_TYPE, new StatementHandler((Statement) result, (String) args[0], registry));
+                case "createStatement" -> Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(),
+                        STATEMENT_TYPE, new StatementHandler((Statement) result, null, registry));
+                default -> result;
+            };
+        }
+    }
+
+    private record StatementHandler(Statement target, String preparedSql, SqlStatementRegistry registry) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            if (!method.getName().startsWith("execute")) {
+                return InstrumentedDataSource.invoke(target, method, args);
+            }
+
+            // Statement.execute(sql) 는 인자로 SQL 을 받는다
+            String sql = (preparedSql != null ? preparedSql
+                    : (args != null && args.length > 0 && args[0] instanceof String s ? s : "<batch>"));
+
+            long start = System.nanoTime();
+            try {
+                return InstrumentedDataSource.invoke(target, method, args);
+            } finally {
+                record(registry, sql, System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.community.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 개발/테스트용 H2 replica 동기화 (비동기 복제 흉내)
+ * - 주기마다 primary 를 SCRIPT 로 내보내 replica 에 통째로 다시 적재
+ * - 적재하는 동안 replica 는 SET EXCLUSIVE 1 로 다른 커넥션의 작업을 멈춘다
+ * - heartbeat 테이블도 함께 복사되므로 ReplicaLagMonitor 가 재는 지연 = 동기화 주기 + 측정 주기 정도
+ * 전체 복사라 데이터가 많으면 느리다 (운영에서는 DB 복제를 쓰고 이 컴포넌트는 끈다)
+ */
+@Slf4j
+public class LocalReplicaSynchronizer implements SmartLifecycle {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final Duration interval;
+
+    private volatile ScheduledExecutorService executor;
+
+    public LocalReplicaSynchronizer(DataSource primary, DataSource replica, Duration interval) {
+        this.primary = primary;
+        this.replica = replica;
+        this.interval = interval;
+    }
+
+    @Override
+    public void start() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("local-replica-sync").daemon().factory());
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                sync();
+            } catch (SQLException | IOException e) {
+                log.warn("Local replica sync failed: {}", e.getMessage());
+            }
+        }, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        executor = scheduler;
+
+        log.info("Local replica sync started (interval={})", interval);
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService scheduler = executor;
+        executor = null;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    public synchronized void sync() throws SQLException, IOException {
+        long start = System.nanoTime();
+        Path script = Files.createTempFile("replica-sync", ".sql");
+        try {
+            String file = script.toAbsolutePath().toString().replace("'", "''");
+            try (Connection connection = primary.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("SCRIPT TO '" + file + "'");
+            }
+
+            try (Connection connection = replica.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("SET EXCLUSIVE 1");
+                try {
+                    statement.execute("DROP ALL OBJECTS");
+                    statement.execute("RUNSCRIPT FROM '" + file + "'");
+                } finally {
+                    statement.execute("SET EXCLUSIVE 0");
+                }
+            }
+        } finally {
+            Files.deleteIfExists(script);
+        }
+        log.debug("Local replica synced in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.community.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커넥션 풀 크기에 맞춘 동시 요청 수 제한 (virtual thread 모드용)
+ * - 플랫폼 스레드는 Tomcat 스레드 수가 상한이지만 virtual thread 는 요청마다 생성되어 상한이 없다
+ * - 풀보다 훨씬 많은 요청이 동시에 커넥션을 기다리면 모두 connection-timeout 까지 밀리므로
+ *   permits 만큼만 처리하고, maxWait 안에 차례가 오지 않으면 503 으로 빨리 거절한다
+ * - 대기는 virtual thread 를 park 하므로 carrier thread 를 잡지 않는다
+ */
+@Slf4j
+public class PoolAwareConcurrencyFilter extends OncePerRequestFilter {
+
+    public static final String WAIT_METRIC = "community.concurrency.wait";
+    public static final String REJECTED_METRIC = "community.concurrency.rejected";
+    public static final String IN_FLIGHT_METRIC = "community.concurrency.in.flight";
+
+    private static final String[] EXCLUDED_PREFIXES = {"/css/", "/js/", "/images/", "/h2-console/", "/actuator/health"};
+
+    private final int permits;
+    private final Semaphore semaphore;
+    private final long maxWaitNanos;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    public PoolAwareConcurrencyFilter(int permits, Duration maxWait, MeterRegistry meterRegistry) {
+        if (permits < 1) {
+            throw new IllegalArgumentException("permits must be positive: " + permits);
+        }
+        this.permits = permits;
+        this.semaphore = new Semaphore(permits, true);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.waitTimer = Timer.builder(WAIT_METRIC)
+                .description("Time requests waited for a database concurrency permit")
+                .register(meterRegistry);
+        this.rejected = Counter.builder(REJECTED_METRIC)
+                .description("Requests rejected because no concurrency permit was available in time")
+                .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT_METRIC, this, PoolAwareConcurrencyFilter::getInFlight)
+                .description("Requests currently holding a concurrency permit")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
+            rejected.increment();
+            log.warn("Concurrency limit reached, rejecting {} {} (permits={})",
+                    request.getMethod(), request.getRequestURI(), permits);
+            response.setHeader("Retry-After", "1");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        for (String prefix : EXCLUDED_PREFIXES) {
+            if (uri.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getPermits() {
+        return permits;
+    }
+
+    public int getInFlight() {
+        return permits - semaphore.availablePermits();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.community.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * primary / replica 커넥션 풀
+ * 빈으로 등록하지 않은 DataSource 라 InstrumentedDataSource 로 두 번 감싸지지 않는다
+ * (라우팅 DataSource 하나만 빈으로 노출)
+ */
+public record ReadWriteDataSources(HikariDataSource primary, HikariDataSource replica) implements AutoCloseable {
+
+    @Override
+    public void close() {
+        replica.close();
+        primary.close();
+    }
+}
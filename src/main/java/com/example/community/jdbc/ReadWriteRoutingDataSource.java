@@ -0,0 +1,108 @@
+package com.example.community.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 트랜잭션 종류에 따라 primary / replica 선택
+ * - readOnly 트랜잭션이 아니면 primary (트랜잭션 밖의 SQL 도 primary)
+ * - readOnly 라도 현재 세션이 방금 쓴 내용을 replica 가 아직 받지 못했으면 primary (read-your-writes)
+ * - replica 지연이 크거나 알 수 없으면 primary
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 등록되지 않으므로 LazyConnectionDataSourceProxy 로 감싸
+ * 첫 SQL 실행 시점에 선택되게 해야 한다 (ReadWriteRoutingConfig)
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String ROUTE_METRIC = "community.datasource.route";
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    // 트랜잭션당 커밋 콜백을 한 번만 등록하기 위한 리소스 키
+    private static final Object WRITE_MARKER = new Object();
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final long readYourWritesWindowMillis;
+
+    private final Counter write;
+    private final Counter sticky;
+    private final Counter lagging;
+    private final Counter read;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                      Duration readYourWritesWindow, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesWindowMillis = readYourWritesWindow.toMillis();
+
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+
+        this.write = counter(meterRegistry, Route.PRIMARY, "write");
+        this.sticky = counter(meterRegistry, Route.PRIMARY, "read-your-writes");
+        this.lagging = counter(meterRegistry, Route.PRIMARY, "replica-lag");
+        this.read = counter(meterRegistry, Route.REPLICA, "read");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWriteCallback();
+            write.increment();
+            return Route.PRIMARY;
+        }
+
+        Long lastWrite = ReadYourWrites.lastWrite();
+        if (lastWrite != null
+                && System.currentTimeMillis() - lastWrite < readYourWritesWindowMillis
+                && !lagMonitor.hasReplicated(lastWrite)) {
+            sticky.increment();
+            return Route.PRIMARY;
+        }
+
+        if (!lagMonitor.isReplicaUsable()) {
+            lagging.increment();
+            return Route.PRIMARY;
+        }
+
+        read.increment();
+        return Route.REPLICA;
+    }
+
+    /**
+     * 쓰기 트랜잭션이 커밋되면 세션에 쓰기 시각을 남긴다
+     */
+    private void registerWriteCallback() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_MARKER)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_MARKER, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ReadYourWrites.markWrite(System.currentTimeMillis());
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_MARKER);
+            }
+        });
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, Route route, String reason) {
+        return Counter.builder(ROUTE_METRIC)
+                .description("Connections routed to the primary or replica data source")
+                .tag("target", route.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.community.jdbc;
+
+import jakarta.servlet.http.HttpSession;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 세션별 마지막 쓰기 시각 (read-your-writes)
+ * - 쓰기 트랜잭션이 커밋되면 기록 (ReadWriteRoutingDataSource)
+ * - replica 가 그 시각까지 따라오기 전에는 같은 세션의 읽기를 primary 로 보낸다 (글 작성 후 redirect 된 조회 등)
+ * 요청 밖(스케줄러 등)이나 세션이 없으면 기록하지 않는다
+ */
+public final class ReadYourWrites {
+
+    static final String SESSION_ATTRIBUTE = ReadYourWrites.class.getName() + ".LAST_WRITE";
+
+    private ReadYourWrites() {
+    }
+
+    public static void markWrite(long epochMillis) {
+        HttpSession session = currentSession();
+        if (session != null) {
+            session.setAttribute(SESSION_ATTRIBUTE, epochMillis);
+        }
+    }
+
+    /**
+     * 현재 세션의 마지막 쓰기 시각, 없으면 null
+     */
+    public static Long lastWrite() {
+        HttpSession session = currentSession();
+        if (session == null) {
+            return null;
+        }
+        try {
+            return (Long) session.getAttribute(SESSION_ATTRIBUTE);
+        } catch (IllegalStateException e) {
+            // 무효화된 세션
+            return null;
+        }
+    }
+
+    public static void clear() {
+        HttpSession session = currentSession();
+        if (session != null) {
+            session.removeAttribute(SESSION_ATTRIBUTE);
+        }
+    }
+
+    private static HttpSession currentSession() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return servletAttributes.getRequest().getSession(false);
+        }
+        return null;
+    }
+}
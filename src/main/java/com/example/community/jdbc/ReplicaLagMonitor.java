@@ -0,0 +1,129 @@
+package com.example.community.jdbc;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * heartbeat 로 replica 지연 측정
+ * - 주기마다 primary 의 replication_heartbeat 에 현재 시각을 쓰고, replica 에서 복제된 값을 읽는다
+ * - replica 의 값 = replica 가 따라온 primary 시각 (replicatedUpTo), 현재 시각과의 차이가 지연
+ * - 측정 전이거나 replica 조회가 실패하면 지연을 알 수 없음 -> replica 사용 안 함
+ */
+@Slf4j
+public class ReplicaLagMonitor implements SmartLifecycle {
+
+    public static final String LAG_METRIC = "community.datasource.replica.lag";
+
+    static final String HEARTBEAT_TABLE = "replication_heartbeat";
+
+    private static final long UNKNOWN = -1;
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+    private final Duration interval;
+
+    private volatile long replicatedUpTo = UNKNOWN;
+    private volatile long lagMillis = UNKNOWN;
+    private volatile ScheduledExecutorService executor;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag, Duration interval,
+                             MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+        this.interval = interval;
+
+        Gauge.builder(LAG_METRIC, this, monitor -> monitor.lagMillis == UNKNOWN ? Double.NaN : monitor.lagMillis)
+                .description("Replica replication lag measured by heartbeat (NaN if unknown)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        primary.execute("CREATE TABLE IF NOT EXISTS " + HEARTBEAT_TABLE
+                + " (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)");
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-lag-monitor").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::check, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        executor = scheduler;
+
+        log.info("Replica lag monitor started (interval={}, maxLag={})", interval, maxLag);
+    }
+
+    @Override
+    public void stop() {
+        ScheduledExecutorService scheduler = executor;
+        executor = null;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executor != null;
+    }
+
+    // LocalReplicaSynchronizer 보다 먼저 시작 (첫 복사에 heartbeat 테이블이 포함되도록)
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 1;
+    }
+
+    /**
+     * heartbeat 기록 후 replica 지연 측정
+     */
+    public synchronized void check() {
+        try {
+            primary.update("MERGE INTO " + HEARTBEAT_TABLE + " (id, beat_at) KEY (id) VALUES (1, ?)",
+                    System.currentTimeMillis());
+        } catch (DataAccessException e) {
+            log.warn("Could not write replication heartbeat: {}", e.getMessage());
+        }
+
+        try {
+            Long beatAt = replica.queryForObject(
+                    "SELECT beat_at FROM " + HEARTBEAT_TABLE + " WHERE id = 1", Long.class);
+            replicatedUpTo = beatAt;
+            lagMillis = Math.max(0, System.currentTimeMillis() - beatAt);
+        } catch (DataAccessException e) {
+            if (lagMillis != UNKNOWN) {
+                log.warn("Could not read replication heartbeat from replica: {}", e.getMessage());
+            }
+            lagMillis = UNKNOWN;
+        }
+    }
+
+    /**
+     * 지연이 maxLag 이하일 때만 replica 로 읽는다
+     */
+    public boolean isReplicaUsable() {
+        long lag = lagMillis;
+        return lag != UNKNOWN && lag <= maxLag.toMillis();
+    }
+
+    /**
+     * epochMillis 시각의 primary 커밋이 replica 에 반영되었는지
+     * 같은 ms 의 heartbeat 는 커밋 전에 기록되었을 수 있으므로 반영되지 않은 것으로 본다
+     */
+    public boolean hasReplicated(long epochMillis) {
+        return replicatedUpTo > epochMillis;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+}
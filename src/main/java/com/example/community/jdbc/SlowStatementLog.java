@@ -0,0 +1,61 @@
+package com.example.community.jdbc;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 느린 SQL 최근 N건 (고정 크기 ring buffer)
+ * 기록은 슬롯 하나에 대한 set 1회, 조회 시에만 정렬
+ */
+public class SlowStatementLog {
+
+    private final AtomicReferenceArray<SlowStatement> slots;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SlowStatementLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    void offer(String fingerprint, long nanos) {
+        int slot = (int) (sequence.getAndIncrement() % slots.length());
+        slots.set(slot, new SlowStatement(fingerprint, nanos / 1_000_000.0, Instant.now(), Thread.currentThread().getName()));
+    }
+
+    /**
+     * 보관 중인 느린 SQL, 오래 걸린 순
+     */
+    public List<SlowStatement> snapshot() {
+        List<SlowStatement> statements = new ArrayList<>(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            SlowStatement statement = slots.get(i);
+            if (statement != null) {
+                statements.add(statement);
+            }
+        }
+        statements.sort(Comparator.comparingDouble(SlowStatement::elapsedMs).reversed());
+        return statements;
+    }
+
+    /**
+     * 지금까지 느린 SQL 로 기록된 총 건수 (버퍼에서 밀려난 것 포함)
+     */
+    public long getTotalCount() {
+        return sequence.get();
+    }
+
+    void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    public record SlowStatement(String fingerprint, double elapsedMs, Instant executedAt, String thread) {
+    }
+}
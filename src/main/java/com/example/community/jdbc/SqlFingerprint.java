@@ -0,0 +1,66 @@
+package com.example.community.jdbc;
+
+import java.util.regex.Pattern;
+
+/**
+ * SQL 정규화 (fingerprint)
+ * - 문자열/숫자 리터럴 -> ?
+ * - IN (?, ?, ?) -> IN (?)
+ * - 공백/줄바꿈 -> 공백 1개
+ * Hibernate 는 대부분 ? 바인딩이라 그대로지만, Statement.execute 로 들어오는 리터럴 SQL 이나
+ * IN 절 길이만 다른 SQL 을 같은 종류로 묶기 위해 사용
+ * SqlStatementRegistry 가 원본 SQL 별로 결과를 캐시하므로 SQL 종류마다 한 번만 실행된다
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+    private SqlFingerprint() {
+    }
+
+    public static String normalize(String sql) {
+        StringBuilder out = new StringBuilder(sql.length());
+        int length = sql.length();
+        boolean space = false;
+
+        for (int i = 0; i < length; i++) {
+            char c = sql.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                space = true;
+                continue;
+            }
+            if (space && !out.isEmpty()) {
+                out.append(' ');
+            }
+            space = false;
+
+            if (c == '\'') {
+                // 'it''s' 처럼 따옴표 두 개는 이스케이프
+                i++;
+                while (i < length && !(sql.charAt(i) == '\'' && (i + 1 >= length || sql.charAt(i + 1) != '\''))) {
+                    i += sql.charAt(i) == '\'' ? 2 : 1;
+                }
+                out.append('?');
+            } else if (Character.isDigit(c) && !isIdentifierPart(out)) {
+                while (i + 1 < length && (Character.isDigit(sql.charAt(i + 1)) || sql.charAt(i + 1) == '.')) {
+                    i++;
+                }
+                out.append('?');
+            } else {
+                out.append(c);
+            }
+        }
+
+        return PLACEHOLDER_LIST.matcher(out).replaceAll("(?)");
+    }
+
+    // p1_0.id 같은 별칭/식별자 안의 숫자는 유지
+    private static boolean isIdentifierPart(StringBuilder out) {
+        if (out.isEmpty()) {
+            return false;
+        }
+        char previous = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '.';
+    }
+}
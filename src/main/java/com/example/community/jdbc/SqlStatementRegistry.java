@@ -0,0 +1,97 @@
+package com.example.community.jdbc;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * 애플리케이션 전체 SQL 통계 (fingerprint 별 히스토그램 + 느린 SQL 로그)
+ * - 실행 경로에서는 원본 SQL 로 캐시를 조회만 한다 (정규화/문자열 생성 없음)
+ * - 처음 보는 SQL 만 SqlFingerprint 로 정규화해서 등록
+ * - fingerprint 가 maxFingerprints 를 넘으면 나머지는 OTHER 하나로 합친다 (메모리 상한)
+ */
+public class SqlStatementRegistry {
+
+    public static final String OTHER = "<other>";
+
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+    private final int maxFingerprints;
+
+    // 원본 SQL -> 통계 (같은 fingerprint 를 여러 원본이 공유)
+    private final ConcurrentHashMap<String, SqlStatementStats> bySql = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, SqlStatementStats> byFingerprint = new ConcurrentHashMap<>();
+    private volatile SqlStatementStats other = new SqlStatementStats(OTHER);
+    private final SlowStatementLog slowStatementLog;
+
+    public SqlStatementRegistry(double sampleRate, Duration slowThreshold, int maxFingerprints, int slowLogSize) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.maxFingerprints = maxFingerprints;
+        this.slowStatementLog = new SlowStatementLog(slowLogSize);
+    }
+
+    /**
+     * SQL 1건 실행 기록
+     *
+     * @return 정규화된 fingerprint (요청별 통계에서 같은 SQL 판별용)
+     */
+    public String record(String sql, long nanos) {
+        SqlStatementStats stats = bySql.get(sql);
+        if (stats == null) {
+            stats = register(sql);
+        }
+
+        stats.record(nanos, sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+        if (nanos >= slowThresholdNanos) {
+            slowStatementLog.offer(stats.getFingerprint(), nanos);
+        }
+        return stats.getFingerprint();
+    }
+
+    private SqlStatementStats register(String sql) {
+        String fingerprint = SqlFingerprint.normalize(sql);
+
+        SqlStatementStats stats = byFingerprint.get(fingerprint);
+        if (stats == null) {
+            stats = byFingerprint.size() < maxFingerprints
+                    ? byFingerprint.computeIfAbsent(fingerprint, SqlStatementStats::new)
+                    : other;
+        }
+        // 원본 SQL 캐시도 상한을 둔다 (상한 이후에는 매번 정규화)
+        if (bySql.size() < maxFingerprints * 4) {
+            bySql.putIfAbsent(sql, stats);
+        }
+        return stats;
+    }
+
+    /**
+     * 총 실행 시간 상위 limit 개
+     */
+    public List<SqlStatementStats.Snapshot> getTopStatements(int limit) {
+        return Stream.concat(byFingerprint.values().stream(), Stream.of(other))
+                .map(SqlStatementStats::snapshot)
+                .filter(snapshot -> snapshot.count() > 0)
+                .sorted(Comparator.comparingDouble(SqlStatementStats.Snapshot::totalMs).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public SlowStatementLog getSlowStatementLog() {
+        return slowStatementLog;
+    }
+
+    public int getFingerprintCount() {
+        return byFingerprint.size();
+    }
+
+    public void reset() {
+        bySql.clear();
+        byFingerprint.clear();
+        other = new SqlStatementStats(OTHER);
+        slowStatementLog.clear();
+    }
+}
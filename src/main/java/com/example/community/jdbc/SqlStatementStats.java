@@ -0,0 +1,58 @@
+package com.example.community.jdbc;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * fingerprint 1개의 누적 통계
+ * 실행 횟수/총 시간/최대값은 모든 실행을, 히스토그램은 샘플링된 실행만 반영
+ */
+public class SqlStatementStats {
+
+    private final String fingerprint;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    private final StatementHistogram histogram = new StatementHistogram();
+
+    SqlStatementStats(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    void record(long nanos, boolean sampled) {
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+        if (sampled) {
+            histogram.record(nanos);
+        }
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public Snapshot snapshot() {
+        long executions = count.sum();
+        long total = totalNanos.sum();
+        return new Snapshot(
+                fingerprint,
+                executions,
+                total / 1_000_000.0,
+                executions == 0 ? 0 : total / 1_000_000.0 / executions,
+                histogram.percentileMillis(0.5),
+                histogram.percentileMillis(0.95),
+                histogram.percentileMillis(0.99),
+                maxNanos.get() / 1_000_000.0);
+    }
+
+    public record Snapshot(String fingerprint,
+                           long count,
+                           double totalMs,
+                           double meanMs,
+                           double p50Ms,
+                           double p95Ms,
+                           double p99Ms,
+                           double maxMs) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.community.jdbc;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 1건 동안 실행된 SQL 통계
+ * - 실행 횟수, 총 DB 시간, SQL(fingerprint)별 실행 횟수
+ * - 같은 fingerprint 가 반복되면 N+1 의심
+ * - 요청 스레드에서만 사용하므로 동기화하지 않는다
+ */
+public class SqlStatistics {
+
+    private int statementCount;
+    private long totalNanos;
+    private final Map<String, int[]> executionsByFingerprint = new HashMap<>();
+
+    void record(String fingerprint, long elapsedNanos) {
+        statementCount++;
+        totalNanos += elapsedNanos;
+
+        int[] executions = executionsByFingerprint.get(fingerprint);
+        if (executions == null) {
+            executionsByFingerprint.put(fingerprint, new int[]{1});
+        } else {
+            executions[0]++;
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getTotalMillis() {
+        return totalNanos / 1_000_000L;
+    }
+
+    /**
+     * 서로 다른 SQL 종류 수
+     */
+    public int getDistinctStatementCount() {
+        return executionsByFingerprint.size();
+    }
+
+    /**
+     * 같은 SQL 이 두 번째 이후로 다시 실행된 횟수의 합
+     */
+    public int getRepeatedStatementCount() {
+        return statementCount - executionsByFingerprint.size();
+    }
+
+    /**
+     * 가장 많이 반복된 SQL (없으면 null)
+     */
+    public String getMostRepeatedFingerprint() {
+        String fingerprint = null;
+        int max = 0;
+        for (Map.Entry<String, int[]> entry : executionsByFingerprint.entrySet()) {
+            if (entry.getValue()[0] > max) {
+                max = entry.getValue()[0];
+                fingerprint = entry.getKey();
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * 가장 많이 반복된 SQL 의 실행 횟수
+     */
+    public int getMostRepeatedCount() {
+        int max = 0;
+        for (int[] executions : executionsByFingerprint.values()) {
+            max = Math.max(max, executions[0]);
+        }
+        return max;
+    }
+}
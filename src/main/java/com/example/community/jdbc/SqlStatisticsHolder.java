@@ -0,0 +1,30 @@
+package com.example.community.jdbc;
+
+/**
+ * 현재 요청의 SqlStatistics 를 스레드에 보관
+ * - SqlStatisticsInterceptor 가 요청 시작/종료 시 begin/end 호출
+ * - 요청 밖(스케줄러, 초기화 SQL 등)에서는 current() 가 null
+ */
+public final class SqlStatisticsHolder {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private SqlStatisticsHolder() {
+    }
+
+    public static SqlStatistics begin() {
+        SqlStatistics statistics = new SqlStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static SqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static SqlStatistics end() {
+        SqlStatistics statistics = CURRENT.get();
+        CURRENT.remove();
+        return statistics;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.community.jdbc;
+
+import com.example.community.config.SqlStatisticsProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 핸들러 단위 SQL 통계
+ * - 요청 시작 시 SqlStatistics 를 열고 종료 시 메트릭으로 기록
+ * - 개발 환경에서는 X-Sql-Count / X-Sql-Time-Ms / X-Sql-Repeated 헤더로 노출
+ * - SQL 수가 예산을 넘거나 같은 SQL 이 반복되면(N+1) WARN 로그
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatisticsInterceptor implements HandlerInterceptor {
+
+    public static final String HEADER_COUNT = "X-Sql-Count";
+    public static final String HEADER_TIME = "X-Sql-Time-Ms";
+    public static final String HEADER_REPEATED = "X-Sql-Repeated";
+
+    private final SqlStatisticsProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            SqlStatisticsHolder.begin();
+        }
+        return true;
+    }
+
+    /**
+     * 뷰 렌더링 전(open-in-view=false 라 렌더링 중에는 SQL 이 없음)에 헤더 추가
+     * ResponseBody 응답은 이미 커밋됐을 수 있으므로 커밋 전일 때만 추가
+     */
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response,
+                           Object handler, ModelAndView modelAndView) {
+        SqlStatistics statistics = SqlStatisticsHolder.current();
+        if (statistics == null || !properties.isExposeHeaders() || response.isCommitted()) {
+            return;
+        }
+
+        response.setHeader(HEADER_COUNT, String.valueOf(statistics.getStatementCount()));
+        response.setHeader(HEADER_TIME, String.valueOf(statistics.getTotalMillis()));
+        response.setHeader(HEADER_REPEATED, String.valueOf(statistics.getRepeatedStatementCount()));
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+
+        SqlStatistics statistics = SqlStatisticsHolder.end();
+        if (statistics == null) {
+            return;
+        }
+
+        String handlerName = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+
+        meterRegistry.summary("sql.statements.per.request", "handler", handlerName)
+                .record(statistics.getStatementCount());
+        meterRegistry.timer("sql.time.per.request", "handler", handlerName)
+                .record(statistics.getTotalNanos(), TimeUnit.NANOSECONDS);
+        meterRegistry.summary("sql.repeated.per.request", "handler", handlerName)
+                .record(statistics.getRepeatedStatementCount());
+
+        boolean overBudget = statistics.getStatementCount() > properties.getStatementBudget();
+        boolean repeated = statistics.getMostRepeatedCount() >= properties.getRepeatThreshold();
+
+        if (overBudget || repeated) {
+            log.warn("SQL budget exceeded: handler={}, statements={}, timeMs={}, mostRepeated={}x [{}]",
+                    handlerName, statistics.getStatementCount(), statistics.getTotalMillis(),
+                    statistics.getMostRepeatedCount(), statistics.getMostRepeatedFingerprint());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.community.jdbc;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 크기 로그 스케일 히스토그램 (lock-free)
+ * - 마이크로초 단위, 2의 거듭제곱 구간을 다시 4개로 나눠 상대 오차 25% 이내
+ * - 1µs ~ 약 2시간 범위, 기록은 AtomicLongArray 증가 1회
+ */
+public class StatementHistogram {
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int EXPONENTS = 34;
+
+    private final AtomicLongArray counts = new AtomicLongArray(EXPONENTS * SUB_BUCKETS);
+
+    public void record(long nanos) {
+        counts.incrementAndGet(bucket(Math.max(1, nanos / 1_000L)));
+    }
+
+    /**
+     * 백분위 값 (밀리초, 해당 구간의 상한)
+     */
+    public double percentileMillis(double percentile) {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return upperBoundMicros(i) / 1_000.0;
+            }
+        }
+        return upperBoundMicros(counts.length() - 1) / 1_000.0;
+    }
+
+    static int bucket(long micros) {
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int subBucket = exponent < SUB_BUCKET_BITS
+                ? (int) (micros - (1L << exponent))
+                : (int) ((micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return Math.min(exponent * SUB_BUCKETS + subBucket, EXPONENTS * SUB_BUCKETS - 1);
+    }
+
+    static long upperBoundMicros(int bucket) {
+        int exponent = bucket / SUB_BUCKETS;
+        int subBucket = bucket % SUB_BUCKETS;
+        if (exponent < SUB_BUCKET_BITS) {
+            return (1L << exponent) + subBucket;
+        }
+        long step = 1L << (exponent - SUB_BUCKET_BITS);
+        return (1L << exponent) + (subBucket + 1) * step - 1;
+    }
+}
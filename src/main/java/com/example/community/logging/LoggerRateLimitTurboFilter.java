@@ -0,0 +1,76 @@
+package com.example.community.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로거별 초당 출력 건수 제한 (logback-spring.xml 의 prod 프로필에서 사용)
+ * - 같은 로거가 1초 안에 permitsPerSecond 건을 넘기면 나머지 maxLevel(기본 INFO) 이하 로그는 버린다
+ * - maxLevel 보다 높은 로그(기본 WARN/ERROR)는 항상 통과
+ * - 비활성 레벨의 로그는 세지 않는다 (일반 레벨 검사에 맡김)
+ * - 로거별 윈도우는 최초 1회만 생성되고 이후에는 할당 없이 CAS 로만 동작
+ */
+public class LoggerRateLimitTurboFilter extends TurboFilter {
+
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+
+    private int permitsPerSecond = 100;
+    private Level maxLevel = Level.INFO;
+
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level,
+                              String format, Object[] params, Throwable t) {
+        if (!isStarted() || level == null
+                || level.toInt() > maxLevel.toInt()
+                || level.toInt() < logger.getEffectiveLevel().toInt()) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Window window = windows.computeIfAbsent(logger.getName(), name -> new Window());
+        if (window.tryAcquire(System.nanoTime(), permitsPerSecond)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        droppedCount.incrementAndGet();
+        return FilterReply.DENY;
+    }
+
+    /**
+     * 시작 이후 버려진 로그 건수
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public void setPermitsPerSecond(int permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    public void setMaxLevel(String maxLevel) {
+        this.maxLevel = Level.toLevel(maxLevel, Level.INFO);
+    }
+
+    // 1초 고정 윈도우
+    private static final class Window {
+        private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+        private final AtomicLong count = new AtomicLong();
+
+        boolean tryAcquire(long now, int permits) {
+            long start = windowStart.get();
+            if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+                count.set(0);
+            }
+            return count.incrementAndGet() <= permits;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.community.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메서드별 지연 시간 요약 (/actuator/latency, /actuator/latency/{layer})
+ * - layer : controller / service
+ * - p99 가 큰 순서로 정렬
+ */
+@Endpoint(id = "latency")
+@RequiredArgsConstructor
+public class LatencyEndpoint {
+
+    private final MeterRegistry meterRegistry;
+
+    @ReadOperation
+    public List<LatencySummary> latency() {
+        List<LatencySummary> summaries = new ArrayList<>();
+        summaries.addAll(summarize("controller", LatencyMetricsInterceptor.CONTROLLER_METRIC));
+        summaries.addAll(summarize("service", LatencyMetricsInterceptor.SERVICE_METRIC));
+        summaries.sort(Comparator.comparingDouble(LatencySummary::p99Ms).reversed());
+        return summaries;
+    }
+
+    @ReadOperation
+    public List<LatencySummary> latencyByLayer(@Selector String layer) {
+        return latency().stream()
+                .filter(summary -> summary.layer().equals(layer))
+                .toList();
+    }
+
+    private List<LatencySummary> summarize(String layer, String metricName) {
+        List<LatencySummary> summaries = new ArrayList<>();
+
+        for (Timer timer : meterRegistry.find(metricName).timers()) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+
+            double p50 = 0, p95 = 0, p99 = 0;
+            for (ValueAtPercentile value : snapshot.percentileValues()) {
+                double millis = value.value(TimeUnit.MILLISECONDS);
+                if (value.percentile() == 0.5) p50 = millis;
+                else if (value.percentile() == 0.95) p95 = millis;
+                else if (value.percentile() == 0.99) p99 = millis;
+            }
+
+            summaries.add(new LatencySummary(
+                    layer,
+                    timer.getId().getTag("class"),
+                    timer.getId().getTag("method"),
+                    snapshot.count(),
+                    p50, p95, p99,
+                    snapshot.max(TimeUnit.MILLISECONDS)));
+        }
+
+        return summaries;
+    }
+
+    /**
+     * 메서드 1개의 지연 시간 요약 (단위: ms)
+     */
+    public record LatencySummary(String layer, String className, String method, long count,
+                                 double p50Ms, double p95Ms, double p99Ms, double maxMs) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.community.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 컨트롤러 핸들러 / 서비스 메서드 실행 시간 기록
+ * - 메서드마다 Timer 를 한 번만 만들고 캐시 (이후 기록은 HdrHistogram Recorder 에 값만 추가)
+ * - p50/p95/p99 는 최근 2분 윈도우 기준, max 포함
+ */
+@RequiredArgsConstructor
+public class LatencyMetricsInterceptor implements MethodInterceptor {
+
+    public static final String CONTROLLER_METRIC = "community.controller.latency";
+    public static final String SERVICE_METRIC = "community.service.latency";
+
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+    private static final Duration WINDOW = Duration.ofMinutes(2);
+
+    private final MeterRegistry meterRegistry;
+    private final String metricName;
+
+    private final ConcurrentMap<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return invocation.proceed();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+
+            Timer timer = timers.get(invocation.getMethod());
+            if (timer == null) {
+                timer = timers.computeIfAbsent(invocation.getMethod(), method -> register(method, invocation.getThis()));
+            }
+            timer.record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer register(Method method, Object target) {
+        Class<?> targetClass = (target != null ? ClassUtils.getUserClass(target) : method.getDeclaringClass());
+
+        return Timer.builder(metricName)
+                .tag("class", targetClass.getSimpleName())
+                .tag("method", methodName(targetClass, method))
+                .publishPercentiles(PERCENTILES)
+                .distributionStatisticExpiry(WINDOW)
+                .register(meterRegistry);
+    }
+
+    // 오버로딩된 메서드(PostController.write 등)는 파라미터 타입으로 구분
+    private static String methodName(Class<?> targetClass, Method method) {
+        long overloads = Arrays.stream(targetClass.getMethods())
+                .filter(m -> m.getName().equals(method.getName()))
+                .count();
+
+        if (overloads <= 1) {
+            return method.getName();
+        }
+
+        return Arrays.stream(method.getParameterTypes())
+                .map(Class::getSimpleName)
+                .collect(Collectors.joining(",", method.getName() + "(", ")"));
+    }
+}
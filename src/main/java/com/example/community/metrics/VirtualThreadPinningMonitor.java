@@ -0,0 +1,108 @@
+package com.example.community.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JFR 로 virtual thread 의 carrier thread 고정(pinning) 감지
+ * - jdk.VirtualThreadPinned      -> community.virtual.pinned 타이머 (frame 태그: 고정을 일으킨 애플리케이션 메서드)
+ * - jdk.VirtualThreadSubmitFailed -> community.virtual.submit.failed 카운터
+ * Java 24+ 에서는 synchronized 로는 고정되지 않고, 네이티브 호출/클래스 초기화 중 블로킹 등에서만 발생한다
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    public static final String PINNED_METRIC = "community.virtual.pinned";
+    public static final String SUBMIT_FAILED_METRIC = "community.virtual.submit.failed";
+
+    private static final String BASE_PACKAGE = "com.example.community.";
+    private static final String OTHER_FRAME = "other";
+    // frame 태그 종류 상한
+    private static final int MAX_FRAMES = 50;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Set<String> frames = ConcurrentHashMap.newKeySet();
+    private final Counter submitFailed;
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+        this.submitFailed = Counter.builder(SUBMIT_FAILED_METRIC)
+                .description("Virtual thread submits rejected by the scheduler")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recordingStream = new RecordingStream();
+        recordingStream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        recordingStream.enable("jdk.VirtualThreadSubmitFailed");
+        recordingStream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+        recordingStream.onEvent("jdk.VirtualThreadSubmitFailed", event -> submitFailed.increment());
+        recordingStream.startAsync();
+        stream = recordingStream;
+
+        log.info("Virtual thread pinning monitor started (threshold={})", threshold);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recordingStream = stream;
+        stream = null;
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    void onPinned(RecordedEvent event) {
+        String frame = frame(event.getStackTrace());
+        Timer.builder(PINNED_METRIC)
+                .description("Time a virtual thread stayed pinned to its carrier thread")
+                .tag("frame", frame)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        log.debug("Virtual thread pinned for {} at {}", event.getDuration(), frame);
+    }
+
+    /**
+     * 스택에서 가장 가까운 애플리케이션 메서드, 없으면 최상단 메서드
+     */
+    String frame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return OTHER_FRAME;
+        }
+
+        List<RecordedFrame> stack = stackTrace.getFrames();
+        RecordedFrame selected = stack.stream()
+                .filter(f -> f.getMethod().getType().getName().startsWith(BASE_PACKAGE))
+                .findFirst()
+                .orElse(stack.get(0));
+        String name = selected.getMethod().getType().getName() + "." + selected.getMethod().getName();
+
+        if (frames.contains(name) || (frames.size() < MAX_FRAMES && frames.add(name))) {
+            return name;
+        }
+        return OTHER_FRAME;
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.community.persistence;
 
 import com.example.community.domain.board.BoardEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 
@@ -13,5 +16,12 @@ public interface BoardRepository extends JpaRepository<BoardEntity, Long> {
      */
     boolean existsByTitle(String title);
 
+    /**
+     * 카테고리별 게시판 (쿼리 캐시, boards 테이블이 바뀌면 자동 무효화)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "boards.byCategory")
+    })
     List<BoardEntity> findByCategory(String category);
 }
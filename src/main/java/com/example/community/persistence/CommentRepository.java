@@ -1,14 +1,25 @@
 package com.example.community.persistence;
 
+import com.example.community.domain.comment.CommentDto;
 import com.example.community.domain.comment.CommentEntity;
 import com.example.community.domain.post.PostEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
+
+    // 댓글 목록 한 행 (댓글 + 원글 제목/게시판/댓글 수 + 게시판 제목 + 작성자 닉네임)
+    String COMMENT_ROW = "SELECT new com.example.community.domain.comment.CommentDto(" +
+            "c.id, c.userId, p.id, p.boardId, p.title, b.title, c.content, COALESCE(u.nickname, 'unknown'), " +
+            "c.createdAt, c.updatedAt, p.commentsCount) " +
+            "FROM CommentEntity c JOIN c.postEntity p " +
+            "LEFT JOIN BoardEntity b ON b.id = p.boardId " +
+            "LEFT JOIN UserEntity u ON u.id = c.userId ";
     /**
      * 특정 게시물의 댓글 목록을 조회
      *
@@ -41,4 +52,40 @@ public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
      * @return 최신순의로 정렬된 댓글 리스트
      */
     List<CommentEntity> findByPostEntityIdOrderByIdDesc(Long postId);
-}
\ No newline at end of file
+
+    /**
+     * 게시물의 작성자별 댓글 수 (게시물 삭제 시 사용자 집계 보정용)
+     * @param postId 게시물 고유번호
+     * @return [userId, 댓글 수] 목록
+     */
+    @Query("SELECT c.userId, COUNT(c) FROM CommentEntity c WHERE c.postEntity.id = :postId GROUP BY c.userId")
+    List<Object[]> countByUserIdForPost(@Param("postId") Long postId);
+
+    /**
+     * 내 댓글 목록 (원글/게시판/작성자를 한 번에 조인, 행마다 추가 조회 없음)
+     * @param userId 확인할 유저의 ID
+     * @param pageable 페이징 정보
+     * @return 댓글 페이지
+     */
+    @Query(value = COMMENT_ROW + "WHERE c.userId = :userId",
+            countQuery = "SELECT COUNT(c) FROM CommentEntity c WHERE c.userId = :userId")
+    Page<CommentDto> findRowsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 관리자 댓글 목록 첫 화면 (최신순)
+     * @param pageable 개수 (정렬은 최신순 고정)
+     * @return 댓글 목록
+     */
+    @Query(COMMENT_ROW + "ORDER BY c.id DESC")
+    List<CommentDto> findLatestRows(Pageable pageable);
+
+    /**
+     * 관리자 댓글 목록 다음 화면 (키셋, cursor 보다 작은 id 부터 최신순)
+     * OFFSET 없이 기본 키 범위로 읽으므로 뒤 페이지도 첫 페이지와 비용이 같다
+     * @param cursor 이전 화면 마지막 댓글 id
+     * @param pageable 개수 (정렬은 최신순 고정)
+     * @return 댓글 목록
+     */
+    @Query(COMMENT_ROW + "WHERE c.id < :cursor ORDER BY c.id DESC")
+    List<CommentDto> findRowsBefore(@Param("cursor") Long cursor, Pageable pageable);
+}
@@ -0,0 +1,14 @@
+package com.example.community.persistence;
+
+import com.example.community.domain.file.FileEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface FileRepository extends JpaRepository<FileEntity, Long> {
+
+    List<FileEntity> findByPostIdOrderById(Long postId);
+
+    // 같은 내용 파일을 참조하는 행 수
+    long countByStoredName(String storedName);
+}
@@ -0,0 +1,40 @@
+package com.example.community.persistence;
+
+import com.example.community.domain.file.FileUsageEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 사용자별 첨부 파일 사용량
+ * 증감은 행을 읽지 않는 UPDATE, 할당은 한도를 넘지 않을 때만 바뀌는 조건부 UPDATE
+ */
+public interface FileUsageRepository extends JpaRepository<FileUsageEntity, Long> {
+
+    // files 에서 계산해 사용량 행 생성
+    // 2차 캐시는 user_file_usage 만 비우게 한다 (native 쿼리는 지정하지 않으면 전체 region 을 비운다)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_file_usage"))
+    @Query(value = "INSERT INTO user_file_usage (user_id, used_bytes, files_count) " +
+            "SELECT :userId, COALESCE(SUM(f.file_size), 0), COUNT(*) FROM files f WHERE f.user_id = :userId",
+            nativeQuery = true)
+    int initialize(@Param("userId") Long userId);
+
+    /**
+     * 한도 안이면 사용량을 늘린다
+     * @return 1 이면 할당, 0 이면 한도 초과 (또는 사용량 행 없음)
+     */
+    @Modifying
+    @Query("UPDATE FileUsageEntity u SET u.usedBytes = u.usedBytes + :size, u.filesCount = u.filesCount + 1 " +
+            "WHERE u.userId = :userId AND u.usedBytes + :size <= :quota")
+    int reserve(@Param("userId") Long userId, @Param("size") long size, @Param("quota") long quota);
+
+    @Modifying
+    @Query("UPDATE FileUsageEntity u SET u.usedBytes = u.usedBytes - :size, u.filesCount = u.filesCount - 1 " +
+            "WHERE u.userId = :userId")
+    int release(@Param("userId") Long userId, @Param("size") long size);
+}
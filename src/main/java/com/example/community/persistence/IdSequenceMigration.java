@@ -0,0 +1,67 @@
+package com.example.community.persistence;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * IDENTITY -> 시퀀스 id 전환용 마이그레이션
+ * - 기존 DB 는 id 가 이미 채워져 있는데 ddl-auto=update 가 만든 시퀀스는 1부터 시작한다
+ * - 기동 시(웹 서버가 요청을 받기 전) 각 시퀀스를 MAX(id)+1 이후로 옮긴다
+ * - 시퀀스가 이미 앞서 있으면 아무것도 하지 않으므로 매번 실행해도 된다
+ * 기존 테이블의 identity 컬럼 속성은 남아 있지만 Hibernate 가 id 를 직접 넣으므로 사용되지 않는다
+ */
+@Component
+@Slf4j
+public class IdSequenceMigration implements InitializingBean {
+
+    // 엔티티 @SequenceGenerator 의 allocationSize 와 같아야 한다
+    public static final int ALLOCATION_SIZE = 50;
+
+    static final List<IdSequence> SEQUENCES = List.of(
+            new IdSequence("users", "user_id", "users_seq"),
+            new IdSequence("boards", "id", "boards_seq"),
+            new IdSequence("posts", "id", "posts_seq"),
+            new IdSequence("comments", "id", "comments_seq"),
+            new IdSequence("post_likes", "id", "post_likes_seq"),
+            new IdSequence("messages", "id", "messages_seq"),
+            new IdSequence("files", "id", "files_seq"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // EntityManagerFactory 를 받아 스키마 생성(ddl-auto) 이후에 실행되도록 한다
+    public IdSequenceMigration(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        SEQUENCES.forEach(this::migrate);
+    }
+
+    void migrate(IdSequence sequence) {
+        Long next = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(" + sequence.idColumn() + "), 0) + 1 FROM " + sequence.table(), Long.class);
+
+        List<Long> current = jdbcTemplate.queryForList(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_SCHEMA = SCHEMA() AND SEQUENCE_NAME = ?",
+                Long.class, sequence.name().toUpperCase());
+
+        if (current.isEmpty()) {
+            jdbcTemplate.execute("CREATE SEQUENCE " + sequence.name() + " START WITH " + next
+                    + " INCREMENT BY " + ALLOCATION_SIZE);
+            log.info("Created sequence {} starting at {}", sequence.name(), next);
+        } else if (current.get(0) < next) {
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence.name() + " RESTART WITH " + next);
+            log.info("Moved sequence {} from {} to {}", sequence.name(), current.get(0), next);
+        }
+    }
+
+    record IdSequence(String table, String idColumn, String name) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.community.persistence;
+
+import com.example.community.content.PostContentCodec;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 본문 검색 함수 post_content_contains(content, keyword)
+ * - 압축된 본문은 LIKE 로 찾을 수 없으므로 PostContentCodec.contains 를 H2 함수(ALIAS)로 등록한다
+ * - JPQL 에서 boolean 함수로 쓸 수 있도록 Hibernate 에도 등록 (META-INF/services 의 FunctionContributor)
+ * - 기동 시 매번 실행해도 된다 (IF NOT EXISTS), replica 는 동기화 스크립트로 함께 복사된다
+ */
+@Component
+@Slf4j
+public class PostContentSearchFunction implements InitializingBean {
+
+    public static final String NAME = "post_content_contains";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // EntityManagerFactory 를 받아 스키마 생성(ddl-auto) 이후에 실행되도록 한다
+    public PostContentSearchFunction(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        jdbcTemplate.execute("CREATE ALIAS IF NOT EXISTS " + NAME + " FOR '"
+                + PostContentCodec.class.getName() + ".contains'");
+        log.info("Registered content search function {}", NAME);
+    }
+
+    public static class Contributor implements FunctionContributor {
+
+        @Override
+        public void contributeFunctions(FunctionContributions functionContributions) {
+            functionContributions.getFunctionRegistry().registerPattern(NAME, NAME + "(?1, ?2)",
+                    functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                            .resolve(StandardBasicTypes.BOOLEAN));
+        }
+    }
+}
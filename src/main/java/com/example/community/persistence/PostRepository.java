@@ -1,72 +1,309 @@
 package com.example.community.persistence;
 
 import com.example.community.domain.post.PostEntity;
+import com.example.community.domain.post.PostNeighborDto;
+import com.example.community.domain.post.PostSearchType;
+import com.example.community.domain.post.PostSummaryDto;
+import com.example.community.domain.post.PostTitleDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<PostEntity, Long> {
 
+    // 목록 한 줄 (본문 없이 게시판 제목, 작성자 닉네임까지 한 번에, 정렬은 p 기준)
+    String POST_SUMMARY = "SELECT new com.example.community.domain.post.PostSummaryDto(" +
+            "p.id, p.userId, p.boardId, b.title, p.title, COALESCE(u.nickname, 'unknown'), " +
+            "p.createdAt, p.updatedAt, p.viewCount, p.commentsCount, p.likesCount, p.postType, p.fixed) " +
+            "FROM PostEntity p " +
+            "LEFT JOIN BoardEntity b ON b.id = p.boardId " +
+            "LEFT JOIN UserEntity u ON u.id = p.userId ";
+
+    // 검색 타입별 조건 (검색 결과 캐시의 id 적재용 쿼리에서 쓴다)
+    String TITLE_MATCH = "p.title LIKE %:keyword%";
+    String CONTENT_MATCH = "post_content_contains(p.content, :keyword) = true";
+    String WRITER_MATCH = "p.userId IN (SELECT u.id FROM UserEntity u WHERE u.nickname LIKE %:keyword%)";
+    String COMMENT_CONTENT_MATCH = "EXISTS (SELECT 1 FROM CommentEntity c WHERE c.postEntity = p AND c.content LIKE %:keyword%)";
+    String COMMENT_WRITER_MATCH = "EXISTS (SELECT 1 FROM CommentEntity c WHERE c.postEntity = p AND c.userId IN " +
+            "(SELECT u.id FROM UserEntity u WHERE u.nickname LIKE %:keyword%))";
+
+    String SEARCH_IDS = "SELECT p.id FROM PostEntity p WHERE ";
+    String SEARCH_COUNT = "SELECT COUNT(p) FROM PostEntity p WHERE ";
+    String IN_BOARD = "p.boardId = :boardId AND ";
+
     // 게시판별 게시글 목록
     Page<PostEntity> findByBoardId(Long boardId, Pageable pageable);
 
-    // 전체 게시물 목록 (메인 페이지용)
+    // 전체 게시물 목록 (관리자용, 검색어 없는 검색)
     Page<PostEntity> findAll(Pageable pageable);
 
+    // 메인 피드: 해당 카테고리(공지) 게시판의 글 제외
+    // 조회수 정렬은 idx_posts_view_count 순서대로 읽으며 걸러내므로 페이지 크기만큼 읽고 멈춘다
+    @Query(value = "SELECT p FROM PostEntity p WHERE p.boardId NOT IN " +
+            "(SELECT b.id FROM BoardEntity b WHERE b.category = :excludedCategory)",
+            countQuery = "SELECT COUNT(p) FROM PostEntity p WHERE p.boardId NOT IN " +
+                    "(SELECT b.id FROM BoardEntity b WHERE b.category = :excludedCategory)")
+    Page<PostEntity> findFeedExcludingCategory(@Param("excludedCategory") String excludedCategory, Pageable pageable);
+
     // 제목으로 검색
     @Query("SELECT p FROM PostEntity p WHERE p.title LIKE %:keyword%")
     Page<PostEntity> searchByTitle(@Param("keyword") String keyword, Pageable pageable);
 
-    // 내용으로 검색
-    @Query("SELECT p FROM PostEntity p WHERE p.content LIKE %:keyword%")
+    // 내용으로 검색 (압축 저장된 본문도 풀어서 찾는다, PostContentSearchFunction)
+    @Query("SELECT p FROM PostEntity p WHERE post_content_contains(p.content, :keyword) = true")
     Page<PostEntity> searchByContent(@Param("keyword") String keyword, Pageable pageable);
 
     // 제목 + 내용 검색
-    @Query("SELECT p FROM PostEntity p WHERE p.title LIKE %:keyword% OR p.content LIKE %:keyword%")
+    @Query("SELECT p FROM PostEntity p WHERE p.title LIKE %:keyword% OR post_content_contains(p.content, :keyword) = true")
     Page<PostEntity> searchByTitleOrContent(@Param("keyword") String keyword, Pageable pageable);
 
     // 작성자로 검색 (userId 기반)
     @Query("SELECT p FROM PostEntity p JOIN UserEntity u ON p.userId = u.id WHERE u.nickname LIKE %:keyword%")
     Page<PostEntity> searchByWriter(@Param("keyword") String keyword, Pageable pageable);
 
-    // 댓글 내용으로 검색
-    @Query("SELECT DISTINCT p FROM PostEntity p JOIN p.commentEntityList c WHERE c.content LIKE %:keyword%")
+    // 댓글 내용으로 검색 (DISTINCT 조인 대신 EXISTS, 개수 쿼리도 게시글만 센다)
+    @Query("SELECT p FROM PostEntity p WHERE EXISTS " +
+            "(SELECT 1 FROM CommentEntity c WHERE c.postEntity = p AND c.content LIKE %:keyword%)")
     Page<PostEntity> searchByCommentContent(@Param("keyword") String keyword, Pageable pageable);
 
     // 댓글 작성자로 검색
-    @Query("SELECT DISTINCT p FROM PostEntity p JOIN p.commentEntityList c JOIN UserEntity u ON c.userId = u.id WHERE u.nickname LIKE %:keyword%")
+    @Query("SELECT p FROM PostEntity p WHERE EXISTS " +
+            "(SELECT 1 FROM CommentEntity c WHERE c.postEntity = p AND c.userId IN " +
+            "(SELECT u.id FROM UserEntity u WHERE u.nickname LIKE %:keyword%))")
     Page<PostEntity> searchByCommentWriter(@Param("keyword") String keyword, Pageable pageable);
 
+    /**
+     * 전체 게시판 검색 (searchInBoard 와 같은 방식으로 타입별 쿼리를 고른다)
+     */
+    default Page<PostEntity> search(PostSearchType searchType, String keyword, Pageable pageable) {
+        return switch (searchType) {
+            case TITLE -> searchByTitle(keyword, pageable);
+            case CONTENT -> searchByContent(keyword, pageable);
+            case WRITER -> searchByWriter(keyword, pageable);
+            case TITLE_CONTENT -> searchByTitleOrContent(keyword, pageable);
+            case COMMENT_CONTENT -> searchByCommentContent(keyword, pageable);
+            case COMMENT_WRITER -> searchByCommentWriter(keyword, pageable);
+        };
+    }
+
     // 조회수 TOP 10 (인기 게시글)
     @Query("SELECT p FROM PostEntity p ORDER BY p.viewCount DESC")
     Page<PostEntity> findTopByViewCount(Pageable pageable);
 
-    @Query("SELECT DISTINCT p FROM PostEntity p LEFT JOIN p.commentEntityList c LEFT JOIN UserEntity u2 ON c.userId = u2.id WHERE p.boardId = :boardId AND (" +
-            "(:searchType = 'title' AND p.title LIKE %:keyword%) OR " +
-            "(:searchType = 'content' AND p.content LIKE %:keyword%) OR " +
-            "(:searchType = 'writer' AND p.userId IN (SELECT u.id FROM UserEntity u WHERE u.nickname LIKE %:keyword%)) OR " +
-            "(:searchType = 'titleContent' AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%)) OR " +
-            "(:searchType = 'commentContent' AND c.content LIKE %:keyword%) OR " +
-            "(:searchType = 'commentWriter' AND u2.nickname LIKE %:keyword%) OR " +
-            "(:searchType = '' AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%)))")
-    Page<PostEntity> findByBoardIdAndSearchType(
-            @Param("boardId") Long boardId,
-            @Param("searchType") String searchType,
-            @Param("keyword") String keyword,
-            Pageable pageable);
+    // 게시판 내 검색 (검색 타입별 전용 쿼리, searchInBoard 가 고른다)
+    @Query("SELECT p FROM PostEntity p WHERE p.boardId = :boardId AND p.title LIKE %:keyword%")
+    Page<PostEntity> searchInBoardByTitle(@Param("boardId") Long boardId, @Param("keyword") String keyword, Pageable pageable);
+
+    @Query("SELECT p FROM PostEntity p WHERE p.boardId = :boardId AND post_content_contains(p.content, :keyword) = true")
+    Page<PostEntity> searchInBoardByContent(@Param("boardId") Long boardId, @Param("keyword") String keyword, Pageable pageable);
+
+    @Query("SELECT p FROM PostEntity p WHERE p.boardId = :boardId AND p.userId IN " +
+            "(SELECT u.id FROM UserEntity u WHERE u.nickname LIKE %:keyword%)")
+    Page<PostEntity> searchInBoardByWriter(@Param("boardId") Long boardId, @Param("keyword") String keyword, Pageable pageable);
+
+    @Query("SELECT p FROM PostEntity p WHERE p.boardId = :boardId AND (p.title LIKE %:keyword% OR post_content_contains(p.content, :keyword) = true)")
+    Page<PostEntity> searchInBoardByTitleOrContent(@Param("boardId") Long boardId, @Param("keyword") String keyword, Pageable pageable);
+
+    @Query("SELECT p FROM PostEntity p WHERE p.boardId = :boardId AND EXISTS " +
+            "(SELECT 1 FROM CommentEntity c WHERE c.postEntity = p AND c.content LIKE %:keyword%)")
+    Page<PostEntity> searchInBoardByCommentContent(@Param("boardId") Long boardId, @Param("keyword") String keyword, Pageable pageable);
+
+    @Query("SELECT p FROM PostEntity p WHERE p.boardId = :boardId AND EXISTS " +
+            "(SELECT 1 FROM CommentEntity c WHERE c.postEntity = p AND c.userId IN " +
+            "(SELECT u.id FROM UserEntity u WHERE u.nickname LIKE %:keyword%))")
+    Page<PostEntity> searchInBoardByCommentWriter(@Param("boardId") Long boardId, @Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * 게시판 내 검색
+     * 예전에는 한 쿼리에서 searchType 문자열 비교를 OR 로 묶어 제목 검색에도 모든 댓글을 조인했다
+     * 타입별 쿼리는 필요한 테이블만 읽고, 댓글 조건은 EXISTS 라 DISTINCT 가 필요 없다
+     */
+    default Page<PostEntity> searchInBoard(Long boardId, PostSearchType searchType, String keyword, Pageable pageable) {
+        return switch (searchType) {
+            case TITLE -> searchInBoardByTitle(boardId, keyword, pageable);
+            case CONTENT -> searchInBoardByContent(boardId, keyword, pageable);
+            case WRITER -> searchInBoardByWriter(boardId, keyword, pageable);
+            case TITLE_CONTENT -> searchInBoardByTitleOrContent(boardId, keyword, pageable);
+            case COMMENT_CONTENT -> searchInBoardByCommentContent(boardId, keyword, pageable);
+            case COMMENT_WRITER -> searchInBoardByCommentWriter(boardId, keyword, pageable);
+        };
+    }
 
     // 내가 작성한 게시글 목록
     Page<PostEntity> findByUserId(Long userId, Pageable pageable);
 
-    // 이전 게시물: ID > currentId인 가장 작은 것 (최신순)
-    Optional<PostEntity> findFirstByBoardIdAndIdGreaterThanOrderByIdAsc(Long boardId, Long currentId);
+    // 목록 화면용 (본문 없음, PostSummaryDto)
+    // 게시판별 게시글 목록
+    @Query(value = POST_SUMMARY + "WHERE p.boardId = :boardId",
+            countQuery = "SELECT COUNT(p) FROM PostEntity p WHERE p.boardId = :boardId")
+    Page<PostSummaryDto> findSummariesByBoardId(@Param("boardId") Long boardId, Pageable pageable);
+
+    // 전체 게시물 목록 (관리자용)
+    @Query(value = POST_SUMMARY,
+            countQuery = "SELECT COUNT(p) FROM PostEntity p")
+    Page<PostSummaryDto> findAllSummaries(Pageable pageable);
+
+    // 메인 피드 (공지 카테고리 제외, findFeedExcludingCategory 와 같은 조건)
+    @Query(value = POST_SUMMARY + "WHERE p.boardId NOT IN " +
+            "(SELECT fb.id FROM BoardEntity fb WHERE fb.category = :excludedCategory)",
+            countQuery = "SELECT COUNT(p) FROM PostEntity p WHERE p.boardId NOT IN " +
+                    "(SELECT b.id FROM BoardEntity b WHERE b.category = :excludedCategory)")
+    Page<PostSummaryDto> findFeedSummaries(@Param("excludedCategory") String excludedCategory, Pageable pageable);
+
+    // 조회수 순 (인기 게시글)
+    @Query(value = POST_SUMMARY + "ORDER BY p.viewCount DESC",
+            countQuery = "SELECT COUNT(p) FROM PostEntity p")
+    Page<PostSummaryDto> findPopularSummaries(Pageable pageable);
+
+    // 내가 작성한 게시글 목록
+    @Query(value = POST_SUMMARY + "WHERE p.userId = :userId",
+            countQuery = "SELECT COUNT(p) FROM PostEntity p WHERE p.userId = :userId")
+    Page<PostSummaryDto> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 게시판 내 검색 목록 (searchInBoardBy* 와 같은 조건, searchSummariesInBoard 가 고른다)
+    @Query(value = POST_SUMMARY + "WHERE p.boardId = :boardId AND p.title LIKE %:keyword%",
+            countQuery = "SELECT COUNT(p) FROM PostEntity p WHERE p.boardId = :boardId AND p.title LIKE %:keyword%")
+    Page<PostSummaryDto> searchSummariesInBoardByTitle(@Param("boardId") Long boardId, @Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = POST_SUMMARY + "WHERE p.boardId = :boardId AND post_content_contains(p.content, :keyword) = true",
+            countQuery = "SELECT COUNT(p) FROM PostEntity p WHERE p.boardId = :boardId AND post_content_contains(p.content, :keyword) = true")
+    Page<PostSummaryDto> searchSummariesInBoardByContent(@Param("boardId") Long boardId, @Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = POST_SUMMARY + "WHERE p.boardId = :boardId AND p.userId IN " +
+            "(SELECT wu.id FROM UserEntity wu WHERE wu.nickname LIKE %:keyword%)",
+            countQuery = "SELECT COUNT(p) FROM PostEntity p WHERE p.boardId = :boardId AND p.userId IN " +
+                    "(SELECT u.id FROM UserEntity u WHERE u.nickname LIKE %:keyword%)")
+    Page<PostSummaryDto> searchSummariesInBoardByWriter(@Param("boardId") Long boardId, @Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = POST_SUMMARY + "WHERE p.boardId = :boardId AND (p.title LIKE %:keyword% OR post_content_contains(p.content, :keyword) = true)",
+            countQuery = "SELECT COUNT(p) FROM PostEntity p WHERE p.boardId = :boardId AND (p.title LIKE %:keyword% OR post_content_contains(p.content, :keyword) = true)")
+    Page<PostSummaryDto> searchSummariesInBoardByTitleOrContent(@Param("boardId") Long boardId, @Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = POST_SUMMARY + "WHERE p.boardId = :boardId AND EXISTS " +
+            "(SELECT 1 FROM CommentEntity c WHERE c.postEntity = p AND c.content LIKE %:keyword%)",
+            countQuery = "SELECT COUNT(p) FROM PostEntity p WHERE p.boardId = :boardId AND EXISTS " +
+                    "(SELECT 1 FROM CommentEntity c WHERE c.postEntity = p AND c.content LIKE %:keyword%)")
+    Page<PostSummaryDto> searchSummariesInBoardByCommentContent(@Param("boardId") Long boardId, @Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = POST_SUMMARY + "WHERE p.boardId = :boardId AND EXISTS " +
+            "(SELECT 1 FROM CommentEntity c WHERE c.postEntity = p AND c.userId IN " +
+            "(SELECT cu.id FROM UserEntity cu WHERE cu.nickname LIKE %:keyword%))",
+            countQuery = "SELECT COUNT(p) FROM PostEntity p WHERE p.boardId = :boardId AND EXISTS " +
+                    "(SELECT 1 FROM CommentEntity c WHERE c.postEntity = p AND c.userId IN " +
+                    "(SELECT u.id FROM UserEntity u WHERE u.nickname LIKE %:keyword%))")
+    Page<PostSummaryDto> searchSummariesInBoardByCommentWriter(@Param("boardId") Long boardId, @Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * 게시판 내 검색 목록 (searchInBoard 와 같은 조건, 작성자 닉네임까지 한 쿼리로)
+     */
+    default Page<PostSummaryDto> searchSummariesInBoard(Long boardId, PostSearchType searchType, String keyword, Pageable pageable) {
+        return switch (searchType) {
+            case TITLE -> searchSummariesInBoardByTitle(boardId, keyword, pageable);
+            case CONTENT -> searchSummariesInBoardByContent(boardId, keyword, pageable);
+            case WRITER -> searchSummariesInBoardByWriter(boardId, keyword, pageable);
+            case TITLE_CONTENT -> searchSummariesInBoardByTitleOrContent(boardId, keyword, pageable);
+            case COMMENT_CONTENT -> searchSummariesInBoardByCommentContent(boardId, keyword, pageable);
+            case COMMENT_WRITER -> searchSummariesInBoardByCommentWriter(boardId, keyword, pageable);
+        };
+    }
+
+    // 검색 캐시의 결과 id 로 목록 읽기 (순서는 호출한 쪽에서 맞춘다)
+    @Query(POST_SUMMARY + "WHERE p.id IN :ids")
+    List<PostSummaryDto> findSummariesByIds(@Param("ids") List<Long> ids);
+
+    // 검색 결과 id (검색 결과 캐시 적재용, 게시글 행은 읽지 않는다, 조건은 search / searchInBoard 와 같다)
+    @Query(value = SEARCH_IDS + TITLE_MATCH, countQuery = SEARCH_COUNT + TITLE_MATCH)
+    Page<Long> searchIdsByTitle(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = SEARCH_IDS + CONTENT_MATCH, countQuery = SEARCH_COUNT + CONTENT_MATCH)
+    Page<Long> searchIdsByContent(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = SEARCH_IDS + WRITER_MATCH, countQuery = SEARCH_COUNT + WRITER_MATCH)
+    Page<Long> searchIdsByWriter(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = SEARCH_IDS + "(" + TITLE_MATCH + " OR " + CONTENT_MATCH + ")",
+            countQuery = SEARCH_COUNT + "(" + TITLE_MATCH + " OR " + CONTENT_MATCH + ")")
+    Page<Long> searchIdsByTitleOrContent(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = SEARCH_IDS + COMMENT_CONTENT_MATCH, countQuery = SEARCH_COUNT + COMMENT_CONTENT_MATCH)
+    Page<Long> searchIdsByCommentContent(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = SEARCH_IDS + COMMENT_WRITER_MATCH, countQuery = SEARCH_COUNT + COMMENT_WRITER_MATCH)
+    Page<Long> searchIdsByCommentWriter(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = SEARCH_IDS + IN_BOARD + TITLE_MATCH, countQuery = SEARCH_COUNT + IN_BOARD + TITLE_MATCH)
+    Page<Long> searchIdsInBoardByTitle(@Param("boardId") Long boardId, @Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = SEARCH_IDS + IN_BOARD + CONTENT_MATCH, countQuery = SEARCH_COUNT + IN_BOARD + CONTENT_MATCH)
+    Page<Long> searchIdsInBoardByContent(@Param("boardId") Long boardId, @Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = SEARCH_IDS + IN_BOARD + WRITER_MATCH, countQuery = SEARCH_COUNT + IN_BOARD + WRITER_MATCH)
+    Page<Long> searchIdsInBoardByWriter(@Param("boardId") Long boardId, @Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = SEARCH_IDS + IN_BOARD + "(" + TITLE_MATCH + " OR " + CONTENT_MATCH + ")",
+            countQuery = SEARCH_COUNT + IN_BOARD + "(" + TITLE_MATCH + " OR " + CONTENT_MATCH + ")")
+    Page<Long> searchIdsInBoardByTitleOrContent(@Param("boardId") Long boardId, @Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = SEARCH_IDS + IN_BOARD + COMMENT_CONTENT_MATCH, countQuery = SEARCH_COUNT + IN_BOARD + COMMENT_CONTENT_MATCH)
+    Page<Long> searchIdsInBoardByCommentContent(@Param("boardId") Long boardId, @Param("keyword") String keyword, Pageable pageable);
+
+    @Query(value = SEARCH_IDS + IN_BOARD + COMMENT_WRITER_MATCH, countQuery = SEARCH_COUNT + IN_BOARD + COMMENT_WRITER_MATCH)
+    Page<Long> searchIdsInBoardByCommentWriter(@Param("boardId") Long boardId, @Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * 검색 결과 id
+     * @param boardId 게시판 내 검색이면 게시판 id, 전체 검색이면 null
+     */
+    default Page<Long> searchIds(Long boardId, PostSearchType searchType, String keyword, Pageable pageable) {
+        if (boardId == null) {
+            return switch (searchType) {
+                case TITLE -> searchIdsByTitle(keyword, pageable);
+                case CONTENT -> searchIdsByContent(keyword, pageable);
+                case WRITER -> searchIdsByWriter(keyword, pageable);
+                case TITLE_CONTENT -> searchIdsByTitleOrContent(keyword, pageable);
+                case COMMENT_CONTENT -> searchIdsByCommentContent(keyword, pageable);
+                case COMMENT_WRITER -> searchIdsByCommentWriter(keyword, pageable);
+            };
+        }
+        return switch (searchType) {
+            case TITLE -> searchIdsInBoardByTitle(boardId, keyword, pageable);
+            case CONTENT -> searchIdsInBoardByContent(boardId, keyword, pageable);
+            case WRITER -> searchIdsInBoardByWriter(boardId, keyword, pageable);
+            case TITLE_CONTENT -> searchIdsInBoardByTitleOrContent(boardId, keyword, pageable);
+            case COMMENT_CONTENT -> searchIdsInBoardByCommentContent(boardId, keyword, pageable);
+            case COMMENT_WRITER -> searchIdsInBoardByCommentWriter(boardId, keyword, pageable);
+        };
+    }
+
+    // 마이페이지 대시보드 최근 게시글 (정렬은 최신순 고정)
+    @Query(POST_SUMMARY + "WHERE p.userId = :userId ORDER BY p.id DESC")
+    List<PostSummaryDto> findRecentSummaries(@Param("userId") Long userId, Pageable pageable);
+
+    // 댓글 수 원자적 증가 (게시글을 읽지 않음, 게시글이 없으면 0 반환)
+    @Modifying
+    @Query("UPDATE PostEntity p SET p.commentsCount = p.commentsCount + 1 WHERE p.id = :postId")
+    int increaseCommentsCount(@Param("postId") Long postId);
+
+    // 댓글 수 원자적 감소 (0 미만으로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE PostEntity p SET p.commentsCount = p.commentsCount - 1 WHERE p.id = :postId AND p.commentsCount > 0")
+    int decreaseCommentsCount(@Param("postId") Long postId);
 
-    // 다음 게시물: ID < currentId인 가장 큰 것 (최신순)
-    Optional<PostEntity> findFirstByBoardIdAndIdLessThanOrderByIdDesc(Long boardId, Long currentId);
+    // 게시판의 게시글 id (PostNeighborIndex 적재용)
+    @Query("SELECT p.id FROM PostEntity p WHERE p.boardId = :boardId ORDER BY p.id")
+    List<Long> findIdsByBoardId(@Param("boardId") Long boardId);
 
+    // 이전/다음 게시물 링크 (id, 제목만)
+    @Query("SELECT new com.example.community.domain.post.PostNeighborDto(p.id, p.title) FROM PostEntity p WHERE p.id = :id")
+    Optional<PostNeighborDto> findNeighborById(@Param("id") Long id);
 
-}
\ No newline at end of file
+    // 제목 자동완성 색인 적재 (본문 제외)
+    @Query("SELECT new com.example.community.domain.post.PostTitleDto(p.id, p.boardId, p.title, p.viewCount) FROM PostEntity p")
+    List<PostTitleDto> findAllTitles();
+}
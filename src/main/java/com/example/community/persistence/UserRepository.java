@@ -5,8 +5,12 @@ import com.example.community.domain.user.UserRole;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import javax.swing.text.html.Option;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
@@ -27,6 +31,13 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
 
     Optional<UserEntity> findByUsernameAndActiveTrue(String username);
 
+    /**
+     * 여러 사용자의 닉네임 (검색 결과 한 페이지의 작성자를 한 번에 읽는다)
+     * @param ids 사용자 고유번호 목록
+     * @return [userId, 닉네임] 목록
+     */
+    @Query("SELECT u.id, u.nickname FROM UserEntity u WHERE u.id IN :ids")
+    List<Object[]> findNicknamesByIds(@Param("ids") Collection<Long> ids);
 
     /**
      * 역할별 사용자 조회 (페이징)
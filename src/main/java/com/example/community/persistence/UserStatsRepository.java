@@ -0,0 +1,75 @@
+package com.example.community.persistence;
+
+import com.example.community.domain.user.UserStatsDto;
+import com.example.community.domain.user.UserStatsEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * 사용자 활동 집계
+ * 증감은 행을 읽지 않는 UPDATE (집계 행이 아직 없으면 0건을 돌려주고, 서비스가 같은 트랜잭션에서 행을 만든 뒤 다시 증감한다)
+ */
+public interface UserStatsRepository extends JpaRepository<UserStatsEntity, Long> {
+
+    // 원본 테이블에서 계산한 사용자별 집계 (MERGE 의 SELECT 부분, 조건은 붙여서 쓴다)
+    String SOURCE_COUNTS = "SELECT u.user_id, " +
+            "(SELECT COUNT(*) FROM posts p WHERE p.user_id = u.user_id), " +
+            "(SELECT COUNT(*) FROM comments c WHERE c.user_id = u.user_id), " +
+            "(SELECT COALESCE(SUM(p.likes_count), 0) FROM posts p WHERE p.user_id = u.user_id), " +
+            "(SELECT COUNT(*) FROM messages m WHERE m.receiver_id = u.user_id AND m.receiver_delete_state <> 2) " +
+            "FROM users u ";
+
+    String MERGE_STATS = "MERGE INTO user_stats (user_id, posts_count, comments_count, likes_received, messages_received) " +
+            "KEY (user_id) ";
+
+    /**
+     * 원본 테이블에서 계산해 집계 행을 만들거나 덮어쓴다 (호출한 트랜잭션 안에서, 커넥션을 더 쓰지 않는다)
+     * 이 트랜잭션에서 아직 내보내지 않은 변경도 계산에 들어가도록 먼저 flush 한다
+     * 바뀌는 테이블을 알려 2차 캐시는 user_stats 만 비우게 한다 (지정하지 않으면 전체 region 을 비운다)
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_stats"))
+    @Query(value = MERGE_STATS + SOURCE_COUNTS + "WHERE u.user_id = :userId", nativeQuery = true)
+    int recompute(@Param("userId") Long userId);
+
+    // 게시판 일괄 입력 후 그 게시판에 글/댓글을 쓴 사용자만 다시 계산
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_stats"))
+    @Query(value = MERGE_STATS + SOURCE_COUNTS + "WHERE u.user_id IN " +
+            "(SELECT p.user_id FROM posts p WHERE p.board_id = :boardId " +
+            "UNION SELECT c.user_id FROM comments c JOIN posts p ON p.id = c.post_id WHERE p.board_id = :boardId)",
+            nativeQuery = true)
+    int recomputeForBoard(@Param("boardId") Long boardId);
+
+    // 집계 행이 없는 사용자의 조회용 계산 (행은 만들지 않는다, readOnly 트랜잭션에서도 쓸 수 있다)
+    @Query("SELECT new com.example.community.domain.user.UserStatsDto(u.id, " +
+            "(SELECT COUNT(p) FROM PostEntity p WHERE p.userId = u.id), " +
+            "(SELECT COUNT(c) FROM CommentEntity c WHERE c.userId = u.id), " +
+            "(SELECT COALESCE(SUM(p.likesCount), 0L) FROM PostEntity p WHERE p.userId = u.id), " +
+            "(SELECT COUNT(m) FROM MessageEntity m WHERE m.receiver.id = u.id AND m.receiverDeleteState <> 2)) " +
+            "FROM UserEntity u WHERE u.id = :userId")
+    Optional<UserStatsDto> computeById(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("UPDATE UserStatsEntity s SET s.postsCount = s.postsCount + :delta WHERE s.userId = :userId")
+    int addPosts(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE UserStatsEntity s SET s.commentsCount = s.commentsCount + :delta WHERE s.userId = :userId")
+    int addComments(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE UserStatsEntity s SET s.likesReceived = s.likesReceived + :delta WHERE s.userId = :userId")
+    int addLikesReceived(@Param("userId") Long userId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE UserStatsEntity s SET s.messagesReceived = s.messagesReceived + :delta WHERE s.userId = :userId")
+    int addMessagesReceived(@Param("userId") Long userId, @Param("delta") long delta);
+}
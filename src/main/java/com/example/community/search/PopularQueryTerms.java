@@ -0,0 +1,97 @@
+package com.example.community.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 자주 검색한 검색어 (자동완성 후보)
+ * - 검색할 때마다 정규화한 검색어 횟수를 센다
+ * - refreshEvery 번 검색할 때마다 상위 topTerms 개를 횟수 내림차순 배열로 만들어 두고
+ *   자동완성은 그 배열만 훑는다 (수천 건이라 접두어 비교만으로 충분)
+ * - 갱신할 때 검색어가 maxTerms 종류를 넘었거나 decayEvery 번째 갱신이면 모든 횟수를 절반으로 줄이고 0 이 된 검색어는 버린다
+ *   (한 번 찍힌 검색어가 자리를 차지하지 않고, 예전 인기 검색어도 점점 밀려난다. 갱신 사이에는 refreshEvery 종류까지 더 늘 수 있다)
+ */
+public final class PopularQueryTerms {
+
+    private final int maxTerms;
+    private final int topTerms;
+    private final int refreshEvery;
+    private final int decayEvery;
+
+    private final Map<String, AtomicLong> counts = new ConcurrentHashMap<>();
+    private final AtomicInteger sinceRefresh = new AtomicInteger();
+    private int refreshes;
+    private volatile Term[] snapshot = new Term[0];
+
+    public record Term(String text, long count) {
+    }
+
+    public PopularQueryTerms(int maxTerms, int topTerms, int refreshEvery, int decayEvery) {
+        this.maxTerms = maxTerms;
+        this.topTerms = topTerms;
+        this.refreshEvery = refreshEvery;
+        this.decayEvery = decayEvery;
+    }
+
+    public void record(String query) {
+        String term = PrefixSuggestIndex.normalize(query);
+        if (term.isEmpty()) {
+            return;
+        }
+        counts.computeIfAbsent(term, key -> new AtomicLong()).incrementAndGet();
+
+        if (sinceRefresh.incrementAndGet() >= refreshEvery) {
+            sinceRefresh.set(0);
+            refresh();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 검색어, 횟수 내림차순 최대 limit 건
+     */
+    public List<Term> suggest(String prefix, int limit) {
+        String key = PrefixSuggestIndex.normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Term[] terms = snapshot;
+        List<Term> result = new ArrayList<>(limit);
+        for (Term term : terms) {
+            if (term.text().startsWith(key)) {
+                result.add(term);
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    public synchronized void refresh() {
+        if (++refreshes >= decayEvery || counts.size() > maxTerms) {
+            refreshes = 0;
+            decay();
+        }
+        snapshot = counts.entrySet().stream()
+                .map(entry -> new Term(entry.getKey(), entry.getValue().get()))
+                .sorted(Comparator.comparingLong(Term::count).reversed().thenComparing(Term::text))
+                .limit(topTerms)
+                .toArray(Term[]::new);
+    }
+
+    // 종류 수가 maxTerms 이하가 될 때까지 횟수를 절반으로 (동시에 센 1회는 놓칠 수 있다, 어림값이라 허용)
+    private void decay() {
+        do {
+            counts.values().removeIf(count -> count.updateAndGet(value -> value / 2) == 0);
+        } while (counts.size() > maxTerms);
+    }
+
+    public int size() {
+        return counts.size();
+    }
+}
@@ -0,0 +1,343 @@
+package com.example.community.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 제목 자동완성 색인
+ * - 정규화한 제목(NFKC, 소문자, 공백 하나, 최대 64자) 순으로 정렬한 배열에서 이진 탐색으로 접두어 범위를 찾는다
+ * - 1~3자 접두어는 범위가 커서 접두어마다 가중치(조회수) 상위 10개를 미리 유지한다
+ *   (trie 의 얕은 층 노드마다 top-K 를 두는 것과 같고, 깊은 층은 정렬 배열이 대신한다)
+ * - 더 긴 접두어는 범위 앞에서 최대 512건만 보고 가중치 순으로 고른다
+ * - 처음 조회할 때 한 번에 정렬해 적재하고, 이후 작성/수정/삭제를 put/remove 로 반영한다
+ *   (중간 삽입/삭제는 100만 건 기준 참조 4MB 복사로, 글쓰기 빈도에는 충분하다)
+ */
+public final class PrefixSuggestIndex {
+
+    static final int HOT_DEPTH = 3;
+    static final int TOP_K = 10;
+    static final int SCAN_LIMIT = 512;
+    static final int MAX_KEY_LENGTH = 64;
+
+    // 메모리 추정용 (64bit, compressed oops)
+    private static final int ENTRY_BYTES = 48;          // Entry 객체
+    private static final int ID_MAP_BYTES = 56;         // HashMap 노드 + Long + 테이블 칸
+    private static final int HOT_BYTES = 48 + 16 + TOP_K * 4;  // HashMap 노드 + 배열
+
+    private static final Comparator<Entry> KEY_ORDER =
+            Comparator.comparing(Entry::key).thenComparingLong(Entry::id);
+    private static final Comparator<Entry> WEIGHT_ORDER = (a, b) -> a.weight() != b.weight()
+            ? Long.compare(b.weight(), a.weight())
+            : Long.compare(b.id(), a.id());
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    // 정규화한 제목 순 (같으면 id 순), 앞의 size 칸만 사용
+    private Entry[] sorted = new Entry[0];
+    private int size;
+    // 짧은 접두어 -> 가중치 내림차순 상위 TOP_K
+    private final Map<String, Entry[]> hot = new HashMap<>();
+
+    private volatile boolean loaded;
+    private long stringBytes;
+
+    /**
+     * @param key 정규화한 제목 (title 과 같으면 같은 인스턴스)
+     */
+    public record Entry(long id, long boardId, String title, String key, long weight) {
+    }
+
+    public static Entry entry(long id, long boardId, String title, long weight) {
+        String key = normalize(title);
+        return new Entry(id, boardId, title, key.equals(title) ? title : key, weight);
+    }
+
+    public void loadIfNeeded(Supplier<List<Entry>> loader) {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            Entry[] loading = loader.get().stream()
+                    .filter(entry -> !entry.key().isEmpty())
+                    .sorted(KEY_ORDER)
+                    .toArray(Entry[]::new);
+            sorted = Arrays.copyOf(loading, loading.length + loading.length / 8 + 16);
+            size = loading.length;
+            for (Entry entry : loading) {
+                entries.put(entry.id(), entry);
+                addHot(entry);
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 다음 조회 때 다시 적재
+     */
+    public void invalidate() {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            sorted = new Entry[0];
+            size = 0;
+            hot.clear();
+            stringBytes = 0;
+            loaded = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 추가 또는 교체 (적재 전에는 무시, 적재 쿼리가 커밋된 값을 읽는다)
+     */
+    public void put(Entry entry) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            Entry previous = entries.get(entry.id());
+            if (previous != null) {
+                delete(previous);
+            }
+            if (entry.key().isEmpty()) {
+                return;
+            }
+            int index = -Arrays.binarySearch(sorted, 0, size, entry, KEY_ORDER) - 1;
+            if (size == sorted.length) {
+                sorted = Arrays.copyOf(sorted, size + size / 2 + 16);
+            }
+            System.arraycopy(sorted, index, sorted, index + 1, size - index);
+            sorted[index] = entry;
+            size++;
+            entries.put(entry.id(), entry);
+            addHot(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            Entry previous = entries.get(id);
+            if (previous != null) {
+                delete(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 제목, 가중치 내림차순 최대 limit(<= 10)건
+     */
+    public List<Entry> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        int count = Math.min(limit, TOP_K);
+        if (key.isEmpty() || count <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (key.length() <= HOT_DEPTH) {
+                Entry[] top = hot.get(key);
+                return top == null ? List.of() : List.of(Arrays.copyOf(top, Math.min(count, top.length)));
+            }
+
+            Entry[] best = new Entry[0];
+            int from = lowerBound(key);
+            int to = Math.min(rangeEnd(key), from + SCAN_LIMIT);
+            for (int i = from; i < to; i++) {
+                best = offer(best, sorted[i], count);
+            }
+            return List.of(best);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 대략의 힙 사용량 (객체 헤더/참조 크기를 고정값으로 어림)
+     */
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return (long) size * (ENTRY_BYTES + ID_MAP_BYTES)
+                    + 16 + (long) sorted.length * 4
+                    + stringBytes
+                    + (long) hot.size() * HOT_BYTES;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * NFKC, 소문자, 연속 공백은 하나로, 앞뒤 공백 제거, 최대 64자
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isBlank()) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder key = new StringBuilder(MAX_KEY_LENGTH);
+        boolean space = false;
+        for (int i = 0; i < normalized.length() && key.length() < MAX_KEY_LENGTH; i++) {
+            char c = normalized.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = !key.isEmpty();
+                continue;
+            }
+            if (space) {
+                if (key.length() + 1 >= MAX_KEY_LENGTH) {
+                    break;
+                }
+                key.append(' ');
+                space = false;
+            }
+            key.append(c);
+        }
+        // 서로게이트 쌍을 가르지 않도록
+        int length = key.length();
+        if (length == MAX_KEY_LENGTH && Character.isHighSurrogate(key.charAt(length - 1))) {
+            length--;
+        }
+        return key.substring(0, length);
+    }
+
+    private void addHot(Entry entry) {
+        stringBytes += stringBytes(entry.title());
+        if (entry.key() != entry.title()) {
+            stringBytes += stringBytes(entry.key());
+        }
+
+        for (int length = 1; length <= Math.min(HOT_DEPTH, entry.key().length()); length++) {
+            String prefix = entry.key().substring(0, length);
+            Entry[] top = hot.get(prefix);
+            if (top == null) {
+                stringBytes += stringBytes(prefix);
+                hot.put(prefix, new Entry[]{entry});
+            } else {
+                hot.put(prefix, offer(top, entry, TOP_K));
+            }
+        }
+    }
+
+    private void delete(Entry entry) {
+        entries.remove(entry.id());
+        int index = Arrays.binarySearch(sorted, 0, size, entry, KEY_ORDER);
+        if (index >= 0) {
+            System.arraycopy(sorted, index + 1, sorted, index, size - index - 1);
+            sorted[--size] = null;
+        }
+        stringBytes -= stringBytes(entry.title());
+        if (entry.key() != entry.title()) {
+            stringBytes -= stringBytes(entry.key());
+        }
+
+        for (int length = 1; length <= Math.min(HOT_DEPTH, entry.key().length()); length++) {
+            String prefix = entry.key().substring(0, length);
+            Entry[] top = hot.get(prefix);
+            if (top == null || !contains(top, entry)) {
+                continue;
+            }
+            // 상위 목록에서 빠지면 범위를 다시 훑어 채운다 (삭제/수정 때만)
+            Entry[] rebuilt = new Entry[0];
+            for (int i = lowerBound(prefix), end = rangeEnd(prefix); i < end; i++) {
+                rebuilt = offer(rebuilt, sorted[i], TOP_K);
+            }
+            if (rebuilt.length == 0) {
+                hot.remove(prefix);
+                stringBytes -= stringBytes(prefix);
+            } else {
+                hot.put(prefix, rebuilt);
+            }
+        }
+    }
+
+    /**
+     * key 이상인 첫 위치
+     */
+    private int lowerBound(String key) {
+        int index = Arrays.binarySearch(sorted, 0, size, new Entry(Long.MIN_VALUE, 0, "", key, 0), KEY_ORDER);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * key 로 시작하는 범위 바로 다음 위치
+     */
+    private int rangeEnd(String key) {
+        return lowerBound(key + Character.MAX_VALUE);
+    }
+
+    /**
+     * 가중치 내림차순 배열에 삽입, 최대 size 개 유지 (새 배열 반환)
+     */
+    private static Entry[] offer(Entry[] top, Entry entry, int size) {
+        // 대부분은 꽉 찬 목록의 마지막보다 낮아 비교 한 번으로 끝난다
+        if (top.length == size && WEIGHT_ORDER.compare(top[size - 1], entry) <= 0) {
+            return top;
+        }
+        int position = 0;
+        while (position < top.length && WEIGHT_ORDER.compare(top[position], entry) <= 0) {
+            position++;
+        }
+        if (position >= size) {
+            return top;
+        }
+        int length = Math.min(top.length + 1, size);
+        Entry[] result = new Entry[length];
+        System.arraycopy(top, 0, result, 0, position);
+        result[position] = entry;
+        System.arraycopy(top, position, result, position + 1, length - position - 1);
+        return result;
+    }
+
+    private static boolean contains(Entry[] top, Entry entry) {
+        for (Entry candidate : top) {
+            if (candidate.id() == entry.id()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * String 객체 + 값 배열 (Latin-1 이면 1바이트, 아니면 2바이트)
+     */
+    private static long stringBytes(String value) {
+        boolean latin1 = true;
+        for (int i = 0; i < value.length() && latin1; i++) {
+            latin1 = value.charAt(i) < 256;
+        }
+        long array = 16 + (long) value.length() * (latin1 ? 1 : 2);
+        return 24 + ((array + 7) & ~7L);
+    }
+}
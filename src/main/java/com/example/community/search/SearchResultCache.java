@@ -0,0 +1,160 @@
+package com.example.community.search;
+
+import com.example.community.domain.post.PostSearchType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 검색 결과 id 캐시 ((검색 타입, 검색어, 게시판, 정렬) -> 앞쪽 결과 id + 전체 건수)
+ * - 같은 키를 동시에 처음 찾으면 한 요청만 DB 를 읽고 나머지는 그 결과를 기다린다 (single-flight)
+ * - 게시글/댓글이 바뀌면 영향받는 검색 타입과 게시판의 항목을 지운다
+ *   읽는 도중 무효화가 있었으면 읽은 결과는 저장하지 않는다 (무효화 전 상태일 수 있어서)
+ * - 저장 후 expireAfterWrite 가 지나면 만료 (닉네임 변경, 조회수 정렬 순서 변화는 만료로만 반영)
+ * - 적중하거나 다른 요청의 결과를 받으면 그 결과를 읽는 데 걸린 시간을 절약한 DB 시간으로 센다
+ */
+public final class SearchResultCache {
+
+    /**
+     * @param boardId 게시판 내 검색이면 게시판 id, 전체 검색이면 null
+     * @param sort 정렬 조건 (Sort.toString)
+     */
+    public record Key(PostSearchType type, String keyword, Long boardId, String sort) {
+    }
+
+    /**
+     * @param ids 정렬 순서대로 앞쪽 결과 id
+     * @param total 전체 결과 건수
+     * @param loadNanos 읽는 데 걸린 시간
+     */
+    public record Result(long[] ids, long total, long loadNanos) {
+    }
+
+    private final Cache<Key, Result> results;
+    private final ConcurrentMap<Key, CompletableFuture<Result>> loading = new ConcurrentHashMap<>();
+    // 무효화할 때마다 증가, 읽기 전후 값이 다르면 저장하지 않는다
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+    private final LongAdder savedNanos = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public SearchResultCache(long maxEntries, Duration expireAfterWrite) {
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(expireAfterWrite)
+                // 정리 작업을 호출한 스레드에서 바로 실행 (공용 풀을 쓰지 않도록)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    public Result get(Key key, Supplier<Result> loader) {
+        Result cached = results.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            savedNanos.add(cached.loadNanos());
+            return cached;
+        }
+
+        CompletableFuture<Result> mine = new CompletableFuture<>();
+        CompletableFuture<Result> running = loading.putIfAbsent(key, mine);
+        if (running != null) {
+            // 먼저 읽기 시작한 요청의 결과를 기다린다
+            shared.increment();
+            Result result = join(running);
+            savedNanos.add(result.loadNanos());
+            return result;
+        }
+
+        misses.increment();
+        long before = generation.get();
+        try {
+            Result result = loader.get();
+            if (generation.get() == before) {
+                results.put(key, result);
+            }
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, mine);
+        }
+    }
+
+    /**
+     * 검색 타입이 types 에 들어 있고 게시판이 겹치는 항목 삭제
+     * @param boardId 바뀐 게시글의 게시판, 모르면 null (모든 게시판)
+     */
+    public void invalidate(Long boardId, Set<PostSearchType> types) {
+        generation.incrementAndGet();
+        invalidations.increment();
+        results.asMap().keySet().removeIf(key -> types.contains(key.type())
+                && (boardId == null || key.boardId() == null || key.boardId().equals(boardId)));
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        invalidations.increment();
+        results.invalidateAll();
+    }
+
+    public long size() {
+        return results.estimatedSize();
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * 다른 요청이 읽는 중이라 그 결과를 기다린 횟수
+     */
+    public long shared() {
+        return shared.sum();
+    }
+
+    /**
+     * 적중 + 대기한 요청 비율 (요청이 없으면 0)
+     */
+    public double hitRatio() {
+        long hit = hits.sum() + shared.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    public long savedNanos() {
+        return savedNanos.sum();
+    }
+
+    public long invalidations() {
+        return invalidations.sum();
+    }
+
+    private static Result join(CompletableFuture<Result> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
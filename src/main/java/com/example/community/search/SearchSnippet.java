@@ -0,0 +1,42 @@
+package com.example.community.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 결과 요약문
+ * @param text 본문 일부 (줄바꿈/탭은 공백으로 바꿈)
+ * @param highlights text 안에서 키워드와 일치하는 구간 [start, end)
+ * @param truncatedStart 앞에 잘린 본문이 있는지
+ * @param truncatedEnd 뒤에 잘린 본문이 있는지
+ */
+public record SearchSnippet(String text, List<Highlight> highlights, boolean truncatedStart, boolean truncatedEnd) {
+
+    public static final SearchSnippet EMPTY = new SearchSnippet("", List.of(), false, false);
+
+    public record Highlight(int start, int end) {
+    }
+
+    /**
+     * 화면 출력용 조각 (강조 구간과 일반 구간을 순서대로)
+     * 템플릿이 th:utext 없이 <mark> 로 감쌀 수 있게 나눠 준다
+     */
+    public List<Segment> segments() {
+        List<Segment> segments = new ArrayList<>(highlights.size() * 2 + 1);
+        int position = 0;
+        for (Highlight highlight : highlights) {
+            if (highlight.start() > position) {
+                segments.add(new Segment(text.substring(position, highlight.start()), false));
+            }
+            segments.add(new Segment(text.substring(highlight.start(), highlight.end()), true));
+            position = highlight.end();
+        }
+        if (position < text.length()) {
+            segments.add(new Segment(text.substring(position), false));
+        }
+        return segments;
+    }
+
+    public record Segment(String text, boolean highlighted) {
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.community.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 결과 요약문 생성기
+ * - 본문을 앞에서부터 한 번 훑어 첫 일치 위치를 찾고 그 주변 창(window)만 잘라낸다
+ * - 첫 일치를 찾으면 창 끝까지만 더 읽고 멈추므로 긴 글도 창 크기만큼만 복사한다
+ * - 일치가 없으면 maxScan 글자까지만 찾아보고 본문 앞부분을 돌려준다 (제목/작성자로 찾은 글)
+ * - 대소문자 무시 (KMP, 문자 단위 비교)
+ */
+public final class SnippetScanner {
+
+    private final int before;
+    private final int length;
+    private final int maxScan;
+
+    /**
+     * @param before 첫 일치 앞에 남길 글자 수
+     * @param length 요약문 길이
+     * @param maxScan 일치를 찾아볼 최대 글자 수
+     */
+    public SnippetScanner(int before, int length, int maxScan) {
+        if (before < 0 || length <= before || maxScan < length) {
+            throw new IllegalArgumentException("Invalid snippet window: before=" + before
+                    + ", length=" + length + ", maxScan=" + maxScan);
+        }
+        this.before = before;
+        this.length = length;
+        this.maxScan = maxScan;
+    }
+
+    /**
+     * 요약문을 만드는 데 필요한 본문 앞부분 길이 (이보다 긴 본문은 잘라서 넘겨도 결과가 같다)
+     * 일치 탐색 maxScan + 요약문 length + 서로게이트 경계 1 + 뒤에 글이 더 있는지 1
+     */
+    public int charsNeeded() {
+        return maxScan + length + 2;
+    }
+
+    /**
+     * 첫 일치 주변 요약문
+     */
+    public SearchSnippet scan(CharSequence text, String keyword) {
+        if (text == null || text.isEmpty()) {
+            return SearchSnippet.EMPTY;
+        }
+        Keyword pattern = Keyword.of(keyword);
+        int first = pattern == null ? -1 : pattern.find(text, 0, Math.min(text.length(), maxScan));
+
+        int start = 0;
+        if (first >= 0) {
+            start = Math.max(0, first - before);
+        }
+        int end = Math.min(text.length(), Math.max(start + length, first + (pattern == null ? 0 : pattern.length())));
+
+        // 서로게이트 쌍을 가르지 않도록 경계 조정
+        if (start > 0 && Character.isLowSurrogate(text.charAt(start))) {
+            start--;
+        }
+        if (end < text.length() && Character.isHighSurrogate(text.charAt(end - 1))) {
+            end++;
+        }
+
+        List<SearchSnippet.Highlight> highlights = first >= 0
+                ? pattern.findAll(text, start, end)
+                : List.of();
+
+        StringBuilder snippet = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            snippet.append(c == '\n' || c == '\r' || c == '\t' ? ' ' : c);
+        }
+        return new SearchSnippet(snippet.toString(), highlights, start > 0, end < text.length());
+    }
+
+    /**
+     * 짧은 문자열(제목 등) 전체와 그 안의 일치 구간
+     */
+    public static SearchSnippet highlight(String text, String keyword) {
+        if (text == null || text.isEmpty()) {
+            return SearchSnippet.EMPTY;
+        }
+        Keyword pattern = Keyword.of(keyword);
+        List<SearchSnippet.Highlight> highlights = pattern == null
+                ? List.of()
+                : pattern.findAll(text, 0, text.length());
+        return new SearchSnippet(text, highlights, false, false);
+    }
+
+    /**
+     * 소문자로 바꾼 키워드와 KMP 실패 함수
+     */
+    private record Keyword(char[] chars, int[] failure) {
+
+        static Keyword of(String keyword) {
+            if (keyword == null || keyword.isBlank()) {
+                return null;
+            }
+            char[] chars = keyword.strip().toCharArray();
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = Character.toLowerCase(chars[i]);
+            }
+            int[] failure = new int[chars.length];
+            for (int i = 1, k = 0; i < chars.length; i++) {
+                while (k > 0 && chars[i] != chars[k]) {
+                    k = failure[k - 1];
+                }
+                if (chars[i] == chars[k]) {
+                    k++;
+                }
+                failure[i] = k;
+            }
+            return new Keyword(chars, failure);
+        }
+
+        int length() {
+            return chars.length;
+        }
+
+        /**
+         * [from, to) 에서 첫 일치 시작 위치, 없으면 -1
+         */
+        int find(CharSequence text, int from, int to) {
+            int matched = 0;
+            for (int i = from; i < to; i++) {
+                matched = advance(matched, Character.toLowerCase(text.charAt(i)));
+                if (matched == chars.length) {
+                    return i - chars.length + 1;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * [from, to) 안에 완전히 들어가는 겹치지 않는 일치 구간 (from 기준 위치)
+         */
+        List<SearchSnippet.Highlight> findAll(CharSequence text, int from, int to) {
+            List<SearchSnippet.Highlight> highlights = new ArrayList<>();
+            int matched = 0;
+            for (int i = from; i < to; i++) {
+                matched = advance(matched, Character.toLowerCase(text.charAt(i)));
+                if (matched == chars.length) {
+                    int end = i + 1 - from;
+                    highlights.add(new SearchSnippet.Highlight(end - chars.length, end));
+                    matched = 0;
+                }
+            }
+            return highlights;
+        }
+
+        private int advance(int matched, char c) {
+            while (matched > 0 && c != chars[matched]) {
+                matched = failure[matched - 1];
+            }
+            return c == chars[matched] ? matched + 1 : matched;
+        }
+    }
+}
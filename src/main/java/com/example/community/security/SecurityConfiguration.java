@@ -80,8 +80,11 @@ public class SecurityConfiguration {
 
                         .requestMatchers("/api/email/**").permitAll()
                         .requestMatchers("/api/user/reset-password").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/search/suggest").permitAll()
 
                         .requestMatchers("/css/**", "/images/**", "/js/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/admin/**").hasRole("ADMIN")
                         .requestMatchers("/mypage/**").hasAnyRole("USER", "ADMIN")
                         .requestMatchers(HttpMethod.GET, "/board/**").permitAll()
@@ -90,6 +93,10 @@ public class SecurityConfiguration {
                         // 댓글 조회 API (GET) - 로그인 불필요 (누구나 댓글을 볼 수 있음)
                         .requestMatchers(HttpMethod.GET, "/api/posts/*/comments").permitAll()
 
+                        // 첨부 파일 목록/다운로드 API (GET) - 로그인 불필요
+                        .requestMatchers(HttpMethod.GET, "/api/posts/*/files", "/api/posts/*/files/*").permitAll()
+                        .requestMatchers(HttpMethod.HEAD, "/api/posts/*/files/*").permitAll()
+
                         // 댓글 작성/수정/삭제 API (POST, PUT, DELETE) - 로그인 필수
                         .requestMatchers(HttpMethod.POST, "/api/posts/*/comments").hasAnyRole("USER", "ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/api/posts/*/comments/*").hasAnyRole("USER", "ADMIN")
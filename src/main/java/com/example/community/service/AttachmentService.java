@@ -0,0 +1,51 @@
+package com.example.community.service;
+
+import com.example.community.domain.file.FileDto;
+import com.example.community.domain.file.FileUsageDto;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 게시글 첨부 파일
+ * 파일 내용은 AttachmentStorage 에 해시로 저장하고 (같은 내용은 한 번만), 행과 사용량은 files / user_file_usage
+ */
+public interface AttachmentService {
+
+    /**
+     * 첨부 파일 올리기 (게시글 작성자만), 트랜잭션 밖에서 호출한다
+     * 본문은 임시 파일로 바로 받고, 파일 크기 / 사용자 한도를 넘는 순간 읽기를 멈춘다
+     * @param body 파일 내용 (요청 본문)
+     * @return 저장한 파일, 작성자가 아니면 empty
+     * @throws jakarta.persistence.EntityNotFoundException 게시글이 없으면
+     * @throws IllegalArgumentException 파일 이름 / 확장자가 잘못되면
+     * @throws IllegalStateException 파일 크기 제한이나 사용자 한도를 넘으면
+     */
+    Optional<FileDto> upload(Long postId, Long userId, String fileName, String contentType, InputStream body);
+
+    List<FileDto> getList(Long postId);
+
+    Optional<FileDto> read(Long postId, Long fileId);
+
+    /**
+     * 저장된 파일 위치 (다운로드용)
+     */
+    Path path(FileDto fileDto);
+
+    /**
+     * 첨부 파일 삭제 (올린 사용자 또는 관리자만)
+     * 내용 파일은 다른 첨부가 참조하지 않을 때 커밋 뒤에 지운다
+     * @return 삭제했으면 true, 파일이 없거나 권한이 없으면 false
+     */
+    boolean delete(Long postId, Long fileId, Long userId);
+
+    /**
+     * 게시글 삭제 (게시글 삭제 트랜잭션 안에서 호출)
+     * 첨부 행을 지우고 사용량을 돌려준다
+     */
+    void postDeleted(Long postId);
+
+    FileUsageDto usage(Long userId);
+}
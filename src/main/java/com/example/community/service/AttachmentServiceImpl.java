@@ -0,0 +1,248 @@
+package com.example.community.service;
+
+import com.example.community.attachment.AttachmentStorage;
+import com.example.community.config.AttachmentProperties;
+import com.example.community.config.TransactionCallbacks;
+import com.example.community.domain.file.FileDto;
+import com.example.community.domain.file.FileEntity;
+import com.example.community.domain.file.FileUsageDto;
+import com.example.community.domain.user.UserRole;
+import com.example.community.persistence.FileRepository;
+import com.example.community.persistence.FileUsageRepository;
+import com.example.community.persistence.PostRepository;
+import com.example.community.persistence.UserRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 첨부 파일
+ * - 올리기: 임시 파일로 받으며 해시 계산 -> 해시 잠금 안에서 내용 파일 저장, 사용량 할당과 행 저장을 한 트랜잭션으로 커밋
+ *   할당이 실패하면 (한도 초과) 새로 저장한 내용 파일을 지운다
+ * - 삭제: 행 삭제와 사용량 반환을 커밋한 뒤, 해시 잠금 안에서 남은 참조가 없을 때만 내용 파일을 지운다
+ *   참조 확인은 새 쓰기 트랜잭션으로 읽는다 (readOnly 조회는 복제본으로 가 방금 커밋된 행을 못 볼 수 있다)
+ */
+@Service
+@Slf4j
+public class AttachmentServiceImpl implements AttachmentService {
+
+    private static final int MAX_NAME_LENGTH = 255;
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final FileRepository fileRepository;
+    private final FileUsageRepository fileUsageRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final AttachmentStorage attachmentStorage;
+    private final AttachmentProperties properties;
+    private final Set<String> allowedExtensions;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate newTransaction;
+
+    public AttachmentServiceImpl(FileRepository fileRepository, FileUsageRepository fileUsageRepository,
+                                 PostRepository postRepository, UserRepository userRepository,
+                                 AttachmentStorage attachmentStorage, AttachmentProperties properties,
+                                 PlatformTransactionManager transactionManager) {
+        this.fileRepository = fileRepository;
+        this.fileUsageRepository = fileUsageRepository;
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.attachmentStorage = attachmentStorage;
+        this.properties = properties;
+        this.allowedExtensions = properties.getAllowedExtensions().stream()
+                .map(extension -> extension.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    private boolean isAdmin(Long userId) {
+        return userRepository.findById(userId)
+                .map(user -> user.getRole() == UserRole.ADMIN)
+                .orElse(false);
+    }
+
+    @Override
+    public Optional<FileDto> upload(Long postId, Long userId, String fileName, String contentType, InputStream body) {
+        Long ownerId = postRepository.findById(postId)
+                .orElseThrow(() -> new EntityNotFoundException("게시글이 존재하지 않습니다. id=" + postId))
+                .getUserId();
+        if (!ownerId.equals(userId)) {
+            log.info("UPLOAD DENIED: postId={}, requestUserId={}, ownerUserId={}", postId, userId, ownerId);
+            return Optional.empty();
+        }
+
+        String name = sanitizeName(fileName);
+        String extension = extension(name);
+        String type = contentType == null || contentType.isBlank() ? DEFAULT_CONTENT_TYPE : contentType;
+
+        long quota = properties.getUserQuota().toBytes();
+        long remaining = quota - usage(userId).getUsedBytes();
+        if (remaining <= 0) {
+            throw new IllegalStateException("첨부 파일 사용량 한도를 넘었습니다.");
+        }
+        long maxBytes = Math.min(properties.getMaxFileSize().toBytes(), remaining);
+
+        try (AttachmentStorage.Upload upload = attachmentStorage.receive(body, maxBytes)) {
+            FileEntity saved = attachmentStorage.withLock(upload.hash(), () -> {
+                boolean created = attachmentStorage.commit(upload);
+                try {
+                    return transaction.execute(status -> {
+                        // 받는 동안 삭제된 게시글
+                        if (!postRepository.existsById(postId)) {
+                            throw new EntityNotFoundException("게시글이 존재하지 않습니다. id=" + postId);
+                        }
+                        // 받는 동안 다른 업로드가 한도를 채웠을 수 있으므로 조건부로 할당
+                        if (fileUsageRepository.reserve(userId, upload.size(), quota) == 0) {
+                            throw new IllegalStateException("첨부 파일 사용량 한도를 넘었습니다.");
+                        }
+                        return fileRepository.save(FileEntity.builder()
+                                .postId(postId)
+                                .userId(userId)
+                                .originalName(name)
+                                .storedName(upload.hash())
+                                .extension(extension)
+                                .contentType(type)
+                                .fileSize(upload.size())
+                                .build());
+                    });
+                } catch (RuntimeException e) {
+                    if (created) {
+                        attachmentStorage.delete(upload.hash());
+                    }
+                    throw e;
+                }
+            });
+            log.info("UPLOAD: postId={}, userId={}, fileId={}, size={}, hash={}",
+                    postId, userId, saved.getId(), saved.getFileSize(), saved.getStoredName());
+            return Optional.of(FileDto.from(saved));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<FileDto> getList(Long postId) {
+        return fileRepository.findByPostIdOrderById(postId).stream()
+                .map(FileDto::from)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<FileDto> read(Long postId, Long fileId) {
+        return fileRepository.findById(fileId)
+                .filter(file -> file.getPostId().equals(postId))
+                .map(FileDto::from);
+    }
+
+    @Override
+    public Path path(FileDto fileDto) {
+        return attachmentStorage.path(fileDto.getStoredName());
+    }
+
+    @Override
+    @Transactional
+    public boolean delete(Long postId, Long fileId, Long userId) {
+        log.info("DELETE FILE: postId={}, fileId={}, userId={}", postId, fileId, userId);
+
+        return fileRepository.findById(fileId)
+                .filter(file -> file.getPostId().equals(postId))
+                .map(file -> {
+                    if (!file.getUserId().equals(userId) && !isAdmin(userId)) {
+                        log.info("DELETE FILE DENIED: fileId={}, requestUserId={}, ownerUserId={}",
+                                fileId, userId, file.getUserId());
+                        return false;
+                    }
+                    fileRepository.delete(file);
+                    fileUsageRepository.release(file.getUserId(), file.getFileSize());
+                    TransactionCallbacks.afterCommit(() -> removeIfUnreferenced(file.getStoredName()));
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    @Override
+    public void postDeleted(Long postId) {
+        List<FileEntity> files = fileRepository.findByPostIdOrderById(postId);
+        if (files.isEmpty()) {
+            return;
+        }
+        fileRepository.deleteAllInBatch(files);
+        for (FileEntity file : files) {
+            fileUsageRepository.release(file.getUserId(), file.getFileSize());
+        }
+        Set<String> hashes = files.stream().map(FileEntity::getStoredName).collect(Collectors.toSet());
+        TransactionCallbacks.afterCommit(() -> hashes.forEach(this::removeIfUnreferenced));
+    }
+
+    @Override
+    public FileUsageDto usage(Long userId) {
+        long quota = properties.getUserQuota().toBytes();
+        return fileUsageRepository.findById(userId)
+                .or(() -> {
+                    initializeUsage(userId);
+                    return fileUsageRepository.findById(userId);
+                })
+                .map(usage -> FileUsageDto.builder()
+                        .userId(userId)
+                        .usedBytes(usage.getUsedBytes())
+                        .filesCount(usage.getFilesCount())
+                        .quotaBytes(quota)
+                        .build())
+                .orElseGet(() -> FileUsageDto.builder().userId(userId).quotaBytes(quota).build());
+    }
+
+    private void initializeUsage(Long userId) {
+        try {
+            newTransaction.executeWithoutResult(status -> fileUsageRepository.initialize(userId));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 먼저 만듦
+            log.debug("File usage already initialized: userId={}", userId);
+        }
+    }
+
+    private void removeIfUnreferenced(String hash) {
+        attachmentStorage.withLock(hash, () -> {
+            Long references = newTransaction.execute(status -> fileRepository.countByStoredName(hash));
+            if (references != null && references == 0) {
+                attachmentStorage.delete(hash);
+            }
+            return null;
+        });
+    }
+
+    // 경로를 떼고 이름만 (브라우저에 따라 전체 경로가 올 수 있다)
+    private static String sanitizeName(String fileName) {
+        if (fileName == null) {
+            throw new IllegalArgumentException("파일 이름이 없습니다.");
+        }
+        String name = fileName.substring(Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\')) + 1).strip();
+        if (name.isEmpty() || name.length() > MAX_NAME_LENGTH || name.chars().anyMatch(Character::isISOControl)) {
+            throw new IllegalArgumentException("잘못된 파일 이름입니다.");
+        }
+        return name;
+    }
+
+    private String extension(String name) {
+        int dot = name.lastIndexOf('.');
+        String extension = dot < 0 ? "" : name.substring(dot + 1).toLowerCase(Locale.ROOT);
+        if (!allowedExtensions.contains(extension)) {
+            throw new IllegalArgumentException("올릴 수 없는 파일 형식입니다: " + extension);
+        }
+        return extension;
+    }
+}
@@ -39,7 +39,7 @@ public class BoardServiceImpl implements BoardService {
 
     @Override
     public Optional<BoardDto> read(@NotNull Long id) {
-        log.info("READ: id = {}", id);
+        log.debug("READ: id = {}", id);
 
         return boardRepository.findById(id).map(BoardDto::from);
     }
@@ -74,7 +74,7 @@ public class BoardServiceImpl implements BoardService {
 
     @Override
     public List<BoardDto> getList() {
-        log.info("GET LIST: All Boards");
+        log.debug("GET LIST: All Boards");
 
         return boardRepository.findAll().stream()
                 .map(BoardDto::from)
@@ -83,7 +83,7 @@ public class BoardServiceImpl implements BoardService {
 
     @Override
     public List<BoardDto> getNoticeBoardList() {
-        log.info("GET NOTICE BOARD LIST");
+        log.debug("GET NOTICE BOARD LIST");
 
         return boardRepository.findByCategory("NOTICE").stream()
                 .map(BoardDto::from)
@@ -98,7 +98,7 @@ public class BoardServiceImpl implements BoardService {
 
     @Override
     public List<BoardDto> getByIds(List<Long> ids) {
-        log.info("GET BY IDS: {}", ids);
+        log.debug("GET BY IDS: {}", ids);
 
         return boardRepository.findAllById(ids).stream()
                 .map(BoardDto::from)
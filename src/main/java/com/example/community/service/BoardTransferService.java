@@ -0,0 +1,20 @@
+package com.example.community.service;
+
+import com.example.community.transfer.TransferFormat;
+import com.example.community.transfer.TransferResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 게시판 단위 게시글/댓글 대량 가져오기, 내보내기 (관리자용)
+ */
+public interface BoardTransferService {
+
+    // 입력을 스트리밍으로 읽어 boardId 게시판에 게시글/댓글 추가
+    TransferResult importBoard(Long boardId, TransferFormat format, InputStream inputStream) throws IOException;
+
+    // boardId 게시판의 게시글 -> 댓글 순으로 출력 (가져오기와 같은 형식)
+    TransferResult exportBoard(Long boardId, TransferFormat format, OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,339 @@
+package com.example.community.service;
+
+import com.example.community.content.PostContentCodec;
+import com.example.community.persistence.BoardRepository;
+import com.example.community.persistence.IdSequenceMigration;
+import com.example.community.transfer.RecordReader;
+import com.example.community.transfer.RecordWriter;
+import com.example.community.transfer.TransferFormat;
+import com.example.community.transfer.TransferRecord;
+import com.example.community.transfer.TransferResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시판 대량 가져오기/내보내기
+ * - 가져오기 : 한 행씩 읽어 JdbcTemplate batch insert (영속성 컨텍스트를 거치지 않음)
+ *              id 는 엔티티와 같은 시퀀스에서 블록 단위로 받아 직접 채운다 (pooled-lo 와 같은 방식)
+ *              끝나면 게시판의 comments_count 를 실제 댓글 수로 다시 계산
+ * - 내보내기 : forward-only 커서 + fetch size 로 읽은 행을 바로 출력 (Page 로 모으지 않음)
+ * 본문은 엔티티와 같은 저장 형식 (PostContentCodec) 으로 쓰고, 내보낼 때는 풀어서 쓴다
+ * 메모리에 남는 것은 배치 버퍼와 원본 게시글 번호 -> 새 id, username -> user_id 매핑뿐
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BoardTransferServiceImpl implements BoardTransferService {
+
+    static final int BATCH_SIZE = 500;
+    static final int FETCH_SIZE = 500;
+    // 응답에 담는 오류 메시지 수
+    static final int MAX_ERRORS = 20;
+
+    private static final String INSERT_POST = "INSERT INTO posts (id, user_id, board_id, post_title, content, "
+            + "created_at, updated_at, view_count, comments_count, likes_count, post_type, fixed) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, 0, NULL, 0)";
+    private static final String INSERT_COMMENT = "INSERT INTO comments (id, user_id, post_id, r_content, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String RECOUNT_COMMENTS = "UPDATE posts SET comments_count = "
+            + "(SELECT COUNT(*) FROM comments c WHERE c.post_id = posts.id) WHERE board_id = ?";
+
+    private static final String SELECT_POSTS = "SELECT p.id, u.username, p.post_title, p.content, p.created_at, "
+            + "p.view_count FROM posts p JOIN users u ON u.user_id = p.user_id WHERE p.board_id = ? ORDER BY p.id";
+    private static final String SELECT_COMMENTS = "SELECT c.id, c.post_id, u.username, c.r_content, c.created_at "
+            + "FROM comments c JOIN posts p ON p.id = c.post_id JOIN users u ON u.user_id = c.user_id "
+            + "WHERE p.board_id = ? ORDER BY c.post_id, c.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BoardRepository boardRepository;
+    private final ObjectMapper objectMapper;
+    private final PostNeighborIndex postNeighborIndex;
+    private final UserStatsService userStatsService;
+    private final SearchSuggestService searchSuggestService;
+    private final PostSearchCache postSearchCache;
+    private final PostContentCodec postContentCodec;
+
+    @Override
+    @Transactional(rollbackFor = IOException.class)
+    public TransferResult importBoard(Long boardId, TransferFormat format, InputStream inputStream) throws IOException {
+        checkBoard(boardId);
+        long start = System.nanoTime();
+
+        ImportSession session = new ImportSession(boardId);
+        try (RecordReader reader = format.reader(inputStream, objectMapper)) {
+            while (true) {
+                TransferRecord record;
+                try {
+                    record = reader.next();
+                    if (record == null) {
+                        break;
+                    }
+                    session.add(record);
+                } catch (IllegalArgumentException e) {
+                    session.skip(reader.lineNumber(), e.getMessage());
+                }
+            }
+        }
+        session.flush();
+        jdbcTemplate.update(RECOUNT_COMMENTS, boardId);
+        // JDBC 로 넣은 게시글은 커밋 후 이전/다음 색인을 다시 적재
+        postNeighborIndex.invalidate(boardId);
+        // 글/댓글을 넣은 사용자의 집계를 다시 계산
+        userStatsService.boardImported(boardId);
+        // 자동완성 제목 색인도 다시 적재
+        searchSuggestService.invalidate();
+        // 검색 결과 캐시도 비운다
+        postSearchCache.invalidateAll();
+
+        TransferResult result = session.result(Duration.ofNanos(System.nanoTime() - start));
+        log.info("Imported board {} - posts: {}, comments: {}, skipped: {}, {} rows/s",
+                boardId, result.posts(), result.comments(), result.skipped(), Math.round(result.rowsPerSecond()));
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TransferResult exportBoard(Long boardId, TransferFormat format, OutputStream outputStream) throws IOException {
+        checkBoard(boardId);
+        long start = System.nanoTime();
+
+        RecordWriter writer = format.writer(outputStream, objectMapper);
+        long posts;
+        long comments;
+        try {
+            posts = stream(SELECT_POSTS, boardId, rs -> write(writer, TransferRecord.post(
+                    rs.getLong("id"),
+                    rs.getString("username"),
+                    rs.getString("post_title"),
+                    postContentCodec.decode(rs.getString("content")),
+                    toDateTime(rs.getTimestamp("created_at")),
+                    rs.getInt("view_count"))));
+            comments = stream(SELECT_COMMENTS, boardId, rs -> write(writer, TransferRecord.comment(
+                    rs.getLong("id"),
+                    rs.getLong("post_id"),
+                    rs.getString("username"),
+                    rs.getString("r_content"),
+                    toDateTime(rs.getTimestamp("created_at")))));
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 끊김 등
+            throw e.getCause();
+        }
+        writer.flush();
+
+        TransferResult result = new TransferResult(posts, comments, 0, List.of(),
+                Duration.ofNanos(System.nanoTime() - start));
+        log.info("Exported board {} - posts: {}, comments: {}, {} rows/s",
+                boardId, posts, comments, Math.round(result.rowsPerSecond()));
+        return result;
+    }
+
+    private void checkBoard(Long boardId) {
+        if (boardId == null || !boardRepository.existsById(boardId)) {
+            throw new IllegalArgumentException("게시판을 찾을 수 없습니다.");
+        }
+    }
+
+    /**
+     * forward-only / read-only 커서로 한 행씩 처리하고 처리한 행 수를 반환
+     * (MySQL 드라이버는 useCursorFetch=true 여야 fetch size 대로 나눠 받는다)
+     */
+    private long stream(String sql, Long boardId, RowCallbackHandler handler) {
+        long[] rows = new long[1];
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            statement.setLong(1, boardId);
+            return statement;
+        }, rs -> {
+            handler.processRow(rs);
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    private static void write(RecordWriter writer, TransferRecord record) {
+        try {
+            writer.write(record);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static LocalDateTime toDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    /**
+     * 한 번의 가져오기 상태 (배치 버퍼, id 블록, 매핑)
+     */
+    private final class ImportSession {
+
+        private final Long boardId;
+        private final IdBlock postIds = new IdBlock("posts_seq");
+        private final IdBlock commentIds = new IdBlock("comments_seq");
+        // 원본 게시글 번호 -> 새 게시글 id
+        private final Map<Long, Long> postIdBySource = new HashMap<>();
+        // username -> user_id (없는 사용자는 null)
+        private final Map<String, Long> userIdByUsername = new HashMap<>();
+
+        private final List<Object[]> postBatch = new ArrayList<>(BATCH_SIZE);
+        private final List<Object[]> commentBatch = new ArrayList<>(BATCH_SIZE);
+        private final List<String> errors = new ArrayList<>();
+
+        private long posts;
+        private long comments;
+        private long skipped;
+
+        ImportSession(Long boardId) {
+            this.boardId = boardId;
+        }
+
+        void add(TransferRecord record) {
+            if (TransferRecord.POST.equals(record.type())) {
+                addPost(record);
+            } else if (TransferRecord.COMMENT.equals(record.type())) {
+                addComment(record);
+            } else {
+                throw new IllegalArgumentException("Unknown type: " + record.type());
+            }
+        }
+
+        private void addPost(TransferRecord record) {
+            require(record.title(), 100, "title");
+            require(record.content(), Integer.MAX_VALUE, "content");
+            if (record.sourceId() != null && postIdBySource.containsKey(record.sourceId())) {
+                throw new IllegalArgumentException("Duplicate post sourceId: " + record.sourceId());
+            }
+            Long userId = userId(record.username());
+
+            long id = postIds.next();
+            if (record.sourceId() != null) {
+                postIdBySource.put(record.sourceId(), id);
+            }
+            Timestamp createdAt = timestamp(record.createdAt());
+            postBatch.add(new Object[]{id, userId, boardId, record.title(),
+                    postContentCodec.encode(record.content()), createdAt, createdAt,
+                    record.viewCount() == null ? 0 : Math.max(0, record.viewCount())});
+            posts++;
+            if (postBatch.size() >= BATCH_SIZE) {
+                flushPosts();
+            }
+        }
+
+        private void addComment(TransferRecord record) {
+            require(record.content(), 200, "content");
+            Long postId = record.postSourceId() == null ? null : postIdBySource.get(record.postSourceId());
+            if (postId == null) {
+                throw new IllegalArgumentException("Unknown postSourceId: " + record.postSourceId());
+            }
+            Long userId = userId(record.username());
+
+            Timestamp createdAt = timestamp(record.createdAt());
+            commentBatch.add(new Object[]{commentIds.next(), userId, postId, record.content(), createdAt, createdAt});
+            comments++;
+            if (commentBatch.size() >= BATCH_SIZE) {
+                flushComments();
+            }
+        }
+
+        void skip(long lineNumber, String message) {
+            skipped++;
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(lineNumber + ": " + message);
+            }
+        }
+
+        void flush() {
+            flushPosts();
+            flushComments();
+        }
+
+        // 댓글이 참조하는 게시글이 먼저 들어가도록 게시글 버퍼를 항상 먼저 비운다
+        private void flushComments() {
+            flushPosts();
+            if (!commentBatch.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_COMMENT, commentBatch);
+                commentBatch.clear();
+            }
+        }
+
+        private void flushPosts() {
+            if (!postBatch.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_POST, postBatch);
+                postBatch.clear();
+            }
+        }
+
+        private Long userId(String username) {
+            if (username == null || username.isBlank()) {
+                throw new IllegalArgumentException("username is required");
+            }
+            Long userId = userIdByUsername.computeIfAbsent(username, name -> jdbcTemplate
+                    .queryForList("SELECT user_id FROM users WHERE username = ?", Long.class, name)
+                    .stream().findFirst().orElse(null));
+            if (userId == null) {
+                throw new IllegalArgumentException("Unknown username: " + username);
+            }
+            return userId;
+        }
+
+        TransferResult result(Duration elapsed) {
+            return new TransferResult(posts, comments, skipped, List.copyOf(errors), elapsed);
+        }
+    }
+
+    /**
+     * 시퀀스 값 하나로 ALLOCATION_SIZE 개의 id 를 쓴다 (엔티티의 pooled-lo 와 같은 규칙이라 서로 겹치지 않음)
+     */
+    private final class IdBlock {
+
+        private final String sequence;
+        private long next;
+        private long limit;
+
+        IdBlock(String sequence) {
+            this.sequence = sequence;
+        }
+
+        long next() {
+            if (next == limit) {
+                next = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + sequence, Long.class);
+                limit = next + IdSequenceMigration.ALLOCATION_SIZE;
+            }
+            return next++;
+        }
+    }
+
+    private static void require(String value, int maxLength, String name) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(name + " is required");
+        }
+        if (value.length() > maxLength) {
+            throw new IllegalArgumentException(name + " is longer than " + maxLength);
+        }
+    }
+
+    private static Timestamp timestamp(LocalDateTime dateTime) {
+        return Timestamp.valueOf(dateTime == null ? LocalDateTime.now() : dateTime);
+    }
+}
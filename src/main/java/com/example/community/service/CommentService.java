@@ -2,6 +2,7 @@ package com.example.community.service;
 
 
 import com.example.community.domain.comment.CommentDto;
+import com.example.community.domain.comment.CommentScrollDto;
 import com.example.community.domain.post.PostDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,15 +22,13 @@ public interface CommentService {
     // 게시물 별 댓글 목록
     List<CommentDto> getList(Long postId);
 
-    // 전체 댓글 조회용
-    Page<CommentDto> getAllComments(Pageable pageable);
-
     /**
-     * 마이페이지 최신 댓글 10개 조회
-     * @param userId 작성자(로그인 사용자) ID
-     * @return 최신 댓글 10개 목록
+     * 관리자 전체 댓글 목록 (키셋 페이징)
+     * @param cursor 이전 화면의 nextCursor, 첫 화면이면 null
+     * @param size 화면당 개수
+     * @return 댓글 목록과 다음 화면 커서
      */
-    List<CommentDto> findTop10ByUserId(Long userId);
+    CommentScrollDto getAllComments(Long cursor, int size);
 
     /**
      * 내가 작성한 댓글 목록 조회
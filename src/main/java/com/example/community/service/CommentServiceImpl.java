@@ -2,6 +2,7 @@ package com.example.community.service;
 
 import com.example.community.domain.comment.CommentDto;
 import com.example.community.domain.comment.CommentEntity;
+import com.example.community.domain.comment.CommentScrollDto;
 import com.example.community.domain.post.PostDto;
 import com.example.community.domain.post.PostEntity;
 import com.example.community.domain.user.UserEntity;
@@ -13,7 +14,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +29,8 @@ public class CommentServiceImpl implements CommentService {
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
+    private final UserStatsService userStatsService;
+    private final PostSearchCache postSearchCache;
 
     // 본인 확인
     private boolean isOwner(CommentEntity commentEntity, Long userId) {
@@ -66,26 +68,40 @@ public class CommentServiceImpl implements CommentService {
     }
 
     // 댓글 생성
+    // 게시글을 읽지 않고 댓글 수를 UPDATE 로 올린 뒤 댓글 저장 (한 트랜잭션)
+    // 갱신한 게시글 행은 커밋까지 잠기므로 같은 게시글에 동시에 써도 증가분이 빠지지 않는다
     @Override
+    @Transactional
     public Optional<CommentDto> create(CommentDto commentDto, Long userId) {
         if (userId == null) return Optional.empty();
 
-
-        return postRepository.findById(commentDto.getPostId())
-                .map(postEntity -> {
-                    CommentEntity saved = commentRepository.save(
-                            CommentEntity.builder()
-                                    .userId(userId)
-                                    .postEntity(postEntity)
-                                    .content(commentDto.getContent())
-                                    .build()
-                    );
-
-                    postEntity.increaseCommentsCount();
-                    postRepository.save(postEntity);
-
-                    return convertToDto(saved);
-                });
+        Long postId = commentDto.getPostId();
+        if (postRepository.increaseCommentsCount(postId) == 0) {
+            // 게시글 없음
+            return Optional.empty();
+        }
+
+        userStatsService.commentCreated(userId);
+
+        CommentEntity saved = commentRepository.saveAndFlush(
+                CommentEntity.builder()
+                        .userId(userId)
+                        .postEntity(postRepository.getReferenceById(postId))
+                        .content(commentDto.getContent())
+                        .build()
+        );
+        postSearchCache.commentsChanged();
+
+        // 게시글 프록시를 초기화하지 않도록 게시글 정보(제목, 게시판, 댓글 수)는 채우지 않는다
+        return Optional.of(CommentDto.builder()
+                .id(saved.getId())
+                .userId(userId)
+                .postId(postId)
+                .content(saved.getContent())
+                .writer(getNickname(userId))
+                .createdAt(saved.getCreatedAt())
+                .updatedAt(saved.getUpdatedAt())
+                .build());
     }
 
     // 댓글 수정 - @Transactional 추가!
@@ -107,12 +123,14 @@ public class CommentServiceImpl implements CommentService {
                 .map(comment -> {
                     comment.updateContent(commentDto.getContent());
                     CommentEntity saved = commentRepository.save(comment);
+                    postSearchCache.commentsChanged();
                     log.info("댓글 수정 완료: id={}", saved.getId());
                     return convertToDto(saved);
                 });
     }
 
     // 댓글 삭제 - @Transactional 추가!
+    // 댓글 수는 게시글을 다시 읽지 않고 UPDATE 로 감소
     @Override
     @Transactional
     public boolean delete(Long id, Long userId) {
@@ -121,13 +139,12 @@ public class CommentServiceImpl implements CommentService {
         return commentRepository.findById(id)
                 .filter(comment -> isOwner(comment, userId) || isAdmin(userId))
                 .map(comment -> {
-                    // 댓글 수 감소 추가
-                    postRepository.findById(comment.getPostEntity().getId())
-                            .ifPresent(post -> {
-                                post.decreaseCommentsCount();
-                                postRepository.save(post);
-                            });
+                    // 지연 로딩 프록시의 id 는 조회 없이 얻는다
+                    Long postId = comment.getPostEntity().getId();
+                    userStatsService.commentDeleted(comment.getUserId());
                     commentRepository.delete(comment);
+                    postRepository.decreaseCommentsCount(postId);
+                    postSearchCache.commentsChanged();
                     log.info("댓글 삭제 완료: id={}", id);
                     return true;
                 })
@@ -145,42 +162,41 @@ public class CommentServiceImpl implements CommentService {
     @Override
     @Transactional(readOnly = true)
     public List<CommentDto> getList(Long postId) {
-        log.info("댓글 목록 조회: postId={}", postId);
+        log.debug("댓글 목록 조회: postId={}", postId);
         // 정렬 메서드 추가했으면 그걸로 바꿔도 됨
         return commentRepository.findByPostEntityId(postId).stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
     }
 
-    // 전제 댓글 조회
+    // 전체 댓글 조회 (관리자)
+    // 한 건 더 읽어 다음 화면이 있는지 판단, 커서는 마지막 댓글 id
     @Override
     @Transactional(readOnly = true)
-    public Page<CommentDto> getAllComments(Pageable pageable) {
-        return commentRepository.findAll(pageable)
-                .map(this::convertToDto);
+    public CommentScrollDto getAllComments(Long cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<CommentDto> rows = cursor == null
+                ? commentRepository.findLatestRows(limit)
+                : commentRepository.findRowsBefore(cursor, limit);
+
+        boolean hasNext = rows.size() > size;
+        List<CommentDto> content = hasNext ? rows.subList(0, size) : rows;
+
+        return CommentScrollDto.builder()
+                .content(content)
+                .nextCursor(hasNext ? content.get(content.size() - 1).getId() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     // 내댓글 목록 조회
+    // 원글/게시판/작성자를 한 쿼리로 조인한 행을 바로 받는다
     @Transactional(readOnly = true)
     @Override
     public Page<CommentDto> getMyComments(Long userId, Pageable pageable) {
-        log.info("내 댓글 조회: userId={}, page={}, size={}",
+        log.debug("내 댓글 조회: userId={}, page={}, size={}",
                 userId, pageable.getPageNumber(), pageable.getPageSize());
 
-        return commentRepository.findByUserId(userId, pageable)
-                .map(CommentDto::from);
-    }
-
-    // 마이페이지 댓글 최신 10개
-    @Transactional(readOnly = true)
-    @Override
-    public List<CommentDto> findTop10ByUserId(Long userId) {
-
-        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
-
-        return commentRepository.findByUserId(userId, pageable)
-                .stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return commentRepository.findRowsByUserId(userId, pageable);
     }
-}
\ No newline at end of file
+}
@@ -19,6 +19,7 @@ public class MessageServiceImpl implements MessageService {
 
     private final MessageRepository messageRepository;
     private final UserRepository userRepository;
+    private final UserStatsService userStatsService;
 
     /**
      * 쪽지 발송
@@ -48,6 +49,7 @@ public class MessageServiceImpl implements MessageService {
                 .content(messageDto.getContent())
                 .build();
 
+        userStatsService.messageReceived(receiver.getId());
         messageRepository.save(message);
     }
 
@@ -145,6 +147,10 @@ public class MessageServiceImpl implements MessageService {
         if ("sent".equals(userType)) {
             message.updateSenderDeleteState(2);
         } else {
+            // 받은 쪽지 수는 수신자가 처음 영구 삭제할 때 한 번만 뺀다
+            if (message.getReceiverDeleteState() != 2) {
+                userStatsService.messageRemoved(message.getReceiver().getId());
+            }
             message.updateReceiverDeleteState(2);
         }
 
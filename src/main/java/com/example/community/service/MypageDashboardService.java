@@ -0,0 +1,15 @@
+package com.example.community.service;
+
+import com.example.community.domain.user.MypageDashboardDto;
+
+public interface MypageDashboardService {
+
+    /**
+     * 마이페이지 첫 화면 조회
+     * - 최근 게시글(게시판 제목 포함), 최근 댓글(원글 제목 포함), 활동 집계
+     * @param userId 사용자 ID
+     * @param limit 최근 목록 개수
+     * @return 마이페이지 데이터
+     */
+    MypageDashboardDto getDashboard(Long userId, int limit);
+}
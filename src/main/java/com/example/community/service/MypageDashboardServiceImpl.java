@@ -0,0 +1,53 @@
+package com.example.community.service;
+
+import com.example.community.domain.comment.CommentDto;
+import com.example.community.domain.post.PostSummaryDto;
+import com.example.community.domain.user.MypageDashboardDto;
+import com.example.community.persistence.CommentRepository;
+import com.example.community.persistence.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 마이페이지 첫 화면 조회
+ * - 최근 게시글 : 본문 없이 게시판 제목, 작성자까지 한 번에 (PostSummaryDto)
+ * - 최근 댓글   : 원글 제목/게시판만 조인한 목록 행 (CommentRepository.COMMENT_ROW, 원글 본문은 읽지 않는다)
+ * - 개수        : 페이지/카운트 쿼리 대신 user_stats 한 행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MypageDashboardServiceImpl implements MypageDashboardService {
+
+    private static final String UNKNOWN_BOARD = "알 수 없음";
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final UserStatsService userStatsService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public MypageDashboardDto getDashboard(Long userId, int limit) {
+        log.debug("마이페이지 대시보드 조회: userId={}, limit={}", userId, limit);
+
+        List<PostSummaryDto> recentPosts = postRepository.findRecentSummaries(userId, PageRequest.of(0, limit));
+        recentPosts.stream()
+                .filter(post -> post.getBoardTitle() == null)
+                .forEach(post -> post.setBoardTitle(UNKNOWN_BOARD));
+
+        List<CommentDto> recentComments = commentRepository.findRowsByUserId(userId,
+                PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "id"))).getContent();
+
+        return MypageDashboardDto.builder()
+                .recentPosts(recentPosts)
+                .recentComments(recentComments)
+                .stats(userStatsService.get(userId))
+                .build();
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.community.service;
+
+import com.example.community.config.ContentCompressionProperties;
+import com.example.community.content.PostContentCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기존 게시글 본문을 현재 압축 설정 (community.content-compression) 으로 다시 저장하는 작업 (관리자 API 로 실행)
+ * - id 순으로 batchSize 건씩 읽어 다시 인코딩하고, 저장 값이 달라진 행만 UPDATE
+ *   threshold 를 넘는 원문은 압축되고, enabled=false 로 실행하면 압축된 본문이 원문으로 돌아간다
+ * - 배치마다 따로 커밋하므로 중간에 멈춰도 다시 실행하면 남은 행만 바뀐다
+ * - 읽은 뒤 수정된 글 (updated_at 이 바뀐 글) 은 덮어쓰지 않고, 본문 내용은 같으므로 updated_at 도 그대로 둔다
+ * 검색 결과 / 자동완성 색인은 본문 내용이 같아 무효화하지 않는다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostContentMigration {
+
+    private static final String SELECT_BATCH = "SELECT id, content, updated_at FROM posts WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String UPDATE_CONTENT = "UPDATE posts SET content = ? WHERE id = ? AND updated_at = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostContentCodec postContentCodec;
+    private final ContentCompressionProperties properties;
+
+    public Result migrate() {
+        long start = System.nanoTime();
+        int batchSize = properties.getMigrationBatchSize();
+        Counts counts = new Counts();
+
+        long lastId = 0;
+        while (true) {
+            List<Row> rows = jdbcTemplate.query(SELECT_BATCH, (rs, rowNum) -> new Row(
+                    rs.getLong("id"), rs.getString("content"), rs.getTimestamp("updated_at")), lastId, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            lastId = rows.get(rows.size() - 1).id();
+            migrate(rows, counts);
+            if (rows.size() < batchSize) {
+                break;
+            }
+        }
+
+        Result result = counts.result(Duration.ofNanos(System.nanoTime() - start));
+        log.info("Post content migration - scanned: {}, compressed: {}, decompressed: {}, conflicts: {}, "
+                        + "bytes: {} -> {} ({} ms)", result.scanned(), result.compressed(), result.decompressed(),
+                result.conflicts(), result.bytesBefore(), result.bytesAfter(), result.elapsed().toMillis());
+        return result;
+    }
+
+    private void migrate(List<Row> rows, Counts counts) {
+        List<Change> changes = new ArrayList<>();
+        for (Row row : rows) {
+            counts.scanned++;
+            String stored = row.content();
+            long before = storedBytes(stored);
+            counts.bytesBefore += before;
+
+            String encoded = unchanged(stored) ? stored : postContentCodec.encode(postContentCodec.decode(stored));
+            if (encoded.equals(stored)) {
+                counts.bytesAfter += before;
+            } else {
+                changes.add(new Change(row.id(), encoded, row.updatedAt(), before));
+            }
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_CONTENT, changes.stream()
+                .map(change -> new Object[]{change.content(), change.id(), change.updatedAt()})
+                .toList());
+        for (int i = 0; i < updated.length; i++) {
+            Change change = changes.get(i);
+            if (updated[i] == 0) {
+                // 읽은 뒤 다른 요청이 수정한 글
+                counts.conflicts++;
+                counts.bytesAfter += change.before();
+                continue;
+            }
+            counts.bytesAfter += storedBytes(change.content());
+            if (PostContentCodec.isCompressed(change.content())) {
+                counts.compressed++;
+            } else {
+                counts.decompressed++;
+            }
+        }
+    }
+
+    // 헤더 없는 원문이 threshold 보다 짧으면 다시 인코딩해도 그대로 (압축 메트릭에 세지 않도록 건너뛴다)
+    private boolean unchanged(String stored) {
+        boolean plain = stored.isEmpty() || stored.charAt(0) != PostContentCodec.HEADER;
+        return plain && (!properties.isEnabled() || stored.length() < properties.getThreshold());
+    }
+
+    // 저장 크기 (Deflate 저장 값은 ASCII, 원문은 UTF-8)
+    private static long storedBytes(String value) {
+        return PostContentCodec.isCompressed(value) ? value.length() : value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private record Row(long id, String content, Timestamp updatedAt) {
+    }
+
+    private record Change(long id, String content, Timestamp updatedAt, long before) {
+    }
+
+    /**
+     * conflicts: 읽은 뒤 수정되어 건너뛴 행 (다시 실행하면 처리된다)
+     * bytesBefore/bytesAfter: 읽은 행 전체의 저장 크기 합 (건너뛴 행은 이전 크기)
+     */
+    public record Result(long scanned, long compressed, long decompressed, long conflicts,
+                         long bytesBefore, long bytesAfter, Duration elapsed) {
+    }
+
+    private static final class Counts {
+        long scanned;
+        long compressed;
+        long decompressed;
+        long conflicts;
+        long bytesBefore;
+        long bytesAfter;
+
+        Result result(Duration elapsed) {
+            return new Result(scanned, compressed, decompressed, conflicts, bytesBefore, bytesAfter, elapsed);
+        }
+    }
+}
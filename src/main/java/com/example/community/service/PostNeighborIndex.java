@@ -0,0 +1,177 @@
+package com.example.community.service;
+
+import com.example.community.config.PrimaryReads;
+import com.example.community.config.TransactionCallbacks;
+import com.example.community.persistence.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 게시판별 게시글 id 정렬 배열 (이전/다음 게시물 탐색용)
+ * - 게시판을 처음 조회할 때 id 만 읽어 long[] 로 적재, 이후 이진 탐색 O(log n)
+ * - 생성/삭제는 커밋 후 배열에 반영, JDBC 일괄 입력 등 그 밖의 변경은 invalidate 로 다시 적재
+ * - 게시글 1건당 8바이트 (제목은 링크에 필요한 두 건만 DB 에서 읽는다)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostNeighborIndex {
+
+    private final PostRepository postRepository;
+    private final PrimaryReads primaryReads;
+
+    private final ConcurrentMap<Long, BoardIds> boards = new ConcurrentHashMap<>();
+
+    /**
+     * 이전 게시물 id (현재보다 크고 가장 작은 id), 없으면 null
+     */
+    public Long previous(Long boardId, Long postId) {
+        return board(boardId).higher(postId);
+    }
+
+    /**
+     * 다음 게시물 id (현재보다 작고 가장 큰 id), 없으면 null
+     */
+    public Long next(Long boardId, Long postId) {
+        return board(boardId).lower(postId);
+    }
+
+    public void added(Long boardId, Long postId) {
+        TransactionCallbacks.afterCommit(() -> {
+            BoardIds ids = boards.get(boardId);
+            if (ids != null) {
+                ids.add(postId);
+            }
+        });
+    }
+
+    public void removed(Long boardId, Long postId) {
+        TransactionCallbacks.afterCommit(() -> {
+            BoardIds ids = boards.get(boardId);
+            if (ids != null) {
+                ids.remove(postId);
+            }
+        });
+    }
+
+    /**
+     * 다음 조회 때 게시판 id 를 다시 적재
+     */
+    public void invalidate(Long boardId) {
+        TransactionCallbacks.afterCommit(() -> boards.remove(boardId));
+    }
+
+    private BoardIds board(Long boardId) {
+        BoardIds ids = boards.computeIfAbsent(boardId, id -> new BoardIds());
+        // 조회는 readOnly 트랜잭션이라 replica 로 갈 수 있으므로 적재는 primary 에서 (PrimaryReads)
+        ids.loadIfNeeded(() -> primaryReads.read(() -> postRepository.findIdsByBoardId(boardId)));
+        return ids;
+    }
+
+    /**
+     * 오름차순 id 배열
+     * 적재는 쓰기 락 안에서 하므로 적재 중에 커밋된 생성/삭제는 적재가 끝난 뒤 반영된다
+     * (적재 전에 온 변경은 버리고, 적재 쿼리가 이미 커밋된 값을 읽는다)
+     */
+    static final class BoardIds {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private volatile boolean loaded;
+        private long[] ids = new long[0];
+        private int size;
+
+        void loadIfNeeded(Supplier<List<Long>> loader) {
+            if (loaded) {
+                return;
+            }
+            lock.writeLock().lock();
+            try {
+                if (loaded) {
+                    return;
+                }
+                List<Long> values = loader.get();
+                long[] sorted = new long[Math.max(16, values.size() + values.size() / 4)];
+                for (int i = 0; i < values.size(); i++) {
+                    sorted[i] = values.get(i);
+                }
+                ids = sorted;
+                size = values.size();
+                loaded = true;
+                log.debug("Post neighbor index loaded: {} ids", size);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        Long higher(long id) {
+            lock.readLock().lock();
+            try {
+                int index = Arrays.binarySearch(ids, 0, size, id);
+                int higher = index >= 0 ? index + 1 : -index - 1;
+                return higher < size ? ids[higher] : null;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        Long lower(long id) {
+            lock.readLock().lock();
+            try {
+                int index = Arrays.binarySearch(ids, 0, size, id);
+                int lower = index >= 0 ? index - 1 : -index - 2;
+                return lower >= 0 ? ids[lower] : null;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        void add(long id) {
+            lock.writeLock().lock();
+            try {
+                if (!loaded) {
+                    return;
+                }
+                int index = Arrays.binarySearch(ids, 0, size, id);
+                if (index >= 0) {
+                    return;
+                }
+                int insertAt = -index - 1;
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, size + size / 2 + 1);
+                }
+                // 새 글은 대부분 가장 큰 id 라 끝에 붙는다
+                System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+                ids[insertAt] = id;
+                size++;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(long id) {
+            lock.writeLock().lock();
+            try {
+                if (!loaded) {
+                    return;
+                }
+                int index = Arrays.binarySearch(ids, 0, size, id);
+                if (index < 0) {
+                    return;
+                }
+                System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+                size--;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.community.service;
+
+import com.example.community.config.PrimaryReads;
+import com.example.community.config.SearchCacheProperties;
+import com.example.community.domain.post.PostEntity;
+import com.example.community.domain.post.PostSearchType;
+import com.example.community.domain.post.PostSummaryDto;
+import com.example.community.persistence.PostRepository;
+import com.example.community.search.SearchResultCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 검색 (앞쪽 페이지는 SearchResultCache 의 결과 id 로 읽는다)
+ * - 캐시 범위(cachedRows) 안의 페이지는 목록/개수 쿼리 없이 해당 페이지 id 만 PK 로 읽는다
+ * - 처음 찾는 검색어는 cachedRows 건의 id 만 한 번에 읽어 (게시글 행은 읽지 않는다) 전체 건수와 함께 저장한다
+ * - 게시글/댓글 변경은 바로 한 번, 트랜잭션이 끝난 뒤 한 번 더 무효화한다
+ *   (커밋 전에 다른 요청이 옛 결과를 다시 저장하는 경우까지 지운다)
+ *   변경한 트랜잭션 안의 검색은 캐시를 거치지 않는다 (커밋 전 결과가 다른 요청에 보이지 않도록)
+ * - 캐시에 저장할 결과는 primary 에서 읽는다 (PrimaryReads)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostSearchCache {
+
+    // 게시글 제목/내용/작성자가 바뀌면 영향받는 검색
+    private static final Set<PostSearchType> POST_TYPES = EnumSet.of(
+            PostSearchType.TITLE, PostSearchType.CONTENT, PostSearchType.WRITER, PostSearchType.TITLE_CONTENT);
+    // 댓글이 바뀌면 영향받는 검색
+    private static final Set<PostSearchType> COMMENT_TYPES = EnumSet.of(
+            PostSearchType.COMMENT_CONTENT, PostSearchType.COMMENT_WRITER);
+
+    // 현재 트랜잭션에서 검색 대상을 바꿨는지 표시하는 리소스 키
+    private static final Object WRITES_PENDING = new Object();
+
+    private final PostRepository postRepository;
+    private final SearchResultCache searchResultCache;
+    private final SearchCacheProperties properties;
+    private final PrimaryReads primaryReads;
+
+    /**
+     * @param boardId 게시판 내 검색이면 게시판 id, 전체 검색이면 null
+     */
+    public Page<PostEntity> search(Long boardId, PostSearchType searchType, String keyword, Pageable pageable) {
+        String normalized = keyword.strip();
+        return search(boardId, searchType, normalized, pageable,
+                page -> boardId == null
+                        ? postRepository.search(searchType, normalized, page)
+                        : postRepository.searchInBoard(boardId, searchType, normalized, page),
+                postRepository::findAllById, PostEntity::getId);
+    }
+
+    /**
+     * 게시판 내 검색 목록 (작성자 닉네임까지 한 쿼리로, 결과 id 는 search 와 같은 캐시를 쓴다)
+     */
+    public Page<PostSummaryDto> searchSummariesInBoard(Long boardId, PostSearchType searchType, String keyword,
+                                                       Pageable pageable) {
+        String normalized = keyword.strip();
+        return search(boardId, searchType, normalized, pageable,
+                page -> postRepository.searchSummariesInBoard(boardId, searchType, normalized, page),
+                postRepository::findSummariesByIds, PostSummaryDto::getId);
+    }
+
+    /**
+     * @param query 캐시를 거치지 않을 때의 검색 쿼리
+     * @param byIds 캐시한 결과 id 로 읽기
+     */
+    private <T> Page<T> search(Long boardId, PostSearchType searchType, String keyword, Pageable pageable,
+                               Function<Pageable, Page<T>> query, Function<List<Long>, List<T>> byIds,
+                               Function<T, Long> idOf) {
+        if (!properties.isEnabled() || pageable.isUnpaged()
+                || pageable.getOffset() + pageable.getPageSize() > properties.getCachedRows()
+                || TransactionSynchronizationManager.hasResource(WRITES_PENDING)) {
+            return query.apply(pageable);
+        }
+
+        SearchResultCache.Key key = new SearchResultCache.Key(searchType, keyword, boardId,
+                pageable.getSort().toString());
+        // 저장한 결과는 다른 요청도 쓰므로 replica 가 아닌 primary 에서 읽는다 (지연된 옛 결과가 TTL 동안 남지 않도록)
+        SearchResultCache.Result result = searchResultCache.get(key,
+                () -> primaryReads.read(() -> load(boardId, searchType, keyword, pageable.getSort())));
+
+        int from = (int) Math.min(pageable.getOffset(), result.ids().length);
+        int to = Math.min(from + pageable.getPageSize(), result.ids().length);
+        List<Long> ids = Arrays.stream(result.ids(), from, to).boxed().toList();
+        Map<Long, T> rows = byIds.apply(ids).stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+        // 캐시한 순서대로, 그 사이 지워진 글은 빠진다
+        List<T> content = ids.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, result.total());
+    }
+
+    // 게시글 작성/수정
+    public void postSaved(Long boardId) {
+        invalidate(() -> searchResultCache.invalidate(boardId, POST_TYPES));
+    }
+
+    // 게시글 삭제 (달린 댓글도 함께 지워지므로 모든 검색 타입)
+    public void postDeleted(Long boardId) {
+        invalidate(() -> searchResultCache.invalidate(boardId, EnumSet.allOf(PostSearchType.class)));
+    }
+
+    // 댓글 작성/수정/삭제 (게시판을 모르므로 모든 게시판)
+    public void commentsChanged() {
+        invalidate(() -> searchResultCache.invalidate(null, COMMENT_TYPES));
+    }
+
+    // 일괄 입력 등
+    public void invalidateAll() {
+        invalidate(searchResultCache::invalidateAll);
+    }
+
+    // 결과 id 와 전체 건수만 읽는다 (게시글 행은 해당 페이지만 byIds 로)
+    private SearchResultCache.Result load(Long boardId, PostSearchType searchType, String keyword, Sort sort) {
+        long start = System.nanoTime();
+        Page<Long> page = postRepository.searchIds(boardId, searchType, keyword,
+                PageRequest.of(0, properties.getCachedRows(), sort));
+        long[] ids = page.getContent().stream().mapToLong(Long::longValue).toArray();
+        long elapsed = System.nanoTime() - start;
+        log.debug("SEARCH CACHE LOAD: type={}, keyword={}, boardId={}, total={}, {} ms",
+                searchType, keyword, boardId, page.getTotalElements(), elapsed / 1_000_000);
+        return new SearchResultCache.Result(ids, page.getTotalElements(), elapsed);
+    }
+
+    private static void invalidate(Runnable action) {
+        action.run();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.hasResource(WRITES_PENDING)) {
+            TransactionSynchronizationManager.bindResource(WRITES_PENDING, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(WRITES_PENDING);
+                }
+            });
+        }
+        // 커밋/롤백 모두 (그 사이 다른 요청이 저장한 결과를 지운다)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.community.service;
 
 import com.example.community.domain.post.PostDto;
+import com.example.community.domain.post.PostNeighborDto;
+import com.example.community.domain.post.PostSearchHitDto;
+import com.example.community.domain.post.PostSummaryDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -42,45 +44,47 @@ public interface PostService {
      */
     boolean delete(Long id, Long userId);
 
+    // 아래 목록 조회는 본문 없이 PostSummaryDto 로 읽는다 (본문은 read 만)
+
     /**
      * 게시판별로 게시글 목록 조회
      * @param boardId 게시판 ID
      * @param pageable 페이징 정보
      * @return 게시글 페이지
      */
-    Page<PostDto> getList(Long boardId, Pageable pageable);
+    Page<PostSummaryDto> getList(Long boardId, Pageable pageable);
 
     /**
      * 전체 게시글 목록 조회
      * @param pageable 페이징 정보
      * @return 게시글 페이지
      */
-    Page<PostDto> getAllPosts(Pageable pageable);
+    Page<PostSummaryDto> getAllPosts(Pageable pageable);
+
+    /**
+     * 메인 피드 조회 (공지 게시판 글 제외)
+     * @param pageable 페이징 정보
+     * @return 게시글 페이지
+     */
+    Page<PostSummaryDto> getMainFeed(Pageable pageable);
 
     /**
      * 게시글 검색
      * @param searchType 검색 타입 (title, content, writer, titleContent)
      * @param keyword 검색 키워드
      * @param pageable 페이징 정보
-     * @return 검색 결과 페이지
+     * @return 검색 결과 페이지 (본문 대신 요약문)
      */
-    Page<PostDto> searchPosts(String searchType, String keyword, Pageable pageable);
+    Page<PostSearchHitDto> searchPosts(String searchType, String keyword, Pageable pageable);
 
     /**
      * 인기 게시글 조회 (조회수 TOP N)
      * @param pageable 페이징 정보
      * @return 인기 게시글 페이지
      */
-    Page<PostDto> getPopularPosts(Pageable pageable);
-
-    Page<PostDto> searchPostsInBoard(Long boardId, String searchType, String keyword, Pageable pageable);
+    Page<PostSummaryDto> getPopularPosts(Pageable pageable);
 
-    /**
-     * 마이페이지 최신 게시글 10개 조회
-     * @param userId 작성자(로그인 사용자) ID
-     * @return 최신 게시글 10개 목록
-     */
-    List<PostDto> findTop10ByUserId(Long userId);
+    Page<PostSummaryDto> searchPostsInBoard(Long boardId, String searchType, String keyword, Pageable pageable);
 
     /**
      * 내가 작성한 게시글 목록 조회
@@ -88,7 +92,7 @@ public interface PostService {
      * @param pageable 페이징 정보
      * @return 게시글 페이지
      */
-    Page<PostDto> getMyPosts(Long userId, Pageable pageable);
+    Page<PostSummaryDto> getMyPosts(Long userId, Pageable pageable);
 
     /**
      * 이전 게시물 조회 (게시판별, 최신순)
@@ -96,7 +100,7 @@ public interface PostService {
      * @param currentPostId 현재 게시글 ID
      * @return 이전 게시글 (없으면 empty)
      */
-    Optional<PostDto> getPreviousPost(Long boardId, Long currentPostId);
+    Optional<PostNeighborDto> getPreviousPost(Long boardId, Long currentPostId);
 
     /**
      * 다음 게시물 조회 (게시판별, 최신순)
@@ -104,7 +108,7 @@ public interface PostService {
      * @param currentPostId 현재 게시글 ID
      * @return 다음 게시글 (없으면 empty)
      */
-    Optional<PostDto> getNextPost(Long boardId, Long currentPostId);
+    Optional<PostNeighborDto> getNextPost(Long boardId, Long currentPostId);
 
     // 좋아요 토글 (좋아요/취소)
     Map<String, Object> toggleLike(Long postId, Long userId);
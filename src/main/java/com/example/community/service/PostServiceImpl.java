@@ -3,14 +3,18 @@ package com.example.community.service;
 import com.example.community.domain.post.PostDto;
 import com.example.community.domain.post.PostEntity;
 import com.example.community.domain.post.PostLikeEntity;
+import com.example.community.domain.post.PostNeighborDto;
+import com.example.community.domain.post.PostSearchHitDto;
+import com.example.community.domain.post.PostSearchType;
+import com.example.community.domain.post.PostSummaryDto;
 import com.example.community.domain.user.UserEntity;
 import com.example.community.domain.user.UserRole;
 import com.example.community.persistence.PostLikeRepository;
 import com.example.community.persistence.PostRepository;
 import com.example.community.persistence.UserRepository;
+import com.example.community.search.SearchSnippet;
+import com.example.community.search.SnippetScanner;
 import jakarta.persistence.EntityNotFoundException;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,19 +23,30 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
-import java.util.List;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PostServiceImpl implements PostService {
 
+    // 메인 피드에서 제외하는 게시판 카테고리
+    private static final String NOTICE_CATEGORY = "NOTICE";
+
+    // 검색 결과 요약문: 첫 일치 앞 40자부터 120자, 일치가 없으면 앞 64K 글자까지만 찾는다
+    private static final SnippetScanner SNIPPET_SCANNER = new SnippetScanner(40, 120, 64 * 1024);
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final PostLikeRepository postLikeRepository;
+    private final PostNeighborIndex postNeighborIndex;
+    private final UserStatsService userStatsService;
+    private final SearchSuggestService searchSuggestService;
+    private final PostSearchCache postSearchCache;
+    private final AttachmentService attachmentService;
 
     private String getNickname(Long userId) {
         return userRepository.findById(userId)
@@ -50,8 +65,11 @@ public class PostServiceImpl implements PostService {
      * 게시글 ID 반환
      */
     @Override
+    @Transactional
     public Long create(Long boardId, PostDto postDto, Long userId) {
-        log.info("CREATE: boardId={}, postDto={}, userId={}", boardId, postDto, userId);
+        // content는 크기 제한이 없으므로 로그에 남기지 않는다
+        log.info("CREATE: boardId={}, userId={}, title={}, contentLength={}", boardId, userId,
+                postDto.getTitle(), postDto.getContent() == null ? 0 : postDto.getContent().length());
 
         PostEntity postEntity = PostEntity.builder()
                 .boardId(boardId)
@@ -65,8 +83,13 @@ public class PostServiceImpl implements PostService {
                 .likesCount(0)
                 .build();
 
+        // 집계는 저장(INSERT) 전에 (UserStatsService)
+        userStatsService.postCreated(userId);
         PostEntity savedEntity = postRepository.save(postEntity);
-        log.info("CREATE: saved={}", savedEntity);
+        log.debug("CREATE: savedId={}", savedEntity.getId());
+        postNeighborIndex.added(boardId, savedEntity.getId());
+        searchSuggestService.postSaved(savedEntity.getId(), boardId, savedEntity.getTitle(), 0);
+        postSearchCache.postSaved(boardId);
 
         postDto.setId(savedEntity.getId());
         return savedEntity.getId();
@@ -79,7 +102,7 @@ public class PostServiceImpl implements PostService {
     @Override
     @Transactional
     public PostDto read(Long id) {
-        log.info("READ: id = {}", id);
+        log.debug("READ: id = {}", id);
 
         // 게시글 조회
         PostEntity postEntity = postRepository.findById(id)
@@ -127,6 +150,9 @@ public class PostServiceImpl implements PostService {
                     postEntity.updateFixed(postDto.getFixed());
 
                     postRepository.save(postEntity);
+                    searchSuggestService.postSaved(postEntity.getId(), postEntity.getBoardId(),
+                            postEntity.getTitle(), postEntity.getViewCount());
+                    postSearchCache.postSaved(postEntity.getBoardId());
                     return true;
                 })
                 .orElse(false);
@@ -154,8 +180,14 @@ public class PostServiceImpl implements PostService {
                 return false;
             }
 
+            // 함께 삭제되는 댓글까지 집계에서 빼야 하므로 삭제 전에 호출
+            userStatsService.postDeleted(postEntity);
+            attachmentService.postDeleted(postEntity.getId());
             postRepository.delete(postEntity);
             postRepository.flush();
+            postNeighborIndex.removed(postEntity.getBoardId(), postEntity.getId());
+            searchSuggestService.postDeleted(postEntity.getId());
+            postSearchCache.postDeleted(postEntity.getBoardId());
 
             return true;
         }).orElse(false);
@@ -163,15 +195,14 @@ public class PostServiceImpl implements PostService {
 
     /**
      * 특정 게시판의 게시글 목록 조회(페이징)
-     * 게시판 ID 기준 조회
+     * 게시판 ID 기준 조회, 본문 없이 목록 한 줄(PostSummaryDto)만 읽는다
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<PostDto> getList(Long boardId, Pageable pageable) {
-        log.info("GET LIST: boardId={}, pageable={}", boardId, pageable);
+    public Page<PostSummaryDto> getList(Long boardId, Pageable pageable) {
+        log.debug("GET LIST: boardId={}, pageable={}", boardId, pageable);
 
-        return postRepository.findByBoardId(boardId, pageable)
-                .map(this::convertToDto);
+        return postRepository.findSummariesByBoardId(boardId, pageable);
     }
 
     /**
@@ -180,163 +211,177 @@ public class PostServiceImpl implements PostService {
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<PostDto> getAllPosts(Pageable pageable) {
-        log.info("GET ALL POSTS: pageable={}", pageable);
+    public Page<PostSummaryDto> getAllPosts(Pageable pageable) {
+        log.debug("GET ALL POSTS: pageable={}", pageable);
+
+        return postRepository.findAllSummaries(pageable);
+    }
+
+    /**
+     * 메인 피드 조회
+     * 공지 게시판 글은 쿼리에서 제외하므로 페이지 크기와 전체 건수가 맞다
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PostSummaryDto> getMainFeed(Pageable pageable) {
+        log.debug("GET MAIN FEED: pageable={}", pageable);
 
-        return postRepository.findAll(pageable)
-                .map(this::convertToDto);
+        return postRepository.findFeedSummaries(NOTICE_CATEGORY, pageable);
     }
 
     /**
      * 게시글 검색
      * 검색 타입에 따라 분기 처리
      * 키워드가 비어있으면 전체 목록 반환
+     * 결과에는 본문 대신 첫 일치 주변 요약문만 담는다
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<PostDto> searchPosts(String searchType, String keyword, Pageable pageable) {
-        log.info("SEARCH POSTS: searchType={}, keyword={}, pageable={}", searchType, keyword, pageable);
+    public Page<PostSearchHitDto> searchPosts(String searchType, String keyword, Pageable pageable) {
+        log.debug("SEARCH POSTS: searchType={}, keyword={}, pageable={}", searchType, keyword, pageable);
 
-        // 키워드가 비어있으면 전체 목록 반환
+        // 키워드가 비어있으면 전체 목록 반환 (본문 없는 목록 쿼리, 요약문 없음)
         if (keyword == null || keyword.trim().isEmpty()) {
-            return getAllPosts(pageable);
+            return postRepository.findAllSummaries(pageable).map(this::toSearchHit);
         }
 
-        Page<PostEntity> resultPage;
-
-        switch (searchType) {
-            case "title":
-                resultPage = postRepository.searchByTitle(keyword, pageable);
-                break;
-            case "content":
-                resultPage = postRepository.searchByContent(keyword, pageable);
-                break;
-            case "writer":
-                resultPage = postRepository.searchByWriter(keyword, pageable);
-                break;
-            case "titleContent":
-                resultPage = postRepository.searchByTitleOrContent(keyword, pageable);
-                break;
-            case "commentContent":
-                resultPage = postRepository.searchByCommentContent(keyword, pageable);
-                break;
-            case "commentWriter":
-                resultPage = postRepository.searchByCommentWriter(keyword, pageable);
-                break;
-            default:
-                log.warn("SEARCH: invalid searchType={}, using titleContent", searchType);
-                resultPage = postRepository.searchByTitleOrContent(keyword, pageable);
+        // 앞쪽 페이지는 캐시한 결과 id 로 읽는다 (PostSearchCache)
+        Page<PostEntity> resultPage = postSearchCache.search(null, PostSearchType.from(searchType), keyword, pageable);
+        if (resultPage.getTotalElements() > 0) {
+            searchSuggestService.queried(keyword);
         }
 
-        return resultPage.map(this::convertToDto);
+        return toSearchHits(resultPage, keyword);
     }
 
     /**
-     * 인기 게시글 조회
-     * 조회수 기준 상위 게시글 반환
+     * 검색 결과 한 페이지 (작성자 닉네임은 페이지 단위로 한 번에 읽는다)
      */
-    @Override
-    @Transactional(readOnly = true)
-    public Page<PostDto> getPopularPosts(Pageable pageable) {
-        log.info("GET POPULAR POSTS: pageable={}", pageable);
-
-        return postRepository.findTopByViewCount(pageable)
-                .map(this::convertToDto);
+    private Page<PostSearchHitDto> toSearchHits(Page<PostEntity> postPage, String keyword) {
+        Set<Long> userIds = new HashSet<>();
+        for (PostEntity postEntity : postPage) {
+            userIds.add(postEntity.getUserId());
+        }
+        Map<Long, String> nicknames = new HashMap<>();
+        if (!userIds.isEmpty()) {
+            for (Object[] row : userRepository.findNicknamesByIds(userIds)) {
+                nicknames.put((Long) row[0], (String) row[1]);
+            }
+        }
+        return postPage.map(post -> toSearchHit(post, keyword, nicknames.getOrDefault(post.getUserId(), "unknown")));
     }
 
     /**
-     * PostEntity를 PostDto로 변환 (닉네임 포함)
-     * @param postEntity 게시글 엔티티
-     * @return 게시글 DTO
+     * 목록 한 줄을 검색 결과 형태로 (키워드가 없으므로 강조/요약문 없음)
      */
-    private PostDto convertToDto(PostEntity postEntity) {
-        String nickname = userRepository.findById(postEntity.getUserId())
-                .map(user -> user.getNickname())
-                .orElse("unknown");
+    private PostSearchHitDto toSearchHit(PostSummaryDto summary) {
+        return PostSearchHitDto.builder()
+                .id(summary.getId())
+                .boardId(summary.getBoardId())
+                .title(summary.getTitle())
+                .titleHighlight(SnippetScanner.highlight(summary.getTitle(), null))
+                .snippet(SearchSnippet.EMPTY)
+                .writer(summary.getWriter())
+                .createdAt(summary.getCreatedAt())
+                .viewCount(summary.getViewCount())
+                .commentsCount(summary.getCommentsCount())
+                .likesCount(summary.getLikesCount())
+                .build();
+    }
 
-        return PostDto.from(postEntity, nickname);
+    /**
+     * 검색 결과 한 건 (요약문은 본문을 창 크기만큼만 읽어 만든다, 압축된 본문도 그만큼만 푼다)
+     */
+    private PostSearchHitDto toSearchHit(PostEntity postEntity, String keyword, String writer) {
+        return PostSearchHitDto.builder()
+                .id(postEntity.getId())
+                .boardId(postEntity.getBoardId())
+                .title(postEntity.getTitle())
+                .titleHighlight(SnippetScanner.highlight(postEntity.getTitle(), keyword))
+                .snippet(SNIPPET_SCANNER.scan(postEntity.getContentPrefix(SNIPPET_SCANNER.charsNeeded()), keyword))
+                .writer(writer)
+                .createdAt(postEntity.getCreatedAt())
+                .viewCount(postEntity.getViewCount())
+                .commentsCount(postEntity.getCommentsCount())
+                .likesCount(postEntity.getLikesCount())
+                .build();
     }
 
     /**
-     * 특정 게시판 내에서 게시글 검색
-     * 게시판 범위를 제한한 검색 기능
+     * 인기 게시글 조회
+     * 조회수 기준 상위 게시글 반환
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<PostDto> searchPostsInBoard(Long boardId, String searchType, String keyword, Pageable pageable) {
-        log.info("SEARCH IN BOARD: boardId={}, searchType={}, keyword={}", boardId, searchType, keyword);
-
-        Page<PostEntity> entities = postRepository.findByBoardIdAndSearchType(boardId, searchType, keyword, pageable);
+    public Page<PostSummaryDto> getPopularPosts(Pageable pageable) {
+        log.debug("GET POPULAR POSTS: pageable={}", pageable);
 
-        return entities.map(this::convertToDto);
+        return postRepository.findPopularSummaries(pageable);
     }
 
     /**
-     * 로그인 사용자가 작성한 게시글 전체 목록 조회
-     * @param userId 작성자(로그인 사용자) ID
-     * @param pageable 페이징 정보
-     * @return 게시글 페이지
+     * 특정 게시판 내에서 게시글 검색
+     * 게시판 범위를 제한한 검색 기능
      */
     @Override
-    public Page<PostDto> getMyPosts(Long userId, Pageable pageable) {
-        log.info("내 게시글 조회: userId={}, page={}, size={}",
-                userId, pageable.getPageNumber(), pageable.getPageSize());
-
-        String nickname = userRepository.findById(userId)
-                .map(UserEntity::getNickname)
-                .orElse("알수없음");
-
-        return postRepository.findByUserId(userId, pageable)
-                .map(post -> PostDto.from(post, nickname));
+    @Transactional(readOnly = true)
+    public Page<PostSummaryDto> searchPostsInBoard(Long boardId, String searchType, String keyword, Pageable pageable) {
+        log.debug("SEARCH IN BOARD: boardId={}, searchType={}, keyword={}", boardId, searchType, keyword);
+
+        // 작성자 닉네임까지 목록 쿼리 하나로 (게시글마다 사용자를 따로 읽지 않는다)
+        Page<PostSummaryDto> resultPage = postSearchCache.searchSummariesInBoard(boardId, PostSearchType.from(searchType),
+                keyword, pageable);
+        if (resultPage.getTotalElements() > 0) {
+            searchSuggestService.queried(keyword);
+        }
+        return resultPage;
     }
 
     /**
-     * 마이페이지 대시보드용 최신 게시글 10개 조회
+     * 로그인 사용자가 작성한 게시글 전체 목록 조회
      * @param userId 작성자(로그인 사용자) ID
-     * @return 최신 게시글 10개 목록
+     * @param pageable 페이징 정보
+     * @return 게시글 페이지
      */
     @Override
     @Transactional(readOnly = true)
-    public List<PostDto> findTop10ByUserId(Long userId) {
-
-        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+    public Page<PostSummaryDto> getMyPosts(Long userId, Pageable pageable) {
+        log.debug("내 게시글 조회: userId={}, page={}, size={}",
+                userId, pageable.getPageNumber(), pageable.getPageSize());
 
-        return postRepository.findByUserId(userId, pageable)
-                .stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return postRepository.findSummariesByUserId(userId, pageable);
     }
 
     /**
      * 이전 게시물 조회 (게시판별, 최신순)
-     * ID가 현재 게시물보다 크고 가장 작은 게시물
+     * ID가 현재 게시물보다 크고 가장 작은 게시물 (PostNeighborIndex 에서 찾고 id, 제목만 조회)
      * @param boardId 게시판 ID
      * @param currentPostId 현재 게시글 ID
      * @return 이전 게시글 (없으면 empty)
      */
     @Override
     @Transactional(readOnly = true)
-    public Optional<PostDto> getPreviousPost(Long boardId, Long currentPostId) {
-        log.info("이전 게시물 조회: boardId={}, currentPostId={}", boardId, currentPostId);
+    public Optional<PostNeighborDto> getPreviousPost(Long boardId, Long currentPostId) {
+        log.debug("이전 게시물 조회: boardId={}, currentPostId={}", boardId, currentPostId);
 
-        return postRepository.findFirstByBoardIdAndIdGreaterThanOrderByIdAsc(boardId, currentPostId)
-                .map(this::convertToDto);
+        return Optional.ofNullable(postNeighborIndex.previous(boardId, currentPostId))
+                .flatMap(postRepository::findNeighborById);
     }
 
     /**
      * 다음 게시물 조회 (게시판별, 최신순)
-     * ID가 현재 게시물보다 작고 가장 큰 게시물
+     * ID가 현재 게시물보다 작고 가장 큰 게시물 (PostNeighborIndex 에서 찾고 id, 제목만 조회)
      * @param boardId 게시판 ID
      * @param currentPostId 현재 게시글 ID
      * @return 다음 게시글 (없으면 empty)
      */
     @Override
     @Transactional(readOnly = true)
-    public Optional<PostDto> getNextPost(Long boardId, Long currentPostId) {
-        log.info("다음 게시물 조회: boardId={}, currentPostId={}", boardId, currentPostId);
+    public Optional<PostNeighborDto> getNextPost(Long boardId, Long currentPostId) {
+        log.debug("다음 게시물 조회: boardId={}, currentPostId={}", boardId, currentPostId);
 
-        return postRepository.findFirstByBoardIdAndIdLessThanOrderByIdDesc(boardId, currentPostId)
-                .map(this::convertToDto);
+        return Optional.ofNullable(postNeighborIndex.next(boardId, currentPostId))
+                .flatMap(postRepository::findNeighborById);
     }
 
     @Override
@@ -349,12 +394,14 @@ public class PostServiceImpl implements PostService {
 
         if (postLikeRepository.existsByPostIdAndUserId(postId, userId)) {
             // 좋아요 취소
+            userStatsService.likeRemoved(post.getUserId());
             postLikeRepository.findByPostIdAndUserId(postId, userId)
                     .ifPresent(postLikeRepository::delete);
             post.decreaseLikesCount();
             result.put("liked", false);
         } else {
             // 좋아요 추가
+            userStatsService.likeAdded(post.getUserId());
             postLikeRepository.save(PostLikeEntity.builder()
                     .postId(postId)
                     .userId(userId)
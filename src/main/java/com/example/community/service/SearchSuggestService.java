@@ -0,0 +1,28 @@
+package com.example.community.service;
+
+import com.example.community.domain.post.SuggestionDto;
+
+import java.util.List;
+
+public interface SearchSuggestService {
+
+    /**
+     * 검색어 자동완성
+     * @param prefix 입력 중인 검색어
+     * @param limit 최대 개수 (10 이하)
+     * @return 자주 검색한 검색어, 조회수 순 게시글 제목
+     */
+    List<SuggestionDto> suggest(String prefix, int limit);
+
+    // 결과가 있는 검색의 검색어 횟수 기록 (결과 없는 오타/무의미한 검색어는 후보로 쌓지 않는다)
+    void queried(String keyword);
+
+    // 게시글 작성/수정 (커밋 후 반영)
+    void postSaved(Long postId, Long boardId, String title, Integer viewCount);
+
+    // 게시글 삭제 (커밋 후 반영)
+    void postDeleted(Long postId);
+
+    // 일괄 입력 후 다음 조회 때 다시 적재
+    void invalidate();
+}
@@ -0,0 +1,114 @@
+package com.example.community.service;
+
+import com.example.community.config.TransactionCallbacks;
+import com.example.community.domain.post.SuggestionDto;
+import com.example.community.persistence.PostRepository;
+import com.example.community.search.PopularQueryTerms;
+import com.example.community.search.PrefixSuggestIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 검색어 자동완성
+ * - 게시글 제목은 PrefixSuggestIndex (처음 조회할 때 제목/조회수만 적재, 작성/수정/삭제는 커밋 후 반영)
+ * - 자주 검색한 검색어는 PopularQueryTerms
+ * - 색인 크기와 추정 메모리는 search.suggest.titles / search.suggest.memory 게이지로 노출
+ */
+@Service
+@Slf4j
+public class SearchSuggestServiceImpl implements SearchSuggestService {
+
+    // 한 번에 보여줄 검색어 후보 (나머지는 제목)
+    private static final int MAX_QUERY_SUGGESTIONS = 3;
+
+    private final PostRepository postRepository;
+    private final PrefixSuggestIndex titleIndex = new PrefixSuggestIndex();
+    private final PopularQueryTerms queryTerms = new PopularQueryTerms(50_000, 2_000, 100, 1_000);
+
+    public SearchSuggestServiceImpl(PostRepository postRepository, MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+
+        Gauge.builder("search.suggest.titles", titleIndex, PrefixSuggestIndex::size)
+                .description("Titles in the autocomplete index")
+                .register(meterRegistry);
+        Gauge.builder("search.suggest.memory", titleIndex, PrefixSuggestIndex::estimatedBytes)
+                .description("Estimated heap used by the autocomplete index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public List<SuggestionDto> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank() || limit <= 0) {
+            return List.of();
+        }
+        loadTitles();
+
+        List<SuggestionDto> suggestions = new ArrayList<>(limit);
+        Set<String> seen = new HashSet<>();
+        for (PopularQueryTerms.Term term : queryTerms.suggest(prefix, Math.min(limit, MAX_QUERY_SUGGESTIONS))) {
+            seen.add(term.text());
+            suggestions.add(SuggestionDto.builder()
+                    .text(term.text())
+                    .type(SuggestionDto.QUERY)
+                    .build());
+        }
+        for (PrefixSuggestIndex.Entry entry : titleIndex.suggest(prefix, limit)) {
+            if (suggestions.size() == limit) {
+                break;
+            }
+            if (seen.contains(entry.key())) {
+                continue;
+            }
+            suggestions.add(SuggestionDto.builder()
+                    .text(entry.title())
+                    .type(SuggestionDto.TITLE)
+                    .postId(entry.id())
+                    .boardId(entry.boardId())
+                    .build());
+        }
+        return suggestions;
+    }
+
+    @Override
+    public void queried(String keyword) {
+        queryTerms.record(keyword);
+    }
+
+    @Override
+    public void postSaved(Long postId, Long boardId, String title, Integer viewCount) {
+        PrefixSuggestIndex.Entry entry = PrefixSuggestIndex.entry(postId, boardId, title,
+                viewCount == null ? 0 : viewCount);
+        TransactionCallbacks.afterCommit(() -> titleIndex.put(entry));
+    }
+
+    @Override
+    public void postDeleted(Long postId) {
+        TransactionCallbacks.afterCommit(() -> titleIndex.remove(postId));
+    }
+
+    @Override
+    public void invalidate() {
+        TransactionCallbacks.afterCommit(titleIndex::invalidate);
+    }
+
+    private void loadTitles() {
+        titleIndex.loadIfNeeded(() -> {
+            long start = System.nanoTime();
+            List<PrefixSuggestIndex.Entry> entries = postRepository.findAllTitles().stream()
+                    .map(post -> PrefixSuggestIndex.entry(post.getId(), post.getBoardId(), post.getTitle(),
+                            post.getViewCount() == null ? 0 : post.getViewCount()))
+                    .toList();
+            log.info("Suggest index loaded: {} titles in {} ms", entries.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+            return entries;
+        });
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.community.service;
+
+import com.example.community.domain.post.PostEntity;
+import com.example.community.domain.user.UserStatsDto;
+
+/**
+ * 사용자 활동 집계 (작성 글/댓글, 받은 좋아요/쪽지)
+ * 증감 메서드는 원본 변경과 같은 트랜잭션 안에서, 원본을 바꾸기 전에 호출한다
+ */
+public interface UserStatsService {
+
+    /**
+     * 집계 조회, 아직 없으면 원본 테이블에서 계산한 값 (행은 만들지 않는다)
+     * @param userId 사용자 ID
+     * @return 집계 (사용자가 없으면 0)
+     */
+    UserStatsDto get(Long userId);
+
+    void postCreated(Long userId);
+
+    /**
+     * 게시글 삭제 (삭제 전에 호출)
+     * 함께 삭제되는 댓글의 작성자별 댓글 수와 받은 좋아요 수도 뺀다
+     * @param postEntity 삭제할 게시글
+     */
+    void postDeleted(PostEntity postEntity);
+
+    void commentCreated(Long userId);
+
+    void commentDeleted(Long userId);
+
+    void likeAdded(Long postOwnerId);
+
+    void likeRemoved(Long postOwnerId);
+
+    void messageReceived(Long receiverId);
+
+    void messageRemoved(Long receiverId);
+
+    /**
+     * 게시판 일괄 입력 후 그 게시판에 글/댓글이 있는 사용자의 집계를 다시 계산 (JDBC 로 넣어 증감을 거치지 않았으므로)
+     * @param boardId 입력한 게시판 ID
+     */
+    void boardImported(Long boardId);
+}
@@ -0,0 +1,99 @@
+package com.example.community.service;
+
+import com.example.community.domain.post.PostEntity;
+import com.example.community.domain.user.UserStatsDto;
+import com.example.community.persistence.CommentRepository;
+import com.example.community.persistence.UserStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.function.IntSupplier;
+
+/**
+ * 사용자 활동 집계
+ * - 집계 행은 처음 증감할 때 원본에서 계산해 만들고 (MERGE, 호출한 트랜잭션 안에서), 이후에는 UPDATE 로만 증감
+ * - 증감 메서드는 원본을 바꾸기 전에 호출하므로, 계산에 빠진 이번 변경은 행을 만든 뒤 한 번 더 증감해 맞춘다
+ *   (다른 트랜잭션이 그 사이 같은 행을 만들었으면 MERGE 가 다시 계산한 값으로 덮어쓴다)
+ * - 집계 행이 없는 사용자를 조회하면 원본에서 계산한 값만 돌려주고 행은 만들지 않는다
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserStatsServiceImpl implements UserStatsService {
+
+    private final UserStatsRepository userStatsRepository;
+    private final CommentRepository commentRepository;
+
+    @Override
+    public UserStatsDto get(Long userId) {
+        return userStatsRepository.findById(userId)
+                .map(UserStatsDto::from)
+                .or(() -> userStatsRepository.computeById(userId))
+                .orElseGet(() -> UserStatsDto.builder().userId(userId).build());
+    }
+
+    // 집계 행이 없으면 만들고 다시 증감
+    private void apply(Long userId, IntSupplier update) {
+        if (update.getAsInt() == 0) {
+            userStatsRepository.recompute(userId);
+            log.debug("User stats initialized: userId={}", userId);
+            update.getAsInt();
+        }
+    }
+
+    @Override
+    public void postCreated(Long userId) {
+        apply(userId, () -> userStatsRepository.addPosts(userId, 1));
+    }
+
+    @Override
+    public void postDeleted(PostEntity postEntity) {
+        Long ownerId = postEntity.getUserId();
+        apply(ownerId, () -> userStatsRepository.addPosts(ownerId, -1));
+        if (postEntity.getLikesCount() != null && postEntity.getLikesCount() > 0) {
+            apply(ownerId, () -> userStatsRepository.addLikesReceived(ownerId, -postEntity.getLikesCount()));
+        }
+        for (Object[] row : commentRepository.countByUserIdForPost(postEntity.getId())) {
+            Long writerId = (Long) row[0];
+            long comments = (Long) row[1];
+            apply(writerId, () -> userStatsRepository.addComments(writerId, -comments));
+        }
+    }
+
+    @Override
+    public void commentCreated(Long userId) {
+        apply(userId, () -> userStatsRepository.addComments(userId, 1));
+    }
+
+    @Override
+    public void commentDeleted(Long userId) {
+        apply(userId, () -> userStatsRepository.addComments(userId, -1));
+    }
+
+    @Override
+    public void likeAdded(Long postOwnerId) {
+        apply(postOwnerId, () -> userStatsRepository.addLikesReceived(postOwnerId, 1));
+    }
+
+    @Override
+    public void likeRemoved(Long postOwnerId) {
+        apply(postOwnerId, () -> userStatsRepository.addLikesReceived(postOwnerId, -1));
+    }
+
+    @Override
+    public void messageReceived(Long receiverId) {
+        apply(receiverId, () -> userStatsRepository.addMessagesReceived(receiverId, 1));
+    }
+
+    @Override
+    public void messageRemoved(Long receiverId) {
+        apply(receiverId, () -> userStatsRepository.addMessagesReceived(receiverId, -1));
+    }
+
+    @Override
+    public void boardImported(Long boardId) {
+        int users = userStatsRepository.recomputeForBoard(boardId);
+        log.debug("User stats recomputed after import: boardId={}, users={}", boardId, users);
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.community.transfer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV (첫 행은 헤더)
+ * - 따옴표 안의 쉼표/줄바꿈, "" 이스케이프 지원
+ * - 헤더 이름으로 컬럼을 찾으므로 컬럼 순서는 자유, 모르는 컬럼은 무시
+ * - 헤더에 type 이 없으면 IllegalStateException (행 단위로 건너뛸 수 없는 오류)
+ */
+class CsvRecordReader implements RecordReader {
+
+    static final List<String> COLUMNS = List.of(
+            "type", "source_id", "post_source_id", "username", "title", "content", "created_at", "view_count");
+
+    private final BufferedReader reader;
+    private Map<String, Integer> header;
+    private long lineNumber;
+
+    CsvRecordReader(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public TransferRecord next() throws IOException {
+        if (header == null) {
+            List<String> names = readRow();
+            if (names == null) {
+                return null;
+            }
+            header = new HashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                // 엑셀이 붙이는 BOM 제거
+                header.put(names.get(i).replace("\uFEFF", "").trim().toLowerCase(), i);
+            }
+            if (!header.containsKey("type")) {
+                throw new IllegalStateException("CSV header must contain a type column");
+            }
+        }
+
+        List<String> row;
+        do {
+            row = readRow();
+            if (row == null) {
+                return null;
+            }
+        } while (row.size() == 1 && row.get(0).isEmpty());
+
+        try {
+            return new TransferRecord(
+                    field(row, "type"),
+                    toLong(field(row, "source_id")),
+                    toLong(field(row, "post_source_id")),
+                    field(row, "username"),
+                    field(row, "title"),
+                    field(row, "content"),
+                    toDateTime(field(row, "created_at")),
+                    toInteger(field(row, "view_count")));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid created_at: " + e.getParsedString());
+        }
+    }
+
+    @Override
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * 한 레코드 (따옴표 안의 줄바꿈은 레코드를 끝내지 않는다), 입력 끝이면 null
+     */
+    private List<String> readRow() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean read = false;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                lineNumber++;
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+
+        if (!read) {
+            return null;
+        }
+        lineNumber++;
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private String field(List<String> row, String name) {
+        Integer index = header.get(name);
+        if (index == null || index >= row.size() || row.get(index).isEmpty()) {
+            return null;
+        }
+        return row.get(index);
+    }
+
+    private static Long toLong(String value) {
+        return value == null ? null : Long.valueOf(value.trim());
+    }
+
+    private static Integer toInteger(String value) {
+        return value == null ? null : Integer.valueOf(value.trim());
+    }
+
+    private static LocalDateTime toDateTime(String value) {
+        return value == null ? null : LocalDateTime.parse(value.trim());
+    }
+}
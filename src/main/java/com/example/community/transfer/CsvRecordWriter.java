@@ -0,0 +1,72 @@
+package com.example.community.transfer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CsvRecordReader 가 읽는 형식으로 출력 (첫 행은 헤더)
+ */
+class CsvRecordWriter implements RecordWriter {
+
+    private final Writer writer;
+    private boolean headerWritten;
+
+    CsvRecordWriter(OutputStream outputStream) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void write(TransferRecord record) throws IOException {
+        writeHeader();
+
+        writeField(record.type());
+        writer.write(',');
+        writeField(record.sourceId());
+        writer.write(',');
+        writeField(record.postSourceId());
+        writer.write(',');
+        writeField(record.username());
+        writer.write(',');
+        writeField(record.title());
+        writer.write(',');
+        writeField(record.content());
+        writer.write(',');
+        writeField(record.createdAt());
+        writer.write(',');
+        writeField(record.viewCount());
+        writer.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writeHeader();
+        writer.flush();
+    }
+
+    // 행이 없어도 헤더는 출력
+    private void writeHeader() throws IOException {
+        if (!headerWritten) {
+            writer.write(String.join(",", CsvRecordReader.COLUMNS));
+            writer.write('\n');
+            headerWritten = true;
+        }
+    }
+
+    private void writeField(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.community.transfer;
+
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+class JsonLinesRecordWriter implements RecordWriter {
+
+    private final Writer writer;
+    private final ObjectMapper objectMapper;
+
+    JsonLinesRecordWriter(OutputStream outputStream, ObjectMapper objectMapper) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void write(TransferRecord record) throws IOException {
+        writer.write(objectMapper.writeValueAsString(record));
+        writer.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.community.transfer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * 입력 스트림에서 한 행씩 읽는다 (전체를 메모리에 올리지 않음)
+ */
+public interface RecordReader extends Closeable {
+
+    /**
+     * 다음 행, 끝이면 null
+     * 형식이 잘못된 행은 IllegalArgumentException (해당 행은 이미 소비되어 다음 호출은 그 다음 행부터)
+     */
+    TransferRecord next() throws IOException;
+
+    /**
+     * 마지막으로 읽은 행 번호 (1부터, 오류 메시지용)
+     */
+    long lineNumber();
+}
@@ -0,0 +1,13 @@
+package com.example.community.transfer;
+
+import java.io.IOException;
+
+/**
+ * 출력 스트림에 한 행씩 쓴다
+ */
+public interface RecordWriter {
+
+    void write(TransferRecord record) throws IOException;
+
+    void flush() throws IOException;
+}
@@ -0,0 +1,52 @@
+package com.example.community.transfer;
+
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 가져오기/내보내기 파일 형식
+ */
+public enum TransferFormat {
+
+    JSONL("application/x-ndjson", "jsonl"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    TransferFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public RecordReader reader(InputStream inputStream, ObjectMapper objectMapper) {
+        return this == JSONL
+                ? new JsonLinesRecordReader(inputStream, objectMapper)
+                : new CsvRecordReader(inputStream);
+    }
+
+    public RecordWriter writer(OutputStream outputStream, ObjectMapper objectMapper) {
+        return this == JSONL
+                ? new JsonLinesRecordWriter(outputStream, objectMapper)
+                : new CsvRecordWriter(outputStream);
+    }
+
+    public static TransferFormat from(String format) {
+        for (TransferFormat value : values()) {
+            if (value.extension.equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported format: " + format);
+    }
+}
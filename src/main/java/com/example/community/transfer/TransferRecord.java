@@ -0,0 +1,35 @@
+package com.example.community.transfer;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시판 가져오기/내보내기의 한 행
+ * - type=post    : sourceId 는 원본(이전 포럼) 게시글 번호
+ * - type=comment : postSourceId 로 같은 파일 안의 게시글을 가리킨다 (게시글 행보다 뒤에 와야 함)
+ * 작성자는 username 으로 매칭한다
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TransferRecord(String type,
+                             Long sourceId,
+                             Long postSourceId,
+                             String username,
+                             String title,
+                             String content,
+                             LocalDateTime createdAt,
+                             Integer viewCount) {
+
+    public static final String POST = "post";
+    public static final String COMMENT = "comment";
+
+    public static TransferRecord post(Long sourceId, String username, String title, String content,
+                                      LocalDateTime createdAt, Integer viewCount) {
+        return new TransferRecord(POST, sourceId, null, username, title, content, createdAt, viewCount);
+    }
+
+    public static TransferRecord comment(Long sourceId, Long postSourceId, String username, String content,
+                                         LocalDateTime createdAt) {
+        return new TransferRecord(COMMENT, sourceId, postSourceId, username, null, content, createdAt, null);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.community.transfer;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 가져오기/내보내기 결과
+ * errors 는 앞쪽 일부만 보관 (skipped 가 전체 건너뛴 행 수)
+ */
+public record TransferResult(long posts, long comments, long skipped, List<String> errors, Duration elapsed) {
+
+    public long rows() {
+        return posts + comments;
+    }
+
+    public double rowsPerSecond() {
+        long nanos = Math.max(1, elapsed.toNanos());
+        return rows() * 1_000_000_000.0 / nanos;
+    }
+}
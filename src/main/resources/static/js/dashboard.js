@@ -1,6 +1,8 @@
 // 전역 변수
 let currentSection = 'users';
 let currentPage = 0;
+// 댓글 관리는 키셋 페이징: 화면 번호별 요청 커서 (0번 화면은 null)
+let commentCursors = [null];
 
 //  초기화
 document.addEventListener('DOMContentLoaded', function () {
@@ -55,6 +57,7 @@ function setupMenuListeners() {
 
 function setupButtonListeners() {
     document.getElementById('main-page-btn').addEventListener('click', goToMain);
+    document.getElementById('sql-reset-btn').addEventListener('click', resetSqlStats);
 }
 
 //네비게이션
@@ -67,6 +70,7 @@ function goToMain() {
 function switchSection(section) {
     currentSection = section;
     currentPage = 0;
+    commentCursors = [null];
 
     // 모든 섹션 숨기기
     const sections = document.querySelectorAll('#main-content > section');
@@ -86,6 +90,15 @@ function switchSection(section) {
 
 // 데이터 로드
 function loadSection(section) {
+    if (section === 'sql') {
+        loadSqlStats();
+        return;
+    }
+    if (section === 'comments') {
+        loadComments();
+        return;
+    }
+
     const config = {
         users: {
             url: '/admin/users',
@@ -96,11 +109,6 @@ function loadSection(section) {
             url: '/admin/posts',
             render: renderPostsTable,
             errorColspan: 6
-        },
-        comments: {
-            url: '/admin/comments',
-            render: renderCommentsTable,
-            errorColspan: 5
         }
     };
 
@@ -295,6 +303,47 @@ function deletePost(postId) {
 }
 
 // 댓글 관리
+function loadComments() {
+    let url = '/admin/comments?size=20';
+    const cursor = commentCursors[currentPage];
+    if (cursor != null) {
+        url += '&cursor=' + cursor;
+    }
+
+    fetch(url)
+        .then(function (response) {
+            return response.json();
+        })
+        .then(function (data) {
+            renderCommentsTable(data.content);
+            if (data.hasNext) {
+                commentCursors[currentPage + 1] = data.nextCursor;
+            }
+            renderCommentsPagination(data.hasNext);
+        })
+        .catch(function (error) {
+            console.error('Error loading comments:', error);
+            showError('comments-tbody', 5, 'comments 목록을 불러올 수 없습니다.');
+        });
+}
+
+// 전체 개수를 세지 않으므로 이전/다음만 둔다
+function renderCommentsPagination(hasNext) {
+    const container = document.getElementById('comments-pagination');
+    if (!container) return;
+
+    let html = '';
+    if (currentPage > 0) {
+        html += `<button onclick="goToPage('comments', ${currentPage - 1})">‹</button>`;
+    }
+    html += `<button class="active">${currentPage + 1}</button>`;
+    if (hasNext) {
+        html += `<button onclick="goToPage('comments', ${currentPage + 1})">›</button>`;
+    }
+
+    container.innerHTML = html;
+}
+
 function renderCommentsTable(comments) {
     const tbody = document.getElementById('comments-tbody');
 
@@ -309,7 +358,7 @@ function renderCommentsTable(comments) {
             <tr>
                 <td>${escapeHtml(comment.content)}</td>
                 <td>${comment.writer || 'Unknown'}</td>
-                <td>${comment.postId}</td>
+                <td>${escapeHtml(comment.postTitle || String(comment.postId))}</td>
                 <td>${formatDate(comment.createdAt)}</td>
                 <td>${createButton('삭제', 'btn-danger', `deleteComment(${comment.id})`)}</td>
             </tr>
@@ -340,6 +389,84 @@ function deleteComment(commentId) {
         });
 }
 
+// SQL 통계
+function loadSqlStats() {
+    fetch('/admin/sql-stats?limit=20')
+        .then(function (response) {
+            return response.json();
+        })
+        .then(function (data) {
+            if (!data.enabled) {
+                showError('sql-tbody', 7, 'SQL 통계가 비활성화되어 있습니다. (community.sql-stats.enabled)');
+                showError('sql-slow-tbody', 4, '-');
+                return;
+            }
+            renderSqlTable(data.statements);
+            renderSlowSqlTable(data.slowStatements);
+            document.getElementById('sql-slow-total').textContent = '(누적 ' + data.slowStatementTotal + '건)';
+        })
+        .catch(function (error) {
+            console.error('Error loading sql stats:', error);
+            showError('sql-tbody', 7, 'SQL 통계를 불러올 수 없습니다.');
+        });
+}
+
+function renderSqlTable(statements) {
+    const tbody = document.getElementById('sql-tbody');
+
+    if (!statements || statements.length === 0) {
+        showError('sql-tbody', 7, '실행된 SQL 이 없습니다.');
+        return;
+    }
+
+    tbody.innerHTML = statements.map(function (s) {
+        return `<tr>
+            <td class="sql-text">${escapeHtml(s.fingerprint)}</td>
+            <td>${s.count}</td>
+            <td>${s.totalMs.toFixed(1)}</td>
+            <td>${s.meanMs.toFixed(2)}</td>
+            <td>${s.p95Ms.toFixed(2)}</td>
+            <td>${s.p99Ms.toFixed(2)}</td>
+            <td>${s.maxMs.toFixed(2)}</td>
+        </tr>`;
+    }).join('');
+}
+
+function renderSlowSqlTable(statements) {
+    const tbody = document.getElementById('sql-slow-tbody');
+
+    if (!statements || statements.length === 0) {
+        showError('sql-slow-tbody', 4, '느린 SQL 이 없습니다.');
+        return;
+    }
+
+    tbody.innerHTML = statements.map(function (s) {
+        return `<tr>
+            <td class="sql-text">${escapeHtml(s.fingerprint)}</td>
+            <td>${s.elapsedMs.toFixed(1)}</td>
+            <td>${new Date(s.executedAt).toLocaleString('ko-KR')}</td>
+            <td>${escapeHtml(s.thread)}</td>
+        </tr>`;
+    }).join('');
+}
+
+function resetSqlStats() {
+    if (!confirm('SQL 통계를 초기화하시겠습니까?')) return;
+
+    fetchWithCsrf('/admin/sql-stats/reset', { method: 'POST' })
+        .then(function (response) {
+            return response.json();
+        })
+        .then(function (data) {
+            alert(data.message);
+            loadSqlStats();
+        })
+        .catch(function (error) {
+            console.error('Error:', error);
+            alert('SQL 통계 초기화에 실패했습니다.');
+        });
+}
+
 // 유틸리티 함수
 function formatDate(dateString) {
     if (!dateString) return '-';
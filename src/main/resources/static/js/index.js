@@ -34,9 +34,55 @@ function initSearchForm() {
                 searchForm.submit();
             }
         });
+        initSearchSuggest(searchInput);
     }
 }
 
+/**
+ * 검색어 자동완성 (입력이 멈추면 /api/search/suggest 결과로 datalist 채움)
+ */
+function initSearchSuggest(searchInput) {
+    const datalist = document.createElement('datalist');
+    datalist.id = 'search-suggestions';
+    searchInput.after(datalist);
+    searchInput.setAttribute('list', datalist.id);
+    searchInput.setAttribute('autocomplete', 'off');
+
+    let timer = null;
+    let lastQuery = '';
+
+    searchInput.addEventListener('input', function() {
+        clearTimeout(timer);
+        timer = setTimeout(function() {
+            const query = searchInput.value.trim();
+            if (query === lastQuery) return;
+            lastQuery = query;
+
+            if (!query) {
+                datalist.replaceChildren();
+                return;
+            }
+
+            fetch('/api/search/suggest?q=' + encodeURIComponent(query))
+                .then(function(response) {
+                    return response.ok ? response.json() : [];
+                })
+                .then(function(suggestions) {
+                    // 응답이 늦게 와서 입력이 바뀌었으면 버린다
+                    if (query !== lastQuery) return;
+                    datalist.replaceChildren(...suggestions.map(function(suggestion) {
+                        const option = document.createElement('option');
+                        option.value = suggestion.text;
+                        return option;
+                    }));
+                })
+                .catch(function(error) {
+                    console.error('Error loading suggestions:', error);
+                });
+        }, 150);
+    });
+}
+
 /**
  * 검색어 하이라이트 표시
  */
@@ -60,6 +106,9 @@ function highlightInElements(selector, keyword) {
     const elements = document.querySelectorAll(selector);
 
     elements.forEach(element => {
+        // 서버에서 이미 강조한 검색 결과 제목은 건너뛴다
+        if (element.querySelector('mark')) return;
+
         const text = element.textContent;
         const regex = new RegExp(`(${keyword})`, 'gi');
 
@@ -315,6 +315,76 @@ document.addEventListener('DOMContentLoaded', function() {
     // 초기 댓글 로드
     loadComments();
 
+    // 첨부 파일 (본문을 그대로 보내 서버가 디스크로 바로 받는다)
+    const FILE_API = '/api/posts/' + postId + '/files';
+    const fileInput = document.getElementById('fileInput');
+    const btnUploadFile = document.getElementById('btnUploadFile');
+    const fileError = document.getElementById('fileError');
+
+    function uploadFile() {
+        const file = fileInput.files[0];
+        if (!file) {
+            fileError.textContent = '파일을 선택해주세요.';
+            return;
+        }
+
+        const headers = getFetchHeaders();
+        headers['Content-Type'] = file.type || 'application/octet-stream';
+
+        fetch(FILE_API + '?name=' + encodeURIComponent(file.name), {
+            method: 'POST',
+            credentials: 'same-origin',
+            headers: headers,
+            body: file
+        })
+            .then(function(response) {
+                return response.json().then(function(data) {
+                    if (!response.ok) {
+                        throw new Error(data.message || '파일 첨부에 실패했습니다.');
+                    }
+                    return data;
+                });
+            })
+            .then(function() {
+                location.reload();
+            })
+            .catch(function(error) {
+                console.error('Error uploading file:', error);
+                fileError.textContent = error.message || '파일 첨부에 실패했습니다.';
+            });
+    }
+
+    window.deleteFile = function(fileId) {
+        if (!confirm('첨부 파일을 삭제할까요?')) return;
+
+        fetch(FILE_API + '/' + fileId, {
+            method: 'DELETE',
+            credentials: 'same-origin',
+            headers: getFetchHeaders()
+        })
+            .then(function(response) {
+                return response.json();
+            })
+            .then(function(data) {
+                if (data.success) {
+                    const item = document.querySelector('#fileList li[data-file-id="' + fileId + '"]');
+                    if (item) {
+                        item.remove();
+                    }
+                } else {
+                    alert(data.message || '첨부 파일 삭제에 실패했습니다.');
+                }
+            })
+            .catch(function(error) {
+                console.error('Error deleting file:', error);
+                alert('첨부 파일 삭제에 실패했습니다.');
+            });
+    };
+
+    if (btnUploadFile) {
+        btnUploadFile.addEventListener('click', uploadFile);
+    }
+
     // 좋아요 기능
     const likeBtn = document.getElementById('likeBtn');
 
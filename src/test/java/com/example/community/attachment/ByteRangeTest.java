@@ -0,0 +1,50 @@
+package com.example.community.attachment;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ByteRangeTest {
+
+    private static final long SIZE = 1000;
+
+    @Test
+    void noRangeMeansFullContent() {
+        assertThat(ByteRange.parse(null, SIZE)).isNull();
+        assertThat(ByteRange.parse("items=0-10", SIZE)).isNull();
+    }
+
+    @Test
+    void closedRange() {
+        ByteRange range = ByteRange.parse("bytes=100-199", SIZE);
+
+        assertThat(range).isEqualTo(new ByteRange(100, 199));
+        assertThat(range.length()).isEqualTo(100);
+        assertThat(range.contentRange(SIZE)).isEqualTo("bytes 100-199/1000");
+    }
+
+    @Test
+    void openAndSuffixRange() {
+        assertThat(ByteRange.parse("bytes=900-", SIZE)).isEqualTo(new ByteRange(900, 999));
+        assertThat(ByteRange.parse("bytes=-100", SIZE)).isEqualTo(new ByteRange(900, 999));
+        // 파일보다 긴 구간은 파일 끝까지
+        assertThat(ByteRange.parse("bytes=-5000", SIZE)).isEqualTo(new ByteRange(0, 999));
+        assertThat(ByteRange.parse("bytes=990-5000", SIZE)).isEqualTo(new ByteRange(990, 999));
+    }
+
+    @Test
+    void unsatisfiable() {
+        assertThat(ByteRange.parse("bytes=1000-", SIZE)).isEqualTo(ByteRange.UNSATISFIABLE);
+        assertThat(ByteRange.parse("bytes=-0", SIZE)).isEqualTo(ByteRange.UNSATISFIABLE);
+        assertThat(ByteRange.parse("bytes=0-", 0)).isEqualTo(ByteRange.UNSATISFIABLE);
+        assertThat(ByteRange.UNSATISFIABLE.contentRange(SIZE)).isEqualTo("bytes */1000");
+    }
+
+    @Test
+    void malformedOrMultipleRangesAreIgnored() {
+        assertThat(ByteRange.parse("bytes=200-100", SIZE)).isNull();
+        assertThat(ByteRange.parse("bytes=abc-", SIZE)).isNull();
+        assertThat(ByteRange.parse("bytes=-", SIZE)).isNull();
+        assertThat(ByteRange.parse("bytes=0-10, 20-30", SIZE)).isNull();
+    }
+}
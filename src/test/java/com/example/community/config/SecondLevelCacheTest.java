@@ -0,0 +1,147 @@
+package com.example.community.config;
+
+import com.example.community.domain.board.BoardEntity;
+import com.example.community.domain.user.UserEntity;
+import com.example.community.domain.user.UserRole;
+import com.example.community.persistence.BoardRepository;
+import com.example.community.persistence.UserRepository;
+import com.example.community.service.AdminService;
+import com.example.community.service.UserService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2차 캐시 테스트
+ * 트랜잭션(세션)을 나눠야 2차 캐시를 거치므로 @Transactional 없이 실행하고 직접 정리한다
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SecondLevelCacheTest {
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    AdminService adminService;
+
+    @Autowired
+    UserService userService;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private Long userId;
+    private Long adminId;
+    private final List<Long> boardIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(user("cache_user", "캐시유저", "cache_user@test.com", UserRole.USER)).getId();
+        adminId = userRepository.save(user("cache_admin", "캐시관리자", "cache_admin@test.com", UserRole.ADMIN)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllById(List.of(userId, adminId));
+        boardRepository.deleteAllById(boardIds);
+    }
+
+    @Test
+    @DisplayName("id 조회는 두 번째부터 2차 캐시에서 읽고 region 메트릭에 hit 로 남는다")
+    void testEntityCacheHit() {
+        userRepository.findById(userId);
+        long hits = stats("users").getHitCount();
+
+        userRepository.findById(userId);
+
+        assertThat(stats("users").getHitCount()).isEqualTo(hits + 1);
+        FunctionCounter hitCounter = meterRegistry.find("cache.gets")
+                .tag("cache", "users")
+                .tag("result", "hit")
+                .functionCounter();
+        assertThat(hitCounter).isNotNull();
+        assertThat(hitCounter.count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("정지하면 캐시된 사용자도 비활성으로 보인다")
+    void testBan() {
+        assertThat(userRepository.findById(userId).orElseThrow().getActive()).isTrue();
+
+        adminService.banUser(userId, "스팸", 7, null, adminId);
+
+        assertThat(userRepository.findById(userId).orElseThrow().getActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("권한을 바꾸면 캐시된 사용자도 새 권한으로 보인다")
+    void testRoleChange() {
+        assertThat(userRepository.findById(userId).orElseThrow().getRole()).isEqualTo(UserRole.USER);
+
+        adminService.changeUserRole(userId, "ADMIN", "운영진 합류", adminId);
+
+        assertThat(userRepository.findById(userId).orElseThrow().getRole()).isEqualTo(UserRole.ADMIN);
+    }
+
+    @Test
+    @DisplayName("닉네임을 바꾸면 캐시된 사용자도 새 닉네임으로 보인다")
+    void testNicknameChange() {
+        assertThat(userRepository.findById(userId).orElseThrow().getNickname()).isEqualTo("캐시유저");
+
+        userService.updateNickname(userId, "바뀐닉네임");
+
+        assertThat(userRepository.findById(userId).orElseThrow().getNickname()).isEqualTo("바뀐닉네임");
+    }
+
+    @Test
+    @DisplayName("findByCategory 는 쿼리 캐시를 쓰고 boards 가 바뀌면 무효화된다")
+    void testFindByCategoryQueryCache() {
+        String category = "CACHE";
+        boardIds.add(boardRepository.save(BoardEntity.builder().title("캐시 게시판1").category(category).build()).getId());
+
+        assertThat(boardRepository.findByCategory(category)).hasSize(1);
+        long hits = stats("boards.byCategory").getHitCount();
+        assertThat(boardRepository.findByCategory(category)).hasSize(1);
+        assertThat(stats("boards.byCategory").getHitCount()).isEqualTo(hits + 1);
+
+        boardIds.add(boardRepository.save(BoardEntity.builder().title("캐시 게시판2").category(category).build()).getId());
+
+        assertThat(boardRepository.findByCategory(category)).hasSize(2);
+    }
+
+    private CacheRegionStatistics stats(String region) {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics().getCacheRegionStatistics(region);
+    }
+
+    private static UserEntity user(String username, String nickname, String email, UserRole role) {
+        return UserEntity.builder()
+                .username(username)
+                .password("1234")
+                .name("캐시 테스트")
+                .nickname(nickname)
+                .email(email)
+                .role(role)
+                .active(true)
+                .emailVerified(true)
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.community.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 정적 리소스 fingerprint / 캐시 헤더 / 사전 압축 전송 테스트
+ */
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@Slf4j
+class StaticResourceConfigTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ResourceUrlProvider resourceUrlProvider;
+
+    @Test
+    @DisplayName("정적 리소스 URL에 content hash가 붙는다")
+    void versionedUrl() {
+        String url = resourceUrlProvider.getForLookupPath("/css/index.css");
+        log.info("versioned url = {}", url);
+
+        assertThat(url).matches("/css/index-[0-9a-f]{32}\\.css");
+    }
+
+    @Test
+    @DisplayName("hash URL은 immutable 캐시 헤더로 응답한다")
+    void immutableCacheControl() throws Exception {
+        String url = resourceUrlProvider.getForLookupPath("/css/index.css");
+
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("immutable")))
+                .andExpect(header().string("Cache-Control", containsString("max-age=31536000")));
+    }
+
+    @Test
+    @DisplayName("hash가 없는 URL은 재검증 하도록 응답한다")
+    void plainUrlRevalidates() throws Exception {
+        mockMvc.perform(get("/css/index.css"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache"));
+    }
+
+    @Test
+    @DisplayName("gzip을 지원하면 미리 압축된 파일을 전송한다")
+    void precompressed() throws Exception {
+        String url = resourceUrlProvider.getForLookupPath("/css/index.css");
+
+        mockMvc.perform(get(url).header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"));
+    }
+
+    @Test
+    @DisplayName("css 안의 이미지 경로도 hash URL로 변환된다")
+    void cssLinksRewritten() throws Exception {
+        String url = resourceUrlProvider.getForLookupPath("/css/index.css");
+
+        mockMvc.perform(get(url))
+                .andExpect(content().string(containsString("/images/banner-")));
+    }
+}
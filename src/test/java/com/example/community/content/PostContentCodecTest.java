@@ -0,0 +1,115 @@
+package com.example.community.content;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostContentCodecTest {
+
+    private final PostContentCodec codec = new PostContentCodec(true, 100, -1, 0.9);
+
+    // 반복이 많은 긴 본문 (붙여넣은 로그)
+    private static String log(int lines) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            text.append("2026-10-19 12:00:").append(i % 60).append(" INFO [exec-").append(i % 8)
+                    .append("] 게시글 조회 id=").append(i).append('\n');
+        }
+        return text.toString();
+    }
+
+    @Test
+    void shortContentStaysPlain() {
+        String text = "짧은 본문";
+
+        assertThat(codec.encode(text)).isEqualTo(text);
+        assertThat(codec.decode(text)).isEqualTo(text);
+        assertThat(codec.plainWrites()).isEqualTo(1);
+        assertThat(codec.compressedWrites()).isZero();
+    }
+
+    @Test
+    void longContentRoundTrip() {
+        String text = log(500);
+
+        String stored = codec.encode(text);
+
+        assertThat(PostContentCodec.isCompressed(stored)).isTrue();
+        assertThat(stored.length()).isLessThan(text.length() / 3);
+        assertThat(codec.decode(stored)).isEqualTo(text);
+        assertThat(codec.compressionRatio()).isLessThan(0.3);
+        assertThat(codec.decompressions()).isEqualTo(1);
+    }
+
+    @Test
+    void decodePrefix() {
+        String text = log(500);
+        String stored = codec.encode(text);
+
+        assertThat(codec.decode(stored, 50)).isEqualTo(text.substring(0, 50));
+        assertThat(codec.decode(text, 50)).isEqualTo(text.substring(0, 50));
+        assertThat(codec.decode(stored, text.length() + 10)).isEqualTo(text);
+    }
+
+    @Test
+    void incompressibleContentStaysPlain() {
+        Random random = new Random(1);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            text.append((char) ('!' + random.nextInt(90)));
+        }
+
+        // Base64 로 커지는 만큼 줄지 않으면 원문
+        assertThat(codec.encode(text.toString())).isEqualTo(text.toString());
+        assertThat(codec.compressedWrites()).isZero();
+    }
+
+    @Test
+    void plainContentStartingWithHeaderIsEscaped() {
+        String text = PostContentCodec.HEADER + "D 압축된 것처럼 보이는 원문";
+
+        String stored = codec.encode(text);
+
+        assertThat(stored).isNotEqualTo(text);
+        assertThat(PostContentCodec.isCompressed(stored)).isFalse();
+        assertThat(codec.decode(stored)).isEqualTo(text);
+        assertThat(PostContentCodec.contains(stored, "원문")).isTrue();
+    }
+
+    @Test
+    void disabledWritesPlainButReadsCompressed() {
+        String text = log(500);
+        String stored = codec.encode(text);
+        PostContentCodec disabled = new PostContentCodec(false, 100, -1, 0.9);
+
+        assertThat(disabled.encode(text)).isEqualTo(text);
+        assertThat(disabled.decode(stored)).isEqualTo(text);
+    }
+
+    @Test
+    void containsAcrossBufferBoundary() {
+        // 8K 버퍼 경계에 걸치도록 앞에 글자를 채운다
+        String keyword = "찾는키워드";
+        String text = "가".repeat(8 * 1024 - 2) + keyword + log(200);
+        String stored = codec.encode(text);
+
+        assertThat(PostContentCodec.isCompressed(stored)).isTrue();
+        assertThat(PostContentCodec.contains(stored, keyword)).isTrue();
+        assertThat(PostContentCodec.contains(stored, "id=199\n")).isTrue();
+        assertThat(PostContentCodec.contains(stored, "없는키워드")).isFalse();
+        assertThat(PostContentCodec.contains(text, keyword)).isTrue();
+        assertThat(PostContentCodec.contains(null, keyword)).isFalse();
+    }
+
+    @Test
+    void unknownFormat() {
+        String stored = PostContentCodec.HEADER + "X";
+
+        assertThatThrownBy(() -> codec.decode(stored)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new PostContentCodec(true, 100, 10, 0.9))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
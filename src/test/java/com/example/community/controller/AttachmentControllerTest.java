@@ -0,0 +1,253 @@
+package com.example.community.controller;
+
+import com.example.community.attachment.AttachmentStorage;
+import com.example.community.domain.post.PostEntity;
+import com.example.community.domain.user.UserEntity;
+import com.example.community.domain.user.UserRole;
+import com.example.community.persistence.PostRepository;
+import com.example.community.persistence.UserRepository;
+import com.example.community.security.CustomUserDetails;
+import com.example.community.service.AttachmentService;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "community.attachments.root=build/test-attachments",
+        "community.attachments.user-quota=64KB"
+})
+@AutoConfigureMockMvc
+@Transactional
+class AttachmentControllerTest {
+
+    private static final String FILES_URI = "/api/posts/{postId}/files";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private AttachmentService attachmentService;
+
+    @Autowired
+    private AttachmentStorage attachmentStorage;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Authentication ownerAuth;
+    private Authentication otherAuth;
+    private Long ownerId;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        UserEntity owner = saveUser("fileOwner_" + System.nanoTime());
+        UserEntity other = saveUser("fileOther_" + System.nanoTime());
+        ownerId = owner.getId();
+        ownerAuth = auth(owner);
+        otherAuth = auth(other);
+
+        postId = postRepository.saveAndFlush(PostEntity.builder()
+                .boardId(1L)
+                .userId(ownerId)
+                .title("[TEST] AttachmentControllerTest")
+                .content("첨부 파일 테스트")
+                .build()).getId();
+    }
+
+    private UserEntity saveUser(String username) {
+        return userRepository.saveAndFlush(UserEntity.builder()
+                .username(username)
+                .password("pw")
+                .name(username)
+                .nickname(username)
+                .email(username + "@example.com")
+                .role(UserRole.USER)
+                .active(true)
+                .build());
+    }
+
+    private static Authentication auth(UserEntity user) {
+        CustomUserDetails principal = new CustomUserDetails(user);
+        return new UsernamePasswordAuthenticationToken(principal, principal.getPassword(), principal.getAuthorities());
+    }
+
+    private static RequestPostProcessor as(Authentication auth) {
+        return authentication(auth);
+    }
+
+    // 실행마다 다른 내용 (저장소는 테스트 사이에 남는다)
+    private static byte[] content(int size) {
+        byte[] bytes = new byte[size];
+        new Random(System.nanoTime()).nextBytes(bytes);
+        return bytes;
+    }
+
+    // 사용량은 UPDATE 로만 바뀌므로 영속성 컨텍스트를 비우고 읽는다
+    private long usedBytes() {
+        entityManager.clear();
+        return attachmentService.usage(ownerId).getUsedBytes();
+    }
+
+    private JSONObject upload(String name, byte[] body) throws Exception {
+        MvcResult result = mockMvc.perform(post(FILES_URI, postId)
+                        .with(as(ownerAuth))
+                        .with(csrf())
+                        .param("name", name)
+                        .contentType("application/octet-stream")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn();
+        return new JSONObject(result.getResponse().getContentAsString(StandardCharsets.UTF_8)).getJSONObject("file");
+    }
+
+    @Test
+    void uploadAndDownload() throws Exception {
+        byte[] body = content(1000);
+
+        JSONObject file = upload("report.pdf", body);
+
+        assertThat(file.getLong("fileSize")).isEqualTo(1000);
+        assertThat(file.getString("extension")).isEqualTo("pdf");
+        assertThat(attachmentStorage.exists(file.getString("storedName"))).isTrue();
+        assertThat(usedBytes()).isEqualTo(1000);
+
+        mockMvc.perform(get(FILES_URI + "/{fileId}", postId, file.getLong("id")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + file.getString("storedName") + "\""))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 1000))
+                .andExpect(content().bytes(body));
+    }
+
+    @Test
+    void rangeAndConditionalRequests() throws Exception {
+        byte[] body = content(1000);
+        JSONObject file = upload("data.bin.zip", body);
+        String uri = FILES_URI + "/" + file.getLong("id");
+        String etag = "\"" + file.getString("storedName") + "\"";
+
+        mockMvc.perform(get(uri, postId).header(HttpHeaders.RANGE, "bytes=100-199"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 100-199/1000"))
+                .andExpect(content().bytes(Arrays.copyOfRange(body, 100, 200)));
+
+        mockMvc.perform(get(uri, postId).header(HttpHeaders.RANGE, "bytes=-10"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes(Arrays.copyOfRange(body, 990, 1000)));
+
+        mockMvc.perform(get(uri, postId).header(HttpHeaders.RANGE, "bytes=5000-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */1000"));
+
+        mockMvc.perform(get(uri, postId).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        // 다른 버전에 대한 If-Range 는 전체를 보낸다
+        mockMvc.perform(get(uri, postId)
+                        .header(HttpHeaders.RANGE, "bytes=100-199")
+                        .header(HttpHeaders.IF_RANGE, "\"other\""))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(body));
+    }
+
+    @Test
+    void sameContentIsStoredOnce() throws Exception {
+        byte[] body = content(2000);
+        long duplicates = attachmentStorage.duplicates();
+
+        JSONObject first = upload("a.txt", body);
+        JSONObject second = upload("b.txt", body);
+
+        assertThat(second.getLong("id")).isNotEqualTo(first.getLong("id"));
+        assertThat(second.getString("storedName")).isEqualTo(first.getString("storedName"));
+        assertThat(attachmentStorage.duplicates()).isEqualTo(duplicates + 1);
+        // 사용량은 첨부마다 센다
+        assertThat(usedBytes()).isEqualTo(4000);
+        assertThat(attachmentService.getList(postId)).hasSize(2);
+    }
+
+    @Test
+    void quotaAndSizeLimits() throws Exception {
+        upload("big.zip", content(40 * 1024));
+
+        mockMvc.perform(post(FILES_URI, postId)
+                        .with(as(ownerAuth))
+                        .with(csrf())
+                        .param("name", "big2.zip")
+                        .content(content(40 * 1024)))
+                .andExpect(status().is(413))
+                .andExpect(jsonPath("$.success").value(false));
+
+        assertThat(usedBytes()).isEqualTo(40 * 1024);
+        assertThat(attachmentService.getList(postId)).hasSize(1);
+    }
+
+    @Test
+    void rejectsOtherUsersAndUnknownExtensions() throws Exception {
+        mockMvc.perform(post(FILES_URI, postId)
+                        .with(as(otherAuth))
+                        .with(csrf())
+                        .param("name", "a.txt")
+                        .content(content(10)))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post(FILES_URI, postId)
+                        .with(as(ownerAuth))
+                        .with(csrf())
+                        .param("name", "run.exe")
+                        .content(content(10)))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(post(FILES_URI, Long.MAX_VALUE)
+                        .with(as(ownerAuth))
+                        .with(csrf())
+                        .param("name", "a.txt")
+                        .content(content(10)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void deleteReleasesQuota() throws Exception {
+        JSONObject file = upload("memo.txt", content(3000));
+        String uri = FILES_URI + "/" + file.getLong("id");
+
+        mockMvc.perform(delete(uri, postId).with(as(otherAuth)).with(csrf()))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(delete(uri, postId).with(as(ownerAuth)).with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+
+        assertThat(usedBytes()).isZero();
+        mockMvc.perform(get(uri, postId))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -147,6 +147,26 @@ class MainControllerTest {
         log.info("testIndex 완료");
     }
 
+    /**
+     * 메인 피드 공지글 제외 테스트
+     */
+    @Test
+    @DisplayName("index - 메인 피드는 공지글을 제외하고 페이지 크기와 전체 건수가 맞다")
+    void testIndex_feedExcludesNotice() throws Exception {
+        mockMvc.perform(get("/").param("size", "2"))
+                .andExpect(status().isOk())
+                // 일반 게시글 3개 중 조회수 순 2개
+                .andExpect(model().attribute("postPage", hasProperty("content", contains(
+                        hasProperty("title", is("인기글")),
+                        hasProperty("title", is("테스트 제목 검색키워드"))))))
+                .andExpect(model().attribute("postPage", hasProperty("totalElements", is(3L))));
+
+        mockMvc.perform(get("/").param("page", "2").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("postPage", hasProperty("content", contains(
+                        hasProperty("title", is("일반 제목"))))));
+    }
+
     /**
      * 공지 카테고리가 없을 경우 테스트
      */
@@ -0,0 +1,89 @@
+package com.example.community.dataset;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 합성 데이터 생성기 테스트
+ * 공용 파일 DB 를 오염시키지 않도록 별도 인메모리 DB 사용
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:dataset;DB_CLOSE_DELAY=-1;MODE=MySQL",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never"
+})
+@Slf4j
+class DatasetGeneratorTest {
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("같은 seed 는 같은 데이터를 만들고, 카운터 컬럼은 실제 행 수와 일치한다")
+    void testDeterministicAndConsistent() throws Exception {
+        DatasetSummary first = new DatasetGenerator(DatasetSpec.small()).generate(dataSource);
+        DatasetSummary second = new DatasetGenerator(DatasetSpec.small()).generate(dataSource);
+        log.info("first = {}, second = {}", first, second);
+
+        // 두 번째는 첫 번째 뒤에 이어서 적재
+        assertThat(second.firstPostId()).isEqualTo(first.firstPostId() + first.posts());
+        assertThat(second.comments()).isEqualTo(first.comments());
+        assertThat(titles(second)).isEqualTo(titles(first));
+
+        long comments = count("SELECT COUNT(*) FROM comments WHERE post_id BETWEEN ? AND ?", first);
+        long commentsCount = count("SELECT SUM(comments_count) FROM posts WHERE id BETWEEN ? AND ?", first);
+        assertThat(comments).isEqualTo(first.comments());
+        assertThat(commentsCount).isEqualTo(first.comments());
+
+        // id 시퀀스가 생성한 행 뒤로 옮겨져 JPA 저장과 충돌하지 않는다
+        Long boardId = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR boards_seq", Long.class);
+        assertThat(boardId).isEqualTo(second.firstBoardId() + second.boards());
+    }
+
+    @Test
+    @DisplayName("조회수는 소수의 게시글에 쏠린다")
+    void testZipfViews() throws Exception {
+        DatasetSummary summary = new DatasetGenerator(DatasetSpec.small().withSeed(7)).generate(dataSource);
+
+        List<Integer> views = jdbcTemplate.queryForList(
+                "SELECT view_count FROM posts WHERE id BETWEEN ? AND ? ORDER BY view_count DESC",
+                Integer.class, summary.postId(0), summary.postId(summary.posts() - 1));
+
+        long total = views.stream().mapToLong(Integer::longValue).sum();
+        long top = views.subList(0, views.size() / 10).stream().mapToLong(Integer::longValue).sum();
+        assertThat(top).isGreaterThan(total / 2);
+    }
+
+    @Test
+    @DisplayName("CSVREAD 적재는 batch 적재와 같은 결과를 만든다")
+    void testCsvRead() throws Exception {
+        DatasetSpec spec = DatasetSpec.small().withSeed(11);
+        DatasetSummary batch = new DatasetGenerator(spec).generate(dataSource);
+        DatasetSummary csv = new DatasetGenerator(spec.withCsvRead(true)).generate(dataSource);
+
+        assertThat(csv.comments()).isEqualTo(batch.comments());
+        assertThat(csv.messages()).isEqualTo(batch.messages());
+        assertThat(titles(csv)).isEqualTo(titles(batch));
+    }
+
+    private List<String> titles(DatasetSummary summary) {
+        return jdbcTemplate.queryForList("SELECT post_title FROM posts WHERE id BETWEEN ? AND ? ORDER BY id",
+                String.class, summary.postId(0), summary.postId(summary.posts() - 1));
+    }
+
+    private long count(String sql, DatasetSummary summary) {
+        return jdbcTemplate.queryForObject(sql, Long.class, summary.postId(0), summary.postId(summary.posts() - 1));
+    }
+}
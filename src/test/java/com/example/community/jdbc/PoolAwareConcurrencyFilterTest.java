@@ -0,0 +1,72 @@
+package com.example.community.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 커넥션 풀 기반 동시 요청 제한 테스트
+ */
+class PoolAwareConcurrencyFilterTest {
+
+    @Test
+    @DisplayName("허용 수를 넘는 요청은 maxWait 뒤 503, 끝나면 다시 허용")
+    void rejectWhenSaturated() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PoolAwareConcurrencyFilter filter = new PoolAwareConcurrencyFilter(1, Duration.ofMillis(50), meterRegistry);
+
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread first = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(request("/board/1/post/list"), new MockHttpServletResponse(), (req, res) -> {
+                    entered.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(filter.getInFlight()).isEqualTo(1);
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(request("/"), rejected, (req, res) -> {
+        });
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(meterRegistry.counter(PoolAwareConcurrencyFilter.REJECTED_METRIC).count()).isEqualTo(1);
+
+        // 정적 리소스는 제한하지 않는다
+        MockHttpServletResponse asset = new MockHttpServletResponse();
+        filter.doFilter(request("/css/index.css"), asset, (req, res) -> {
+        });
+        assertThat(asset.getStatus()).isEqualTo(200);
+
+        release.countDown();
+        first.join();
+
+        MockHttpServletResponse accepted = new MockHttpServletResponse();
+        filter.doFilter(request("/"), accepted, (req, res) -> {
+        });
+        assertThat(accepted.getStatus()).isEqualTo(200);
+        assertThat(filter.getInFlight()).isZero();
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        return new MockHttpServletRequest("GET", uri);
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.community.jdbc;
+
+import com.example.community.domain.user.UserEntity;
+import com.example.community.domain.user.UserRole;
+import com.example.community.persistence.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 라우팅 테스트
+ * - primary, replica 를 서로 다른 메모리 H2 로 두고 replica 에만 표시 테이블을 만들어 어느 쪽으로 갔는지 구분한다
+ * - 복제와 지연 측정은 주기 실행 대신 테스트에서 직접 호출한다
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rw-primary;DB_CLOSE_DELAY=-1;MODE=MySQL",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "community.datasource.routing.enabled=true",
+        "community.datasource.routing.replica.url=jdbc:h2:mem:rw-replica;DB_CLOSE_DELAY=-1;MODE=MySQL",
+        "community.datasource.routing.heartbeat-interval=1h"
+})
+class ReadWriteRoutingDataSourceTest {
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    ReadWriteDataSources dataSources;
+
+    @Autowired
+    ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    UserRepository userRepository;
+
+    private LocalReplicaSynchronizer synchronizer;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        synchronizer = new LocalReplicaSynchronizer(dataSources.primary(), dataSources.replica(), Duration.ofHours(1));
+        replicate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        if (userId != null) {
+            userRepository.deleteById(userId);
+        }
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 replica, 일반 트랜잭션은 primary 로 간다")
+    void testReadOnlyGoesToReplica() {
+        assertThat(readsFromReplica(true)).isTrue();
+        assertThat(readsFromReplica(false)).isFalse();
+    }
+
+    @Test
+    @DisplayName("replica 지연을 측정할 수 없으면 readOnly 트랜잭션도 primary 로 간다")
+    void testFallbackWhenLagUnknown() {
+        new JdbcTemplate(dataSources.replica()).execute("DROP TABLE " + ReplicaLagMonitor.HEARTBEAT_TABLE);
+        replicaLagMonitor.check();
+
+        assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+        assertThat(readsFromReplica(true)).isFalse();
+    }
+
+    @Test
+    @DisplayName("쓰기 후 같은 세션의 읽기는 replica 가 따라올 때까지 primary 로 간다")
+    void testReadYourWrites() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.getSession(true);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        userId = userRepository.save(UserEntity.builder()
+                .username("replica_user")
+                .password("1234")
+                .name("복제 테스트")
+                .nickname("복제유저")
+                .email("replica_user@test.com")
+                .role(UserRole.USER)
+                .active(true)
+                .emailVerified(true)
+                .build()).getId();
+
+        assertThat(ReadYourWrites.lastWrite()).isNotNull();
+        assertThat(readsFromReplica(true)).isFalse();
+
+        // 같은 ms 의 heartbeat 는 반영 전으로 보므로 시각을 넘긴 뒤 복제
+        Thread.sleep(5);
+        replicate();
+
+        assertThat(readsFromReplica(true)).isTrue();
+
+        // 다른 세션은 처음부터 replica
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertThat(readsFromReplica(true)).isTrue();
+    }
+
+    /**
+     * heartbeat 기록 -> primary 복사 -> 표시 테이블 생성 -> 지연 측정
+     */
+    private void replicate() throws Exception {
+        replicaLagMonitor.check();
+        synchronizer.sync();
+        new JdbcTemplate(dataSources.replica()).execute("CREATE TABLE replica_marker (id INT)");
+        replicaLagMonitor.check();
+    }
+
+    private boolean readsFromReplica(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        Integer markers = template.execute(status -> new JdbcTemplate(dataSource).queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE UPPER(TABLE_NAME) = 'REPLICA_MARKER'",
+                Integer.class));
+        return markers != null && markers > 0;
+    }
+}
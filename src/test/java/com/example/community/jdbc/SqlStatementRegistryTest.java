@@ -0,0 +1,85 @@
+package com.example.community.jdbc;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQL fingerprint / 히스토그램 / 느린 SQL 로그 테스트
+ */
+class SqlStatementRegistryTest {
+
+    @Test
+    @DisplayName("리터럴과 IN 목록 길이가 달라도 같은 fingerprint")
+    void normalize() {
+        assertThat(SqlFingerprint.normalize("select * from posts p1_0 where p1_0.id = 10 and p1_0.title = 'it''s'"))
+                .isEqualTo("select * from posts p1_0 where p1_0.id = ? and p1_0.title = ?");
+        assertThat(SqlFingerprint.normalize("select *\n  from users where user_id in (?, ?, ?)"))
+                .isEqualTo(SqlFingerprint.normalize("select * from users where user_id in (?)"));
+        assertThat(SqlFingerprint.normalize("select 1.5 from dual"))
+                .isEqualTo("select ? from dual");
+    }
+
+    @Test
+    @DisplayName("같은 fingerprint 는 한 통계로 모이고 총 시간 순으로 조회된다")
+    void topStatements() {
+        SqlStatementRegistry registry = new SqlStatementRegistry(1.0, Duration.ofSeconds(1), 100, 10);
+
+        registry.record("select * from users where user_id = 1", 1_000_000L);
+        registry.record("select * from users where user_id = 2", 3_000_000L);
+        String fingerprint = registry.record("select * from posts where id = ?", 10_000_000L);
+
+        assertThat(fingerprint).isEqualTo("select * from posts where id = ?");
+        assertThat(registry.getFingerprintCount()).isEqualTo(2);
+
+        List<SqlStatementStats.Snapshot> top = registry.getTopStatements(10);
+        assertThat(top).extracting(SqlStatementStats.Snapshot::fingerprint)
+                .containsExactly("select * from posts where id = ?", "select * from users where user_id = ?");
+        assertThat(top.get(1).count()).isEqualTo(2);
+        assertThat(top.get(1).maxMs()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("fingerprint 상한을 넘으면 OTHER 로 합친다")
+    void maxFingerprints() {
+        SqlStatementRegistry registry = new SqlStatementRegistry(1.0, Duration.ofSeconds(1), 1, 10);
+
+        registry.record("select * from users", 1_000L);
+        assertThat(registry.record("select * from posts", 1_000L)).isEqualTo(SqlStatementRegistry.OTHER);
+        assertThat(registry.getFingerprintCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("히스토그램 백분위는 구간 상한 기준 25% 이내")
+    void histogram() {
+        StatementHistogram histogram = new StatementHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1_000_000L);
+        }
+
+        assertThat(histogram.percentileMillis(0.5)).isBetween(50.0, 62.5);
+        assertThat(histogram.percentileMillis(0.99)).isBetween(99.0, 124.0);
+        assertThat(StatementHistogram.upperBoundMicros(StatementHistogram.bucket(1))).isEqualTo(1);
+        assertThat(StatementHistogram.upperBoundMicros(StatementHistogram.bucket(3))).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("느린 SQL 은 최근 N건만 보관하고 오래 걸린 순으로 조회")
+    void slowStatementLog() {
+        SqlStatementRegistry registry = new SqlStatementRegistry(1.0, Duration.ofMillis(100), 100, 2);
+
+        registry.record("select 1", 50_000_000L);
+        registry.record("select * from posts", 150_000_000L);
+        registry.record("select * from comments", 300_000_000L);
+        registry.record("select * from users", 200_000_000L);
+
+        SlowStatementLog log = registry.getSlowStatementLog();
+        assertThat(log.getTotalCount()).isEqualTo(3);
+        assertThat(log.snapshot()).extracting(SlowStatementLog.SlowStatement::fingerprint)
+                .containsExactly("select * from comments", "select * from users");
+    }
+}
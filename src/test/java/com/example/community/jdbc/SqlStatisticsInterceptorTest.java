@@ -0,0 +1,127 @@
+package com.example.community.jdbc;
+
+import com.example.community.domain.board.BoardEntity;
+import com.example.community.domain.post.PostEntity;
+import com.example.community.persistence.BoardRepository;
+import com.example.community.persistence.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 요청별 SQL 통계 테스트
+ */
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@Transactional
+@Slf4j
+class SqlStatisticsInterceptorTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Test
+    @DisplayName("DataSource 는 InstrumentedDataSource 로 감싸진다")
+    void dataSourceWrapped() {
+        assertThat(dataSource).isInstanceOf(InstrumentedDataSource.class);
+    }
+
+    @Test
+    @DisplayName("컨트롤러 응답에 SQL 통계 헤더가 붙고, 목록/검색은 게시글 수만큼 반복 조회하지 않는다")
+    void headersExposed() throws Exception {
+        BoardEntity board = boardRepository.save(BoardEntity.builder()
+                .title("SQL 통계 게시판")
+                .category("FREE")
+                .build());
+        savePosts(board.getId(), 0, 3);
+
+        // 캐시 적재 등 첫 요청에만 도는 쿼리를 빼고 잰다
+        perform(list(board.getId()));
+        MvcResult listResult = perform(list(board.getId()));
+        MvcResult searchResult = perform(search(board.getId(), "SQL 통계"));
+
+        int count = headerValue(listResult, SqlStatisticsInterceptor.HEADER_COUNT);
+        int repeated = headerValue(listResult, SqlStatisticsInterceptor.HEADER_REPEATED);
+        log.info("statements={}, repeated={}", count, repeated);
+        assertThat(count).isPositive();
+
+        // 작성자 닉네임은 목록 쿼리에서 함께 읽으므로 게시글이 늘어도 반복 실행은 늘지 않는다 (N+1 없음)
+        savePosts(board.getId(), 3, 6);
+        assertThat(headerValue(perform(list(board.getId())), SqlStatisticsInterceptor.HEADER_REPEATED))
+                .isLessThanOrEqualTo(repeated);
+        // 검색은 결과 캐시를 거치지 않도록 다른 검색어로 (같은 6건)
+        assertThat(headerValue(perform(search(board.getId(), "SQL 통")), SqlStatisticsInterceptor.HEADER_REPEATED))
+                .isLessThanOrEqualTo(headerValue(searchResult, SqlStatisticsInterceptor.HEADER_REPEATED));
+    }
+
+    @Test
+    @DisplayName("같은 SQL 반복 횟수를 fingerprint 별로 센다")
+    void repeatedFingerprint() {
+        SqlStatistics statistics = new SqlStatistics();
+        statistics.record("select * from users where user_id=?", 1_000_000L);
+        statistics.record("select * from users where user_id=?", 2_000_000L);
+        statistics.record("select * from posts where id=?", 1_000_000L);
+
+        assertThat(statistics.getStatementCount()).isEqualTo(3);
+        assertThat(statistics.getDistinctStatementCount()).isEqualTo(2);
+        assertThat(statistics.getRepeatedStatementCount()).isEqualTo(1);
+        assertThat(statistics.getMostRepeatedCount()).isEqualTo(2);
+        assertThat(statistics.getMostRepeatedFingerprint()).isEqualTo("select * from users where user_id=?");
+        assertThat(statistics.getTotalMillis()).isEqualTo(4);
+    }
+
+    private void savePosts(Long boardId, int from, int to) {
+        for (int i = from; i < to; i++) {
+            postRepository.save(PostEntity.builder()
+                    .userId(1L)
+                    .boardId(boardId)
+                    .title("SQL 통계 " + i)
+                    .content("내용")
+                    .build());
+        }
+    }
+
+    private static MockHttpServletRequestBuilder list(Long boardId) {
+        return get("/board/{boardId}/post/list", boardId);
+    }
+
+    // 게시판 내 제목 검색
+    private static MockHttpServletRequestBuilder search(Long boardId, String keyword) {
+        return list(boardId).param("searchType", "title").param("keyword", keyword);
+    }
+
+    private MvcResult perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(header().exists(SqlStatisticsInterceptor.HEADER_COUNT))
+                .andExpect(header().exists(SqlStatisticsInterceptor.HEADER_TIME))
+                .andReturn();
+    }
+
+    private static int headerValue(MvcResult result, String name) {
+        return Integer.parseInt(result.getResponse().getHeader(name));
+    }
+}
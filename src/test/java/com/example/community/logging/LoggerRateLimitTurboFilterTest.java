@@ -0,0 +1,78 @@
+package com.example.community.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoggerRateLimitTurboFilterTest {
+
+    private LoggerRateLimitTurboFilter filter;
+    private Logger hotLogger;
+    private Logger otherLogger;
+
+    @BeforeEach
+    void setUp() {
+        LoggerContext context = new LoggerContext();
+        hotLogger = context.getLogger("hot");
+        hotLogger.setLevel(Level.DEBUG);
+        otherLogger = context.getLogger("other");
+        otherLogger.setLevel(Level.DEBUG);
+
+        filter = new LoggerRateLimitTurboFilter();
+        filter.setPermitsPerSecond(3);
+        filter.setMaxLevel("INFO");
+        filter.start();
+    }
+
+    @Test
+    @DisplayName("허용 건수를 넘긴 INFO 로그는 버려진다")
+    void dropsOverLimit() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(decide(hotLogger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+        }
+
+        assertThat(decide(hotLogger, Level.INFO)).isEqualTo(FilterReply.DENY);
+        assertThat(filter.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("WARN 이상은 제한하지 않는다")
+    void warnAlwaysPasses() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(decide(hotLogger, Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    @Test
+    @DisplayName("로거마다 따로 센다")
+    void perLogger() {
+        for (int i = 0; i < 3; i++) {
+            decide(hotLogger, Level.INFO);
+        }
+
+        assertThat(decide(hotLogger, Level.INFO)).isEqualTo(FilterReply.DENY);
+        assertThat(decide(otherLogger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    @DisplayName("비활성 레벨 로그는 세지 않는다")
+    void disabledLevelNotCounted() {
+        hotLogger.setLevel(Level.INFO);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(decide(hotLogger, Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+        }
+
+        assertThat(decide(hotLogger, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "message {}", new Object[]{1}, null);
+    }
+}
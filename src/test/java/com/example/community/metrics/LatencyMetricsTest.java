@@ -0,0 +1,75 @@
+package com.example.community.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 컨트롤러/서비스 지연 시간 메트릭 테스트
+ */
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@Slf4j
+class LatencyMetricsTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    LatencyEndpoint latencyEndpoint;
+
+    @Test
+    @DisplayName("컨트롤러 핸들러와 서비스 메서드 지연 시간이 기록된다")
+    void recorded() throws Exception {
+        mockMvc.perform(get("/")).andExpect(status().isOk());
+
+        Timer controllerTimer = meterRegistry.find(LatencyMetricsInterceptor.CONTROLLER_METRIC)
+                .tag("class", "MainController")
+                .tag("method", "index")
+                .timer();
+        Timer serviceTimer = meterRegistry.find(LatencyMetricsInterceptor.SERVICE_METRIC)
+                .tag("class", "PostServiceImpl")
+                .tag("method", "getPopularPosts")
+                .timer();
+
+        assertThat(controllerTimer).isNotNull();
+        assertThat(controllerTimer.count()).isPositive();
+        assertThat(serviceTimer).isNotNull();
+        assertThat(serviceTimer.count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("latency 엔드포인트는 p50/p95/p99/max 를 반환한다")
+    void endpoint() throws Exception {
+        mockMvc.perform(get("/")).andExpect(status().isOk());
+
+        List<LatencyEndpoint.LatencySummary> summaries = latencyEndpoint.latencyByLayer("controller");
+        log.info("controller latency = {}", summaries);
+
+        assertThat(summaries).anySatisfy(summary -> {
+            assertThat(summary.className()).isEqualTo("MainController");
+            assertThat(summary.p99Ms()).isGreaterThanOrEqualTo(summary.p50Ms());
+            assertThat(summary.maxMs()).isPositive();
+        });
+
+        mockMvc.perform(get("/actuator/latency"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].p99Ms").exists());
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.community.persistence;
+
+import com.example.community.domain.board.BoardEntity;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IDENTITY -> 시퀀스 id 마이그레이션 테스트
+ * 시퀀스를 직접 조작하므로 별도 인메모리 DB 사용
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:id-sequence;DB_CLOSE_DELAY=-1;MODE=MySQL",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never"
+})
+class IdSequenceMigrationTest {
+
+    static final IdSequenceMigration.IdSequence BOARDS = IdSequenceMigration.SEQUENCES.stream()
+            .filter(sequence -> sequence.table().equals("boards"))
+            .findFirst()
+            .orElseThrow();
+
+    @Autowired
+    IdSequenceMigration idSequenceMigration;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("기존 행이 있으면 시퀀스를 MAX(id) 뒤로 옮기고, 저장은 그 뒤 id 를 받는다")
+    void testMigrateExistingRows() {
+        jdbcTemplate.update("INSERT INTO boards (id, title, category, created_at, updated_at) "
+                + "VALUES (1000, '기존 게시판', 'FREE', NOW(), NOW())");
+
+        idSequenceMigration.migrate(BOARDS);
+
+        BoardEntity saved = boardRepository.save(BoardEntity.builder().title("새 게시판").category("FREE").build());
+        assertThat(saved.getId()).isGreaterThan(1000L);
+
+        // 이미 앞서 있는 시퀀스는 되돌리지 않는다
+        jdbcTemplate.update("DELETE FROM boards WHERE id = 1000");
+        Long before = jdbcTemplate.queryForObject(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'BOARDS_SEQ'", Long.class);
+        idSequenceMigration.migrate(BOARDS);
+        Long after = jdbcTemplate.queryForObject(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'BOARDS_SEQ'", Long.class);
+        assertThat(after).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("시퀀스가 없으면 MAX(id)+1 부터 시작하도록 만든다")
+    void testCreateMissingSequence() {
+        jdbcTemplate.execute("DROP SEQUENCE messages_seq");
+        IdSequenceMigration.IdSequence messages = IdSequenceMigration.SEQUENCES.stream()
+                .filter(sequence -> sequence.table().equals("messages"))
+                .findFirst()
+                .orElseThrow();
+
+        idSequenceMigration.migrate(messages);
+
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM messages", Long.class);
+        Long next = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR messages_seq", Long.class);
+        assertThat(next).isEqualTo(maxId + 1);
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.community.persistence;
 
+import com.example.community.domain.comment.CommentEntity;
 import com.example.community.domain.post.PostEntity;
+import com.example.community.domain.post.PostSearchType;
+import com.example.community.domain.post.PostSummaryDto;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +12,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -20,6 +26,9 @@ class PostRepositoryTest {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private CommentRepository commentRepository;
+
     private final Long BOARD_ID = 1L;
     private final Long USER_ID = 1L;
 
@@ -64,6 +73,26 @@ class PostRepositoryTest {
         log.info("boardId={} totalElements={}", BOARD_ID, page.getTotalElements());
     }
 
+    @Test
+    public void testFindSummariesByBoardId() {
+        // PostController.list 와 같은 정렬 (고정글 먼저, 최신순)
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "fixed")
+                .and(Sort.by(Sort.Direction.DESC, "id")));
+        Page<PostSummaryDto> summaries = postRepository.findSummariesByBoardId(BOARD_ID, pageable);
+        Page<PostEntity> entities = postRepository.findByBoardId(BOARD_ID, pageable);
+
+        // 엔티티 목록과 같은 글, 같은 순서, 같은 전체 건수
+        assertEquals(entities.getTotalElements(), summaries.getTotalElements());
+        assertThat(summaries.getContent()).extracting(PostSummaryDto::getId)
+                .containsExactlyElementsOf(entities.getContent().stream().map(PostEntity::getId).toList());
+        // 게시판 제목과 작성자 닉네임을 같은 쿼리에서 채운다
+        assertThat(summaries.getContent()).allSatisfy(post -> {
+            assertThat(post.getBoardId()).isEqualTo(BOARD_ID);
+            assertThat(post.getBoardTitle()).isNotNull();
+            assertThat(post.getWriter()).isNotNull();
+        });
+    }
+
     @Test
     public void testCreate() {
         String title = "[TEST] PostRepositoryTest#testCreate";
@@ -315,4 +344,107 @@ class PostRepositoryTest {
                     .isGreaterThanOrEqualTo(result.getContent().get(i + 1).getViewCount());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @Transactional
+    public void testSearchInBoardByCommentContent() {
+        // 댓글 두 개가 키워드를 포함해도 게시글은 한 번만 센다
+        String keyword = "댓글검색어";
+        PostEntity post = postRepository.save(
+                PostEntity.builder()
+                        .boardId(BOARD_ID)
+                        .userId(USER_ID)
+                        .title("[TEST] 댓글 검색 제목")
+                        .content("내용")
+                        .postType((short) 0)
+                        .fixed((short) 0)
+                        .viewCount(0)
+                        .commentsCount(0)
+                        .likesCount(0)
+                        .build()
+        );
+        for (int i = 0; i < 2; i++) {
+            commentRepository.save(CommentEntity.builder()
+                    .userId(USER_ID)
+                    .postEntity(post)
+                    .content(keyword + " " + i)
+                    .build());
+        }
+
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
+        Page<PostEntity> byComment = postRepository.searchInBoard(BOARD_ID, PostSearchType.COMMENT_CONTENT, keyword, pageable);
+        Page<PostEntity> byTitle = postRepository.searchInBoard(BOARD_ID, PostSearchType.TITLE, keyword, pageable);
+        Page<PostEntity> otherBoard = postRepository.searchInBoard(BOARD_ID + 1, PostSearchType.COMMENT_CONTENT, keyword, pageable);
+
+        assertThat(byComment.getTotalElements()).isEqualTo(1);
+        assertThat(byComment.getContent()).extracting(PostEntity::getId).containsExactly(post.getId());
+        assertThat(byTitle.getTotalElements()).isZero();
+        assertThat(otherBoard.getTotalElements()).isZero();
+    }
+
+    @Test
+    @Transactional
+    public void testSearchSummariesInBoard() {
+        PostEntity post = postRepository.save(
+                PostEntity.builder()
+                        .boardId(BOARD_ID)
+                        .userId(USER_ID)
+                        .title("[TEST] 목록검색어 제목")
+                        .content("목록검색어 내용")
+                        .postType((short) 0)
+                        .fixed((short) 0)
+                        .viewCount(0)
+                        .commentsCount(0)
+                        .likesCount(0)
+                        .build()
+        );
+        commentRepository.save(CommentEntity.builder()
+                .userId(USER_ID)
+                .postEntity(post)
+                .content("목록검색어 댓글")
+                .build());
+
+        // 검색 캐시가 결과 id 로 읽는 목록
+        List<PostSummaryDto> byIds = postRepository.findSummariesByIds(List.of(post.getId()));
+        assertThat(byIds).singleElement().satisfies(summary -> {
+            assertThat(summary.getTitle()).isEqualTo("[TEST] 목록검색어 제목");
+            assertThat(summary.getBoardTitle()).isNotNull();
+            assertThat(summary.getWriter()).isNotNull();
+        });
+        String writer = byIds.get(0).getWriter();
+
+        // 검색 타입마다 엔티티 검색과 같은 글, 같은 전체 건수
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "fixed")
+                .and(Sort.by(Sort.Direction.DESC, "id")));
+        for (PostSearchType searchType : PostSearchType.values()) {
+            boolean byWriter = searchType == PostSearchType.WRITER || searchType == PostSearchType.COMMENT_WRITER;
+            String keyword = byWriter ? writer : "목록검색어";
+            Page<PostSummaryDto> summaries = postRepository.searchSummariesInBoard(BOARD_ID, searchType, keyword, pageable);
+            Page<PostEntity> entities = postRepository.searchInBoard(BOARD_ID, searchType, keyword, pageable);
+
+            assertEquals(entities.getTotalElements(), summaries.getTotalElements(), searchType.name());
+            assertThat(summaries.getContent()).extracting(PostSummaryDto::getId)
+                    .containsExactlyElementsOf(entities.getContent().stream().map(PostEntity::getId).toList());
+            if (!byWriter) {
+                assertThat(summaries.getContent()).extracting(PostSummaryDto::getId).contains(post.getId());
+            }
+        }
+    }
+
+    @Test
+    public void testSearchIds() {
+        // 검색 결과 캐시 적재용 id 쿼리는 엔티티 검색과 같은 글, 같은 순서, 같은 전체 건수
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "id"));
+        for (PostSearchType searchType : PostSearchType.values()) {
+            Page<Long> ids = postRepository.searchIds(null, searchType, "a", pageable);
+            Page<PostEntity> entities = postRepository.search(searchType, "a", pageable);
+            assertEquals(entities.getTotalElements(), ids.getTotalElements(), searchType.name());
+            assertThat(ids.getContent()).containsExactlyElementsOf(entities.getContent().stream().map(PostEntity::getId).toList());
+
+            Page<Long> boardIds = postRepository.searchIds(BOARD_ID, searchType, "a", pageable);
+            Page<PostEntity> boardEntities = postRepository.searchInBoard(BOARD_ID, searchType, "a", pageable);
+            assertEquals(boardEntities.getTotalElements(), boardIds.getTotalElements(), searchType.name());
+            assertThat(boardIds.getContent()).containsExactlyElementsOf(boardEntities.getContent().stream().map(PostEntity::getId).toList());
+        }
+    }
+}
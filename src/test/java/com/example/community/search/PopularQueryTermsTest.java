@@ -0,0 +1,64 @@
+package com.example.community.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자주 검색한 검색어 테스트
+ */
+class PopularQueryTermsTest {
+
+    @Test
+    @DisplayName("정규화한 검색어를 횟수 순으로 접두어 검색한다")
+    void suggestByCount() {
+        PopularQueryTerms terms = new PopularQueryTerms(100, 10, 1_000, 1_000);
+        record(terms, "Spring  Boot", 3);
+        record(terms, "spring batch", 5);
+        record(terms, "스프링", 1);
+        terms.refresh();
+
+        assertThat(terms.suggest("SPRING", 10)).containsExactly(
+                new PopularQueryTerms.Term("spring batch", 5),
+                new PopularQueryTerms.Term("spring boot", 3));
+        assertThat(terms.suggest("없는", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("종류가 maxTerms 를 넘으면 횟수를 절반으로 줄여 한 번 찍힌 검색어를 버린다")
+    void decayWhenFull() {
+        PopularQueryTerms terms = new PopularQueryTerms(10, 10, 1_000, 1_000);
+        record(terms, "인기 검색어", 4);
+        for (int i = 0; i < 20; i++) {
+            terms.record("한 번 " + i);
+        }
+        terms.refresh();
+
+        assertThat(terms.size()).isEqualTo(1);
+        assertThat(terms.suggest("인기", 10)).containsExactly(new PopularQueryTerms.Term("인기 검색어", 2));
+
+        // 새로 자주 찍히는 검색어는 다시 들어온다
+        record(terms, "새 검색어", 3);
+        terms.refresh();
+        assertThat(terms.suggest("새", 10)).containsExactly(new PopularQueryTerms.Term("새 검색어", 3));
+    }
+
+    @Test
+    @DisplayName("decayEvery 번째 갱신마다 예전 횟수가 줄어든다")
+    void decayPeriodically() {
+        PopularQueryTerms terms = new PopularQueryTerms(100, 10, 1_000, 2);
+        record(terms, "예전 검색어", 8);
+        terms.refresh();
+        assertThat(terms.suggest("예전", 10)).containsExactly(new PopularQueryTerms.Term("예전 검색어", 8));
+
+        terms.refresh();
+        assertThat(terms.suggest("예전", 10)).containsExactly(new PopularQueryTerms.Term("예전 검색어", 4));
+    }
+
+    private static void record(PopularQueryTerms terms, String query, int times) {
+        for (int i = 0; i < times; i++) {
+            terms.record(query);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.community.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 제목 자동완성 색인 테스트
+ */
+class PrefixSuggestIndexTest {
+
+    @Test
+    @DisplayName("대소문자/공백을 정규화해 접두어로 찾고 조회수 순으로 준다")
+    void suggestByWeight() {
+        PrefixSuggestIndex index = loaded(
+                PrefixSuggestIndex.entry(1, 1, "Spring  Boot 시작하기", 10),
+                PrefixSuggestIndex.entry(2, 1, "spring batch 정리", 50),
+                PrefixSuggestIndex.entry(3, 2, "스프링 입문", 100),
+                PrefixSuggestIndex.entry(4, 2, "Spa 예약 후기", 5));
+
+        // 짧은 접두어 (미리 유지하는 상위 목록)
+        assertThat(titles(index.suggest("SP", 10)))
+                .containsExactly("spring batch 정리", "Spring  Boot 시작하기", "Spa 예약 후기");
+        // 긴 접두어 (정렬 배열 범위)
+        assertThat(titles(index.suggest("spring   b", 10)))
+                .containsExactly("spring batch 정리", "Spring  Boot 시작하기");
+        assertThat(titles(index.suggest("스프", 10))).containsExactly("스프링 입문");
+        assertThat(index.suggest("없는", 10)).isEmpty();
+        assertThat(index.suggest(" ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정하면 새 제목/조회수로 바뀌고, 삭제하면 상위 목록을 나머지로 채운다")
+    void putAndRemove() {
+        List<PrefixSuggestIndex.Entry> entries = new ArrayList<>();
+        for (int i = 1; i <= 12; i++) {
+            entries.add(PrefixSuggestIndex.entry(i, 1, "ab 글 " + i, i));
+        }
+        PrefixSuggestIndex index = loaded(entries.toArray(PrefixSuggestIndex.Entry[]::new));
+
+        assertThat(index.suggest("a", 10)).hasSize(10).first().extracting(PrefixSuggestIndex.Entry::id).isEqualTo(12L);
+
+        // 1위 삭제 -> 11위였던 2번이 들어온다
+        index.remove(12);
+        assertThat(index.suggest("a", 10)).extracting(PrefixSuggestIndex.Entry::id)
+                .containsExactly(11L, 10L, 9L, 8L, 7L, 6L, 5L, 4L, 3L, 2L);
+
+        // 제목 수정 -> 이전 접두어에서 빠지고 새 접두어로
+        index.put(PrefixSuggestIndex.entry(11, 1, "zz 바뀐 제목", 11));
+        assertThat(index.suggest("a", 1)).extracting(PrefixSuggestIndex.Entry::id).containsExactly(10L);
+        assertThat(titles(index.suggest("zz", 10))).containsExactly("zz 바뀐 제목");
+
+        // 조회수 변경으로 순위 이동
+        index.put(PrefixSuggestIndex.entry(1, 1, "ab 글 1", 1_000));
+        assertThat(index.suggest("ab 글", 1)).extracting(PrefixSuggestIndex.Entry::id).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("적재 전 변경은 무시하고 invalidate 후 다시 적재한다")
+    void loadAndInvalidate() {
+        PrefixSuggestIndex index = new PrefixSuggestIndex();
+        index.put(PrefixSuggestIndex.entry(1, 1, "적재 전", 0));
+        assertThat(index.size()).isZero();
+
+        index.loadIfNeeded(() -> List.of(PrefixSuggestIndex.entry(2, 1, "적재된 글", 0)));
+        assertThat(titles(index.suggest("적재", 10))).containsExactly("적재된 글");
+        long bytes = index.estimatedBytes();
+        assertThat(bytes).isPositive();
+
+        index.invalidate();
+        assertThat(index.estimatedBytes()).isZero();
+        index.loadIfNeeded(() -> List.of(PrefixSuggestIndex.entry(3, 1, "다시 적재", 0)));
+        assertThat(titles(index.suggest("다시", 10))).containsExactly("다시 적재");
+    }
+
+    @Test
+    @DisplayName("정규화: NFKC, 소문자, 연속 공백 하나, 최대 64자")
+    void normalize() {
+        assertThat(PrefixSuggestIndex.normalize("  Ｈｅｌｌｏ \t World  ")).isEqualTo("hello world");
+        assertThat(PrefixSuggestIndex.normalize("a".repeat(100))).hasSize(PrefixSuggestIndex.MAX_KEY_LENGTH);
+        assertThat(PrefixSuggestIndex.normalize(null)).isEmpty();
+    }
+
+    private static PrefixSuggestIndex loaded(PrefixSuggestIndex.Entry... entries) {
+        PrefixSuggestIndex index = new PrefixSuggestIndex();
+        index.loadIfNeeded(() -> List.of(entries));
+        return index;
+    }
+
+    private static List<String> titles(List<PrefixSuggestIndex.Entry> entries) {
+        return entries.stream().map(PrefixSuggestIndex.Entry::title).toList();
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.community.search;
+
+import com.example.community.domain.post.PostSearchType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색 결과 id 캐시 테스트
+ */
+class SearchResultCacheTest {
+
+    private static final SearchResultCache.Key GLOBAL_TITLE = key(PostSearchType.TITLE, null);
+    private static final SearchResultCache.Key BOARD_TITLE = key(PostSearchType.TITLE, 1L);
+    private static final SearchResultCache.Key OTHER_BOARD_TITLE = key(PostSearchType.TITLE, 2L);
+    private static final SearchResultCache.Key GLOBAL_COMMENT = key(PostSearchType.COMMENT_CONTENT, null);
+
+    @Test
+    @DisplayName("두 번째 조회는 캐시에서 주고, 처음 읽은 시간을 절약한 시간으로 센다")
+    void hitAndSaved() {
+        SearchResultCache cache = new SearchResultCache(100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(GLOBAL_TITLE, () -> result(loads, 1_000));
+        SearchResultCache.Result second = cache.get(GLOBAL_TITLE, () -> result(loads, 1_000));
+
+        assertThat(loads).hasValue(1);
+        assertThat(second.ids()).containsExactly(3, 2, 1);
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(1);
+        assertThat(cache.hitRatio()).isEqualTo(0.5);
+        assertThat(cache.savedNanos()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("같은 키를 동시에 찾으면 한 번만 읽고 나머지는 그 결과를 받는다")
+    void singleFlight() throws Exception {
+        SearchResultCache cache = new SearchResultCache(100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<SearchResultCache.Result> first = CompletableFuture.supplyAsync(() ->
+                cache.get(GLOBAL_TITLE, () -> {
+                    loading.countDown();
+                    await(release);
+                    return result(loads, 1_000);
+                }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<SearchResultCache.Result> second = CompletableFuture.supplyAsync(() ->
+                cache.get(GLOBAL_TITLE, () -> result(loads, 1_000)));
+        // 두 번째 요청이 대기열에 들어갈 때까지
+        while (cache.shared() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(second.get(5, TimeUnit.SECONDS));
+        assertThat(loads).hasValue(1);
+        assertThat(cache.misses()).isEqualTo(1);
+        assertThat(cache.shared()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화는 검색 타입과 게시판이 겹치는 항목만 지운다")
+    void invalidateByBoardAndType() {
+        SearchResultCache cache = new SearchResultCache(100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        for (SearchResultCache.Key key : Set.of(GLOBAL_TITLE, BOARD_TITLE, OTHER_BOARD_TITLE, GLOBAL_COMMENT)) {
+            cache.get(key, () -> result(loads, 1));
+        }
+
+        // 1번 게시판 글 수정: 전체 검색과 1번 게시판 검색의 제목 검색만
+        cache.invalidate(1L, EnumSet.of(PostSearchType.TITLE));
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cached(cache, OTHER_BOARD_TITLE)).isTrue();
+        assertThat(cached(cache, GLOBAL_COMMENT)).isTrue();
+
+        // 댓글 변경: 게시판을 모르므로 모든 게시판의 댓글 검색
+        cache.invalidate(null, EnumSet.of(PostSearchType.COMMENT_CONTENT, PostSearchType.COMMENT_WRITER));
+        assertThat(cached(cache, GLOBAL_COMMENT)).isFalse();
+        assertThat(cached(cache, OTHER_BOARD_TITLE)).isTrue();
+        assertThat(cache.invalidations()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("읽는 도중 무효화되면 읽은 결과는 돌려주지만 저장하지 않는다")
+    void invalidatedWhileLoading() {
+        SearchResultCache cache = new SearchResultCache(100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        SearchResultCache.Result result = cache.get(GLOBAL_TITLE, () -> {
+            cache.invalidate(1L, EnumSet.of(PostSearchType.TITLE));
+            return result(loads, 1);
+        });
+
+        assertThat(result.ids()).containsExactly(3, 2, 1);
+        assertThat(cache.size()).isZero();
+    }
+
+    private static boolean cached(SearchResultCache cache, SearchResultCache.Key key) {
+        long hits = cache.hits();
+        cache.get(key, () -> new SearchResultCache.Result(new long[0], 0, 0));
+        return cache.hits() > hits;
+    }
+
+    private static SearchResultCache.Result result(AtomicInteger loads, long loadNanos) {
+        loads.incrementAndGet();
+        return new SearchResultCache.Result(new long[]{3, 2, 1}, 3, loadNanos);
+    }
+
+    private static SearchResultCache.Key key(PostSearchType type, Long boardId) {
+        return new SearchResultCache.Key(type, "검색어", boardId, "id: DESC");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
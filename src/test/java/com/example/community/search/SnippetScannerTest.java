@@ -0,0 +1,106 @@
+package com.example.community.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 검색 요약문 생성 테스트
+ */
+class SnippetScannerTest {
+
+    private final SnippetScanner scanner = new SnippetScanner(40, 120, 1_000);
+
+    @Test
+    @DisplayName("첫 일치 앞 40자부터 120자를 자르고 일치 구간을 요약문 기준 위치로 준다")
+    void windowAroundFirstMatch() {
+        String text = "x".repeat(100) + "Keyword" + "y".repeat(200);
+
+        SearchSnippet snippet = scanner.scan(text, "keyword");
+
+        assertThat(snippet.text()).hasSize(120).startsWith("x".repeat(40) + "Keyword");
+        assertThat(snippet.highlights()).containsExactly(new SearchSnippet.Highlight(40, 47));
+        assertThat(snippet.truncatedStart()).isTrue();
+        assertThat(snippet.truncatedEnd()).isTrue();
+    }
+
+    @Test
+    @DisplayName("창 안의 일치는 모두 강조하고 줄바꿈은 같은 위치의 공백으로 바꾼다")
+    void allMatchesInWindow() {
+        SearchSnippet snippet = scanner.scan("검색\n다음 검색, 또 aab", "검색");
+
+        assertThat(snippet.text()).isEqualTo("검색 다음 검색, 또 aab");
+        assertThat(snippet.highlights()).containsExactly(
+                new SearchSnippet.Highlight(0, 2), new SearchSnippet.Highlight(6, 8));
+        assertThat(snippet.truncatedStart()).isFalse();
+        assertThat(snippet.truncatedEnd()).isFalse();
+
+        // 실패 함수로 되돌아가며 찾는 경우
+        assertThat(scanner.scan("aaab", "aab").highlights()).containsExactly(new SearchSnippet.Highlight(1, 4));
+    }
+
+    @Test
+    @DisplayName("본문에 일치가 없으면 앞부분을 강조 없이 준다")
+    void leadingWhenNoMatch() {
+        SearchSnippet snippet = scanner.scan("z".repeat(500), "keyword");
+
+        assertThat(snippet.text()).isEqualTo("z".repeat(120));
+        assertThat(snippet.highlights()).isEmpty();
+        assertThat(snippet.truncatedEnd()).isTrue();
+    }
+
+    @Test
+    @DisplayName("첫 창을 채우면 나머지 본문은 읽지 않는다")
+    void stopsAfterWindow() {
+        CountingText text = new CountingText("a".repeat(10) + "키워드" + "b".repeat(1_000_000));
+
+        SearchSnippet snippet = scanner.scan(text, "키워드");
+
+        assertThat(snippet.highlights()).containsExactly(new SearchSnippet.Highlight(10, 13));
+        assertThat(text.maxIndexRead).isLessThan(120);
+    }
+
+    @Test
+    @DisplayName("요약문을 강조/일반 조각으로 나눈다")
+    void segments() {
+        SearchSnippet title = SnippetScanner.highlight("자바 공부 - 자바", "자바");
+
+        assertThat(title.segments())
+                .extracting(SearchSnippet.Segment::text, SearchSnippet.Segment::highlighted)
+                .containsExactly(
+                        tuple("자바", true),
+                        tuple(" 공부 - ", false),
+                        tuple("자바", true));
+    }
+
+    /**
+     * 읽은 위치를 기록하는 본문
+     */
+    private static final class CountingText implements CharSequence {
+
+        private final String text;
+        private int maxIndexRead = -1;
+
+        CountingText(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            maxIndexRead = Math.max(maxIndexRead, index);
+            return text.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
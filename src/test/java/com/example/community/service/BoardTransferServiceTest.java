@@ -0,0 +1,128 @@
+package com.example.community.service;
+
+import com.example.community.domain.board.BoardEntity;
+import com.example.community.domain.user.UserEntity;
+import com.example.community.domain.user.UserRole;
+import com.example.community.persistence.BoardRepository;
+import com.example.community.persistence.UserRepository;
+import com.example.community.transfer.TransferFormat;
+import com.example.community.transfer.TransferResult;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+@Slf4j
+class BoardTransferServiceTest {
+
+    private static final String JSONL = """
+            {"type":"post","sourceId":10,"username":"transfer_user","title":"첫 글","content":"본문, 쉼표와 \\"따옴표\\"\\n줄바꿈","createdAt":"2020-01-02T03:04:05","viewCount":7}
+            {"type":"post","sourceId":11,"username":"transfer_user","title":"둘째 글","content":"본문"}
+            {"type":"comment","sourceId":100,"postSourceId":10,"username":"transfer_user","content":"댓글 1"}
+            {"type":"comment","sourceId":101,"postSourceId":10,"username":"transfer_user","content":"댓글 2"}
+            {"type":"comment","sourceId":102,"postSourceId":11,"username":"transfer_user","content":"댓글 3"}
+            {"type":"comment","sourceId":103,"postSourceId":99,"username":"transfer_user","content":"없는 글"}
+            {"type":"post","sourceId":12,"username":"nobody","title":"없는 사용자","content":"본문"}
+            not json
+            """;
+
+    @Autowired
+    private BoardTransferService boardTransferService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long boardId;
+    private Long otherBoardId;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.saveAndFlush(UserEntity.builder()
+                .username("transfer_user")
+                .password("1234")
+                .name("이관 사용자")
+                .nickname("이관")
+                .email("transfer@test.com")
+                .role(UserRole.USER)
+                .active(true)
+                .emailVerified(true)
+                .build());
+
+        boardId = boardRepository.saveAndFlush(BoardEntity.builder().title("이관 게시판").category("FREE").build()).getId();
+        otherBoardId = boardRepository.saveAndFlush(BoardEntity.builder().title("이관 사본").category("FREE").build()).getId();
+    }
+
+    @Test
+    @DisplayName("JSONL 가져오기 - 잘못된 행은 건너뛰고 comments_count 를 다시 계산한다")
+    void testImportJsonLines() throws Exception {
+        TransferResult result = boardTransferService.importBoard(boardId, TransferFormat.JSONL, input(JSONL));
+        log.info("result = {}", result);
+
+        assertThat(result.posts()).isEqualTo(2);
+        assertThat(result.comments()).isEqualTo(3);
+        assertThat(result.skipped()).isEqualTo(3);
+        assertThat(result.errors()).hasSize(3);
+
+        List<Integer> counts = jdbcTemplate.queryForList(
+                "SELECT comments_count FROM posts WHERE board_id = ? ORDER BY id", Integer.class, boardId);
+        assertThat(counts).containsExactly(2, 1);
+
+        // 글/댓글을 넣은 사용자의 집계를 다시 계산해 둔다
+        List<Long> stats = jdbcTemplate.queryForList(
+                "SELECT s.posts_count FROM user_stats s JOIN users u ON u.user_id = s.user_id WHERE u.username = ?",
+                Long.class, "transfer_user");
+        assertThat(stats).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("CSV 로 내보낸 내용을 다시 가져오면 같은 게시글/댓글이 만들어진다")
+    void testCsvRoundTrip() throws Exception {
+        boardTransferService.importBoard(boardId, TransferFormat.JSONL, input(JSONL));
+
+        ByteArrayOutputStream exported = new ByteArrayOutputStream();
+        TransferResult exportResult = boardTransferService.exportBoard(boardId, TransferFormat.CSV, exported);
+        assertThat(exportResult.rows()).isEqualTo(5);
+
+        TransferResult importResult = boardTransferService.importBoard(
+                otherBoardId, TransferFormat.CSV, new ByteArrayInputStream(exported.toByteArray()));
+        assertThat(importResult.posts()).isEqualTo(2);
+        assertThat(importResult.comments()).isEqualTo(3);
+        assertThat(importResult.skipped()).isZero();
+
+        String sql = "SELECT CONCAT(post_title, '|', content, '|', view_count, '|', comments_count) "
+                + "FROM posts WHERE board_id = ? ORDER BY id";
+        assertThat(jdbcTemplate.queryForList(sql, String.class, otherBoardId))
+                .isEqualTo(jdbcTemplate.queryForList(sql, String.class, boardId));
+    }
+
+    @Test
+    @DisplayName("없는 게시판은 IllegalArgumentException")
+    void testUnknownBoard() {
+        assertThatThrownBy(() -> boardTransferService.importBoard(-1L, TransferFormat.JSONL, input("")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ByteArrayInputStream input(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.community.service;
+
+import com.example.community.domain.comment.CommentDto;
+import com.example.community.domain.post.PostEntity;
+import com.example.community.persistence.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 수 동시성 테스트
+ * - 64개 스레드가 한 게시글에 동시에 댓글을 쓰고 지운 뒤 comments_count 와 실제 댓글 수를 비교한다
+ * - 같은 게시글 행의 잠금을 기다리므로 별도 메모리 DB 에 잠금 대기 시간을 넉넉히 준다
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:comment-counter;DB_CLOSE_DELAY=-1;MODE=MySQL;LOCK_TIMEOUT=30000",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.datasource.hikari.maximum-pool-size=16"
+})
+class CommentCounterConcurrencyTest {
+
+    private static final int WRITERS = 64;
+    private static final int COMMENTS_PER_WRITER = 5;
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        postId = postRepository.save(PostEntity.builder()
+                .userId(1L)
+                .boardId(1L)
+                .title("동시성 테스트")
+                .content("동시성 테스트 내용")
+                .viewCount(0)
+                .commentsCount(0)
+                .likesCount(0)
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("64개 스레드가 동시에 댓글을 쓰고 지워도 comments_count 가 실제 댓글 수와 같다")
+    void testConcurrentCreateAndDelete() throws Exception {
+        // 작성: 스레드마다 5개
+        List<List<Long>> created = runConcurrently(writer -> {
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < COMMENTS_PER_WRITER; i++) {
+                CommentDto comment = CommentDto.builder()
+                        .postId(postId)
+                        .content("댓글 " + writer + "-" + i)
+                        .build();
+                ids.add(commentService.create(comment, writer + 1L).orElseThrow().getId());
+            }
+            return ids;
+        });
+
+        assertThat(commentsCount()).isEqualTo(WRITERS * COMMENTS_PER_WRITER);
+        assertThat(commentsCount()).isEqualTo(actualComments());
+
+        // 삭제: 스레드마다 자기 댓글 2개, 작성과 섞어서
+        runConcurrently(writer -> {
+            List<Long> ids = created.get(writer);
+            assertThat(commentService.delete(ids.get(0), writer + 1L)).isTrue();
+            commentService.create(CommentDto.builder().postId(postId).content("추가 " + writer).build(), writer + 1L);
+            assertThat(commentService.delete(ids.get(1), writer + 1L)).isTrue();
+            return null;
+        });
+
+        assertThat(commentsCount()).isEqualTo(WRITERS * (COMMENTS_PER_WRITER - 1));
+        assertThat(commentsCount()).isEqualTo(actualComments());
+    }
+
+    private <T> List<T> runConcurrently(Writer<T> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int writer = 0; writer < WRITERS; writer++) {
+                int index = writer;
+                futures.add(executor.submit((Callable<T>) () -> {
+                    start.await();
+                    return task.run(index);
+                }));
+            }
+            start.countDown();
+
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) {
+                results.add(future.get(60, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int commentsCount() {
+        return jdbcTemplate.queryForObject("SELECT comments_count FROM posts WHERE id = ?", Integer.class, postId);
+    }
+
+    private int actualComments() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comments WHERE post_id = ?", Integer.class, postId);
+    }
+
+    @FunctionalInterface
+    private interface Writer<T> {
+        T run(int writer) throws Exception;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.community.service;
 
 import com.example.community.domain.comment.CommentDto;
+import com.example.community.domain.comment.CommentScrollDto;
 import com.example.community.domain.post.PostEntity;
 import com.example.community.persistence.CommentRepository;
 import com.example.community.persistence.PostRepository;
@@ -10,7 +11,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -198,4 +203,66 @@ class CommentServiceTest {
                 .extracting(CommentDto::getContent)
                 .containsExactly("안녕하세요", "반갑습니다");
     }
+
+    /* =====================
+       관리자 댓글 목록 (키셋) 테스트
+     ===================== */
+    @Test
+    public void testGetAllCommentsKeyset() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            ids.add(commentService.create(
+                    CommentDto.builder()
+                            .postId(postId)
+                            .content("관리 댓글 " + i)
+                            .build(),
+                    USER_ID
+            ).orElseThrow().getId());
+        }
+
+        CommentScrollDto first = commentService.getAllComments(null, 3);
+        assertThat(first.getContent())
+                .extracting(CommentDto::getId)
+                .containsExactly(ids.get(4), ids.get(3), ids.get(2));
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getNextCursor()).isEqualTo(ids.get(2));
+
+        // 다음 화면은 커서보다 작은 id 부터
+        CommentScrollDto second = commentService.getAllComments(first.getNextCursor(), 2);
+        assertThat(second.getContent())
+                .extracting(CommentDto::getId)
+                .containsExactly(ids.get(1), ids.get(0));
+
+        // 원글 정보와 작성자가 한 행에 담겨 온다
+        assertThat(second.getContent()).allSatisfy(comment -> {
+            assertThat(comment.getPostId()).isEqualTo(postId);
+            assertThat(comment.getPostTitle()).isEqualTo("테스트 게시글");
+            assertThat(comment.getBoardId()).isEqualTo(1L);
+            assertThat(comment.getCommentsCount()).isEqualTo(5);
+            assertThat(comment.getWriter()).isNotNull();
+        });
+    }
+
+    /* =====================
+       내 댓글 목록 테스트
+     ===================== */
+    @Test
+    public void testGetMyComments() {
+        commentService.create(
+                CommentDto.builder()
+                        .postId(postId)
+                        .content("내 댓글")
+                        .build(),
+                OTHER_USER_ID
+        );
+
+        Page<CommentDto> page = commentService.getMyComments(OTHER_USER_ID,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id")));
+
+        assertThat(page.getContent()).first().satisfies(comment -> {
+            assertThat(comment.getContent()).isEqualTo("내 댓글");
+            assertThat(comment.getPostTitle()).isEqualTo("테스트 게시글");
+            assertThat(comment.getUserId()).isEqualTo(OTHER_USER_ID);
+        });
+    }
 }
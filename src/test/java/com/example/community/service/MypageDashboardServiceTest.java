@@ -0,0 +1,188 @@
+package com.example.community.service;
+
+import com.example.community.domain.board.BoardEntity;
+import com.example.community.domain.comment.CommentDto;
+import com.example.community.domain.message.MessageDto;
+import com.example.community.domain.post.PostDto;
+import com.example.community.domain.post.PostSummaryDto;
+import com.example.community.domain.user.MypageDashboardDto;
+import com.example.community.domain.user.UserEntity;
+import com.example.community.domain.user.UserRole;
+import com.example.community.domain.user.UserStatsDto;
+import com.example.community.persistence.BoardRepository;
+import com.example.community.persistence.UserRepository;
+import com.example.community.persistence.UserStatsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마이페이지 대시보드 / 사용자 활동 집계 테스트
+ * 서비스 트랜잭션마다 커밋한 결과를 확인하므로 @Transactional 없이 실행하고 직접 정리한다
+ */
+@SpringBootTest
+class MypageDashboardServiceTest {
+
+    @Autowired
+    MypageDashboardService mypageDashboardService;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    MessageService messageService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    @Autowired
+    UserStatsRepository userStatsRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private Long writerId;
+    private Long readerId;
+    private Long boardId;
+
+    @BeforeEach
+    void setUp() {
+        writerId = userRepository.save(user("dash_writer", "대시작성자")).getId();
+        readerId = userRepository.save(user("dash_reader", "대시독자")).getId();
+        boardId = boardRepository.save(BoardEntity.builder().title("대시보드게시판").category("FREE").build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM messages WHERE sender_id IN (?, ?) OR receiver_id IN (?, ?)",
+                writerId, readerId, writerId, readerId);
+        jdbcTemplate.update("DELETE FROM post_likes WHERE user_id IN (?, ?)", writerId, readerId);
+        jdbcTemplate.update("DELETE FROM comments WHERE user_id IN (?, ?)", writerId, readerId);
+        jdbcTemplate.update("DELETE FROM posts WHERE board_id = ?", boardId);
+        userStatsRepository.deleteAllById(List.of(writerId, readerId));
+        userRepository.deleteAllById(List.of(writerId, readerId));
+        boardRepository.deleteById(boardId);
+    }
+
+    @Test
+    @DisplayName("최근 게시글은 게시판 제목, 최근 댓글은 원글 제목과 함께 최신순으로 온다")
+    void testDashboardLists() {
+        Long firstPost = postService.create(boardId, post("첫 글"), writerId);
+        Long secondPost = postService.create(boardId, post("두 번째 글"), writerId);
+        comment(firstPost, writerId, "내 댓글");
+
+        MypageDashboardDto dashboard = mypageDashboardService.getDashboard(writerId, 10);
+
+        assertThat(dashboard.getRecentPosts()).extracting(PostSummaryDto::getId).containsExactly(secondPost, firstPost);
+        assertThat(dashboard.getRecentPosts()).extracting(PostSummaryDto::getBoardTitle).containsOnly("대시보드게시판");
+        assertThat(dashboard.getRecentComments()).singleElement().satisfies(comment -> {
+            assertThat(comment.getPostTitle()).isEqualTo("첫 글");
+            assertThat(comment.getBoardId()).isEqualTo(boardId);
+            assertThat(comment.getCommentsCount()).isEqualTo(1);
+            assertThat(comment.getWriter()).isEqualTo("대시작성자");
+        });
+    }
+
+    @Test
+    @DisplayName("작성/삭제/좋아요/쪽지가 집계에 반영되고, 원본에서 다시 계산한 값과 같다")
+    void testStatsMaintained() {
+        Long postId = postService.create(boardId, post("집계 글"), writerId);
+        assertThat(stats(writerId).getPostsCount()).isEqualTo(1);
+
+        // 이후 활동은 UPDATE 로 증감 (독자는 첫 댓글에서 행이 생긴다)
+        Long otherPostId = postService.create(boardId, post("두 번째 집계 글"), writerId);
+        comment(postId, writerId, "작성자 댓글");
+        Long readerComment = comment(postId, readerId, "독자 댓글 1");
+        comment(postId, readerId, "독자 댓글 2");
+        postService.toggleLike(otherPostId, readerId);
+        messageService.sendMessage(MessageDto.builder()
+                .receiverNickname("대시작성자")
+                .title("안녕하세요")
+                .content("쪽지 내용")
+                .build(), "dash_reader");
+        assertThat(stats(readerId).getCommentsCount()).isEqualTo(2);
+
+        UserStatsDto writer = stats(writerId);
+        assertThat(writer.getPostsCount()).isEqualTo(2);
+        assertThat(writer.getCommentsCount()).isEqualTo(1);
+        assertThat(writer.getLikesReceived()).isEqualTo(1);
+        assertThat(writer.getMessagesReceived()).isEqualTo(1);
+
+        // 댓글 삭제, 게시글 삭제 (달린 댓글도 함께 빠진다)
+        assertThat(commentService.delete(readerComment, readerId)).isTrue();
+        assertThat(stats(readerId).getCommentsCount()).isEqualTo(1);
+
+        assertThat(postService.delete(postId, writerId)).isTrue();
+        assertThat(stats(readerId).getCommentsCount()).isZero();
+        assertThat(stats(writerId).getPostsCount()).isEqualTo(1);
+        assertThat(stats(writerId).getCommentsCount()).isZero();
+
+        // 다시 계산한 값과 같다
+        assertThat(userStatsRepository.computeById(writerId)).contains(stats(writerId));
+        assertThat(userStatsRepository.computeById(readerId)).contains(stats(readerId));
+    }
+
+    @Test
+    @DisplayName("집계 행이 없는 사용자의 증감은 행을 만든 뒤 반영된다")
+    void testStatsCreatedOnIncrement() {
+        // 조회는 계산한 값만 돌려주고 행을 만들지 않는다
+        assertThat(stats(writerId).getPostsCount()).isZero();
+        assertThat(userStatsRepository.findById(writerId)).isEmpty();
+
+        Long postId = postService.create(boardId, post("첫 증감 글"), writerId);
+        comment(postId, readerId, "독자 댓글");
+        postService.toggleLike(postId, readerId);
+
+        // 조회 전에 이미 집계 행이 있고, 증감 트랜잭션의 변경까지 들어 있다
+        assertThat(userStatsRepository.findById(writerId)).hasValueSatisfying(writer -> {
+            assertThat(writer.getPostsCount()).isEqualTo(1L);
+            assertThat(writer.getLikesReceived()).isEqualTo(1L);
+        });
+        assertThat(userStatsRepository.findById(readerId)).hasValueSatisfying(reader ->
+                assertThat(reader.getCommentsCount()).isEqualTo(1L));
+    }
+
+    private UserStatsDto stats(Long userId) {
+        return mypageDashboardService.getDashboard(userId, 10).getStats();
+    }
+
+    private Long comment(Long postId, Long userId, String content) {
+        return commentService.create(CommentDto.builder().postId(postId).content(content).build(), userId)
+                .orElseThrow()
+                .getId();
+    }
+
+    private static PostDto post(String title) {
+        PostDto postDto = new PostDto();
+        postDto.setTitle(title);
+        postDto.setContent(title + " 내용");
+        return postDto;
+    }
+
+    private static UserEntity user(String username, String nickname) {
+        return UserEntity.builder()
+                .username(username)
+                .password("1234")
+                .name("대시 테스트")
+                .nickname(nickname)
+                .email(username + "@test.com")
+                .role(UserRole.USER)
+                .active(true)
+                .emailVerified(true)
+                .build();
+    }
+}
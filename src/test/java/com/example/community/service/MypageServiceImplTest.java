@@ -1,7 +1,6 @@
 package com.example.community.service;
 
-import com.example.community.domain.board.BoardDto;
-import com.example.community.domain.post.PostDto;
+import com.example.community.domain.post.PostSummaryDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
@@ -14,20 +13,18 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 /**
  * MypageServiceImpl 단위 테스트
  *
- * - 외부 의존성(PostService, CommentService, BoardService)은 Mock으로 대체
+ * - 외부 의존성(PostService, CommentService)은 Mock으로 대체
  * - getMyPosts()에서 게시글에 boardTitle이 정상적으로 채워지는지 검증
  */
 public class MypageServiceImplTest {
 
     private PostService postService;
     private CommentService commentService;
-    private BoardService boardService;
 
     private MypageServiceImpl mypageService;
 
@@ -38,52 +35,44 @@ public class MypageServiceImplTest {
     public void setUp() {
         postService = mock(PostService.class);
         commentService = mock(CommentService.class);
-        boardService = mock(BoardService.class);
 
-        mypageService = new MypageServiceImpl(postService, commentService, boardService);
+        mypageService = new MypageServiceImpl(postService, commentService);
     }
 
     /**
      * [정상 케이스]
      * - 내가 작성한 게시글이 2개 존재
-     * - boardService에서 boardId에 해당하는 게시판 제목을 정상 반환
-     * - 결과 Page<PostDto>에 boardTitle이 정확히 채워지는지 검증
+     * - 목록 쿼리가 게시판 제목을 함께 읽어 옴
+     * - 결과 Page<PostSummaryDto>의 boardTitle이 그대로 유지되는지 검증
      */
     @Test
-    public void getMyPosts_shouldFillBoardTitle() {
+    public void getMyPosts_shouldKeepBoardTitle() {
         Long userId = 1L;
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
 
         // given: postService가 게시글 2개 반환
-        PostDto p1 = PostDto.builder().id(10L).boardId(100L).title("글1").build();
-        PostDto p2 = PostDto.builder().id(11L).boardId(200L).title("글2").build();
+        PostSummaryDto p1 = PostSummaryDto.builder().id(10L).boardId(100L).boardTitle("자유게시판").title("글1").build();
+        PostSummaryDto p2 = PostSummaryDto.builder().id(11L).boardId(200L).boardTitle("공지게시판").title("글2").build();
 
-        Page<PostDto> postPage = new PageImpl<>(List.of(p1, p2), pageable, 2);
+        Page<PostSummaryDto> postPage = new PageImpl<>(List.of(p1, p2), pageable, 2);
         when(postService.getMyPosts(userId, pageable)).thenReturn(postPage);
 
-        // given: boardService가 boardId에 대응하는 게시판 제목 반환
-        BoardDto b1 = BoardDto.builder().id(100L).title("자유게시판").build();
-        BoardDto b2 = BoardDto.builder().id(200L).title("공지게시판").build();
-
-        when(boardService.getByIds(List.of(100L, 200L))).thenReturn(List.of(b1, b2));
-
         // when
-        Page<PostDto> result = mypageService.getMyPosts(userId, pageable);
+        Page<PostSummaryDto> result = mypageService.getMyPosts(userId, pageable);
 
-        // then: boardTitle이 정확히 매핑되었는지 검증
+        // then: boardTitle이 그대로인지 검증
         assertEquals("자유게시판", result.getContent().get(0).getBoardTitle());
         assertEquals("공지게시판", result.getContent().get(1).getBoardTitle());
 
         // 의존 서비스 호출 여부 검증
         verify(postService, times(1)).getMyPosts(userId, pageable);
-        verify(boardService, times(1)).getByIds(List.of(100L, 200L));
-        verifyNoMoreInteractions(boardService);
+        verifyNoMoreInteractions(postService);
     }
 
     /**
      * [예외 케이스]
      * - 게시글은 존재하지만
-     * - boardService에서 해당 boardId를 찾지 못하는 경우
+     * - 게시판이 지워져 목록 쿼리가 게시판 제목을 채우지 못한 경우
      *
      * → boardTitle이 "알 수 없음"으로 채워지는지 검증
      */
@@ -92,15 +81,12 @@ public class MypageServiceImplTest {
         Long userId = 1L;
         Pageable pageable = PageRequest.of(0, 10);
 
-        PostDto p1 = PostDto.builder().id(10L).boardId(999L).title("글1").build();
-        Page<PostDto> postPage = new PageImpl<>(List.of(p1), pageable, 1);
+        PostSummaryDto p1 = PostSummaryDto.builder().id(10L).boardId(999L).title("글1").build();
+        Page<PostSummaryDto> postPage = new PageImpl<>(List.of(p1), pageable, 1);
 
         when(postService.getMyPosts(userId, pageable)).thenReturn(postPage);
 
-        // boardService가 빈 리스트 반환(해당 boardId 없음)
-        when(boardService.getByIds(List.of(999L))).thenReturn(List.of());
-
-        Page<PostDto> result = mypageService.getMyPosts(userId, pageable);
+        Page<PostSummaryDto> result = mypageService.getMyPosts(userId, pageable);
 
         // then: 기본값으로 설정되는지 확인
         assertEquals("알 수 없음", result.getContent().get(0).getBoardTitle());
@@ -110,22 +96,18 @@ public class MypageServiceImplTest {
      * [빈 결과 케이스]
      * - 내가 작성한 게시글이 없는 경우
      *
-     * → 그대로 빈 Page를 반환해야 하며
-     * → boardService는 호출되지 않아야 한다.
+     * → 그대로 빈 Page를 반환해야 한다.
      */
     @Test
     public void getMyPosts_whenEmpty_shouldReturnAsIs() {
         Long userId = 1L;
         Pageable pageable = PageRequest.of(0, 10);
 
-        Page<PostDto> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+        Page<PostSummaryDto> emptyPage = new PageImpl<>(List.of(), pageable, 0);
         when(postService.getMyPosts(userId, pageable)).thenReturn(emptyPage);
 
-        Page<PostDto> result = mypageService.getMyPosts(userId, pageable);
+        Page<PostSummaryDto> result = mypageService.getMyPosts(userId, pageable);
 
         assertTrue(result.getContent().isEmpty());
-
-        // 게시글이 없으면 boardService 호출 안 되는 게 정상
-        verify(boardService, never()).getByIds(any());
     }
 }
@@ -0,0 +1,60 @@
+package com.example.community.service;
+
+import com.example.community.content.PostContentCodec;
+import com.example.community.domain.post.PostEntity;
+import com.example.community.persistence.PostRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class PostContentMigrationTest {
+
+    @Autowired
+    private PostContentMigration postContentMigration;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private String storedContent(Long postId) {
+        return jdbcTemplate.queryForObject("SELECT content FROM posts WHERE id = ?", String.class, postId);
+    }
+
+    @Test
+    void compressesExistingLongContent() {
+        String content = "압축 전에 저장된 긴 본문입니다. ".repeat(500);
+        Long postId = postRepository.saveAndFlush(PostEntity.builder()
+                .boardId(1L)
+                .userId(1L)
+                .title("[TEST] PostContentMigrationTest")
+                .content("짧은 본문")
+                .build()).getId();
+        // 압축 기능 이전에 저장된 행처럼 원문을 직접 넣는다
+        jdbcTemplate.update("UPDATE posts SET content = ? WHERE id = ?", content, postId);
+        entityManager.clear();
+
+        PostContentMigration.Result result = postContentMigration.migrate();
+
+        assertThat(result.compressed()).isGreaterThanOrEqualTo(1);
+        assertThat(result.bytesAfter()).isLessThan(result.bytesBefore());
+        assertThat(PostContentCodec.isCompressed(storedContent(postId))).isTrue();
+        assertThat(postRepository.findById(postId).orElseThrow().getContent()).isEqualTo(content);
+
+        // 다시 실행해도 바뀌는 행이 없다
+        PostContentMigration.Result again = postContentMigration.migrate();
+        assertThat(again.compressed()).isZero();
+        assertThat(again.decompressed()).isZero();
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.community.service;
+
+import com.example.community.domain.board.BoardEntity;
+import com.example.community.domain.post.PostDto;
+import com.example.community.domain.post.PostEntity;
+import com.example.community.domain.post.PostNeighborDto;
+import com.example.community.persistence.BoardRepository;
+import com.example.community.persistence.PostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이전/다음 게시물 색인 테스트
+ * 생성/삭제는 커밋 후 반영되므로 @Transactional 없이 실행하고 직접 정리한다
+ */
+@SpringBootTest
+class PostNeighborIndexTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    PostNeighborIndex postNeighborIndex;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    BoardRepository boardRepository;
+
+    private Long boardId;
+
+    @BeforeEach
+    void setUp() {
+        boardId = boardRepository.save(BoardEntity.builder().title("이전다음 테스트").category("FREE").build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAll(postRepository.findAll().stream()
+                .filter(post -> post.getBoardId().equals(boardId))
+                .toList());
+        boardRepository.deleteById(boardId);
+    }
+
+    @Test
+    @DisplayName("처음 조회할 때 게시판의 id 를 적재하고 이전은 더 큰 id, 다음은 더 작은 id 를 준다")
+    void testLoadAndNavigate() {
+        Long first = save("첫 글");
+        Long second = save("두 번째 글");
+        Long third = save("세 번째 글");
+
+        assertThat(postNeighborIndex.previous(boardId, second)).isEqualTo(third);
+        assertThat(postNeighborIndex.next(boardId, second)).isEqualTo(first);
+        assertThat(postNeighborIndex.previous(boardId, third)).isNull();
+        assertThat(postNeighborIndex.next(boardId, first)).isNull();
+
+        PostNeighborDto previous = postService.getPreviousPost(boardId, second).orElseThrow();
+        assertThat(previous.getId()).isEqualTo(third);
+        assertThat(previous.getTitle()).isEqualTo("세 번째 글");
+    }
+
+    @Test
+    @DisplayName("적재 후 작성/삭제한 글이 색인에 반영된다")
+    void testCreateAndDelete() {
+        Long first = save("첫 글");
+        Long second = save("두 번째 글");
+        // 색인 적재
+        assertThat(postNeighborIndex.previous(boardId, first)).isEqualTo(second);
+
+        Long third = postService.create(boardId, post("새 글"), USER_ID);
+        assertThat(postNeighborIndex.previous(boardId, second)).isEqualTo(third);
+
+        assertThat(postService.delete(second, USER_ID)).isTrue();
+        assertThat(postNeighborIndex.previous(boardId, first)).isEqualTo(third);
+        assertThat(postNeighborIndex.next(boardId, third)).isEqualTo(first);
+        // 삭제된 글에서도 앞뒤 글을 찾는다
+        assertThat(postNeighborIndex.previous(boardId, second)).isEqualTo(third);
+    }
+
+    @Test
+    @DisplayName("invalidate 후에는 다시 적재해 색인 밖에서 넣은 글도 보인다")
+    void testInvalidate() {
+        Long first = save("첫 글");
+        assertThat(postNeighborIndex.previous(boardId, first)).isNull();
+
+        // 서비스를 거치지 않은 입력 (일괄 가져오기 등)
+        Long second = save("두 번째 글");
+        assertThat(postNeighborIndex.previous(boardId, first)).isNull();
+
+        postNeighborIndex.invalidate(boardId);
+        assertThat(postNeighborIndex.previous(boardId, first)).isEqualTo(second);
+    }
+
+    private Long save(String title) {
+        return postRepository.save(PostEntity.builder()
+                .userId(USER_ID)
+                .boardId(boardId)
+                .title(title)
+                .content(title + " 내용")
+                .viewCount(0)
+                .commentsCount(0)
+                .likesCount(0)
+                .fixed((short) 0)
+                .build()).getId();
+    }
+
+    private static PostDto post(String title) {
+        PostDto postDto = new PostDto();
+        postDto.setTitle(title);
+        postDto.setContent(title + " 내용");
+        postDto.setFixed((short) 0);
+        return postDto;
+    }
+}
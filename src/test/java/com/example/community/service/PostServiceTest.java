@@ -1,9 +1,13 @@
 package com.example.community.service;
 
+import com.example.community.content.PostContentCodec;
 import com.example.community.domain.post.PostDto;
 import com.example.community.domain.post.PostEntity;
+import com.example.community.domain.post.PostSearchHitDto;
+import com.example.community.domain.post.PostSummaryDto;
 import com.example.community.persistence.PostRepository;
 import com.example.community.persistence.UserRepository;
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
@@ -12,6 +16,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -29,6 +34,12 @@ class PostServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private PostEntity anyPost() {
         return postRepository.findAll(PageRequest.of(0, 1, Sort.by(Sort.Direction.ASC, "id")))
                 .getContent()
@@ -190,7 +201,7 @@ class PostServiceTest {
 
         // 전체 게시글 조회
         var pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
-        Page<PostDto> result = postService.getAllPosts(pageable);
+        Page<PostSummaryDto> result = postService.getAllPosts(pageable);
 
         log.info("전체 게시글 개수 = {}", result.getTotalElements());
         log.info("현재 페이지 게시글 개수 = {}", result.getContent().size());
@@ -224,7 +235,7 @@ class PostServiceTest {
 
         // 제목 검색
         var pageable = PageRequest.of(0, 10);
-        Page<PostDto> result = postService.searchPosts("title", keyword, pageable);
+        Page<PostSearchHitDto> result = postService.searchPosts("title", keyword, pageable);
 
         log.info("검색 결과 개수 = {}", result.getTotalElements());
 
@@ -251,13 +262,18 @@ class PostServiceTest {
 
         // 내용 검색
         var pageable = PageRequest.of(0, 10);
-        Page<PostDto> result = postService.searchPosts("content", keyword, pageable);
+        Page<PostSearchHitDto> result = postService.searchPosts("content", keyword, pageable);
 
         log.info("검색 결과 개수 = {}", result.getTotalElements());
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).isNotEmpty();
-        assertThat(result.getContent()).anyMatch(post -> post.getContent().contains(keyword));
+        // 본문 대신 요약문, 일치 구간이 키워드를 가리킨다
+        assertThat(result.getContent()).anySatisfy(post -> {
+            assertThat(post.getSnippet().text()).contains(keyword);
+            assertThat(post.getSnippet().highlights()).singleElement().satisfies(highlight ->
+                    assertThat(post.getSnippet().text().substring(highlight.start(), highlight.end())).isEqualTo(keyword));
+        });
     }
 
     @Test
@@ -289,7 +305,7 @@ class PostServiceTest {
 
         // 제목+내용 검색
         var pageable = PageRequest.of(0, 10);
-        Page<PostDto> result = postService.searchPosts("titleContent", keyword, pageable);
+        Page<PostSearchHitDto> result = postService.searchPosts("titleContent", keyword, pageable);
 
         log.info("검색 결과 개수 = {}", result.getTotalElements());
 
@@ -301,13 +317,37 @@ class PostServiceTest {
     public void testSearchPosts_emptyKeyword() {
         // 빈 키워드로 검색 시 전체 목록 반환
         var pageable = PageRequest.of(0, 10);
-        Page<PostDto> result = postService.searchPosts("title", "", pageable);
+        Page<PostSearchHitDto> result = postService.searchPosts("title", "", pageable);
 
         log.info("전체 게시글 개수 = {}", result.getTotalElements());
 
         assertThat(result).isNotNull();
     }
 
+    @Test
+    public void testSearchPosts_cacheInvalidatedByWrite() {
+        String keyword = "캐시무효화키워드";
+        var pageable = PageRequest.of(0, 10);
+
+        // 결과 없음이 캐시된다
+        assertThat(postService.searchPosts("title", keyword, pageable).getTotalElements()).isZero();
+        assertThat(postService.searchPosts("title", " " + keyword + " ", pageable).getTotalElements()).isZero();
+
+        Long postId = postService.create(1L,
+                PostDto.builder()
+                        .title("[TEST] " + keyword)
+                        .content("내용")
+                        .postType((short) 0)
+                        .fixed((short) 0)
+                        .build(),
+                1L);
+
+        // 작성으로 무효화되고, 작성한 트랜잭션 안에서는 캐시를 거치지 않는다
+        Page<PostSearchHitDto> result = postService.searchPosts("title", keyword, pageable);
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent()).extracting(PostSearchHitDto::getId).containsExactly(postId);
+    }
+
     @Test
     public void testGetPopularPosts() {
         // 조회수가 다른 테스트 게시글 생성
@@ -346,7 +386,7 @@ class PostServiceTest {
 
         // 인기 게시글 TOP 10 조회
         var pageable = PageRequest.of(0, 10);
-        Page<PostDto> result = postService.getPopularPosts(pageable);
+        Page<PostSummaryDto> result = postService.getPopularPosts(pageable);
 
         log.info("인기 게시글 개수 = {}", result.getTotalElements());
 
@@ -364,4 +404,40 @@ class PostServiceTest {
                     result.getContent().get(i).getViewCount());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testLongContent_compressedAndSearchable() {
+        String keyword = "압축본문검색키워드";
+        // threshold(4096자) 를 넘는 붙여넣은 로그, 키워드는 뒤쪽에
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            content.append("2026-10-19 12:00:00 INFO [exec-").append(i % 8).append("] request id=").append(i).append('\n');
+        }
+        content.append(keyword).append(" 끝");
+
+        Long postId = postService.create(1L,
+                PostDto.builder()
+                        .title("[TEST] PostServiceTest#testLongContent")
+                        .content(content.toString())
+                        .postType((short) 0)
+                        .fixed((short) 0)
+                        .build(),
+                1L);
+        postRepository.flush();
+        entityManager.clear();
+
+        // 저장 값은 압축본
+        String stored = jdbcTemplate.queryForObject("SELECT content FROM posts WHERE id = ?", String.class, postId);
+        assertThat(PostContentCodec.isCompressed(stored)).isTrue();
+        assertThat(stored.length()).isLessThan(content.length() / 2);
+        assertThat(postRepository.findById(postId).orElseThrow().isContentCompressed()).isTrue();
+
+        // 본문 검색은 풀어서 찾고, 요약문에 키워드가 들어간다
+        Page<PostSearchHitDto> result = postService.searchPosts("content", keyword, PageRequest.of(0, 10));
+        assertThat(result.getContent()).extracting(PostSearchHitDto::getId).containsExactly(postId);
+        assertThat(result.getContent().get(0).getSnippet().text()).contains(keyword);
+
+        // 상세 조회는 원문
+        assertThat(postService.read(postId).getContent()).isEqualTo(content.toString());
+    }
+}
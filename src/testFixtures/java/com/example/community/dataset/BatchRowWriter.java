@@ -0,0 +1,58 @@
+package com.example.community.dataset;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+
+/**
+ * JDBC batch insert, batchSize 행마다 executeBatch + commit
+ * parent 가 있으면 FK 위반이 없도록 parent 를 먼저 반영한다 (예: 댓글 batch 전에 게시글 batch)
+ */
+final class BatchRowWriter implements RowWriter {
+
+    private final Connection connection;
+    private final PreparedStatement statement;
+    private final int batchSize;
+    private final RowWriter parent;
+    private int pending;
+
+    BatchRowWriter(Connection connection, String table, String[] columns, int batchSize, RowWriter parent) throws SQLException {
+        this.connection = connection;
+        this.batchSize = batchSize;
+        this.parent = parent;
+        this.statement = connection.prepareStatement("INSERT INTO " + table + " (" + String.join(", ", columns)
+                + ") VALUES (" + String.join(", ", Collections.nCopies(columns.length, "?")) + ")");
+    }
+
+    @Override
+    public void write(Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            statement.setObject(i + 1, values[i]);
+        }
+        statement.addBatch();
+
+        if (++pending == batchSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try (statement) {
+            flush();
+        }
+    }
+
+    @Override
+    public void flush() throws SQLException {
+        if (parent != null) {
+            parent.flush();
+        }
+        if (pending > 0) {
+            statement.executeBatch();
+            connection.commit();
+            pending = 0;
+        }
+    }
+}
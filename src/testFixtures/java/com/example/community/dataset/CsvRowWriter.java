@@ -0,0 +1,109 @@
+package com.example.community.dataset;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 임시 CSV 파일에 쓴 뒤 H2 CSVREAD 로 한 번에 적재
+ * 행마다 JDBC 왕복이 없어 수백만 행 적재 시 batch 보다 빠르다 (H2 전용)
+ * parent 가 있으면 FK 위반이 없도록 parent 를 먼저 적재한다
+ */
+final class CsvRowWriter implements RowWriter {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Connection connection;
+    private final String table;
+    private final String[] columns;
+    private final Path file;
+    private final BufferedWriter writer;
+    private final RowWriter parent;
+    private boolean closed;
+
+    CsvRowWriter(Connection connection, String table, String[] columns, RowWriter parent) {
+        this.connection = connection;
+        this.table = table;
+        this.columns = columns;
+        this.parent = parent;
+        try {
+            this.file = Files.createTempFile("dataset-" + table + "-", ".csv");
+            this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            writer.write(String.join(",", columns));
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void write(Object... values) {
+        try {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeValue(values[i]);
+            }
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void flush() {
+        // close 에서 한 번에 적재
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (parent != null) {
+            parent.close();
+        }
+
+        try {
+            writer.close();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("INSERT INTO " + table + " (" + String.join(", ", columns) + ") SELECT * FROM CSVREAD('"
+                        + file.toAbsolutePath().toString().replace("'", "''") + "', NULL, 'charset=UTF-8')");
+            }
+            connection.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // 임시 파일 정리 실패는 무시
+            }
+        }
+    }
+
+    private void writeValue(Object value) throws IOException {
+        // 따옴표 없는 빈 값은 NULL
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Number || value instanceof Boolean) {
+            writer.write(value.toString());
+            return;
+        }
+        String text = value instanceof LocalDateTime time ? TIMESTAMP.format(time) : value.toString();
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.community.dataset;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 규모 테스트용 합성 데이터 생성기
+ * - 같은 DatasetSpec 이면 항상 같은 행이 만들어진다 (SplittableRandom 하나를 고정 순서로 사용)
+ * - 조회수/좋아요/댓글 수는 게시글 인기 순위에 대한 Zipf 분포, 작성자 활동량과 게시판 쏠림도 Zipf
+ * - 엔티티를 거치지 않고 JDBC batch 또는 H2 CSVREAD 로 바로 적재
+ * - 기존 데이터가 있으면 각 테이블의 MAX(id) 다음부터 채우고 id 시퀀스를 그 뒤로 옮긴다
+ *
+ * <pre>
+ * DatasetSummary summary = new DatasetGenerator(DatasetSpec.medium()).generate(dataSource);
+ * </pre>
+ */
+public final class DatasetGenerator {
+
+    public static final String USERNAME_PREFIX = "gen";
+    public static final List<String> KEYWORDS = TextGenerator.KEYWORDS;
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final long PERIOD_SECONDS = Duration.ofDays(365).toSeconds();
+    private static final int MAX_VIEWS = 100_000;
+    private static final int MAX_COMMENTS_PER_POST = 1_000;
+    private static final int BATCH_SIZE = 5_000;
+    // 공지 게시판에 들어가는 게시글 비율
+    private static final double NOTICE_RATIO = 0.005;
+
+    private static final String[] USER_COLUMNS = {"user_id", "username", "password", "name", "nickname", "email",
+            "email_verified", "role", "active", "created_at", "updated_at"};
+    private static final String[] BOARD_COLUMNS = {"id", "title", "category", "created_at", "updated_at"};
+    private static final String[] POST_COLUMNS = {"id", "user_id", "board_id", "post_title", "content", "created_at",
+            "updated_at", "view_count", "comments_count", "likes_count", "post_type", "fixed"};
+    private static final String[] COMMENT_COLUMNS = {"id", "user_id", "post_id", "r_content", "created_at", "updated_at"};
+    private static final String[] MESSAGE_COLUMNS = {"id", "sender_id", "receiver_id", "m_title", "content", "is_read",
+            "created_at", "readed_at", "sender_delete_state", "receiver_delete_state"};
+
+    private final DatasetSpec spec;
+    private final SplittableRandom random;
+    private final TextGenerator text;
+
+    public DatasetGenerator(DatasetSpec spec) {
+        this.spec = spec;
+        this.random = new SplittableRandom(spec.seed());
+        this.text = new TextGenerator(random);
+    }
+
+    public static String username(long userId) {
+        return USERNAME_PREFIX + userId;
+    }
+
+    public DatasetSummary generate(DataSource dataSource) throws SQLException {
+        long start = System.nanoTime();
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                long firstUserId = nextId(connection, "users", "user_id");
+                long firstBoardId = nextId(connection, "boards", "id");
+                long firstPostId = nextId(connection, "posts", "id");
+                long firstCommentId = nextId(connection, "comments", "id");
+                long firstMessageId = nextId(connection, "messages", "id");
+
+                insertUsers(connection, firstUserId);
+                insertBoards(connection, firstBoardId);
+                long comments = insertPosts(connection, firstUserId, firstBoardId, firstPostId, firstCommentId);
+                long messages = insertMessages(connection, firstUserId, firstMessageId);
+
+                restartSequence(connection, "users_seq", firstUserId + spec.users());
+                restartSequence(connection, "boards_seq", firstBoardId + spec.boards());
+                restartSequence(connection, "posts_seq", firstPostId + spec.posts());
+                restartSequence(connection, "comments_seq", firstCommentId + comments);
+                restartSequence(connection, "messages_seq", firstMessageId + messages);
+                connection.commit();
+
+                return new DatasetSummary(firstUserId, spec.users(), firstBoardId, spec.boards(),
+                        firstPostId, spec.posts(), comments, messages,
+                        Duration.ofNanos(System.nanoTime() - start));
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private void insertUsers(Connection connection, long firstId) throws SQLException {
+        try (RowWriter writer = new BatchRowWriter(connection, "users", USER_COLUMNS, BATCH_SIZE, null)) {
+            for (int i = 0; i < spec.users(); i++) {
+                long id = firstId + i;
+                String name = text.koreanName();
+                LocalDateTime createdAt = timestamp(i, spec.users());
+                writer.write(id, username(id), spec.passwordHash(), name, name + id, username(id) + "@example.com",
+                        true, i == 0 ? "ADMIN" : "USER", true, createdAt, createdAt);
+            }
+        }
+    }
+
+    private void insertBoards(Connection connection, long firstId) throws SQLException {
+        try (RowWriter writer = new BatchRowWriter(connection, "boards", BOARD_COLUMNS, BATCH_SIZE, null)) {
+            writer.write(firstId, "공지사항", "NOTICE", EPOCH, EPOCH);
+            for (int i = 1; i < spec.boards(); i++) {
+                writer.write(firstId + i, "게시판 " + i, i % 3 == 0 ? "QNA" : "FREE", EPOCH, EPOCH);
+            }
+        }
+    }
+
+    /**
+     * 게시글과 댓글을 함께 생성 (comments_count 를 실제 댓글 수와 맞추기 위해)
+     *
+     * @return 생성한 댓글 수
+     */
+    private long insertPosts(Connection connection, long firstUserId, long firstBoardId,
+                             long firstPostId, long firstCommentId) throws SQLException {
+        ZipfSampler authors = new ZipfSampler(spec.users(), spec.zipfExponent());
+        ZipfSampler boards = new ZipfSampler(spec.boards() - 1, spec.zipfExponent());
+
+        // 댓글은 조회수보다 완만하게 쏠리도록 지수를 절반으로
+        double commentExponent = spec.zipfExponent() / 2;
+        double meanCommentWeight = harmonic(spec.posts(), commentExponent) / Math.max(1, spec.posts());
+
+        long commentId = firstCommentId;
+        // comments 는 posts 를 parent 로 두어 항상 게시글이 먼저 반영되게 한다
+        try (RowWriter posts = writer(connection, "posts", POST_COLUMNS, null);
+             RowWriter comments = writer(connection, "comments", COMMENT_COLUMNS, posts)) {
+            for (int i = 0; i < spec.posts(); i++) {
+                long postId = firstPostId + i;
+                long boardId = random.nextDouble() < NOTICE_RATIO
+                        ? firstBoardId
+                        : firstBoardId + 1 + boards.next(random);
+                LocalDateTime createdAt = timestamp(i, spec.posts());
+
+                // 인기 순위 (1 이 가장 인기)
+                int rank = 1 + random.nextInt(spec.posts());
+                int views = (int) (MAX_VIEWS / Math.pow(rank, spec.zipfExponent())) + random.nextInt(10);
+                int likes = (int) (views * random.nextDouble() * 0.05);
+                double commentMean = spec.commentsPerPost() * Math.pow(rank, -commentExponent) / meanCommentWeight;
+                int commentCount = Math.min(MAX_COMMENTS_PER_POST, poisson(commentMean));
+
+                posts.write(postId, firstUserId + authors.next(random), boardId, text.title(), text.content(),
+                        createdAt, createdAt, views, commentCount, likes, null, (short) 0);
+
+                for (int c = 0; c < commentCount; c++) {
+                    LocalDateTime commentedAt = createdAt.plusMinutes(1 + random.nextInt(60 * 24 * 7));
+                    comments.write(commentId++, firstUserId + authors.next(random), postId, text.comment(),
+                            commentedAt, commentedAt);
+                }
+            }
+        }
+        return commentId - firstCommentId;
+    }
+
+    /**
+     * @return 생성한 쪽지 수
+     */
+    private long insertMessages(Connection connection, long firstUserId, long firstMessageId) throws SQLException {
+        ZipfSampler senders = new ZipfSampler(spec.users(), spec.zipfExponent());
+
+        long messageId = firstMessageId;
+        try (RowWriter messages = writer(connection, "messages", MESSAGE_COLUMNS, null)) {
+            for (int receiver = 0; receiver < spec.users(); receiver++) {
+                for (int m = poisson(spec.messagesPerUser()); m > 0; m--) {
+                    LocalDateTime sentAt = timestamp(random.nextInt(1_000_000), 1_000_000);
+                    boolean read = random.nextBoolean();
+                    messages.write(messageId++, firstUserId + senders.next(random), firstUserId + receiver,
+                            text.messageTitle(), text.content(), read ? 1 : 0,
+                            sentAt, read ? sentAt.plusHours(1) : null, 0, 0);
+                }
+            }
+        }
+        return messageId - firstMessageId;
+    }
+
+    private RowWriter writer(Connection connection, String table, String[] columns, RowWriter parent) throws SQLException {
+        return spec.csvRead()
+                ? new CsvRowWriter(connection, table, columns, parent)
+                : new BatchRowWriter(connection, table, columns, BATCH_SIZE, parent);
+    }
+
+    /**
+     * index 번째 행의 생성 시각 (1년에 걸쳐 id 순으로 증가)
+     */
+    private static LocalDateTime timestamp(int index, int total) {
+        return EPOCH.plusSeconds(PERIOD_SECONDS * index / Math.max(1, total));
+    }
+
+    private int poisson(double mean) {
+        if (mean <= 0) {
+            return 0;
+        }
+        if (mean > 30) {
+            // 정규 근사
+            double gaussian = Math.sqrt(-2 * Math.log(1 - random.nextDouble())) * Math.cos(2 * Math.PI * random.nextDouble());
+            return Math.max(0, (int) Math.round(mean + Math.sqrt(mean) * gaussian));
+        }
+        double limit = Math.exp(-mean);
+        double product = random.nextDouble();
+        int count = 0;
+        while (product > limit) {
+            product *= random.nextDouble();
+            count++;
+        }
+        return count;
+    }
+
+    private static double harmonic(int n, double exponent) {
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += Math.pow(k, -exponent);
+        }
+        return sum;
+    }
+
+    private static long nextId(Connection connection, String table, String column) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(" + column + "), 0) + 1 FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    /**
+     * 엔티티 id 시퀀스 (pooled-lo) 가 생성한 행 뒤에서 시작하도록
+     */
+    private static void restartSequence(Connection connection, String sequence, long next) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + next);
+        }
+    }
+}
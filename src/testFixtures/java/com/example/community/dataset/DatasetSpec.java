@@ -0,0 +1,74 @@
+package com.example.community.dataset;
+
+/**
+ * 합성 데이터셋 규모/분포 설정
+ * 같은 spec(seed 포함)이면 항상 같은 데이터가 만들어진다
+ *
+ * @param seed                난수 시드
+ * @param users               사용자 수
+ * @param boards              게시판 수 (첫 번째는 NOTICE 카테고리)
+ * @param posts               게시글 수
+ * @param commentsPerPost     게시글당 평균 댓글 수 (인기 게시글일수록 많다)
+ * @param messagesPerUser     사용자당 평균 받은 쪽지 수
+ * @param zipfExponent        조회수/좋아요/작성자 활동량/게시판 쏠림의 Zipf 지수 (1.0 전후)
+ * @param passwordHash        모든 사용자에게 넣을 password 컬럼 값 (로그인이 필요하면 PasswordEncoder 로 인코딩한 값)
+ * @param csvRead             true 이면 H2 CSVREAD 로 적재 (대량 적재 시 JDBC batch 보다 빠름)
+ */
+public record DatasetSpec(long seed,
+                          int users,
+                          int boards,
+                          int posts,
+                          double commentsPerPost,
+                          double messagesPerUser,
+                          double zipfExponent,
+                          String passwordHash,
+                          boolean csvRead) {
+
+    private static final String NO_LOGIN = "!";
+
+    public DatasetSpec {
+        if (users < 1 || boards < 2 || posts < 0) {
+            throw new IllegalArgumentException("users >= 1, boards >= 2, posts >= 0 required");
+        }
+        if (commentsPerPost < 0 || messagesPerUser < 0 || zipfExponent <= 0) {
+            throw new IllegalArgumentException("invalid distribution parameters");
+        }
+    }
+
+    /**
+     * 단위 테스트용 (수백 건)
+     */
+    public static DatasetSpec small() {
+        return new DatasetSpec(42L, 50, 5, 500, 3, 5, 1.0, NO_LOGIN, false);
+    }
+
+    /**
+     * 벤치마크/부하 테스트 기본값 (게시글 1만 건)
+     */
+    public static DatasetSpec medium() {
+        return new DatasetSpec(42L, 1_000, 8, 10_000, 5, 10, 1.0, NO_LOGIN, false);
+    }
+
+    /**
+     * 규모 테스트 (게시글 100만, 댓글 1000만)
+     */
+    public static DatasetSpec large() {
+        return new DatasetSpec(42L, 100_000, 20, 1_000_000, 10, 20, 1.0, NO_LOGIN, true);
+    }
+
+    public DatasetSpec withSeed(long seed) {
+        return new DatasetSpec(seed, users, boards, posts, commentsPerPost, messagesPerUser, zipfExponent, passwordHash, csvRead);
+    }
+
+    public DatasetSpec withPosts(int posts) {
+        return new DatasetSpec(seed, users, boards, posts, commentsPerPost, messagesPerUser, zipfExponent, passwordHash, csvRead);
+    }
+
+    public DatasetSpec withPasswordHash(String passwordHash) {
+        return new DatasetSpec(seed, users, boards, posts, commentsPerPost, messagesPerUser, zipfExponent, passwordHash, csvRead);
+    }
+
+    public DatasetSpec withCsvRead(boolean csvRead) {
+        return new DatasetSpec(seed, users, boards, posts, commentsPerPost, messagesPerUser, zipfExponent, passwordHash, csvRead);
+    }
+}
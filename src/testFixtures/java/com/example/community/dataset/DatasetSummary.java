@@ -0,0 +1,31 @@
+package com.example.community.dataset;
+
+import java.time.Duration;
+
+/**
+ * 생성 결과
+ * 각 테이블은 first*Id 부터 연속된 id 로 채워진다
+ */
+public record DatasetSummary(long firstUserId, int users,
+                             long firstBoardId, int boards,
+                             long firstPostId, int posts,
+                             long comments,
+                             long messages,
+                             Duration elapsed) {
+
+    public long noticeBoardId() {
+        return firstBoardId;
+    }
+
+    public long userId(int index) {
+        return firstUserId + index;
+    }
+
+    public long boardId(int index) {
+        return firstBoardId + index;
+    }
+
+    public long postId(int index) {
+        return firstPostId + index;
+    }
+}
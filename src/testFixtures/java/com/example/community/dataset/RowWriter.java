@@ -0,0 +1,22 @@
+package com.example.community.dataset;
+
+import java.sql.SQLException;
+
+/**
+ * 테이블 하나에 행을 순서대로 적재
+ */
+interface RowWriter extends AutoCloseable {
+
+    void write(Object... values) throws SQLException;
+
+    /**
+     * 쌓인 행을 DB 에 반영 (CSVREAD 방식은 close 시점에 한 번만 반영)
+     */
+    void flush() throws SQLException;
+
+    /**
+     * 남은 행을 반영하고 commit
+     */
+    @Override
+    void close() throws SQLException;
+}
@@ -0,0 +1,111 @@
+package com.example.community.dataset;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 한국어/영어가 섞인 게시판 문장 생성
+ * 검색 벤치마크에서 쓸 수 있도록 KEYWORDS 의 단어는 일정 비율로 등장한다
+ */
+final class TextGenerator {
+
+    /**
+     * 검색 시나리오에서 사용하는 키워드 (앞쪽일수록 자주 등장)
+     */
+    static final List<String> KEYWORDS = List.of("맛집", "여행", "질문", "후기", "spring", "추천", "java", "이벤트");
+
+    private static final List<String> KOREAN_WORDS = List.of(
+            "오늘", "어제", "정말", "너무", "같이", "혹시", "그래서", "그런데", "생각", "사람",
+            "회사", "학교", "주말", "카페", "점심", "저녁", "날씨", "운동", "영화", "음악",
+            "공부", "개발", "서버", "코드", "배포", "버그", "게임", "사진", "동네", "가격",
+            "좋아요", "별로", "최고", "괜찮은", "다녀왔습니다", "궁금합니다", "공유합니다", "있나요", "했어요", "입니다");
+
+    private static final List<String> ENGLISH_WORDS = List.of(
+            "the", "best", "today", "review", "server", "update", "question", "help", "build", "deploy",
+            "cache", "query", "index", "test", "release", "coffee", "weekend", "trip", "photo", "guide");
+
+    private static final String SURNAMES = "김이박최정강조윤장임한오서신권황안송류홍";
+    private static final String GIVEN = "민서지현준우예은도윤하진수영성호경태연주희재";
+
+    private final SplittableRandom random;
+    private final ZipfSampler keywordSampler;
+
+    TextGenerator(SplittableRandom random) {
+        this.random = random;
+        this.keywordSampler = new ZipfSampler(KEYWORDS.size(), 1.0);
+    }
+
+    String koreanName() {
+        return "" + SURNAMES.charAt(random.nextInt(SURNAMES.length()))
+                + GIVEN.charAt(random.nextInt(GIVEN.length()))
+                + GIVEN.charAt(random.nextInt(GIVEN.length()));
+    }
+
+    String title() {
+        StringBuilder title = new StringBuilder();
+        if (random.nextInt(4) == 0) {
+            title.append('[').append(KEYWORDS.get(keywordSampler.next(random))).append("] ");
+        }
+        words(title, 2 + random.nextInt(5));
+        return truncate(title, 100);
+    }
+
+    /**
+     * 평균 5문장, 길게 꼬리가 늘어지는 분포
+     */
+    String content() {
+        StringBuilder content = new StringBuilder();
+        int sentences = 1 + geometric(4);
+        for (int i = 0; i < sentences; i++) {
+            if (i > 0) {
+                content.append(random.nextInt(3) == 0 ? "\n" : " ");
+            }
+            sentence(content);
+        }
+        return content.toString();
+    }
+
+    String comment() {
+        StringBuilder comment = new StringBuilder();
+        for (int i = 1 + random.nextInt(2); i > 0; i--) {
+            sentence(comment);
+            comment.append(' ');
+        }
+        return truncate(comment, 200).strip();
+    }
+
+    String messageTitle() {
+        StringBuilder title = new StringBuilder();
+        words(title, 1 + random.nextInt(4));
+        return truncate(title, 50);
+    }
+
+    private void sentence(StringBuilder out) {
+        words(out, 4 + random.nextInt(10));
+        out.append(random.nextInt(5) == 0 ? "?" : ".");
+    }
+
+    private void words(StringBuilder out, int count) {
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                out.append(' ');
+            }
+            int dice = random.nextInt(20);
+            if (dice == 0) {
+                out.append(KEYWORDS.get(keywordSampler.next(random)));
+            } else if (dice < 5) {
+                out.append(ENGLISH_WORDS.get(random.nextInt(ENGLISH_WORDS.size())));
+            } else {
+                out.append(KOREAN_WORDS.get(random.nextInt(KOREAN_WORDS.size())));
+            }
+        }
+    }
+
+    private int geometric(double mean) {
+        return (int) (Math.log(1 - random.nextDouble()) / Math.log(mean / (mean + 1)));
+    }
+
+    private static String truncate(StringBuilder text, int max) {
+        return text.length() <= max ? text.toString() : text.substring(0, max);
+    }
+}